@@ -0,0 +1,88 @@
+package com.rm.common.core.util;
+
+import com.rm.common.core.model.ResultInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * VO 리스트를 담은 ResultInfo를 JSON/SMILE/CBOR로 직렬화/역직렬화하는 시간 비교
+ * 포맷별 직렬화 결과 크기는 Setup에서 출력함
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DataFormatBenchmark {
+    @Param({"JSON", "SMILE", "CBOR"})
+    private DataFormat format;
+
+    @Param({"10", "1000"})
+    private int size;
+
+    private ResultInfo result;
+    private byte[] bytes;
+
+    public static class Item {
+        public Long id;
+        public String code;
+        public String name;
+        public BigDecimal amount;
+        public double ratio;
+        public boolean active;
+        public RmDateTime createdAt;
+        public List<String> tags;
+    }
+
+    @Setup
+    public void setUp() {
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Item item = new Item();
+            item.id = 1_000_000L + i;
+            item.code = "CODE_" + (i % 10);
+            item.name = "상품 " + i;
+            item.amount = BigDecimal.valueOf(i * 1234L, 2);
+            item.ratio = i / 7.0;
+            item.active = i % 3 != 0;
+            item.createdAt = RmDateTimeUtil.getDateTimeFrom(ZoneId.of("Asia/Seoul"), 1_600_000_000_000L + i * 60_000L);
+            item.tags = Arrays.asList("a", "b" + (i % 5));
+            items.add(item);
+        }
+
+        result = new ResultInfo();
+        result.setCode(0);
+        result.setMessage("SUCCESS");
+        result.setData(items);
+        bytes = JsonUtils.toBytes(result, format);
+
+        System.out.printf("%n%s, %d items: %d bytes%n", format, size, bytes.length);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return JsonUtils.toBytes(result, format);
+    }
+
+    @Benchmark
+    public ResultInfo decode() {
+        return JsonUtils.toObject(bytes, ResultInfo.class, format);
+    }
+}
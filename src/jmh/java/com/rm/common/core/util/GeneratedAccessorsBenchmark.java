@@ -0,0 +1,188 @@
+package com.rm.common.core.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 생성된 접근자(Afterburner, -Drm.json.generated-accessors=true) 사용 여부에 따른 VO 리스트 (역)직렬화 처리량 비교
+ * 필드 50개짜리 VO(Wide)와 필드 3개짜리 VO(Narrow)로 각각 측정하며, mapper 설정은 DataFormat.JSON과 같음
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GeneratedAccessorsBenchmark {
+    @Param({"false", "true"})
+    private boolean generatedAccessors;
+
+    @Param({"wide", "narrow"})
+    private String shape;
+
+    private List<Object> items;
+    private byte[] json;
+    private ObjectWriter writer;
+    private ObjectReader reader;
+
+    public static class Narrow {
+        public long id;
+        public String name;
+        public double ratio;
+
+        Narrow fill(long seed) {
+            id = seed;
+            name = "value-" + seed;
+            ratio = seed / 3.0;
+            return this;
+        }
+    }
+
+    public static class Wide {
+        public String s0;
+        public String s1;
+        public String s2;
+        public String s3;
+        public String s4;
+        public String s5;
+        public String s6;
+        public String s7;
+        public String s8;
+        public String s9;
+        public long l0;
+        public long l1;
+        public long l2;
+        public long l3;
+        public long l4;
+        public long l5;
+        public long l6;
+        public long l7;
+        public long l8;
+        public long l9;
+        public Integer i0;
+        public Integer i1;
+        public Integer i2;
+        public Integer i3;
+        public Integer i4;
+        public Integer i5;
+        public Integer i6;
+        public Integer i7;
+        public Integer i8;
+        public Integer i9;
+        public double d0;
+        public double d1;
+        public double d2;
+        public double d3;
+        public double d4;
+        public double d5;
+        public double d6;
+        public double d7;
+        public double d8;
+        public double d9;
+        public boolean b0;
+        public boolean b1;
+        public boolean b2;
+        public boolean b3;
+        public boolean b4;
+        public boolean b5;
+        public boolean b6;
+        public boolean b7;
+        public boolean b8;
+        public boolean b9;
+
+        Wide fill(long seed) {
+            s0 = "value-" + seed + "-0";
+            s1 = "value-" + seed + "-1";
+            s2 = "value-" + seed + "-2";
+            s3 = "value-" + seed + "-3";
+            s4 = "value-" + seed + "-4";
+            s5 = "value-" + seed + "-5";
+            s6 = "value-" + seed + "-6";
+            s7 = "value-" + seed + "-7";
+            s8 = "value-" + seed + "-8";
+            s9 = "value-" + seed + "-9";
+            l0 = seed * 1L;
+            l1 = seed * 2L;
+            l2 = seed * 3L;
+            l3 = seed * 4L;
+            l4 = seed * 5L;
+            l5 = seed * 6L;
+            l6 = seed * 7L;
+            l7 = seed * 8L;
+            l8 = seed * 9L;
+            l9 = seed * 10L;
+            i0 = (int) seed + 0;
+            i1 = (int) seed + 1;
+            i2 = (int) seed + 2;
+            i3 = (int) seed + 3;
+            i4 = (int) seed + 4;
+            i5 = (int) seed + 5;
+            i6 = (int) seed + 6;
+            i7 = (int) seed + 7;
+            i8 = (int) seed + 8;
+            i9 = (int) seed + 9;
+            d0 = seed / 1.0;
+            d1 = seed / 2.0;
+            d2 = seed / 3.0;
+            d3 = seed / 4.0;
+            d4 = seed / 5.0;
+            d5 = seed / 6.0;
+            d6 = seed / 7.0;
+            d7 = seed / 8.0;
+            d8 = seed / 9.0;
+            d9 = seed / 10.0;
+            b0 = (seed + 0) % 2 == 0;
+            b1 = (seed + 1) % 2 == 0;
+            b2 = (seed + 2) % 2 == 0;
+            b3 = (seed + 3) % 2 == 0;
+            b4 = (seed + 4) % 2 == 0;
+            b5 = (seed + 5) % 2 == 0;
+            b6 = (seed + 6) % 2 == 0;
+            b7 = (seed + 7) % 2 == 0;
+            b8 = (seed + 8) % 2 == 0;
+            b9 = (seed + 9) % 2 == 0;
+            return this;
+        }
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper mapper = DataFormat.createMapper(new JsonFactory(), generatedAccessors);
+        Class<?> type = "wide".equals(shape) ? Wide.class : Narrow.class;
+
+        items = new ArrayList<>();
+        for (long i = 0; i < 100; i++) {
+            items.add(type == Wide.class ? new Wide().fill(i) : new Narrow().fill(i));
+        }
+        writer = mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class, type));
+        reader = mapper.readerFor(mapper.getTypeFactory().constructCollectionType(List.class, type));
+        json = writer.writeValueAsBytes(items);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return writer.writeValueAsBytes(items);
+    }
+
+    @Benchmark
+    public List<Object> deserialize() throws Exception {
+        return reader.readValue(json);
+    }
+}
@@ -0,0 +1,78 @@
+package com.rm.common.core.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JsonMetrics 기록 여부에 따른 JsonUtils 호출 시간 비교 (off: 꺼짐, inMemory: 기본 Registry, micrometer: MicrometerJsonMetrics)
+ * 기록 비용이 잘 드러나도록 작은 VO로 측정함, 여러 스레드에서 동시에 기록할 때의 경합은 -t 옵션으로 확인 (ex. -t 8)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonMetricsBenchmark {
+    @Param({"off", "inMemory", "micrometer"})
+    private String metrics;
+
+    private Item item;
+    private String json;
+    private String listJson;
+
+    public static class Item {
+        public Long id;
+        public String name;
+        public List<String> tags;
+    }
+
+    @Setup
+    public void setUp() {
+        JsonMetrics.setEnabled(!"off".equals(metrics));
+        JsonMetrics.setRegistry("micrometer".equals(metrics) ? new MicrometerJsonMetrics(new SimpleMeterRegistry()) : null);
+
+        item = new Item();
+        item.id = 1L;
+        item.name = "이름";
+        item.tags = Arrays.asList("a", "b");
+        json = JsonUtils.toJson(item);
+        listJson = "[" + json + "," + json + "," + json + "]";
+    }
+
+    @TearDown
+    public void tearDown() {
+        JsonMetrics.setEnabled(false);
+        JsonMetrics.setRegistry(null);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return JsonUtils.toJson(item);
+    }
+
+    @Benchmark
+    public Item toObject() {
+        return JsonUtils.toObject(json, Item.class);
+    }
+
+    @Benchmark
+    public List<Item> toVoList() {
+        return JsonUtils.toVoList(listJson, Item.class);
+    }
+}
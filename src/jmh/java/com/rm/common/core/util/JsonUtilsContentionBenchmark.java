@@ -0,0 +1,94 @@
+package com.rm.common.core.util;
+
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기존 방식(호출마다 공유 mapper에 configure() 후 변환)과 캐시된 ObjectReader/ObjectWriter를 사용하는 JsonUtils의 동시 처리량 비교
+ * main()은 1 ~ 64 스레드에서 차례로 실행함 (JMH 옵션으로 실행할 때는 -t로 스레드 수를 지정)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonUtilsContentionBenchmark {
+    private static final TypeReference<List<Item>> LIST_TYPE = new TypeReference<List<Item>>() {};
+
+    public static class Item {
+        public Long id;
+        public String name;
+        public List<String> tags;
+    }
+
+    // 기존 JsonUtils와 같이 모든 스레드가 공유하며 호출마다 설정을 바꾸는 mapper
+    private final ObjectMapper legacyMapper = new ObjectMapper();
+
+    private List<Item> items;
+    private String json;
+
+    @Setup
+    public void setUp() {
+        items = new ArrayList<>();
+        for (long i = 0; i < 20; i++) {
+            Item item = new Item();
+            item.id = i;
+            item.name = "item-" + i;
+            item.tags = Arrays.asList("a", "b" + i);
+            items.add(item);
+        }
+        json = JsonUtils.toJson(items);
+    }
+
+    @Benchmark
+    public String toJsonLegacy() throws Exception {
+        legacyMapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, true);
+        return legacyMapper.writeValueAsString(items);
+    }
+
+    @Benchmark
+    public String toJsonCached() {
+        return JsonUtils.toJson(items);
+    }
+
+    @Benchmark
+    public List<Item> toObjectLegacy() throws Exception {
+        legacyMapper.configure(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS.mappedFeature(), true);
+        return legacyMapper.readValue(json, legacyMapper.getTypeFactory().constructType(LIST_TYPE));
+    }
+
+    @Benchmark
+    public List<Item> toObjectCached() {
+        return JsonUtils.toObject(json, LIST_TYPE);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : new int[]{1, 2, 4, 8, 16, 32, 64}) {
+            new Runner(new OptionsBuilder()
+                    .include(JsonUtilsContentionBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build()).run();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.rm.common.core.util;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 새로 만든 ObjectMapper에서 첫 요청(@RequestBody 역직렬화 + ResponseEntity<List<Vo>> 직렬화)의 처리 시간 비교
+ *  - warmUp=false: (역)직렬화기를 첫 요청에서 만듦 (기존)
+ *  - warmUp=true: JsonWarmUpConfig와 같이 요청/응답 타입 및 요소 타입의 reader/writer를 미리 만들어둠
+ * 측정마다 mapper를 새로 만들고 한번만 호출하므로(SingleShotTime) Jackson 코드의 JIT 상태와 관계없이 (역)직렬화기 생성 비용만 차이남
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 30)
+@Fork(2)
+@State(Scope.Benchmark)
+public class JsonWarmUpBenchmark {
+    private static final String REQUEST = "{\"orderNo\":\"A-1\",\"status\":\"PAID\",\"customer\":{\"id\":7,\"name\":\"이름\",\"email\":\"a@b.c\","
+            + "\"address\":{\"zipCode\":\"06236\",\"city\":\"서울\",\"street\":\"테헤란로\"}},"
+            + "\"lines\":[{\"productCode\":\"P1\",\"quantity\":2,\"price\":1000.5,\"options\":[\"red\",\"L\"]}],\"memo\":null}";
+
+    @Param({"false", "true"})
+    private boolean warmUp;
+
+    private ObjectMapper mapper;
+    private JavaType requestType;
+    private JavaType responseType;
+    private List<Order> response;
+
+    public enum Status { ORDERED, PAID, SHIPPED }
+
+    public static class Address {
+        public String zipCode;
+        public String city;
+        public String street;
+    }
+
+    public static class Customer {
+        public Long id;
+        public String name;
+        public String email;
+        public Address address;
+    }
+
+    public static class Line {
+        public String productCode;
+        public int quantity;
+        public double price;
+        public List<String> options;
+    }
+
+    public static class Order {
+        public String orderNo;
+        public Status status;
+        public Customer customer;
+        public List<Line> lines;
+        public String memo;
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        mapper = DataFormat.JSON.newMapper();
+        requestType = mapper.constructType(Order.class);
+        responseType = mapper.getTypeFactory().constructCollectionType(List.class, Order.class);
+        // 응답 값은 기본 mapper로 만들어서 측정 대상 mapper에 영향이 없도록 함
+        response = Arrays.asList(DataFormat.JSON.getMapper().readValue(REQUEST, Order.class), DataFormat.JSON.getMapper().readValue(REQUEST, Order.class));
+
+        if (warmUp) {
+            for (JavaType type : Arrays.asList(requestType, responseType)) {
+                mapper.readerFor(type);
+                mapper.writerFor(type);
+            }
+        }
+    }
+
+    @Benchmark
+    public byte[] firstRequest() throws IOException {
+        Order order = mapper.readerFor(requestType).readValue(REQUEST);
+        if (order.lines.size() != 1) throw new IllegalStateException();
+
+        return mapper.writerFor(responseType).writeValueAsBytes(response);
+    }
+}
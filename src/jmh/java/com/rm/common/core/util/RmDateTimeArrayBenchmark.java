@@ -0,0 +1,109 @@
+package com.rm.common.core.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 구간 개수 및 일 단위 버킷 집계 시간 비교 (array: RmDateTimeArray, list: 기존 List<RmDateTime>)
+ *  - countBetween: 1년 중 한달 구간의 개수, array는 정렬된 배열(이진 탐색)과 정렬되지 않은 배열(전체 확인), list는 isBetween()
+ *  - countByDay: array는 countBy(DAYS), list는 get("yyyyMMdd") 키의 HashMap 집계
+ *  - sort: 배열 복사를 포함한 기수 정렬
+ * size가 PARALLEL_THRESHOLD 이상이면 array의 전체 확인/절삭/정렬은 구간을 나눠 병렬로 처리됨
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RmDateTimeArrayBenchmark {
+    private static final ZoneId ZONE = ZoneId.of("America/New_York");
+
+    @Param({"10000", "200000"})
+    private int size;
+
+    private long[] values;
+    private RmDateTimeArray unsorted;
+    private RmDateTimeArray sorted;
+    private List<RmDateTime> list;
+    private long fromMillis;
+    private long toMillis;
+    private RmDateTime from;
+    private RmDateTime to;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(24);
+        long start = LocalDateTime.of(2021, 1, 1, 0, 0).atZone(ZONE).toInstant().toEpochMilli();
+        values = new long[size];
+        list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values[i] = start + (long) (random.nextDouble() * 365 * 86400_000L);
+            list.add(RmDateTimeUtil.getDateTimeFrom(ZONE, values[i]));
+        }
+        unsorted = RmDateTimeArray.of(ZONE, values);
+        sorted = RmDateTimeArray.of(ZONE, values).sort();
+
+        fromMillis = LocalDateTime.of(2021, 6, 1, 0, 0).atZone(ZONE).toInstant().toEpochMilli();
+        toMillis = LocalDateTime.of(2021, 7, 1, 0, 0).atZone(ZONE).toInstant().toEpochMilli();
+        from = RmDateTimeUtil.getDateTimeFrom(ZONE, fromMillis);
+        to = RmDateTimeUtil.getDateTimeFrom(ZONE, toMillis);
+    }
+
+    @Benchmark
+    public int countBetweenSortedArray() {
+        return sorted.countBetween(fromMillis, toMillis);
+    }
+
+    @Benchmark
+    public int countBetweenUnsortedArray() {
+        return unsorted.countBetween(fromMillis, toMillis);
+    }
+
+    @Benchmark
+    public int countBetweenList() {
+        int count = 0;
+        for (RmDateTime value : list) {
+            if (value.isBetween(from, to)) count++;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public RmDateTimeArray.Buckets countByDayArray() {
+        return unsorted.countBy(ChronoUnit.DAYS);
+    }
+
+    @Benchmark
+    public Map<String, Integer> countByDayList() {
+        Map<String, Integer> counts = new HashMap<>();
+        for (RmDateTime value : list) {
+            counts.merge(value.get("yyyyMMdd"), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    @Benchmark
+    public RmDateTimeArray sort() {
+        return RmDateTimeArray.of(ZONE, values).sort();
+    }
+}
@@ -0,0 +1,98 @@
+package com.rm.common.core.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 날짜/시간 문자열 검색 시간 비교 (scanner: RmDateTimeParser, regex: 기존 RmDateTimeUtil의 정규 표현식)
+ * regex는 기존과 같이 미리 컴파일한 Pattern으로 날짜, 심플 날짜, 시간 순서로 찾고 그룹을 숫자로 변환함
+ * getDateTimeFrom은 검색을 포함한 RmDateTimeUtil.getDateTimeFromUTC() 전체 호출 시간
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RmDateTimeParserBenchmark {
+    private static final Pattern DATE_PATTERN = Pattern.compile("^(?<year>\\d+)([./-])(?<month>\\d{1,2})\\2(?<day>\\d{1,2})(?:[^\\d]|$)");
+    private static final Pattern SIMPLE_DATE_PATTERN = Pattern.compile("^(?<year>(?:\\d*\\d{2})?\\d{2})(?<month>\\d{2})(?<day>\\d{2})$");
+    private static final Pattern TIME_PATTERN = Pattern.compile("(?:^|[^\\d])(?<hour>\\d{1,2}):(?<minute>\\d{1,2})(?::(?<second>\\d{1,2})(?:\\.(?<nano>\\d{1,9}))?)?$");
+
+    @Param({"dateTime", "date", "compactDate", "time", "noMatch"})
+    private String kind;
+
+    private String input;
+
+    @Setup
+    public void setUp() {
+        switch (kind) {
+            case "dateTime":
+                input = "2021-06-08 19:27:30.1324";
+                break;
+            case "date":
+                input = "2021.06.08";
+                break;
+            case "compactDate":
+                input = "19921105";
+                break;
+            case "time":
+                input = "9:30:24";
+                break;
+            default:
+                input = "not a date or time at all";
+                break;
+        }
+    }
+
+    @Benchmark
+    public long scanner() {
+        long date = RmDateTimeParser.scanDate(input);
+        long time = RmDateTimeParser.scanTime(input);
+        return date == RmDateTimeParser.NO_MATCH ? time : date ^ time;
+    }
+
+    @Benchmark
+    public long regex() {
+        long result = 0;
+        Matcher dateMatcher = DATE_PATTERN.matcher(input);
+        if (!dateMatcher.find()) {
+            dateMatcher = SIMPLE_DATE_PATTERN.matcher(input);
+            if (!dateMatcher.find()) dateMatcher = null;
+        }
+        if (dateMatcher != null) {
+            result = Integer.parseInt(dateMatcher.group("year")) * 10000L + Integer.parseInt(dateMatcher.group("month")) * 100 + Integer.parseInt(dateMatcher.group("day"));
+        }
+
+        Matcher timeMatcher = TIME_PATTERN.matcher(input);
+        if (timeMatcher.find()) {
+            String second = timeMatcher.group("second");
+            String nano = timeMatcher.group("nano");
+            result ^= Integer.parseInt(timeMatcher.group("hour")) * 3600L + Integer.parseInt(timeMatcher.group("minute")) * 60
+                    + (second == null ? 0 : Integer.parseInt(second)) + (nano == null ? 0 : Integer.parseInt(nano));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Object getDateTimeFrom() {
+        try {
+            return RmDateTimeUtil.getDateTimeFromUTC(input);
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.rm.common.core.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 반복되는 코드 값이 많은 VO 리스트의 역직렬화 시간 및 결과 리스트가 점유하는 힙 크기 비교
+ *  - none: 기존 jsonToVOList(json, type)
+ *  - pool: 호출별 풀 jsonToVOList(json, type, pool)
+ *  - annotated: @JsonStringDedup 필드를 기본 mapper로 역직렬화
+ * 점유 힙 크기는 Setup에서 GC 후 사용 중인 힙의 차이로 측정해서 출력함 (같은 조건에서 여러번 측정한 최솟값)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StringDedupBenchmark {
+    private static final String[] COUNTRIES = {"KR", "US", "JP", "CN", "DE", "FR", "GB", "VN"};
+    private static final String[] STATUSES = {"ACTIVE", "INACTIVE", "PENDING", "DELETED"};
+
+    @Param({"none", "pool", "annotated"})
+    private String mode;
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private String json;
+    private StringPool pool;
+
+    public static class Item {
+        public long id;
+        public String countryCode;
+        public String status;
+        public String languageType;
+        public String currency;
+    }
+
+    public static class DedupItem {
+        public long id;
+        @JsonStringDedup
+        public String countryCode;
+        @JsonStringDedup
+        public String status;
+        @JsonStringDedup
+        public String languageType;
+        @JsonStringDedup
+        public String currency;
+    }
+
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) builder.append(',');
+            builder.append("{\"id\":").append(i)
+                    .append(",\"countryCode\":\"").append(COUNTRIES[i % COUNTRIES.length])
+                    .append("\",\"status\":\"").append(STATUSES[i % STATUSES.length])
+                    .append("\",\"languageType\":\"").append(i % 3 == 0 ? "ko" : "en")
+                    .append("\",\"currency\":\"").append(i % 2 == 0 ? "KRW" : "USD").append("\"}");
+        }
+        json = builder.append(']').toString();
+        pool = new StringPool();
+
+        long retained = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long before = usedHeap();
+            List<?> list = parse();
+            retained = Math.min(retained, usedHeap() - before);
+            if (list.size() != size) throw new IllegalStateException("size: " + list.size());
+        }
+        System.out.println();
+        System.out.println("mode: " + mode + ", size: " + size + ", retained heap: " + retained + " bytes (" + retained / size + " bytes/element)");
+    }
+
+    @Benchmark
+    public List<?> deserialize() {
+        return parse();
+    }
+
+    private List<?> parse() {
+        switch (mode) {
+            case "pool":
+                return JsonUtils.jsonToVOList(json, Item.class, pool);
+            case "annotated":
+                return JsonUtils.jsonToVOList(json, DedupItem.class);
+            default:
+                return JsonUtils.jsonToVOList(json, Item.class);
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
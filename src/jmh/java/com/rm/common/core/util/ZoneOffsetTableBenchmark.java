@@ -0,0 +1,86 @@
+package com.rm.common.core.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRules;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시간대 오프셋 계산 시간 비교 (table: ZoneOffsetTable, rules: ZoneRules/ZonedDateTime)
+ *  - offsetAtEpoch: UTC 기준 시간의 오프셋
+ *  - toEpoch: 시간대 기준 시간을 UTC 기준 시간으로 변환 (서머타임 공백/중복 처리 포함)
+ * 입력은 1970 ~ 2100년 사이의 무작위 시간 1024개를 돌아가며 사용함 (상수 폴딩 및 분기 예측 방지)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ZoneOffsetTableBenchmark {
+    private static final int SIZE = 1024;
+
+    @Param({"UTC", "Asia/Seoul", "America/New_York", "Europe/London"})
+    private String zoneId;
+
+    private ZoneId zone;
+    private ZoneRules rules;
+    private ZoneOffsetTable table;
+    private final long[] epochSeconds = new long[SIZE];
+    private final long[] localSeconds = new long[SIZE];
+    private int index;
+
+    @Setup
+    public void setUp() {
+        zone = ZoneId.of(zoneId);
+        rules = zone.getRules();
+        table = ZoneOffsetTable.of(zone);
+
+        Random random = new Random(22);
+        long from = LocalDateTime.of(1970, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+        long to = LocalDateTime.of(2100, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+        for (int i = 0; i < SIZE; i++) {
+            epochSeconds[i] = from + (long) (random.nextDouble() * (to - from));
+            localSeconds[i] = from + (long) (random.nextDouble() * (to - from));
+        }
+    }
+
+    private int next() {
+        return index = (index + 1) & (SIZE - 1);
+    }
+
+    @Benchmark
+    public int offsetAtEpochTable() {
+        return table.getOffsetAtEpochSecond(epochSeconds[next()]);
+    }
+
+    @Benchmark
+    public int offsetAtEpochRules() {
+        return rules.getOffset(Instant.ofEpochSecond(epochSeconds[next()])).getTotalSeconds();
+    }
+
+    @Benchmark
+    public long toEpochTable() {
+        return table.toEpochSecond(localSeconds[next()]);
+    }
+
+    @Benchmark
+    public long toEpochRules() {
+        return LocalDateTime.ofEpochSecond(localSeconds[next()], 0, ZoneOffset.UTC).atZone(zone).toEpochSecond();
+    }
+}
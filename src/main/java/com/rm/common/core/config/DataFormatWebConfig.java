@@ -0,0 +1,36 @@
+package com.rm.common.core.config;
+
+import com.rm.common.core.util.DataFormat;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * 내부 서비스 간 통신에서 바이너리 포맷(SMILE, CBOR)을 주고받을 수 있도록 HttpMessageConverter를 등록하는 설정
+ *
+ * 기본 응답은 그대로 JSON이며, 호출하는 쪽에서 Accept/Content-Type 헤더에 application/x-jackson-smile 혹은 application/cbor를 명시한 경우에만 사용됨
+ * 컨버터는 JsonUtils와 동일한 DataFormat의 ObjectMapper를 사용하므로 JsonUtils.toBytes(object, format)의 결과와 호환됨
+ * Spring Boot(HttpMessageConverters)가 classpath의 smile/cbor 모듈을 보고 자체 ObjectMapper로 만든 컨버터를 먼저 등록하므로,
+ * 그대로 뒤에 추가하면 사용되지 않음 -> 기존 SMILE/CBOR 컨버터를 제거하고 그 자리에 넣음
+ */
+@Configuration
+public class DataFormatWebConfig implements WebMvcConfigurer {
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        replace(converters, MappingJackson2SmileHttpMessageConverter.class, new MappingJackson2SmileHttpMessageConverter(DataFormat.SMILE.getMapper()));
+        replace(converters, MappingJackson2CborHttpMessageConverter.class, new MappingJackson2CborHttpMessageConverter(DataFormat.CBOR.getMapper()));
+    }
+
+    // type의 컨버터를 모두 제거하고 첫번째 컨버터가 있던 자리에 converter를 넣음 (없으면 끝에 추가함)
+    private static void replace(List<HttpMessageConverter<?>> converters, Class<?> type, HttpMessageConverter<?> converter) {
+        int index = 0;
+        while (index < converters.size() && !type.isInstance(converters.get(index))) index++;
+
+        converters.removeIf(type::isInstance);
+        converters.add(Math.min(index, converters.size()), converter);
+    }
+}
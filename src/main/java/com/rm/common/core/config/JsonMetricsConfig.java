@@ -0,0 +1,31 @@
+package com.rm.common.core.config;
+
+import com.rm.common.core.util.JsonMetrics;
+import com.rm.common.core.util.MicrometerJsonMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * rm.json.metrics=true 일 경우 JsonUtils 호출 통계(JsonMetrics)를 켜는 설정
+ *
+ * Micrometer MeterRegistry 빈이 있을 경우(actuator 등) 통계를 MeterRegistry로 기록하고,
+ * 없을 경우 메모리에 누적하며 JsonMetrics.snapshot()으로 조회함
+ */
+@Configuration
+@ConditionalOnProperty(name = "rm.json.metrics", havingValue = "true")
+public class JsonMetricsConfig {
+    public JsonMetricsConfig() {
+        JsonMetrics.setEnabled(true);
+    }
+
+    @Configuration
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    static class MicrometerMetricsConfig {
+        MicrometerMetricsConfig(ObjectProvider<MeterRegistry> meterRegistry) {
+            meterRegistry.ifAvailable(registry -> JsonMetrics.setRegistry(new MicrometerJsonMetrics(registry)));
+        }
+    }
+}
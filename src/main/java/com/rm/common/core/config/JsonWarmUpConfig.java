@@ -0,0 +1,156 @@
+package com.rm.common.core.config;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rm.common.core.util.DataFormat;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpEntity;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Type;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * rm.json.warm-up.enabled=true 일 경우 애플리케이션 시작 시(준비 완료 상태가 되기 전) VO의 (역)직렬화기를 미리 만들어두는 설정
+ *
+ * ObjectMapper는 타입별 (역)직렬화기를 처음 사용할 때 만들기 때문에, 배포 직후 첫 요청들의 응답이 느려짐
+ * 다음 타입들의 (역)직렬화기를 JsonUtils의 mapper와 Spring의 ObjectMapper 빈들에 미리 만들어둠
+ *  - rm.json.warm-up.packages (콤마로 구분)에 포함된 클래스
+ *  - 컨트롤러 메서드의 @RequestBody 파라미터 타입 및 @ResponseBody(@RestController 포함), ResponseEntity 반환 타입 (제네릭 타입 인자 포함)
+ * 실패한 타입은 건너뛰며, 결과(타입 수, 소요 시간)는 로그로 남김
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "rm.json.warm-up.enabled", havingValue = "true")
+public class JsonWarmUpConfig {
+    private final ObjectProvider<ObjectMapper> objectMappers;
+    private final ObjectProvider<RequestMappingHandlerMapping> handlerMappings;
+
+    @Value("${rm.json.warm-up.packages:}")
+    private String[] packages;
+
+    public JsonWarmUpConfig(ObjectProvider<ObjectMapper> objectMappers, ObjectProvider<RequestMappingHandlerMapping> handlerMappings) {
+        this.objectMappers = objectMappers;
+        this.handlerMappings = handlerMappings;
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void warmUp() {
+        long start = System.currentTimeMillis();
+
+        Set<Type> types = new LinkedHashSet<>();
+        for (String basePackage : packages) {
+            if (StringUtils.isNotBlank(basePackage)) types.addAll(scanPackage(basePackage.trim()));
+        }
+        handlerMappings.orderedStream()
+                .flatMap(mapping -> mapping.getHandlerMethods().values().stream())
+                .forEach(method -> collectBodyTypes(method, types));
+
+        ObjectMapper sharedMapper = DataFormat.JSON.getMapper();
+        List<ObjectMapper> springMappers = objectMappers.orderedStream()
+                .filter(mapper -> mapper != sharedMapper)
+                .collect(Collectors.toList());
+
+        int count = 0;
+        for (Type type : types) {
+            try {
+                DataFormat.JSON.warmUp(type);
+                for (ObjectMapper mapper : springMappers) {
+                    JavaType javaType = mapper.constructType(type);
+                    mapper.readerFor(javaType);
+                    mapper.writerFor(javaType);
+                }
+                count++;
+            } catch (RuntimeException e) {
+                log.debug("json warm-up skipped: {} ({})", type.getTypeName(), e.getMessage());
+            }
+        }
+
+        log.info("json warm-up finished: {} types, {}ms", count, System.currentTimeMillis() - start);
+    }
+
+    private Set<Type> scanPackage(String basePackage) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+
+        Set<Type> types = new LinkedHashSet<>();
+        for (BeanDefinition definition : scanner.findCandidateComponents(basePackage)) {
+            try {
+                types.add(ClassUtils.forName(definition.getBeanClassName(), getClass().getClassLoader()));
+            } catch (ClassNotFoundException | LinkageError e) {
+                log.debug("json warm-up skipped: {} ({})", definition.getBeanClassName(), e.getMessage());
+            }
+        }
+
+        return types;
+    }
+
+    private static void collectBodyTypes(HandlerMethod method, Set<Type> types) {
+        for (MethodParameter parameter : method.getMethodParameters()) {
+            if (parameter.hasParameterAnnotation(RequestBody.class)) addType(ResolvableType.forMethodParameter(parameter), types);
+        }
+
+        ResolvableType returnType = ResolvableType.forMethodReturnType(method.getMethod(), method.getBeanType());
+        Class<?> returnClass = returnType.resolve();
+        if (returnClass == null || returnClass == void.class) return;
+
+        if (HttpEntity.class.isAssignableFrom(returnClass)) {
+            addType(returnType.as(HttpEntity.class).getGeneric(0), types);
+        } else if (method.hasMethodAnnotation(ResponseBody.class) || AnnotatedElementUtils.hasAnnotation(method.getBeanType(), ResponseBody.class)) {
+            addType(returnType, types);
+        }
+    }
+
+    /*
+     * 제네릭 타입은 타입 인자도 함께 추가함 (List<Vo>, Map<String, Vo> 등)
+     * 컬렉션/맵의 (역)직렬화기는 요소 타입의 직렬화기를 처음 값을 쓸 때 찾기 때문에 요소 타입도 따로 만들어둬야 함
+     */
+    private static void addType(ResolvableType type, Set<Type> types) {
+        Type resolved = resolveType(type);
+        if (resolved == null || !types.add(resolved)) return;
+
+        for (ResolvableType generic : type.getGenerics()) {
+            addType(generic, types);
+        }
+        if (type.isArray()) addType(type.getComponentType(), types);
+    }
+
+    /*
+     * 타입 변수로 선언된 타입을 실제 타입으로 바꿈 (ResponseEntity<List<Vo>>의 HttpEntity<T> 타입 인자 T -> List<Vo>)
+     * 타입을 알 수 없거나 본문이 없는 타입(ResponseEntity<Void>)이면 null, 타입 인자를 알 수 없으면 원시 타입(List 등)을 반환함
+     */
+    private static Type resolveType(ResolvableType type) {
+        Class<?> resolved = type.resolve();
+        if (resolved == null || resolved == Void.class) return null;
+        if (!type.hasGenerics()) return resolved;
+
+        ResolvableType[] generics = type.getGenerics();
+        for (int i = 0; i < generics.length; i++) {
+            Type generic = resolveType(generics[i]);
+            if (generic == null) return resolved;
+
+            generics[i] = ResolvableType.forType(generic);
+        }
+
+        return ResolvableType.forClassWithGenerics(resolved, generics).getType();
+    }
+}
@@ -0,0 +1,29 @@
+package com.rm.common.core.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rm.common.core.util.DataFormat;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * rm.json.shared-mapper=true 일 경우 JsonUtils/ObjectUtils의 ObjectMapper(DataFormat.JSON)를 Spring의 ObjectMapper 빈으로 등록하는 설정
+ *
+ * Spring MVC의 메시지 컨버터도 JsonUtils와 같은 설정으로 (역)직렬화하게 됨
+ * 빈은 JsonUtils가 사용하는 mapper(DataFormat.JSON.getMapper()) 그 자체이므로 (역)직렬화기 캐시를 JsonUtils와 공유함
+ * 따라서 빈을 주입받아 설정을 바꾸거나 모듈을 등록하면 안 됨 (JsonUtils 전체의 동작이 바뀌고, 사용 중인 mapper의 설정 변경은 스레드 안전하지 않음)
+ * 사용자가 등록한 ObjectMapper 빈에는 Boot의 Jackson2ObjectMapperBuilderCustomizer가 적용되지 않으므로 Boot 설정에 의해 바뀌지는 않음
+ * 설정을 바꿔야 하는 곳에서는 DataFormat.JSON.newMapper()로 별도 인스턴스를 만들어 사용함
+ * Spring Boot의 기본 ObjectMapper(JacksonAutoConfiguration)는 생성되지 않으므로 spring.jackson.* 설정과 기본 등록 모듈(JavaTimeModule 등)은 적용되지 않음
+ * 또한 알 수 없는 필드가 있으면 역직렬화에 실패하는 등 JsonUtils와 동일하게 동작하므로, 요청/응답 형식이 바뀌지 않는지 확인 후 사용해야 함
+ */
+@Configuration
+@ConditionalOnProperty(name = "rm.json.shared-mapper", havingValue = "true")
+public class SharedObjectMapperConfig {
+    @Bean
+    @Primary
+    public ObjectMapper objectMapper() {
+        return DataFormat.JSON.getMapper();
+    }
+}
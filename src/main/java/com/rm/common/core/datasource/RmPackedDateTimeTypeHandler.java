@@ -0,0 +1,71 @@
+package com.rm.common.core.datasource;
+
+import com.rm.common.core.util.RmDateTime;
+import com.rm.common.core.util.RmDateTimeUtil;
+import com.rm.common.core.util.RmPackedDateTime;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.TypeHandler;
+
+import java.sql.*;
+
+/**
+ * {@literal
+ * MyBatis 단에서 RmPackedDateTime 타입을 변환시켜주는 변환기
+ *
+ * RmDateTimeTypeHandler와 동일하게 동작하며 (DB의 시간대는 UTC로 가정), mybatis-config.xml 파일에 <typeHandler> 태그로 등록되어있어야 함
+ * }
+ */
+public class RmPackedDateTimeTypeHandler implements TypeHandler<RmPackedDateTime> {
+    @Override
+    public void setParameter(PreparedStatement ps, int i, RmPackedDateTime parameter, JdbcType jdbcType) throws SQLException {
+        if (parameter == null) {
+            ps.setTimestamp(i, null);
+        } else {
+            ps.setTimestamp(i, new Timestamp(parameter.getUnixMillis()));
+        }
+    }
+
+    @Override
+    public RmPackedDateTime getResult(ResultSet rs, String columnName) throws SQLException {
+        try {
+            return getPackedDateTime(rs.getTimestamp(columnName));
+        } catch (SQLException e) {
+            return getPackedDateTime(rs.getString(columnName));
+        }
+    }
+
+    @Override
+    public RmPackedDateTime getResult(ResultSet rs, int columnIndex) throws SQLException {
+        try {
+            return getPackedDateTime(rs.getTimestamp(columnIndex));
+        } catch (SQLException e) {
+            return getPackedDateTime(rs.getString(columnIndex));
+        }
+    }
+
+    @Override
+    public RmPackedDateTime getResult(CallableStatement cs, int columnIndex) throws SQLException {
+        try {
+            return getPackedDateTime(cs.getTimestamp(columnIndex));
+        } catch (SQLException e) {
+            return getPackedDateTime(cs.getString(columnIndex));
+        }
+    }
+
+    private RmPackedDateTime getPackedDateTime(Timestamp timestamp) {
+        // DB의 DATE 혹은 DATETIME 컬럼 값이 null일 경우 VO에서도 null을 집어넣게 함
+        if (timestamp == null) return null;
+
+        // DB의 시간대가 UTC일 것이라고 가정하고 불러옴
+        return RmPackedDateTime.ofEpochMillis(RmDateTimeUtil.UTC, timestamp.getTime());
+    }
+
+    private RmPackedDateTime getPackedDateTime(String string) {
+        // DB의 DATE 혹은 DATETIME 컬럼 값이 null일 경우 VO에서도 null을 집어넣게 함
+        if (string == null) return null;
+
+        // DB의 시간대가 UTC일 것이라고 가정하고 불러옴
+        RmDateTime rmDateTime = RmDateTimeUtil.getDateTimeFrom(RmDateTimeUtil.UTC, string);
+        return rmDateTime == null ? null : RmPackedDateTime.from(rmDateTime);
+    }
+}
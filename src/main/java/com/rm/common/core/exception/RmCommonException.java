@@ -2,8 +2,10 @@ package com.rm.common.core.exception;
 
 
 import com.rm.common.core.model.ResultInfo;
+import com.rm.common.core.util.ErrorLogger;
 import lombok.Getter;
 import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
 import org.springframework.core.NestedRuntimeException;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.util.ObjectUtils;
@@ -48,6 +50,14 @@ public class RmCommonException extends NestedRuntimeException {
         setMessage(message);
     }
 
+    // 자세한 정보와 원인 예외를 함께 실어나르기 위한 생성자 (메세지 뒤에 원인 예외 클래스를 붙임)
+    public RmCommonException(ErrorType type, ServiceStatusCode reason, String message, Throwable throwable) {
+        super(message, throwable);
+
+        setErrorCode(type, reason);
+        setMessage(message);
+    }
+
     // Rest 통신으로 받은 Exception을 해석하기 위한 생성자
     public RmCommonException(ResultInfo resultInfo) {
         super(resultInfo.getMessage());
@@ -77,6 +87,11 @@ public class RmCommonException extends NestedRuntimeException {
         return this.message;
     }
 
+    // 에러 로그 출력, 같은 에러(로거, 에러코드, 원인)가 반복될 경우 처음에만 스택트레이스를 남기고 이후에는 주기적으로 횟수만 남김 (ErrorLogger 참고)
+    public void log(Logger logger) {
+        ErrorLogger.error(logger, this);
+    }
+
     // 에러코드 set
     private void setErrorCode(ErrorType type, ServiceStatusCode reason) {
         if (type != null) this.type = type;
@@ -0,0 +1,277 @@
+package com.rm.common.core.util;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonMerge;
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.AnnotatedConstructor;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
+import com.fasterxml.jackson.databind.introspect.AnnotatedParameter;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.util.ClassUtil;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static com.rm.common.core.util.ObjectUtils.getCachedValue;
+
+/**
+ * Map/List를 VO로 바로 옮겨 담는 변환기
+ *
+ * mapper.convertValue()는 원본 Map을 TokenBuffer로 직렬화한 뒤 다시 역직렬화하기 때문에, MyBatis Map 결과나 ResultInfo.data 등을
+ * 수천 건씩 변환할 때 비용이 큼
+ * 이 변환기는 VO 클래스별로 한번만 Jackson의 프로퍼티 정보(이름, @JsonProperty, @JsonIgnore 등)를 분석해 변환 계획(Plan)을 만들어두고,
+ * 이후에는 Map의 값을 setter(혹은 필드)로 바로 넣어줌
+ *
+ * 다음과 같은 경우에는 정확성을 위해 기존처럼 Jackson(convertValue)으로 변환함
+ *  - @JsonCreator, @JsonTypeInfo, @JsonAnySetter, 클래스 단위 @JsonDeserialize 등이 있거나 기본 생성자가 없는 클래스
+ *  - @JsonDeserialize, @JsonFormat 등 개별 역직렬화 설정이 지정된 프로퍼티가 있는 클래스
+ *  - 숫자 간 변환 외의 타입 변환이 필요한 값 (String -> RmDateTime, String -> Enum 등, 해당 값만)
+ *  - 알 수 없는 키가 있는 경우 (Jackson과 같은 에러를 던지도록 객체 전체)
+ *
+ * convertValue()와 다르게 String, Number 등 불변 값은 복사하지 않고 그대로 참조함 (Object 타입 프로퍼티도 UNTYPED_VALUE_CLASSES의 값만)
+ */
+class BeanConverter {
+    // 병렬 변환 시 이보다 작은 리스트는 그냥 순차적으로 변환함 (분할 비용이 더 큼)
+    static final int PARALLEL_THRESHOLD = 2048;
+
+    /*
+     * Object 타입 프로퍼티에 그대로 넣어도 convertValue()와 결과가 같은 값의 클래스
+     * 그 외의 값은 Jackson이 다른 타입으로 바꿈 (Map/List는 복사본, Byte -> Integer, Character -> String, Date -> Long 등)
+     */
+    private static final Set<Class<?>> UNTYPED_VALUE_CLASSES = new HashSet<>(Arrays.asList(String.class, Boolean.class,
+            Integer.class, Long.class, Short.class, Float.class, Double.class, BigDecimal.class, BigInteger.class));
+
+    private final ObjectMapper mapper;
+    // Plan으로 변환할 수 없는 타입을 표시하기 위한 값 (ConcurrentHashMap에는 null을 넣을 수 없음)
+    private final Plan unsupported = new Plan(null, null, null, false);
+    private final Map<JavaType, Plan> planCache = new ConcurrentHashMap<>();
+
+    BeanConverter(ObjectMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    <T> T convert(Object value, JavaType type) {
+        return convert(value, type, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T convert(Object value, JavaType type, boolean parallel) {
+        if (value instanceof Map) {
+            Object bean = toBean((Map<?, ?>) value, type);
+            if (bean != null) return (T) bean;
+        } else if (value instanceof Collection && isListType(type)) {
+            return (T) toList((Collection<?>) value, type.getContentType(), parallel);
+        }
+
+        return mapper.convertValue(value, type);
+    }
+
+    private List<Object> toList(Collection<?> collection, JavaType contentType, boolean parallel) {
+        if (parallel && collection.size() >= PARALLEL_THRESHOLD) {
+            // 공용 ForkJoinPool에서 변환, 순서가 있는 컬렉션이라면 결과 순서도 유지됨
+            return collection.parallelStream()
+                    .map(element -> convertValue(element, contentType))
+                    .collect(Collectors.toCollection(ArrayList::new));
+        }
+
+        List<Object> result = new ArrayList<>(collection.size());
+        for (Object element : collection) {
+            result.add(convertValue(element, contentType));
+        }
+
+        return result;
+    }
+
+    // Plan으로 변환이 불가능할 경우 null 반환
+    private Object toBean(Map<?, ?> map, JavaType type) {
+        Plan plan = getCachedValue(planCache, type, this::createPlan);
+        if (plan == unsupported) return null;
+
+        return plan.create(map);
+    }
+
+    private Object convertValue(Object value, JavaType type) {
+        Class<?> rawClass = type.getRawClass();
+        if (value == null) return rawClass.isPrimitive() ? ClassUtil.defaultValue(rawClass) : null;
+        if (rawClass == Object.class) return UNTYPED_VALUE_CLASSES.contains(value.getClass()) ? value : convert(value, type);
+
+        Class<?> targetClass = rawClass.isPrimitive() ? ClassUtil.wrapperType(rawClass) : rawClass;
+        if (value instanceof Number) {
+            Object number = coerceNumber((Number) value, targetClass);
+            if (number != null) return number;
+        } else if ((value instanceof String || value instanceof Boolean || value instanceof Character) && value.getClass() == targetClass) {
+            return value;
+        } else if (value instanceof Enum && targetClass.isEnum() && targetClass.isInstance(value)) {
+            return value;
+        }
+
+        return convert(value, type);
+    }
+
+    // 정보 손실이 없는 숫자 간 변환만 직접 처리하고, 나머지는 null을 반환해 Jackson에 맡김
+    private static Object coerceNumber(Number value, Class<?> targetClass) {
+        boolean integral = value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+
+        if (value.getClass() == targetClass) {
+            return value;
+        } else if (targetClass == Long.class && integral) {
+            return value.longValue();
+        } else if (targetClass == Integer.class && integral) {
+            long longValue = value.longValue();
+            if (longValue >= Integer.MIN_VALUE && longValue <= Integer.MAX_VALUE) return (int) longValue;
+        } else if (targetClass == Double.class && (integral || value instanceof Float)) {
+            return value.doubleValue();
+        }
+
+        return null;
+    }
+
+    private static boolean isListType(JavaType type) {
+        return type.isCollectionLikeType() && type.getRawClass().isAssignableFrom(ArrayList.class);
+    }
+
+    private Plan createPlan(JavaType type) {
+        Class<?> rawClass = type.getRawClass();
+        if (type.isContainerType() || type.isEnumType() || type.isAbstract() || type.isPrimitive()
+                || rawClass.getName().startsWith("java.") || ClassUtil.isNonStaticInnerClass(rawClass)) {
+            return unsupported;
+        }
+
+        DeserializationConfig config = mapper.getDeserializationConfig();
+        BeanDescription description = config.introspect(type);
+        AnnotatedClass classInfo = description.getClassInfo();
+
+        if (classInfo.hasAnnotation(JsonDeserialize.class) || classInfo.hasAnnotation(JsonTypeInfo.class)
+                || description.findAnySetterAccessor() != null || description.findPOJOBuilder() != null) {
+            return unsupported;
+        }
+        for (AnnotatedConstructor constructor : description.getConstructors()) {
+            if (constructor.hasAnnotation(JsonCreator.class)) return unsupported;
+        }
+        for (AnnotatedMethod factory : description.getFactoryMethods()) {
+            if (factory.hasAnnotation(JsonCreator.class)) return unsupported;
+        }
+
+        AnnotatedConstructor defaultConstructor = description.findDefaultConstructor();
+        if (defaultConstructor == null) return unsupported;
+        defaultConstructor.fixAccess(true);
+
+        Map<String, Property> properties = new HashMap<>();
+        for (BeanPropertyDefinition definition : description.findProperties()) {
+            AnnotatedMember mutator = definition.getMutator();
+            if (mutator == null) continue;
+            if (mutator instanceof AnnotatedParameter) return unsupported;
+
+            // 프로퍼티 단위 역직렬화 설정은 프로퍼티 값만 따로 convertValue() 해서는 적용되지 않으므로 객체 전체를 Jackson에 맡김
+            if (mutator.hasAnnotation(JsonDeserialize.class) || mutator.hasAnnotation(JsonFormat.class)
+                    || mutator.hasAnnotation(JsonSetter.class) || mutator.hasAnnotation(JsonMerge.class)) {
+                return unsupported;
+            }
+
+            mutator.fixAccess(true);
+            Property property = new Property(mutator, definition.getPrimaryType());
+            properties.put(definition.getName(), property);
+            List<PropertyName> aliases = config.getAnnotationIntrospector().findPropertyAliases(mutator);
+            if (aliases != null) {
+                for (PropertyName alias : aliases) {
+                    properties.put(alias.getSimpleName(), property);
+                }
+            }
+        }
+
+        JsonIgnoreProperties.Value ignorals = config.getDefaultPropertyIgnorals(rawClass, classInfo);
+        Set<String> ignoredNames = new HashSet<>(ignorals.findIgnoredForDeserialization());
+        ignoredNames.addAll(description.getIgnoredPropertyNames());
+        boolean ignoreUnknown = ignorals.getIgnoreUnknown() || !config.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+        return new Plan(defaultConstructor.getAnnotated(), properties, ignoredNames, ignoreUnknown);
+    }
+
+    /*
+     * VO 클래스 하나에 대한 변환 계획
+     * 기본 생성자와 프로퍼티 이름별 setter(혹은 필드) 및 대상 타입을 들고 있음
+     */
+    private class Plan {
+        private final Constructor<?> constructor;
+        private final Map<String, Property> properties;
+        private final Set<String> ignoredNames;
+        private final boolean ignoreUnknown;
+
+        private Plan(Constructor<?> constructor, Map<String, Property> properties, Set<String> ignoredNames, boolean ignoreUnknown) {
+            this.constructor = constructor;
+            this.properties = properties;
+            this.ignoredNames = ignoredNames;
+            this.ignoreUnknown = ignoreUnknown;
+        }
+
+        // 알 수 없는 키가 있을 경우 null 반환 (Jackson으로 다시 변환하여 동일한 에러가 나도록 함)
+        private Object create(Map<?, ?> map) {
+            try {
+                Object bean = constructor.newInstance();
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    String name = String.valueOf(entry.getKey());
+
+                    Property property = properties.get(name);
+                    if (property == null) {
+                        if (ignoreUnknown || ignoredNames.contains(name)) continue;
+                        return null;
+                    }
+
+                    property.set(bean, convertValue(entry.getValue(), property.type));
+                }
+
+                return bean;
+            } catch (InstantiationException | IllegalAccessException e) {
+                throw new IllegalArgumentException(e.getMessage(), e);
+            } catch (InvocationTargetException e) {
+                throw new IllegalArgumentException(e.getTargetException().getMessage(), e.getTargetException());
+            }
+        }
+    }
+
+    private static class Property {
+        private final Method setter;
+        private final Field field;
+        private final JavaType type;
+
+        private Property(AnnotatedMember mutator, JavaType type) {
+            this.setter = mutator.getMember() instanceof Method ? (Method) mutator.getMember() : null;
+            this.field = mutator.getMember() instanceof Field ? (Field) mutator.getMember() : null;
+            this.type = type;
+        }
+
+        private void set(Object bean, Object value) throws IllegalAccessException, InvocationTargetException {
+            if (setter != null) {
+                setter.invoke(bean, value);
+            } else {
+                field.set(bean, value);
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.rm.common.core.util;
+
+import lombok.Getter;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 고정 크기 byte[] 버퍼를 재사용하기 위한 스레드 안전한 풀
+ *
+ * 풀에 보관되는 버퍼 개수는 maxPooled 개로 제한됨
+ * 풀이 비어있으면 새 버퍼를 만들어 주고, 풀이 가득 찬 상태에서 반납된 버퍼는 그냥 버려짐 (GC 대상)
+ * 반납한 버퍼는 다른 스레드가 바로 가져갈 수 있으므로, release() 이후에는 해당 버퍼를 사용하면 안됨
+ */
+public class BufferPool {
+    @Getter private final int bufferSize;
+    private final BlockingQueue<byte[]> pool;
+
+    public BufferPool(int bufferSize, int maxPooled) {
+        if (bufferSize <= 0) throw new IllegalArgumentException("bufferSize can't be 0 or negative number!");
+        if (maxPooled <= 0) throw new IllegalArgumentException("maxPooled can't be 0 or negative number!");
+
+        this.bufferSize = bufferSize;
+        this.pool = new ArrayBlockingQueue<>(maxPooled);
+    }
+
+    public byte[] acquire() {
+        byte[] buffer = pool.poll();
+        return buffer == null ? new byte[bufferSize] : buffer;
+    }
+
+    public void release(byte[] buffer) {
+        // 다른 크기의 버퍼가 섞여 들어오지 않도록 크기가 맞는 버퍼만 받음
+        if (buffer != null && buffer.length == bufferSize) pool.offer(buffer);
+    }
+}
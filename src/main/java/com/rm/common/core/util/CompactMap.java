@@ -0,0 +1,314 @@
+package com.rm.common.core.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.deser.std.UntypedObjectDeserializer;
+
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * 같은 키 구성(shape)의 객체들이 키 정보를 공유하는 읽기 전용 Map
+ *
+ * 스키마 없는 행(row) 리스트를 LinkedHashMap으로 받으면 행마다 해시 테이블과 필드별 Entry 객체가 만들어지고, 같은 키가 행마다 반복됨
+ * CompactMap은 키 순서와 위치 정보를 Shape에 한번만 만들어두고, 행에는 Shape 참조와 값 배열(Object[])만 가짐
+ * Shape는 (이전 Shape + 다음 키) 단위로 캐시되므로, 같은 순서의 키를 가진 행들은 모두 같은 Shape를 사용함
+ *
+ * 키 순서는 JSON의 필드 순서를 유지하며, 수정 메서드(put, remove 등)는 UnsupportedOperationException을 던짐
+ * 중첩 객체도 CompactMap으로, 배열은 ArrayList로 역직렬화됨 (숫자 등 나머지 값은 LinkedHashMap으로 받을 때와 같음)
+ * 키가 MAX_KEY_COUNT보다 많은 객체는 LinkedHashMap으로 역직렬화됨
+ * 캐시된 Shape 수가 MAX_SHAPE_COUNT에 도달하면 최근에 사용되지 않은 Shape부터 버림 (동적으로 만들어지는 키에 의한 메모리 누수 방지)
+ * 따라서 VO 필드에 사용할 경우 타입은 Map으로 선언하고 @JsonDeserialize(as = CompactMap.class)를 지정함
+ */
+@JsonDeserialize(using = CompactMap.Deserializer.class)
+public final class CompactMap extends AbstractMap<String, Object> {
+    static final int MAX_SHAPE_COUNT = 4096;
+    static final int MAX_KEY_COUNT = 256;
+
+    private final Shape shape;
+    private final Object[] values;
+
+    private CompactMap(Shape shape, Object[] values) {
+        this.shape = shape;
+        this.values = values;
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return shape.indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int index = shape.indexOf(key);
+        return index < 0 ? null : values[index];
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        for (int i = 0; i < values.length; i++) {
+            action.accept(shape.keys[i], values[i]);
+        }
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterator<Entry<String, Object>>() {
+                    private int index;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < values.length;
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (index >= values.length) throw new NoSuchElementException();
+
+                        Entry<String, Object> entry = new SimpleImmutableEntry<>(shape.keys[index], values[index]);
+                        index++;
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return values.length;
+            }
+        };
+    }
+
+    /*
+     * 키 구성 정보, 루트(빈 Shape)에서 키를 하나씩 추가하는 방식으로 만들어지며 추가 결과는 transitions에 캐시됨
+     * 키가 적을 때는 배열을 순차 탐색하고 (JSON 파서가 키를 intern 하므로 대부분 == 비교로 끝남), 많을 때는 HashMap으로 찾음
+     */
+    private static final int LINEAR_SEARCH_LIMIT = 8;
+    private static final AtomicInteger shapeCount = new AtomicInteger();
+    private static final Shape ROOT = new Shape(new String[0]);
+
+    /*
+     * 최근 사용 여부는 시각 대신 정리 주기(epoch) 번호로 기록함
+     * Shape는 사용될 때 자신의 번호가 현재 epoch와 다를 경우에만 갱신하므로, 여러 스레드가 같은 Shape를 읽어도 쓰기 경합이 거의 없음
+     * 새로 만든 Shape는 이전 epoch 번호로 시작하므로, 한번 쓰이고 다시 쓰이지 않은 Shape(동적으로 만들어지는 키 등)는 다음 정리 때 버려짐
+     */
+    private static volatile int epoch;
+
+    // 캐시된 Shape를 모두 버림 (이미 만들어진 CompactMap은 자신의 Shape를 그대로 사용함), Shape 수 제한을 확인하는 테스트에서 사용함
+    static void clearShapes() {
+        ROOT.transitions.clear();
+        shapeCount.set(0);
+    }
+
+    static int shapeCount() {
+        return shapeCount.get();
+    }
+
+    // 같은 Shape를 공유하는지 여부, Shape 정리를 확인하는 테스트에서 사용함
+    boolean sharesShapeWith(CompactMap other) {
+        return shape == other.shape;
+    }
+
+    /*
+     * 캐시가 가득 찼을 때 이전 정리 이후 다시 사용되지 않은 Shape(및 그 하위 Shape)를 버림
+     * 그래도 절반 이상 남으면(최근에 사용된 Shape가 너무 많으면) 모두 버림
+     * 이미 만들어진 CompactMap은 버려진 Shape를 그대로 사용하며, 같은 키 구성은 다음 역직렬화 시 다시 만들어짐
+     */
+    private static synchronized void evictShapes() {
+        if (shapeCount.get() < MAX_SHAPE_COUNT) return;
+
+        int current = epoch;
+        int remaining = evictUnused(ROOT, current);
+        if (remaining > MAX_SHAPE_COUNT / 2) {
+            ROOT.transitions.clear();
+            remaining = 0;
+        }
+
+        shapeCount.set(remaining);
+        epoch = current + 1;
+    }
+
+    // shape 아래의 Shape 중 current epoch에 사용되지 않은 것을 버리고, 남은 Shape 수를 반환함
+    private static int evictUnused(Shape shape, int current) {
+        int count = 0;
+        for (Iterator<Shape> iterator = shape.transitions.values().iterator(); iterator.hasNext(); ) {
+            Shape next = iterator.next();
+            if (next.usedEpoch != current) {
+                iterator.remove();
+            } else {
+                count += 1 + evictUnused(next, current);
+            }
+        }
+        return count;
+    }
+
+    private static class Shape {
+        private final String[] keys;
+        private final Map<String, Integer> index;
+        private final Map<String, Shape> transitions = new ConcurrentHashMap<>();
+        private int usedEpoch;
+
+        private Shape(String[] keys) {
+            this.keys = keys;
+            this.usedEpoch = epoch - 1;
+            if (keys.length > LINEAR_SEARCH_LIMIT) {
+                index = new HashMap<>();
+                for (int i = 0; i < keys.length; i++) {
+                    index.put(keys[i], i);
+                }
+            } else {
+                index = null;
+            }
+        }
+
+        private int indexOf(Object key) {
+            if (index != null) {
+                Integer i = index.get(key);
+                return i == null ? -1 : i;
+            }
+
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) return i;
+            }
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i].equals(key)) return i;
+            }
+            return -1;
+        }
+
+        // key를 추가한 Shape 반환, 키가 너무 많아 더 이상 Shape를 만들 수 없을 경우 null 반환
+        private Shape with(String key) {
+            Shape shape = transitions.get(key);
+            if (shape != null) {
+                int current = epoch;
+                if (shape.usedEpoch != current) shape.usedEpoch = current;
+                return shape;
+            }
+            if (keys.length >= MAX_KEY_COUNT) return null;
+            if (shapeCount.get() >= MAX_SHAPE_COUNT) evictShapes();
+
+            String[] newKeys = Arrays.copyOf(keys, keys.length + 1);
+            newKeys[keys.length] = key;
+            shape = new Shape(newKeys);
+
+            Shape previous = transitions.putIfAbsent(key, shape);
+            if (previous != null) return previous;
+
+            shapeCount.incrementAndGet();
+            return shape;
+        }
+    }
+
+    /*
+     * JSON 객체를 CompactMap으로 바로 역직렬화함 (LinkedHashMap을 거치지 않음)
+     */
+    static class Deserializer extends StdDeserializer<Map<String, Object>> {
+        private static final long serialVersionUID = 1L;
+
+        private static final Object[] EMPTY_VALUES = new Object[0];
+        private final JsonDeserializer<Object> scalarDeserializer = UntypedObjectDeserializer.Vanilla.std;
+
+        Deserializer() {
+            super(Map.class);
+        }
+
+        @Override
+        public Map<String, Object> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonToken token = p.currentToken();
+            if (token == JsonToken.START_OBJECT) {
+                token = p.nextToken();
+            } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+                @SuppressWarnings("unchecked")
+                Map<String, Object> map = (Map<String, Object>) ctxt.handleUnexpectedToken(Map.class, p);
+                return map;
+            }
+
+            Shape shape = ROOT;
+            Object[] values = EMPTY_VALUES;
+            int size = 0;
+            for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+                String key = p.getCurrentName();
+                p.nextToken();
+                Object value = readValue(p, ctxt);
+
+                int index = shape.indexOf(key);
+                if (index >= 0) {
+                    // 중복 키는 LinkedHashMap과 동일하게 나중 값으로 덮어씀
+                    values[index] = value;
+                    continue;
+                }
+
+                Shape next = shape.with(key);
+                if (next == null) return readAsLinkedHashMap(p, ctxt, shape, values, key, value);
+
+                if (size == values.length) values = Arrays.copyOf(values, Math.max(size * 2, 4));
+                values[size++] = value;
+                shape = next;
+            }
+
+            return new CompactMap(shape, size == values.length ? values : Arrays.copyOf(values, size));
+        }
+
+        private Object readValue(JsonParser p, DeserializationContext ctxt) throws IOException {
+            switch (p.currentToken()) {
+                case START_OBJECT:
+                    return deserialize(p, ctxt);
+                case START_ARRAY:
+                    List<Object> list = new ArrayList<>();
+                    while (p.nextToken() != JsonToken.END_ARRAY) {
+                        list.add(readValue(p, ctxt));
+                    }
+                    return list;
+                case VALUE_STRING:
+                    return p.getText();
+                case VALUE_NULL:
+                    return null;
+                default:
+                    return scalarDeserializer.deserialize(p, ctxt);
+            }
+        }
+
+        // 키가 너무 많아 Shape를 더 만들 수 없을 때 지금까지 읽은 값을 옮겨 담고 나머지 필드를 이어서 읽음
+        private Map<String, Object> readAsLinkedHashMap(JsonParser p, DeserializationContext ctxt, Shape shape, Object[] values,
+                                                        String key, Object value) throws IOException {
+            Map<String, Object> map = new LinkedHashMap<>();
+            for (int i = 0; i < shape.keys.length; i++) {
+                map.put(shape.keys[i], values[i]);
+            }
+            map.put(key, value);
+
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String name = p.getCurrentName();
+                p.nextToken();
+                map.put(name, readValue(p, ctxt));
+            }
+
+            return map;
+        }
+    }
+}
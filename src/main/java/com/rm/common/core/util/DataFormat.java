@@ -0,0 +1,101 @@
+package com.rm.common.core.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.rm.common.core.util.ObjectUtils.getCachedValue;
+import static com.rm.common.core.util.ObjectUtils.getJavaType;
+
+/**
+ * JsonUtils에서 사용 가능한 직렬화 포맷
+ *
+ * JSON: 기본 텍스트 포맷, 외부 API 및 브라우저 응답용
+ * SMILE, CBOR: 바이너리 포맷, 내부 서비스 간 통신용 (VO 수정 없이 JSON과 동일한 Jackson 어노테이션 및 (역)직렬화기 사용)
+ *
+ * 포맷별로 ObjectMapper를 하나씩 가지며, 설정은 생성 시점에 한번만 하고 이후로는 변경하지 않음
+ * (설정을 바꿔야 하는 곳에는 getMapper() 대신 같은 설정의 새 인스턴스(newMapper())를 넘겨줌)
+ * 타입별 ObjectReader/ObjectWriter는 불변 객체이므로 한번 만들어 캐시해두고 재사용함
+ * Reader 캐시의 키는 Class, TypeReference.getType(), ParameterizedType, JavaType 모두 java.lang.reflect.Type으로 통일함
+ */
+public enum DataFormat {
+    JSON(new JsonFactory(), MediaType.APPLICATION_JSON),
+    SMILE(new SmileFactory(), new MediaType("application", "x-jackson-smile")),
+    CBOR(new CBORFactory(), new MediaType("application", "cbor"));
+
+    @Getter private final ObjectMapper mapper;
+    @Getter private final MediaType mediaType;
+
+    private final Map<Type, ObjectReader> readerCache = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectWriter> writerCache = new ConcurrentHashMap<>();
+
+    DataFormat(JsonFactory factory, MediaType mediaType) {
+        this.mapper = createMapper(factory, isGeneratedAccessors());
+        this.mediaType = mediaType;
+    }
+
+    // 포맷의 mapper와 같은 설정으로 새로 만든 ObjectMapper, 반환된 mapper를 수정해도 포맷의 mapper에는 영향이 없음
+    public ObjectMapper newMapper() {
+        return createMapper(mapper.getFactory().copy(), isGeneratedAccessors());
+    }
+
+    // 모든 포맷에 공통으로 적용하는 설정
+    static ObjectMapper createMapper(JsonFactory factory, boolean generatedAccessors) {
+        ObjectMapper mapper = new ObjectMapper(factory);
+        mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, true);
+        mapper.configure(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS.mappedFeature(), true);
+        // OutputStream 등 호출자가 넘겨준 출력 대상은 호출자가 직접 닫도록 함
+        mapper.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+        if (generatedAccessors) mapper.registerModule(new AfterburnerModule());
+
+        return mapper;
+    }
+
+    /*
+     * VO (역)직렬화 시 리플렉션 대신 생성된 바이트코드 접근자를 사용할지 여부
+     * JVM 옵션 -Drm.json.generated-accessors=true 로 켤 수 있으며, 켜져 있으면 Afterburner 모듈이 VO 클래스별로 한번씩
+     * getter/setter/필드 접근 클래스를 생성해두고 이후 호출에서는 리플렉션 없이 바로 호출함 (Java 8 호환)
+     * 필드가 많은 VO일수록 효과가 크며, private 멤버 등 생성이 불가능한 경우 자동으로 기존 리플렉션 방식을 사용함
+     * (enum 상수가 static 필드보다 먼저 초기화되므로 상수로 두지 않고 생성 시점에 읽음)
+     */
+    private static boolean isGeneratedAccessors() {
+        return Boolean.getBoolean("rm.json.generated-accessors");
+    }
+
+    ObjectReader reader(Type type) {
+        return getCachedValue(readerCache, type, valueType -> mapper.readerFor(getJavaType(valueType)));
+    }
+
+    ObjectWriter writer(Object object) {
+        if (object == null) return mapper.writer();
+
+        return getCachedValue(writerCache, object.getClass(), mapper::writerFor);
+    }
+
+    /*
+     * type의 역직렬화기(및 클래스일 경우 직렬화기)를 미리 만들어 mapper와 reader/writer 캐시에 넣어둠
+     * 첫 요청에서 (역)직렬화기 생성 비용을 치르지 않도록 애플리케이션 시작 시 호출함 (JsonWarmUpConfig 참고)
+     */
+    public void warmUp(Type type) {
+        reader(type);
+        if (type instanceof Class) {
+            getCachedValue(writerCache, (Class<?>) type, mapper::writerFor);
+        } else {
+            // writer 캐시는 객체의 클래스를 키로 쓰므로 제네릭 타입은 캐시하지 않고 mapper에 직렬화기만 만들어둠
+            mapper.writerFor(getJavaType(type));
+        }
+    }
+}
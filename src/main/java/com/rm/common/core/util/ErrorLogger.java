@@ -0,0 +1,306 @@
+package com.rm.common.core.util;
+
+import com.rm.common.core.exception.RmCommonException;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 같은 에러가 반복될 때 로그 양을 제한하는 에러 로거
+ *
+ * 잘못된 요청이 대량으로 들어오면 매번 스택 트레이스를 남기는 로그 출력 자체가 병목이 됨
+ * 에러를 (로거, 발생 위치, 예외 클래스, 원인 예외 클래스, RmCommonException의 에러 코드) 단위로 구분하여,
+ * 처음 발생했을 때만 스택 트레이스까지 남기고 이후에는 interval마다 그동안 발생한 횟수만 한 줄로 남김
+ * 집계된 횟수는 interval이 지난 뒤 같은 에러가 다시 발생하거나, 백그라운드 스레드가 1초마다 확인할 때 출력됨
+ *
+ * 발생 위치는 호출하는 쪽이 errorAt()으로 넘기는 문자열(메서드 이름 등)이며, 집계 로그에 함께 남김
+ * 스택 트레이스를 읽으면 예외마다 StackTraceElement 배열이 만들어지므로 발생 위치를 스택 트레이스에서 구하지 않음
+ * 발생 위치 없이 호출한 에러의 집계 로그는 같은 로거의 여러 위치에서 발생한 횟수를 합친 것일 수 있음
+ * 이미 기록된 에러는 락과 객체 생성 없이 카운터만 올리고 반환함 (error(log, e)는 메시지도 만들지 않음)
+ * 구분하는 에러 종류가 MAX_FINGERPRINT_COUNT를 넘으면 나머지는 모두 하나의 공용 항목으로 집계함
+ * interval은 -Drm.log.error-interval=초 (기본 60초) 혹은 setInterval()로 변경 가능함
+ */
+@Slf4j
+public class ErrorLogger {
+    // 구분하는 에러 종류의 최대 수, 넘어가는 경우 공용 항목(overflow)으로 집계함
+    static final int MAX_FINGERPRINT_COUNT = 1024;
+    // 열린 주소 방식 해시 테이블 크기 (최대 항목 수의 2배, 2의 거듭제곱)
+    private static final int TABLE_SIZE = MAX_FINGERPRINT_COUNT * 2;
+
+    private static volatile long intervalNanos = TimeUnit.SECONDS.toNanos(Long.getLong("rm.log.error-interval", 60));
+    private static final AtomicReferenceArray<Occurrence> table = new AtomicReferenceArray<>(TABLE_SIZE);
+    private static final AtomicInteger size = new AtomicInteger();
+    private static volatile Occurrence overflow = newOverflow();
+    private static final AtomicBoolean overflowLogged = new AtomicBoolean();
+    // 백그라운드 스레드의 flush() 호출 여부, 테스트에서 집계 시점을 고정할 때 끔
+    private static volatile boolean backgroundFlush = true;
+
+    public static void setInterval(long interval, TimeUnit unit) {
+        intervalNanos = unit.toNanos(interval);
+    }
+
+    public static void error(Logger log, Throwable e) {
+        error(log, null, null, e);
+    }
+
+    // message가 null이면 로그를 남길 때만 e.getMessage()를 사용함
+    public static void error(Logger log, String message, Throwable e) {
+        error(log, null, message, e);
+    }
+
+    /*
+     * 발생 위치(site)를 구분해서 집계함, 같은 로거의 여러 메서드에서 같은 예외가 발생하는 경우 사용함
+     * site는 메서드 이름 등의 상수 문자열을 넘겨야 함 (호출마다 문자열을 만들면 구분 시 비교 비용이 생김)
+     */
+    public static void errorAt(Logger log, String site, Throwable e) {
+        error(log, site, null, e);
+    }
+
+    private static void error(Logger log, String site, String message, Throwable e) {
+        Throwable cause = e.getCause();
+        Object errorType = null;
+        Object reason = null;
+        if (e instanceof RmCommonException) {
+            errorType = ((RmCommonException) e).getType();
+            reason = ((RmCommonException) e).getReason();
+        }
+
+        Occurrence occurrence = find(log.getName(), site, e.getClass(), cause == null ? null : cause.getClass(), errorType, reason);
+        if (occurrence == null) {
+            String text = message == null ? e.getMessage() : message;
+            Occurrence candidate = new Occurrence(log, site, e.getClass(), cause == null ? null : cause.getClass(), errorType, reason, text);
+
+            occurrence = add(candidate);
+            if (occurrence == candidate) {
+                log.error(text, e);
+                return;
+            }
+            if (occurrence == null) {
+                if (overflowLogged.compareAndSet(false, true)) {
+                    log.error("{} ({}, too many kinds of errors; further new kinds are counted together)", text, e.getClass().getName());
+                } else {
+                    overflowRepeated();
+                }
+                return;
+            }
+        }
+
+        long count = occurrence.repeated(intervalNanos);
+        if (count > 0) occurrence.logRepeated(count);
+    }
+
+    /*
+     * 입력값이 포함된 경고 로그 등 같은 format의 로그를 제한함, format 단위로 구분함
+     */
+    public static void warn(Logger log, String format, Object... arguments) {
+        Occurrence occurrence = find(log.getName(), null, format, null, null, null);
+        if (occurrence == null) {
+            Occurrence candidate = new Occurrence(log, null, format, null, null, null, format);
+
+            occurrence = add(candidate);
+            if (occurrence == candidate || (occurrence == null && overflowLogged.compareAndSet(false, true))) {
+                log.warn(format, arguments);
+                return;
+            }
+            if (occurrence == null) {
+                overflowRepeated();
+                return;
+            }
+        }
+
+        long count = occurrence.repeated(intervalNanos);
+        if (count > 0) {
+            log.warn(format + " (repeated {} times since last logged)", append(arguments, count));
+        }
+    }
+
+    /*
+     * 구분할 수 있는 에러 종류를 넘어선 에러는 종류와 관계 없이 공용 항목 하나로 집계함
+     * 처음 한번은 해당 에러를 한 줄로 남기고, 이후에는 interval마다 그동안 발생한 횟수만 남김
+     */
+    private static void overflowRepeated() {
+        Occurrence occurrence = overflow;
+        long count = occurrence.repeated(intervalNanos);
+        if (count > 0) {
+            log.error("{} (repeated {} times since last logged)", occurrence.message, count);
+        }
+    }
+
+    private static Occurrence newOverflow() {
+        return new Occurrence(log, null, ErrorLogger.class, null, null, null, "Errors of other kinds (fingerprint limit " + MAX_FINGERPRINT_COUNT + " reached)");
+    }
+
+    // 백그라운드 스레드의 집계 출력을 켜고 끔, 테스트에서 flush()를 직접 호출해 출력 시점을 정할 때 사용함
+    static void setBackgroundFlush(boolean enabled) {
+        backgroundFlush = enabled;
+    }
+
+    // 기록된 항목을 모두 지움, 테스트에서 사용함
+    static void reset() {
+        for (int i = 0; i < TABLE_SIZE; i++) {
+            table.set(i, null);
+        }
+        size.set(0);
+        overflow = newOverflow();
+        overflowLogged.set(false);
+    }
+
+    /*
+     * interval이 지났는데 같은 에러가 다시 발생하지 않아 출력되지 않은 집계를 출력함
+     * 백그라운드 스레드(Flusher)가 1초마다 호출함
+     */
+    static void flush() {
+        long interval = intervalNanos;
+        for (int i = 0; i < TABLE_SIZE; i++) {
+            Occurrence occurrence = table.get(i);
+            if (occurrence != null) occurrence.flush(interval);
+        }
+        overflow.flush(interval);
+    }
+
+    private static int hash(String logger, String site, Object kind, Object cause, Object errorType, Object reason) {
+        // Class와 enum의 hashCode()는 identity hash, String은 캐시된 값이므로 객체 생성이 없음
+        int hash = logger.hashCode();
+        hash = hash * 31 + (site == null ? 0 : site.hashCode());
+        hash = hash * 31 + kind.hashCode();
+        hash = hash * 31 + (cause == null ? 0 : cause.hashCode());
+        hash = hash * 31 + (errorType == null ? 0 : errorType.hashCode());
+        hash = hash * 31 + (reason == null ? 0 : reason.hashCode());
+        return hash ^ (hash >>> 16);
+    }
+
+    private static Occurrence find(String logger, String site, Object kind, Object cause, Object errorType, Object reason) {
+        int mask = TABLE_SIZE - 1;
+        for (int i = hash(logger, site, kind, cause, errorType, reason) & mask; ; i = (i + 1) & mask) {
+            Occurrence occurrence = table.get(i);
+            if (occurrence == null) return null;
+            if (occurrence.matches(logger, site, kind, cause, errorType, reason)) return occurrence;
+        }
+    }
+
+    // 항목을 추가하고 반환함, 다른 스레드가 먼저 추가했을 경우 그 항목을 반환하며, 더 추가할 수 없을 경우 null 반환
+    private static Occurrence add(Occurrence occurrence) {
+        int mask = TABLE_SIZE - 1;
+        for (int i = hash(occurrence.logger, occurrence.site, occurrence.kind, occurrence.cause, occurrence.errorType, occurrence.reason) & mask; ; i = (i + 1) & mask) {
+            Occurrence current = table.get(i);
+            if (current == null) {
+                if (size.incrementAndGet() > MAX_FINGERPRINT_COUNT) {
+                    size.decrementAndGet();
+                    return null;
+                }
+                if (table.compareAndSet(i, null, occurrence)) {
+                    Flusher.start();
+                    return occurrence;
+                }
+
+                size.decrementAndGet();
+                current = table.get(i);
+            }
+            if (current.matches(occurrence.logger, occurrence.site, occurrence.kind, occurrence.cause, occurrence.errorType, occurrence.reason)) return current;
+        }
+    }
+
+    private static Object[] append(Object[] arguments, Object... values) {
+        Object[] result = new Object[arguments.length + values.length];
+        System.arraycopy(arguments, 0, result, 0, arguments.length);
+        System.arraycopy(values, 0, result, arguments.length, values.length);
+        return result;
+    }
+
+    /*
+     * 에러 한 종류의 구분 값과 마지막으로 로그를 남긴 이후의 발생 횟수
+     * kind는 error()의 경우 예외 클래스, warn()의 경우 format 문자열이며, site는 errorAt()으로 넘긴 발생 위치임
+     * 각 스레드는 테이블에 넣은 이후의 항목만 보므로, 구분 값과 메시지는 생성 시점에 모두 정해둠
+     */
+    private static class Occurrence {
+        private final Logger log;
+        private final String logger;
+        private final String site;
+        private final Object kind;
+        private final Object cause;
+        private final Object errorType;
+        private final Object reason;
+        // 처음 발생했을 때의 메시지(warn()의 경우 format), 집계 로그에 사용함
+        private final String message;
+
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong lastLoggedNanos = new AtomicLong(System.nanoTime());
+
+        private Occurrence(Logger log, String site, Object kind, Object cause, Object errorType, Object reason, String message) {
+            this.log = log;
+            this.logger = log.getName();
+            this.site = site;
+            this.kind = kind;
+            this.cause = cause;
+            this.errorType = errorType;
+            this.reason = reason;
+            this.message = message;
+        }
+
+        private boolean matches(String logger, String site, Object kind, Object cause, Object errorType, Object reason) {
+            return this.kind.equals(kind) && this.cause == cause && this.errorType == errorType && this.reason == reason && this.logger.equals(logger)
+                    && (this.site == null ? site == null : this.site.equals(site));
+        }
+
+        // interval이 지났고 이번 호출이 로그를 남겨야 할 경우 그동안의 발생 횟수를, 아닐 경우 0을 반환함
+        private long repeated(long interval) {
+            count.incrementAndGet();
+            return claim(interval);
+        }
+
+        private long claim(long interval) {
+            long last = lastLoggedNanos.get();
+            long now = System.nanoTime();
+            if (now - last < interval || !lastLoggedNanos.compareAndSet(last, now)) return 0;
+
+            return count.getAndSet(0);
+        }
+
+        private void flush(long interval) {
+            if (count.get() <= 0) return;
+
+            long count = claim(interval);
+            if (count <= 0) return;
+
+            if (kind instanceof String) {
+                log.warn("{} (repeated {} times since last logged)", message, count);
+            } else {
+                logRepeated(count);
+            }
+        }
+
+        // 발생 위치 없이 집계된 에러는 같은 로거의 여러 위치에서 발생했을 수 있으므로 위치를 특정하지 않음
+        private void logRepeated(long count) {
+            if (site != null) {
+                log.error("{} (repeated {} times since last logged, at {})", message, count, site);
+            } else if (kind == ErrorLogger.class) {
+                log.error("{} (repeated {} times since last logged)", message, count);
+            } else {
+                log.error("{} (repeated {} times since last logged, possibly from several call sites)", message, count);
+            }
+        }
+    }
+
+    // 집계를 출력하는 백그라운드 스레드, 처음 항목이 추가될 때 시작하며 데몬 스레드이므로 애플리케이션 종료를 막지 않음
+    private static class Flusher {
+        static {
+            Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "rm-error-logger");
+                thread.setDaemon(true);
+                return thread;
+            }).scheduleWithFixedDelay(() -> {
+                if (backgroundFlush) flush();
+            }, 1, 1, TimeUnit.SECONDS);
+        }
+
+        private static void start() {
+            // 클래스 초기화 시 스레드가 시작됨
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.rm.common.core.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.rm.common.core.exception.ErrorType;
+import com.rm.common.core.exception.RmCommonException;
+import com.rm.common.core.exception.ServiceStatusCode;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * 네트워크 등에서 조각(chunk) 단위로 들어오는 JSON을 받는 대로 파싱하여, 원소가 완성될 때마다 consumer로 넘겨주는 디코더
+ *
+ * JsonUtils.toVoIterator()는 InputStream을 읽는 동안 호출한 스레드가 블로킹되고, String/byte[] API는 전체가 모일 때까지 기다려야 함
+ * 이 디코더는 Jackson의 non-blocking 파서를 사용하므로 조각을 받은 만큼만 파싱하고 바로 반환함
+ * 원소 하나의 토큰이 모두 모이면(TokenBuffer) 그때 VO로 바인딩하므로, 메모리에는 파싱 중인 원소 하나만큼만 올라감
+ * 실수 값은 BigDecimal로 모아두므로 BigDecimal 필드도 toVoIterator()와 같이 정밀도 손실 없이 바인딩됨
+ *
+ * 대상 경로 규칙은 toVoIterator()와 동일함
+ *  - dataName이 비어있으면 루트가 대상이며, "data.items" 같은 중첩 경로도 사용 가능
+ *  - 대상이 배열이면 원소 단위로, 객체 등 단일 값이면 한 번만 consumer를 호출함
+ *  - 대상 필드가 없거나 null일 경우 consumer를 호출하지 않음
+ *
+ * feed()는 넘겨받은 조각을 모두 처리한 뒤 반환하므로, 반환 후에는 조각 버퍼를 재사용해도 됨
+ * 입력이 끝나면 complete()를 호출해야 하며, JSON이 중간에 끊긴 경우 여기서 예외가 발생함
+ * 파싱 중 발생한 예외는 RmCommonException(ERROR_JSON_PARSING)으로 던져짐
+ * 스레드 안전하지 않으므로, 조각은 한 스레드(혹은 순서가 보장되는 콜백)에서 순서대로 넘겨줘야 함
+ */
+public class JsonChunkDecoder<T> implements Closeable {
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final ObjectReader reader;
+    private final Consumer<? super T> consumer;
+    private final String[] path;
+
+    private State state = State.SEEK;
+    // SEEK: 현재 들어와 있는 경로상의 객체 수 (0: 루트 바깥), 건너뛰는 중인 하위 트리의 깊이, 직전 필드명이 경로와 일치하는지 여부
+    private int level;
+    private int skipDepth;
+    private boolean fieldMatched;
+    // ELEMENTS: 대상이 배열인지 여부, 모으는 중인 원소의 토큰과 깊이
+    private boolean array;
+    private TokenBuffer element;
+    private int elementDepth;
+
+    // direct ByteBuffer를 넘겨받을 때 복사용으로 재사용하는 배열
+    private byte[] copyBuffer;
+
+    private enum State {
+        SEEK, ELEMENTS, DONE
+    }
+
+    JsonChunkDecoder(String dataName, ObjectReader reader, Consumer<? super T> consumer) {
+        try {
+            this.parser = DataFormat.JSON.getMapper().getFactory().createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new RmCommonException(ErrorType.ERROR_SYSTEM, ServiceStatusCode.ERROR_JSON_PARSING, e);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        this.reader = reader;
+        this.consumer = consumer;
+        this.path = StringUtils.isEmpty(dataName) ? new String[0] : StringUtils.split(dataName, '.');
+    }
+
+    public void feed(byte[] chunk) {
+        feed(chunk, 0, chunk.length);
+    }
+
+    public void feed(byte[] chunk, int offset, int length) {
+        if (length == 0) return;
+
+        try {
+            feeder.feedInput(chunk, offset, offset + length);
+            drain();
+        } catch (IOException e) {
+            close();
+            throw new RmCommonException(ErrorType.ERROR_SYSTEM, ServiceStatusCode.ERROR_JSON_PARSING, e);
+        }
+    }
+
+    // chunk의 position부터 limit까지를 처리하며, 처리한 만큼 position이 이동함
+    public void feed(ByteBuffer chunk) {
+        int length = chunk.remaining();
+        if (chunk.hasArray()) {
+            feed(chunk.array(), chunk.arrayOffset() + chunk.position(), length);
+        } else {
+            if (copyBuffer == null || copyBuffer.length < length) copyBuffer = new byte[Math.max(length, 8 * 1024)];
+            chunk.duplicate().get(copyBuffer, 0, length);
+            feed(copyBuffer, 0, length);
+        }
+        chunk.position(chunk.limit());
+    }
+
+    /*
+     * 입력의 끝을 알림, 끝나지 않은 객체/배열이 있을 경우 예외가 발생함
+     */
+    public void complete() {
+        try {
+            feeder.endOfInput();
+            drain();
+        } catch (IOException e) {
+            throw new RmCommonException(ErrorType.ERROR_SYSTEM, ServiceStatusCode.ERROR_JSON_PARSING, e);
+        } finally {
+            close();
+        }
+    }
+
+    @Override
+    public void close() {
+        state = State.DONE;
+        element = null;
+
+        try {
+            parser.close();
+        } catch (IOException e) {
+            throw new RmCommonException(ErrorType.ERROR_SYSTEM, ServiceStatusCode.ERROR_JSON_PARSING, e);
+        }
+    }
+
+    // 현재까지 들어온 입력에서 만들 수 있는 토큰을 모두 처리함
+    private void drain() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (state == State.SEEK) {
+                seek(token);
+            } else if (state == State.ELEMENTS) {
+                collect(token);
+            }
+        }
+    }
+
+    // 대상 경로의 값 토큰을 찾을 때까지 나머지 값들은 건너뜀 (JsonUtils.seekPath()와 동일한 규칙)
+    private void seek(JsonToken token) throws IOException {
+        if (skipDepth > 0) {
+            if (token.isStructStart()) skipDepth++;
+            else if (token.isStructEnd()) skipDepth--;
+            return;
+        }
+
+        if (level == 0) {
+            if (path.length == 0) {
+                startTarget(token);
+            } else if (token == JsonToken.START_OBJECT) {
+                level = 1;
+            } else {
+                state = State.DONE;
+            }
+            return;
+        }
+
+        if (token == JsonToken.FIELD_NAME) {
+            fieldMatched = path[level - 1].equals(parser.getCurrentName());
+        } else if (token == JsonToken.END_OBJECT) {
+            // 경로상의 객체에 대상 필드가 없음
+            state = State.DONE;
+        } else if (!fieldMatched) {
+            if (token.isStructStart()) skipDepth = 1;
+        } else if (level == path.length) {
+            startTarget(token);
+        } else if (token == JsonToken.START_OBJECT) {
+            level++;
+            fieldMatched = false;
+        } else {
+            state = State.DONE;
+        }
+    }
+
+    private void startTarget(JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            state = State.DONE;
+        } else if (token == JsonToken.START_ARRAY) {
+            array = true;
+            state = State.ELEMENTS;
+        } else {
+            state = State.ELEMENTS;
+            collect(token);
+        }
+    }
+
+    // 원소 하나의 토큰을 모으고, 원소가 끝나면 바인딩하여 consumer로 넘김
+    private void collect(JsonToken token) throws IOException {
+        if (element == null) {
+            if (token == JsonToken.END_ARRAY) {
+                state = State.DONE;
+                return;
+            }
+
+            element = new TokenBuffer(parser);
+            // 기본 설정에서는 실수를 double로 복사하므로 BigDecimal 필드의 정밀도가 손실됨
+            element.forceUseOfBigDecimal(true);
+            elementDepth = 0;
+        }
+
+        element.copyCurrentEvent(parser);
+        if (token.isStructStart()) elementDepth++;
+        else if (token.isStructEnd()) elementDepth--;
+        if (elementDepth > 0) return;
+
+        TokenBuffer completed = element;
+        element = null;
+        if (!array) state = State.DONE;
+
+        T value;
+        try (JsonParser elementParser = new DecimalParser(completed.asParser(parser.getCodec()))) {
+            value = reader.readValue(elementParser);
+        }
+        consumer.accept(value);
+    }
+
+    /*
+     * BigDecimal로 모아둔 실수 값을 원래 파서와 같이 double 타입으로 보여줌
+     * Object/Map 등 타입이 정해지지 않은 값은 toVoIterator()와 같이 Double로, BigDecimal 필드는 getDecimalValue()로 정확한 값을 받음
+     */
+    private static class DecimalParser extends JsonParserDelegate {
+        private DecimalParser(JsonParser parser) {
+            super(parser);
+        }
+
+        @Override
+        public NumberType getNumberType() throws IOException {
+            NumberType type = delegate.getNumberType();
+            return type == NumberType.BIG_DECIMAL ? NumberType.DOUBLE : type;
+        }
+
+        @Override
+        public Number getNumberValue() throws IOException {
+            return delegate.getNumberType() == NumberType.BIG_DECIMAL ? delegate.getDoubleValue() : delegate.getNumberValue();
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.rm.common.core.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.rm.common.core.exception.ErrorType;
+import com.rm.common.core.exception.RmCommonException;
+import com.rm.common.core.exception.ServiceStatusCode;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 같은 JSON에서 여러 값을 꺼내 쓸 때 사용하는 문서 객체
+ *
+ * JsonUtils.toDataObject()를 dataName만 바꿔가며 여러번 호출하면 호출할 때마다 전체를 다시 파싱하게 됨
+ * JsonDocument는 생성 시 루트 객체(혹은 배열)를 한번 훑어 각 필드(원소) 값의 바이트 범위(시작, 끝)만 기록해두고,
+ * 값을 꺼낼 때는 해당 위치부터 그 값만 바인딩함 (JsonNode 트리는 만들지 않음)
+ * 중첩 경로("data.items" 등)의 하위 객체/배열도 처음 접근할 때 한번만 위치를 기록해두고 재사용함
+ *
+ * 경로는 점(.)으로 구분하며, 배열의 원소는 숫자 인덱스로 접근 가능함 (ex. "data.items.0.name")
+ * 여러 스레드에서 동시에 읽어도 안전함
+ */
+@Slf4j
+public class JsonDocument {
+    private final byte[] json;
+    // 값의 시작 위치 -> 해당 위치의 객체/배열 내부 값들의 범위 정보
+    private final Map<Integer, Container> containers = new ConcurrentHashMap<>();
+
+    private JsonDocument(byte[] json) {
+        this.json = json;
+        // 루트 값은 생성 시점에 바로 위치를 기록함, 잘못된 JSON일 경우 여기서 예외가 발생함
+        Container root = index(0);
+        if (root != null) containers.put(0, root);
+    }
+
+    public static JsonDocument of(String json) {
+        return of(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static JsonDocument of(byte[] json) {
+        return new JsonDocument(json);
+    }
+
+    public boolean has(String path) {
+        return find(path) != NOT_FOUND;
+    }
+
+    // path 위치의 값이 배열이면 원소 개수, 객체면 필드 개수, 그 외(값이 없거나 단일 값)에는 -1 반환
+    public int size(String path) {
+        long range = find(path);
+        if (range == NOT_FOUND) return -1;
+
+        Container container = getContainer(start(range));
+        return container == null ? -1 : container.size();
+    }
+
+    public <T> T get(String path, Class<T> valueType) {
+        return read(path, DataFormat.JSON.reader(valueType));
+    }
+
+    public <T> T get(String path, TypeReference<T> valueTypeRef) {
+        return read(path, DataFormat.JSON.reader(valueTypeRef.getType()));
+    }
+
+    public <T> T get(String path, Type type) {
+        return read(path, DataFormat.JSON.reader(type));
+    }
+
+    private <T> T read(String path, ObjectReader reader) {
+        long range = find(path);
+        if (range == NOT_FOUND) return null;
+
+        try {
+            return reader.readValue(json, start(range), end(range) - start(range));
+        } catch (IOException e) {
+            ErrorLogger.error(log, e);
+        }
+
+        return null;
+    }
+
+    /*
+     * 값의 범위는 (시작 위치 << 32 | 끝 위치) 형태의 long 하나로 저장함 (객체 생성 없이 저장하기 위함)
+     * 끝 위치까지 잘라서 바인딩해야 루트 레벨 숫자 뒤의 ','를 에러로 보지 않음
+     */
+    private static final long NOT_FOUND = -1L;
+
+    private static long range(int start, int end) {
+        return ((long) start << 32) | end;
+    }
+
+    private static int start(long range) {
+        return (int) (range >>> 32);
+    }
+
+    private static int end(long range) {
+        return (int) range;
+    }
+
+    // 경로에 해당하는 값의 범위를 찾음, 없을 경우 NOT_FOUND 반환
+    private long find(String path) {
+        long range = range(0, json.length);
+        if (StringUtils.isEmpty(path)) return range;
+
+        for (String name : StringUtils.split(path, '.')) {
+            Container container = getContainer(start(range));
+            if (container == null) return NOT_FOUND;
+
+            range = container.find(name);
+            if (range == NOT_FOUND) return NOT_FOUND;
+        }
+
+        return range;
+    }
+
+    private Container getContainer(int offset) {
+        Container container = containers.get(offset);
+        if (container != null) return container;
+        // 객체/배열이 아닌 값은 파싱하지 않음 (값 뒤의 ','를 루트 레벨 값 사이의 문자로 보고 에러가 발생함)
+        if (!isContainerStart(offset)) return null;
+
+        container = index(offset);
+        if (container != null) containers.put(offset, container);
+
+        return container;
+    }
+
+    private boolean isContainerStart(int offset) {
+        while (offset < json.length && (json[offset] == ' ' || json[offset] == '\t' || json[offset] == '\n' || json[offset] == '\r')) offset++;
+
+        return offset < json.length && (json[offset] == '{' || json[offset] == '[');
+    }
+
+    // offset 위치의 객체/배열 바로 아래 값들의 범위를 기록함, 하위 트리는 skipChildren()으로 건너뜀
+    private Container index(int offset) {
+        try (JsonParser parser = DataFormat.JSON.getMapper().getFactory().createParser(json, offset, json.length - offset)) {
+            JsonToken token = parser.nextToken();
+
+            if (token == JsonToken.START_OBJECT) {
+                Map<String, Long> fields = new HashMap<>();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.getCurrentName();
+                    parser.nextToken();
+                    fields.put(name, valueRange(parser, offset));
+                }
+
+                return new Container(fields, null);
+            } else if (token == JsonToken.START_ARRAY) {
+                long[] elements = new long[16];
+                int count = 0;
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    if (count == elements.length) elements = Arrays.copyOf(elements, count * 2);
+                    elements[count++] = valueRange(parser, offset);
+                }
+
+                return new Container(null, Arrays.copyOf(elements, count));
+            }
+
+            return null;
+        } catch (IOException e) {
+            throw new RmCommonException(ErrorType.ERROR_SYSTEM, ServiceStatusCode.ERROR_JSON_PARSING, e);
+        }
+    }
+
+    // 파서가 값의 시작 토큰에 있을 때 해당 값의 범위를 구하고, 파서를 값의 끝으로 이동시킴
+    private static long valueRange(JsonParser parser, int offset) throws IOException {
+        int start = offset + (int) parser.getTokenLocation().getByteOffset();
+        parser.skipChildren();
+        // 문자열 토큰은 내용을 늦게 읽기 때문에, 끝 위치를 알기 위해 끝까지 읽어둠
+        parser.finishToken();
+        int end = offset + (int) parser.getCurrentLocation().getByteOffset();
+
+        return range(start, end);
+    }
+
+    private static class Container {
+        private final Map<String, Long> fields;
+        private final long[] elements;
+
+        private Container(Map<String, Long> fields, long[] elements) {
+            this.fields = fields;
+            this.elements = elements;
+        }
+
+        private int size() {
+            return fields != null ? fields.size() : elements.length;
+        }
+
+        private long find(String name) {
+            if (fields != null) {
+                Long range = fields.get(name);
+                return range == null ? NOT_FOUND : range;
+            }
+
+            if (!StringUtils.isNumeric(name) || name.length() > 9) return NOT_FOUND;
+            int index = Integer.parseInt(name);
+            return index < elements.length ? elements[index] : NOT_FOUND;
+        }
+    }
+}
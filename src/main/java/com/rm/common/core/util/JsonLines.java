@@ -0,0 +1,274 @@
+package com.rm.common.core.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.rm.common.core.exception.ErrorType;
+import com.rm.common.core.exception.RmCommonException;
+import com.rm.common.core.exception.ServiceStatusCode;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static com.rm.common.core.util.ObjectUtils.getCachedValue;
+
+/**
+ * JSON Lines(NDJSON, 한 줄에 JSON 값 하나) 형식의 대량 데이터 입출력 유틸리티
+ *
+ * 배치 작업 간 대량 데이터를 하나의 거대한 JSON 배열(JsonUtils.jsonToVOList)로 주고받으면 단일 스레드로 전체를 메모리에 올려야 함
+ * JSON Lines는 줄 단위로 잘라 여러 코어에서 동시에 역직렬화할 수 있고, 파일을 구간별로 나눠 읽을 수 있음
+ *
+ * 읽기는 파일을 WINDOW_SIZE 단위로 메모리 매핑한 뒤, 다시 CHUNK_SIZE 정도의 줄 단위 조각으로 나눠 공용 ForkJoinPool에서 병렬로 역직렬화함
+ * forEach() 사용 시 한번에 한 구간(window)의 결과만 메모리에 올라가므로, 힙보다 큰 파일도 처리할 수 있음
+ * 다 읽은 구간은 GC를 기다리지 않고 바로 매핑을 해제함 (해제할 수 없는 JVM에서는 GC 시점에 해제됨)
+ * 파싱 중 발생한 예외는 RmCommonException(ERROR_JSON_PARSING)으로 던져짐
+ */
+public class JsonLines {
+    static final int WINDOW_SIZE = 64 * 1024 * 1024;
+    static final int CHUNK_SIZE = 1024 * 1024;
+
+    private static final byte NEW_LINE = '\n';
+
+    /*
+     * 줄 단위 쓰기용 writer, ObjectWriter.writeValue(generator)는 기본 설정(FLUSH_AFTER_WRITE_VALUE)에서 값마다 출력 스트림을 flush하므로 끔
+     * 출력 스트림은 generator를 닫을 때 한번만 flush됨
+     */
+    private static final ObjectWriter NULL_WRITER = DataFormat.JSON.getMapper().writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    private static final Map<Class<?>, ObjectWriter> writerCache = new ConcurrentHashMap<>();
+
+    // 매핑된 버퍼를 바로 해제하는 함수, 지원하지 않는 JVM에서는 null
+    private static final Consumer<ByteBuffer> unmapper = createUnmapper();
+
+    /*
+     * 쓰기: 원소 하나당 한 줄씩 기록하며, 출력 스트림은 닫지 않음
+     */
+    public static <T> void write(Iterable<T> elements, OutputStream out) {
+        try (JsonGenerator generator = DataFormat.JSON.getMapper().getFactory().createGenerator(out)) {
+            // 루트 레벨 값 사이에 기본으로 들어가는 공백 대신 줄바꿈만 들어가도록 함
+            generator.setRootValueSeparator(null);
+            for (T element : elements) {
+                lineWriter(element).writeValue(generator, element);
+                generator.writeRaw((char) NEW_LINE);
+            }
+        } catch (IOException e) {
+            throw new RmCommonException(ErrorType.ERROR_SYSTEM, ServiceStatusCode.ERROR_JSON_PARSING, e);
+        }
+    }
+
+    private static ObjectWriter lineWriter(Object element) {
+        if (element == null) return NULL_WRITER;
+
+        return getCachedValue(writerCache, element.getClass(), type -> DataFormat.JSON.getMapper().writerFor(type).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE));
+    }
+
+    /*
+     * 읽기: 결과를 모두 List로 반환함, 순서는 파일(버퍼)의 줄 순서와 같음
+     */
+    public static <T> List<T> read(Path file, Class<T> valueType) {
+        List<T> result = new ArrayList<>();
+        forEach(file, valueType, result::add, true);
+        return result;
+    }
+
+    public static <T> List<T> read(Path file, TypeReference<T> valueTypeRef) {
+        List<T> result = new ArrayList<>();
+        forEach(file, valueTypeRef, result::add, true);
+        return result;
+    }
+
+    // buffer의 position부터 limit까지를 읽음 (buffer의 position은 변경하지 않음)
+    public static <T> List<T> read(ByteBuffer buffer, Class<T> valueType) {
+        return JsonLines.<T>decode(buffer.duplicate(), DataFormat.JSON.reader(valueType), CHUNK_SIZE).stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 파일을 구간별로 읽으며 원소마다 action을 호출함, 한번에 한 구간의 결과만 메모리에 올라감
+     *
+     * @param ordered true일 경우 호출한 스레드에서 줄 순서대로 action을 호출함
+     *                false일 경우 역직렬화한 스레드에서 바로 action을 호출하므로 순서가 보장되지 않고, action은 스레드 안전해야 함
+     */
+    public static <T> void forEach(Path file, Class<T> valueType, Consumer<? super T> action, boolean ordered) {
+        forEach(file, DataFormat.JSON.reader(valueType), action, ordered);
+    }
+
+    public static <T> void forEach(Path file, TypeReference<T> valueTypeRef, Consumer<? super T> action, boolean ordered) {
+        forEach(file, DataFormat.JSON.reader(valueTypeRef.getType()), action, ordered);
+    }
+
+    public static <T> void forEach(Path file, Type type, Consumer<? super T> action, boolean ordered) {
+        forEach(file, DataFormat.JSON.reader(type), action, ordered);
+    }
+
+    private static <T> void forEach(Path file, ObjectReader reader, Consumer<? super T> action, boolean ordered) {
+        forEach(file, reader, action, ordered, WINDOW_SIZE, CHUNK_SIZE);
+    }
+
+    // 구간/조각 크기를 지정하는 버전 (테스트에서 작은 파일로 경계를 확인하기 위함)
+    static <T> void forEach(Path file, ObjectReader reader, Consumer<? super T> action, boolean ordered, int windowSize, int chunkSize) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+
+            while (position < size) {
+                ByteBuffer window = mapWindow(channel, position, size, windowSize);
+                position += window.remaining();
+
+                if (ordered) {
+                    for (List<T> values : JsonLines.<T>decode(window, reader, chunkSize)) {
+                        values.forEach(action);
+                    }
+                } else {
+                    splitLines(window, chunkSize).parallelStream().forEach(chunk -> JsonLines.<T>decodeChunk(chunk, reader).forEach(action));
+                }
+
+                // 구간의 모든 조각을 다 읽은 뒤에만 해제함 (예외가 난 경우에는 아직 읽고 있는 조각이 있을 수 있으므로 GC에 맡김)
+                unmap(window);
+            }
+        } catch (IOException e) {
+            throw new RmCommonException(ErrorType.ERROR_SYSTEM, ServiceStatusCode.ERROR_JSON_PARSING, e);
+        }
+    }
+
+    // position부터 WINDOW_SIZE 이내의 마지막 줄바꿈까지를 매핑함, 한 줄이 WINDOW_SIZE보다 길 경우 그 줄 끝까지 늘려서 매핑함
+    private static ByteBuffer mapWindow(FileChannel channel, long position, long size, int windowSize) throws IOException {
+        long length = Math.min(windowSize, size - position);
+
+        while (true) {
+            ByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            if (position + length == size) return window;
+
+            int end = lastLineEnd(window, 0, window.limit());
+            if (end > 0) {
+                window.limit(end);
+                return window;
+            }
+
+            unmap(window);
+
+            if (length >= Integer.MAX_VALUE) throw new IOException("JSON line is too long to map! (position: " + position + ")");
+            length = Math.min(Math.min(length * 2, Integer.MAX_VALUE), size - position);
+        }
+    }
+
+    // 각 조각을 병렬로 역직렬화하고, 결과는 조각 순서대로 반환함
+    private static <T> List<List<T>> decode(ByteBuffer buffer, ObjectReader reader, int chunkSize) {
+        return splitLines(buffer, chunkSize).parallelStream()
+                .map(chunk -> JsonLines.<T>decodeChunk(chunk, reader))
+                .collect(Collectors.toList());
+    }
+
+    private static <T> List<T> decodeChunk(ByteBuffer chunk, ObjectReader reader) {
+        try {
+            MappingIterator<T> iterator;
+            if (chunk.hasArray()) {
+                iterator = reader.readValues(chunk.array(), chunk.arrayOffset() + chunk.position(), chunk.remaining());
+            } else {
+                iterator = reader.readValues(new ByteBufferBackedInputStream(chunk));
+            }
+
+            return iterator.readAll();
+        } catch (IOException e) {
+            throw new RmCommonException(ErrorType.ERROR_SYSTEM, ServiceStatusCode.ERROR_JSON_PARSING, e);
+        }
+    }
+
+    // buffer를 chunkSize 정도 크기의 조각으로 나눔, 조각의 경계는 항상 줄바꿈 바로 뒤가 되도록 함
+    private static List<ByteBuffer> splitLines(ByteBuffer buffer, int chunkSize) {
+        List<ByteBuffer> chunks = new ArrayList<>();
+
+        int start = buffer.position();
+        int limit = buffer.limit();
+        while (start < limit) {
+            int end = limit;
+            if (limit - start > chunkSize) {
+                end = lastLineEnd(buffer, start, start + chunkSize);
+                if (end < 0) end = nextLineEnd(buffer, start + chunkSize, limit);
+            }
+
+            ByteBuffer chunk = buffer.duplicate();
+            chunk.limit(end).position(start);
+            chunks.add(chunk.slice());
+            start = end;
+        }
+
+        return chunks;
+    }
+
+    // [from, to) 구간의 마지막 줄바꿈 바로 뒤 위치, 없을 경우 -1
+    private static int lastLineEnd(ByteBuffer buffer, int from, int to) {
+        for (int i = to - 1; i >= from; i--) {
+            if (buffer.get(i) == NEW_LINE) return i + 1;
+        }
+        return -1;
+    }
+
+    // [from, to) 구간의 첫 줄바꿈 바로 뒤 위치, 없을 경우 to
+    private static int nextLineEnd(ByteBuffer buffer, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == NEW_LINE) return i + 1;
+        }
+        return to;
+    }
+
+    private static void unmap(ByteBuffer buffer) {
+        if (unmapper != null) unmapper.accept(buffer);
+    }
+
+    /*
+     * MappedByteBuffer는 GC 될 때까지 매핑이 유지되므로, 큰 파일을 읽으면 해제되지 않은 구간이 쌓임
+     * Java 9 이상은 Unsafe.invokeCleaner(), Java 8은 DirectBuffer.cleaner().clean()으로 바로 해제함
+     */
+    private static Consumer<ByteBuffer> createUnmapper() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            Object unsafe = field.get(null);
+
+            return buffer -> invoke(invokeCleaner, unsafe, buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Java 8
+        }
+
+        try {
+            Method cleaner = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+            Method clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+
+            return buffer -> {
+                Object bufferCleaner = invoke(cleaner, buffer);
+                if (bufferCleaner != null) invoke(clean, bufferCleaner);
+            };
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    // 해제에 실패하면 GC 시점에 해제되도록 그냥 둠
+    private static Object invoke(Method method, Object target, Object... args) {
+        try {
+            return method.invoke(target, args);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
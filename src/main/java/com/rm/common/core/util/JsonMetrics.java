@@ -0,0 +1,283 @@
+package com.rm.common.core.util;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import lombok.Getter;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JsonUtils의 직렬화/역직렬화 호출 통계 (메서드 종류 및 대상 타입별)
+ *
+ * 호출 횟수, 소요 시간 분포, 입출력 크기, 실패 횟수를 기록함
+ * 기본으로는 꺼져 있으며, -Drm.json.metrics=true 혹은 setEnabled(true)로 켤 수 있음 (Spring 사용 시 JsonMetricsConfig 참고)
+ * 꺼져 있을 때는 System.nanoTime() 호출도 하지 않음
+ *
+ * 기록은 Registry가 만든 Recorder에 위임하며, 기본 Registry(InMemoryRegistry)는 LongAdder(스레드별로 분산된 카운터)만 사용하므로
+ * 여러 스레드에서 동시에 기록해도 경합이 적고, 기록 시 객체를 생성하지 않음
+ * 크기는 String API의 경우 문자 수, byte[]/ByteBuffer API의 경우 바이트 수이며, 스트림 API는 크기를 기록하지 않음
+ */
+public class JsonMetrics {
+    // 기록되는 타입 수 제한, 넘어가는 타입은 Object로 합쳐서 기록함 (동적으로 만들어지는 타입에 의한 메모리 누수 방지)
+    static final int MAX_TYPE_COUNT = 1024;
+    private static final long DISABLED = Long.MIN_VALUE;
+
+    private static volatile boolean enabled = Boolean.getBoolean("rm.json.metrics");
+    private static final InMemoryRegistry inMemoryRegistry = new InMemoryRegistry();
+    private static volatile Recorders recorders = new Recorders(inMemoryRegistry);
+
+    public enum Operation {
+        TO_JSON, TO_OBJECT, TO_VO_LIST
+    }
+
+    /**
+     * 타입별 Recorder를 만들어주는 저장소, Micrometer 등 외부 저장소로 내보낼 때 구현함
+     * create()는 (메서드 종류, 타입)별로 한번만 호출됨
+     */
+    public interface Registry {
+        Recorder create(Operation operation, Class<?> type);
+    }
+
+    public interface Recorder {
+        // size가 0보다 작을 경우 크기는 기록하지 않음
+        void record(long nanos, long size, boolean failed);
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        JsonMetrics.enabled = enabled;
+    }
+
+    // 기존에 기록된 통계는 이전 Registry에 남아있음, null일 경우 기본 Registry로 되돌림
+    public static void setRegistry(Registry registry) {
+        recorders = new Recorders(registry == null ? inMemoryRegistry : registry);
+    }
+
+    /*
+     * 기본 Registry의 통계를 반환함, 다른 Registry를 사용 중일 경우 빈 리스트 반환
+     */
+    public static List<Snapshot> snapshot() {
+        if (recorders.registry != inMemoryRegistry) return Collections.emptyList();
+
+        return inMemoryRegistry.snapshot();
+    }
+
+    /*
+     * 기록 시작 시각, 꺼져 있을 경우 시각을 읽지 않음
+     */
+    static long start() {
+        return enabled ? System.nanoTime() : DISABLED;
+    }
+
+    static void success(Operation operation, Type type, long start, long size) {
+        record(operation, type, start, size, false);
+    }
+
+    static void failure(Operation operation, Type type, long start) {
+        record(operation, type, start, -1, true);
+    }
+
+    private static void record(Operation operation, Type type, long start, long size, boolean failed) {
+        if (start == DISABLED) return;
+
+        long nanos = System.nanoTime() - start;
+        recorders.get(operation, rawClass(type)).record(nanos, size, failed);
+    }
+
+    // 제네릭 타입은 원시 타입(List<VO> -> List)으로 기록함
+    private static Class<?> rawClass(Type type) {
+        if (type instanceof Class) return (Class<?>) type;
+        if (type instanceof JavaType) return ((JavaType) type).getRawClass();
+        if (type instanceof ParameterizedType) return rawClass(((ParameterizedType) type).getRawType());
+
+        return type == null ? Object.class : TypeFactory.rawClass(type);
+    }
+
+    /*
+     * Registry 하나에 대한 (타입 -> 메서드 종류별 Recorder) 캐시
+     */
+    private static class Recorders {
+        private final Registry registry;
+        private final Map<Class<?>, Recorder[]> cache = new ConcurrentHashMap<>();
+
+        private Recorders(Registry registry) {
+            this.registry = registry;
+        }
+
+        private Recorder get(Operation operation, Class<?> type) {
+            Recorder[] recorders = cache.get(type);
+            if (recorders == null) {
+                if (cache.size() >= MAX_TYPE_COUNT) type = Object.class;
+                recorders = cache.computeIfAbsent(type, key -> new Recorder[Operation.values().length]);
+            }
+
+            Recorder recorder = recorders[operation.ordinal()];
+            if (recorder == null) {
+                // 같은 배열에 대한 생성은 한번만 일어나도록 함 (Recorder는 누적값을 가지므로 중복 생성 시 기록이 유실됨)
+                synchronized (recorders) {
+                    recorder = recorders[operation.ordinal()];
+                    if (recorder == null) {
+                        recorder = registry.create(operation, type);
+                        recorders[operation.ordinal()] = recorder;
+                    }
+                }
+            }
+
+            return recorder;
+        }
+    }
+
+    /*
+     * 기본 Registry, 메모리에 누적하고 snapshot()으로 조회함
+     * 소요 시간 분포는 2의 거듭제곱 단위 구간(1µs 이하, 2µs 이하, 4µs 이하, ...)별 횟수로 기록함
+     */
+    private static class InMemoryRegistry implements Registry {
+        private final List<InMemoryRecorder> recorders = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public Recorder create(Operation operation, Class<?> type) {
+            InMemoryRecorder recorder = new InMemoryRecorder(operation, type);
+            recorders.add(recorder);
+            return recorder;
+        }
+
+        private List<Snapshot> snapshot() {
+            List<Snapshot> snapshots = new ArrayList<>();
+            synchronized (recorders) {
+                for (InMemoryRecorder recorder : recorders) {
+                    snapshots.add(recorder.snapshot());
+                }
+            }
+            return snapshots;
+        }
+    }
+
+    // 첫 구간의 상한은 2^10ns(약 1µs), 마지막 구간은 상한 없음
+    private static final int FIRST_BUCKET_SHIFT = 10;
+    private static final int BUCKET_COUNT = 32;
+
+    private static class InMemoryRecorder implements Recorder {
+        private final Operation operation;
+        private final Class<?> type;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder failureCount = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder totalSize = new LongAdder();
+        private final LongAdder sizeCount = new LongAdder();
+        private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+
+        private InMemoryRecorder(Operation operation, Class<?> type) {
+            this.operation = operation;
+            this.type = type;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        @Override
+        public void record(long nanos, long size, boolean failed) {
+            count.increment();
+            if (failed) failureCount.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            buckets[bucketIndex(nanos)].increment();
+            if (size >= 0) {
+                totalSize.add(size);
+                sizeCount.increment();
+            }
+        }
+
+        private static int bucketIndex(long nanos) {
+            int index = 64 - Long.numberOfLeadingZeros(Math.max(nanos - 1, 0) >> FIRST_BUCKET_SHIFT);
+            return Math.min(index, BUCKET_COUNT - 1);
+        }
+
+        private Snapshot snapshot() {
+            long[] bucketCounts = new long[BUCKET_COUNT];
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                bucketCounts[i] = buckets[i].sum();
+            }
+
+            return new Snapshot(operation, type, count.sum(), failureCount.sum(), totalNanos.sum(), maxNanos.get(),
+                    totalSize.sum(), sizeCount.sum(), bucketCounts);
+        }
+    }
+
+    /**
+     * 조회 시점의 통계 (각 값을 따로 읽으므로 기록 중에 조회할 경우 값 간에 약간의 차이가 있을 수 있음)
+     */
+    @Getter
+    public static class Snapshot {
+        private final Operation operation;
+        private final Class<?> type;
+        private final long count;
+        private final long failureCount;
+        private final long totalNanos;
+        private final long maxNanos;
+        // 크기가 기록된 호출의 크기 합계 및 호출 수
+        private final long totalSize;
+        private final long sizeCount;
+        private final long[] bucketCounts;
+
+        private Snapshot(Operation operation, Class<?> type, long count, long failureCount, long totalNanos, long maxNanos,
+                         long totalSize, long sizeCount, long[] bucketCounts) {
+            this.operation = operation;
+            this.type = type;
+            this.count = count;
+            this.failureCount = failureCount;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+            this.totalSize = totalSize;
+            this.sizeCount = sizeCount;
+            this.bucketCounts = bucketCounts;
+        }
+
+        public double getMean(TimeUnit unit) {
+            return count == 0 ? 0 : (double) totalNanos / count / unit.toNanos(1);
+        }
+
+        public double getMeanSize() {
+            return sizeCount == 0 ? 0 : (double) totalSize / sizeCount;
+        }
+
+        /*
+         * 소요 시간의 백분위 값 (0 < percentile <= 1), 해당 구간의 상한값을 반환하므로 실제 값보다 최대 2배 클 수 있음
+         */
+        public long getPercentileNanos(double percentile) {
+            long total = 0;
+            for (long bucketCount : bucketCounts) {
+                total += bucketCount;
+            }
+            if (total == 0) return 0;
+
+            long target = (long) Math.ceil(total * percentile);
+            long accumulated = 0;
+            for (int i = 0; i < bucketCounts.length - 1; i++) {
+                accumulated += bucketCounts[i];
+                if (accumulated >= target) return Math.min(1L << (i + FIRST_BUCKET_SHIFT), maxNanos);
+            }
+
+            return maxNanos;
+        }
+
+        @Override
+        public String toString() {
+            return operation + "(" + type.getName() + ") count=" + count + ", failures=" + failureCount
+                    + ", mean=" + getMean(TimeUnit.MICROSECONDS) + "µs, p99=" + TimeUnit.NANOSECONDS.toMicros(getPercentileNanos(0.99))
+                    + "µs, max=" + TimeUnit.NANOSECONDS.toMicros(maxNanos) + "µs, meanSize=" + getMeanSize();
+        }
+    }
+}
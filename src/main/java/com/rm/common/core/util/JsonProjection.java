@@ -0,0 +1,155 @@
+package com.rm.common.core.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 파싱 시점에 필드를 걸러내기 위한 포함(include)/제외(exclude) 필드 목록
+ *
+ * 트리를 만든 뒤 ObjectNode.remove()로 지우는 방식과 다르게, 파서 단계에서 제외된 필드는 skipChildren()으로 건너뛰므로
+ * 해당 값(하위 트리 포함)은 바인딩되지도, 객체로 만들어지지도 않음
+ *
+ * 필드 경로는 바인딩 대상 값 기준이며 점(.)으로 구분함, 배열은 경로에 포함하지 않음 (배열의 모든 원소에 똑같이 적용됨)
+ *  ex. 원소 리스트 [{"name": .., "i18n": {"ko": .., "en": ..}}] 에서 "i18n.en" 제외 시 각 원소의 i18n.en 만 건너뜀
+ * include가 비어있으면 exclude에 해당하는 필드만 제외하고, include가 있으면 include에 해당하는 필드(및 그 하위 필드)만 남김
+ * 둘 다 해당될 경우 exclude가 우선함
+ */
+public final class JsonProjection {
+    private final Node root;
+
+    private JsonProjection(Collection<String> includes, Collection<String> excludes) {
+        this.root = new Node(includes.isEmpty());
+
+        for (String include : includes) {
+            root.path(include).included = true;
+        }
+        for (String exclude : excludes) {
+            root.path(exclude).excluded = true;
+        }
+        root.resolve();
+    }
+
+    public static JsonProjection of(Collection<String> includes, Collection<String> excludes) {
+        return new JsonProjection(includes == null ? Collections.emptyList() : includes, excludes == null ? Collections.emptyList() : excludes);
+    }
+
+    public static JsonProjection include(String... fields) {
+        return of(Arrays.asList(fields), null);
+    }
+
+    public static JsonProjection exclude(String... fields) {
+        return of(null, Arrays.asList(fields));
+    }
+
+    /*
+     * 파서를 감싸 걸러낸 토큰만 내보내도록 함
+     * 필드 경로는 감싸는 시점의 파서 위치를 기준으로 계산하므로, 바인딩 대상 값의 시작 토큰 혹은 그 이전에 감싸야 함
+     */
+    JsonParser wrap(JsonParser parser) {
+        return new ProjectionParser(parser, this);
+    }
+
+    // projection이 null이면 걸러내지 않고 원래 파서를 그대로 사용함
+    static JsonParser wrap(JsonProjection projection, JsonParser parser) {
+        return projection == null ? parser : projection.wrap(parser);
+    }
+
+    /*
+     * 필드 경로 트리의 노드
+     * ALL: 하위 필드를 모두 포함, NONE: 하위 필드를 모두 제외, 그 외: 하위 필드별로 children 규칙에 따라 판단
+     */
+    private static final Node ALL = new Node(true);
+    private static final Node NONE = new Node(false);
+
+    private static class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        // 상위 경로가 포함 대상인지 여부, children에 없는 필드는 covered일 경우 포함하고 아닐 경우 제외함
+        private boolean covered;
+        private boolean included;
+        private boolean excluded;
+
+        private Node(boolean covered) {
+            this.covered = covered;
+        }
+
+        private Node path(String path) {
+            Node node = this;
+            for (String name : StringUtils.split(path, '.')) {
+                node = node.children.computeIfAbsent(name, key -> new Node(false));
+            }
+            return node;
+        }
+
+        private void resolve() {
+            for (Node child : children.values()) {
+                child.covered = covered || child.included;
+                child.resolve();
+            }
+        }
+
+        private Node child(String name) {
+            if (this == ALL || this == NONE) return this;
+
+            Node child = children.get(name);
+            if (child == null) return covered ? ALL : NONE;
+            if (child.excluded) return NONE;
+            if (child.children.isEmpty()) return child.covered ? ALL : NONE;
+
+            return child;
+        }
+    }
+
+    private static class ProjectionParser extends JsonParserDelegate {
+        private final JsonProjection projection;
+        private final JsonStreamContext base;
+
+        private ProjectionParser(JsonParser parser, JsonProjection projection) {
+            super(parser);
+            this.projection = projection;
+            this.base = parser.getParsingContext();
+        }
+
+        // 제외 대상 필드는 필드명과 값(하위 트리 포함)을 건너뛰고 다음 필드를 내보냄
+        @Override
+        public JsonToken nextToken() throws IOException {
+            JsonToken token = delegate.nextToken();
+            while (token == JsonToken.FIELD_NAME && isExcluded(delegate.getParsingContext())) {
+                delegate.nextToken();
+                delegate.skipChildren();
+                token = delegate.nextToken();
+            }
+
+            return token;
+        }
+
+        @Override
+        public JsonToken nextValue() throws IOException {
+            JsonToken token = nextToken();
+            return token == JsonToken.FIELD_NAME ? nextToken() : token;
+        }
+
+        private boolean isExcluded(JsonStreamContext context) {
+            return holder(context).child(context.getCurrentName()) == NONE;
+        }
+
+        // context(객체 혹은 배열) 바로 아래 값들에 적용할 노드, 객체 생성 없이 파서 컨텍스트를 거슬러 올라가며 찾음
+        private Node holder(JsonStreamContext context) {
+            if (context == null || context == base || context.inRoot()) return projection.root;
+
+            JsonStreamContext parent = context.getParent();
+            Node node = holder(parent);
+
+            return parent.inObject() ? node.child(parent.getCurrentName()) : node;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.rm.common.core.util;
+
+import com.fasterxml.jackson.annotation.JacksonAnnotationsInside;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 역직렬화 시 String 필드의 값을 StringPool로 중복 제거함
+ *
+ * 상태 코드, 국가 코드 등 같은 값이 반복되는 필드에 지정하며, 풀은 필드가 선언된 클래스별로 하나씩 사용함
+ * JsonUtils의 StringPool을 받는 메서드로 역직렬화할 경우 해당 호출의 풀 대신 클래스별 풀을 사용함
+ *  ex. @JsonStringDedup private String languageType;
+ */
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+@JacksonAnnotationsInside
+@JsonDeserialize(using = StringDedupDeserializer.class)
+public @interface JsonStringDedup {
+}
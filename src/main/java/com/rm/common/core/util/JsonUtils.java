@@ -1,26 +1,57 @@
 package com.rm.common.core.util;
 
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+import com.fasterxml.jackson.databind.deser.std.PrimitiveArrayDeserializers;
+import com.fasterxml.jackson.databind.deser.std.StringArrayDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.type.ArrayType;
+import com.fasterxml.jackson.databind.type.CollectionLikeType;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.rm.common.core.exception.ErrorType;
 import com.rm.common.core.exception.RmCommonException;
+import com.rm.common.core.exception.ServiceStatusCode;
+import com.rm.common.core.util.JsonMetrics.Operation;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 
+import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
 import java.lang.reflect.Type;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.rm.common.core.util.ObjectUtils.getCachedValue;
 import static com.rm.common.core.util.ObjectUtils.getJavaType;
+import static com.rm.common.core.util.ObjectUtils.getListJavaType;
 
 
 /**
@@ -28,29 +59,137 @@ import static com.rm.common.core.util.ObjectUtils.getJavaType;
  */
 @Slf4j
 public class JsonUtils {
-    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final ObjectMapper mapper = DataFormat.JSON.getMapper();
 
-    public static String toJson(Object object) {
-        mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, true);
+    private static final Type MAP_TYPE = new TypeReference<Map<String, Object>>() {}.getType();
+
+    // WritableByteChannel 출력 시 사용하는 버퍼 풀
+    private static final BufferPool bufferPool = new BufferPool(8 * 1024, 64);
+
+    private static ObjectReader reader(Type type) {
+        return DataFormat.JSON.reader(type);
+    }
+
+    private static ObjectWriter writer(Object object) {
+        return DataFormat.JSON.writer(object);
+    }
+
+    /*
+     * 문자열 중복 제거 모드의 reader, 호출별 풀(pool)을 속성으로 넘겨줌
+     * 모든 String 값을 StringDedupDeserializer로 역직렬화하는 별도 mapper를 사용하므로, 기본 mapper의 String 역직렬화에는 영향이 없음
+     */
+    private static ObjectReader reader(Type type, StringPool pool) {
+        if (pool == null) return reader(type);
+
+        return getCachedValue(DedupReaders.cache, type, valueType -> DedupReaders.mapper.readerFor(getJavaType(valueType)))
+                .withAttribute(StringDedupDeserializer.POOL_ATTRIBUTE, pool);
+    }
+
+    // 중복 제거 모드를 처음 사용할 때 초기화됨
+    private static class DedupReaders {
+        private static final ObjectMapper mapper = DataFormat.JSON.getMapper().copy()
+                .registerModule(new SimpleModule().addDeserializer(String.class, new StringDedupDeserializer()));
+        private static final Map<Type, ObjectReader> cache = new ConcurrentHashMap<>();
+    }
+
+    /*
+     * 부분 수정(merge) 모드의 reader, 하위 객체까지 기존 객체에 덮어씀
+     * 컬렉션/배열은 RFC 7396(JSON Merge Patch)과 같이 합치지 않고 통째로 교체함 (Jackson 기본 병합은 기존 원소 뒤에 이어 붙임)
+     */
+    private static ObjectReader mergeReader(Object target) {
+        return getCachedValue(MergeReaders.cache, target.getClass(), MergeReaders.mapper::readerFor).withValueToUpdate(target);
+    }
+
+    // 부분 수정 모드를 처음 사용할 때 초기화됨
+    private static class MergeReaders {
+        private static final ObjectMapper mapper = DataFormat.JSON.getMapper().copy()
+                .setDefaultMergeable(true)
+                .registerModule(createModule());
+        private static final Map<Class<?>, ObjectReader> cache = new ConcurrentHashMap<>();
+
+        // String[] 및 기본 타입 배열의 역직렬화기는 BeanDeserializerModifier를 거치지 않으므로 직접 등록함
+        @SuppressWarnings("unchecked")
+        private static SimpleModule createModule() {
+            SimpleModule module = new SimpleModule().setDeserializerModifier(new ReplacingContainerModifier());
+            for (Class<?> arrayType : new Class<?>[]{String[].class, boolean[].class, byte[].class, short[].class, char[].class, int[].class, long[].class, float[].class, double[].class}) {
+                JsonDeserializer<?> deserializer = arrayType == String[].class
+                        ? StringArrayDeserializer.instance : PrimitiveArrayDeserializers.forType(arrayType.getComponentType());
+                module.addDeserializer((Class<Object>) arrayType, new ReplacingDeserializer(deserializer));
+            }
+
+            return module;
+        }
+    }
+
+    private static class ReplacingContainerModifier extends BeanDeserializerModifier {
+        @Override
+        public JsonDeserializer<?> modifyArrayDeserializer(DeserializationConfig config, ArrayType valueType, BeanDescription beanDesc, JsonDeserializer<?> deserializer) {
+            return new ReplacingDeserializer(deserializer);
+        }
+
+        @Override
+        public JsonDeserializer<?> modifyCollectionDeserializer(DeserializationConfig config, CollectionType type, BeanDescription beanDesc, JsonDeserializer<?> deserializer) {
+            return new ReplacingDeserializer(deserializer);
+        }
+
+        @Override
+        public JsonDeserializer<?> modifyCollectionLikeDeserializer(DeserializationConfig config, CollectionLikeType type, BeanDescription beanDesc, JsonDeserializer<?> deserializer) {
+            return new ReplacingDeserializer(deserializer);
+        }
+    }
+
+    // 기존 값에 병합하지 않도록 하는 역직렬화기 (supportsUpdate()가 false이면 기본 병합 설정에서 제외됨)
+    @SuppressWarnings("rawtypes")
+    private static class ReplacingDeserializer extends DelegatingDeserializer {
+        private static final long serialVersionUID = 1L;
+
+        private ReplacingDeserializer(JsonDeserializer<?> delegate) {
+            super(delegate);
+        }
+
+        @Override
+        protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> newDelegatee) {
+            return new ReplacingDeserializer(newDelegatee);
+        }
+
+        @Override
+        public Boolean supportsUpdate(DeserializationConfig config) {
+            return Boolean.FALSE;
+        }
+
+        @Override
+        public Object deserialize(JsonParser p, DeserializationContext ctxt, Object intoValue) throws IOException {
+            return _delegatee.deserialize(p, ctxt);
+        }
+    }
+
+    private static Class<?> typeOf(Object object) {
+        return object == null ? null : object.getClass();
+    }
 
+    public static String toJson(Object object) {
+        long start = JsonMetrics.start();
         String json = "";
         try {
-            json = mapper.writeValueAsString(object);
+            json = writer(object).writeValueAsString(object);
+            JsonMetrics.success(Operation.TO_JSON, typeOf(object), start, json.length());
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
+            JsonMetrics.failure(Operation.TO_JSON, typeOf(object), start);
+            ErrorLogger.errorAt(log, "toJson", e);
         }
 
         return json;
     }
 
     public static <T> T toObject(String json, Class<T> valueType) {
-        mapper.configure(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS.mappedFeature(), true);
-
+        long start = JsonMetrics.start();
         T object = null;
         try {
-            object = mapper.readValue(json, valueType);
+            object = reader(valueType).readValue(json);
+            JsonMetrics.success(Operation.TO_OBJECT, valueType, start, json.length());
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
+            JsonMetrics.failure(Operation.TO_OBJECT, valueType, start);
+            ErrorLogger.errorAt(log, "toObject", e);
         }
 
         return object;
@@ -58,18 +197,163 @@ public class JsonUtils {
     }
 
     public static <T> T toObject(String json, TypeReference<T> valueTypeRef) {
-        mapper.configure(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS.mappedFeature(), true);
-
+        long start = JsonMetrics.start();
         T object = null;
         try {
-            object = mapper.readValue(json, valueTypeRef);
+            object = reader(valueTypeRef.getType()).readValue(json);
+            JsonMetrics.success(Operation.TO_OBJECT, valueTypeRef.getType(), start, json.length());
         } catch (Exception e) {
-            log.error(e.getMessage(), e);
+            JsonMetrics.failure(Operation.TO_OBJECT, valueTypeRef.getType(), start);
+            ErrorLogger.errorAt(log, "toObject", e);
         }
 
         return object;
     }
 
+    /*
+     * String을 거치지 않고 바이트(UTF-8)로 바로 직렬화/역직렬화하는 메서드
+     * String 변환(UTF-16 char[] 생성 및 복사, UTF-8 재인코딩) 비용 없이 응답 스트림 등에 바로 쓰거나 읽을 수 있음
+     *
+     * 출력 대상(OutputStream, WritableByteChannel, ByteBuffer)은 닫지 않으며, 쓰는 도중 실패할 경우 이미 일부가 출력되었을 수 있으므로
+     * 로그만 남기지 않고 RmCommonException(ERROR_JSON_PARSING)을 던짐
+     *
+     * DataFormat을 받는 메서드는 SMILE, CBOR 등 바이너리 포맷으로 주고받을 때 사용함 (내부 서비스 간 통신용)
+     */
+    public static byte[] toJsonBytes(Object object) {
+        return toBytes(object, DataFormat.JSON);
+    }
+
+    public static byte[] toBytes(Object object, DataFormat format) {
+        long start = JsonMetrics.start();
+        byte[] bytes = new byte[0];
+        try {
+            bytes = format.writer(object).writeValueAsBytes(object);
+            JsonMetrics.success(Operation.TO_JSON, typeOf(object), start, bytes.length);
+        } catch (Exception e) {
+            JsonMetrics.failure(Operation.TO_JSON, typeOf(object), start);
+            ErrorLogger.errorAt(log, "toBytes", e);
+        }
+
+        return bytes;
+    }
+
+    public static void toJson(Object object, OutputStream out) {
+        toJson(object, out, DataFormat.JSON);
+    }
+
+    public static void toJson(Object object, OutputStream out, DataFormat format) {
+        long start = JsonMetrics.start();
+        try {
+            format.writer(object).writeValue(out, object);
+            JsonMetrics.success(Operation.TO_JSON, typeOf(object), start, -1);
+        } catch (IOException e) {
+            JsonMetrics.failure(Operation.TO_JSON, typeOf(object), start);
+            throw new RmCommonException(ErrorType.ERROR_SYSTEM, ServiceStatusCode.ERROR_JSON_PARSING, e);
+        }
+    }
+
+    public static void toJson(Object object, WritableByteChannel channel) {
+        long start = JsonMetrics.start();
+        try (ChannelOutputStream out = new ChannelOutputStream(channel)) {
+            writer(object).writeValue(out, object);
+            JsonMetrics.success(Operation.TO_JSON, typeOf(object), start, -1);
+        } catch (IOException e) {
+            JsonMetrics.failure(Operation.TO_JSON, typeOf(object), start);
+            throw new RmCommonException(ErrorType.ERROR_SYSTEM, ServiceStatusCode.ERROR_JSON_PARSING, e);
+        }
+    }
+
+    // buffer의 position부터 기록하며, 공간이 부족할 경우 BufferOverflowException이 발생함
+    public static void toJson(Object object, ByteBuffer buffer) {
+        long start = JsonMetrics.start();
+        int position = buffer.position();
+        try {
+            writer(object).writeValue(new ByteBufferOutputStream(buffer), object);
+            JsonMetrics.success(Operation.TO_JSON, typeOf(object), start, buffer.position() - position);
+        } catch (IOException e) {
+            JsonMetrics.failure(Operation.TO_JSON, typeOf(object), start);
+            throw new RmCommonException(ErrorType.ERROR_SYSTEM, ServiceStatusCode.ERROR_JSON_PARSING, e);
+        } catch (BufferOverflowException e) {
+            JsonMetrics.failure(Operation.TO_JSON, typeOf(object), start);
+            throw e;
+        }
+    }
+
+    public static <T> T toObject(byte[] json, Class<T> valueType) {
+        return readBytes(json, reader(valueType));
+    }
+
+    public static <T> T toObject(byte[] json, TypeReference<T> valueTypeRef) {
+        return readBytes(json, reader(valueTypeRef.getType()));
+    }
+
+    public static <T> T toObject(InputStream json, Class<T> valueType) {
+        return readBytes(json, reader(valueType));
+    }
+
+    public static <T> T toObject(InputStream json, TypeReference<T> valueTypeRef) {
+        return readBytes(json, reader(valueTypeRef.getType()));
+    }
+
+    public static <T> T toObject(byte[] json, Class<T> valueType, DataFormat format) {
+        return readBytes(json, format.reader(valueType));
+    }
+
+    public static <T> T toObject(byte[] json, TypeReference<T> valueTypeRef, DataFormat format) {
+        return readBytes(json, format.reader(valueTypeRef.getType()));
+    }
+
+    public static <T> T toObject(InputStream json, Class<T> valueType, DataFormat format) {
+        return readBytes(json, format.reader(valueType));
+    }
+
+    public static <T> T toObject(InputStream json, TypeReference<T> valueTypeRef, DataFormat format) {
+        return readBytes(json, format.reader(valueTypeRef.getType()));
+    }
+
+    // buffer의 position부터 limit까지를 읽으며, 읽은 만큼 position이 이동함
+    public static <T> T toObject(ByteBuffer json, Class<T> valueType) {
+        return readBytes(json, reader(valueType));
+    }
+
+    public static <T> T toObject(ByteBuffer json, TypeReference<T> valueTypeRef) {
+        return readBytes(json, reader(valueTypeRef.getType()));
+    }
+
+    private static <T> T readBytes(Object json, ObjectReader reader) {
+        if (json == null) return null;
+
+        long start = JsonMetrics.start();
+        try {
+            T object;
+            long size = -1;
+            if (json instanceof byte[]) {
+                object = reader.readValue((byte[]) json);
+                size = ((byte[]) json).length;
+            } else if (json instanceof InputStream) {
+                object = reader.readValue((InputStream) json);
+            } else {
+                ByteBuffer buffer = (ByteBuffer) json;
+                size = buffer.remaining();
+                if (buffer.hasArray()) {
+                    // 힙 버퍼는 복사 없이 배열을 그대로 파싱함
+                    object = reader.readValue(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+                    buffer.position(buffer.limit());
+                } else {
+                    object = reader.readValue(new ByteBufferBackedInputStream(buffer));
+                }
+            }
+
+            JsonMetrics.success(Operation.TO_OBJECT, reader.getValueType(), start, size);
+            return object;
+        } catch (IOException e) {
+            JsonMetrics.failure(Operation.TO_OBJECT, reader.getValueType(), start);
+            ErrorLogger.errorAt(log, "readBytes", e);
+        }
+
+        return null;
+    }
+
     /**
      * {@literal
      * List<String, Map<VO>>, List<VO>, Map<String, VO> 등의 파싱에 사용하기 위한 메서드
@@ -82,13 +366,14 @@ public class JsonUtils {
      * @return 제네릭 타입의 VO까지 캐치하여 역직렬화된 객체
      */
     public static <T> T toObject(String json, Type type) {
-        mapper.configure(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS.mappedFeature(), true);
-
+        long start = JsonMetrics.start();
         T object = null;
         try {
-            object = mapper.readValue(json, getJavaType(type));
+            object = reader(type).readValue(json);
+            JsonMetrics.success(Operation.TO_OBJECT, type, start, json.length());
         } catch (IOException e) {
-            log.error(e.getMessage(), e);
+            JsonMetrics.failure(Operation.TO_OBJECT, type, start);
+            ErrorLogger.errorAt(log, "toObject", e);
         }
 
         return object;
@@ -96,195 +381,268 @@ public class JsonUtils {
 
     public static Map<String, Object> toMap(String json) {
         try {
-            return mapper.readValue(json, new TypeReference<Map<String, Object>>() {});
+            return reader(MAP_TYPE).readValue(json);
         } catch (IOException e) {
-            log.error(e.getMessage(), e);
+            ErrorLogger.errorAt(log, "toMap", e);
         }
 
         return null;
     }
 
-
-    private static JsonNode getRootNode(String json) {
-        if (StringUtils.isEmpty(json)) return null;
-
+    /*
+     * 읽기 전용 CompactMap으로 변환 (같은 키 구성의 행들이 키 정보를 공유함, CompactMap 참고)
+     * 스키마 없는 대량의 행을 읽기만 할 때 사용하며, 결과를 수정해야 할 경우 toMap()을 사용함
+     */
+    public static Map<String, Object> toCompactMap(String json) {
         try {
-            return mapper.readTree(json);
+            return reader(CompactMap.class).readValue(json);
         } catch (IOException e) {
-            log.error(e.getMessage(), e);
+            ErrorLogger.errorAt(log, "toCompactMap", e);
         }
 
         return null;
     }
 
-    private static JsonNode getDataNode(String json, String dataName) {
-        JsonNode rootNode = getRootNode(json);
-        if (rootNode == null) return null;
-
-        return rootNode.path(dataName);
-    }
-
-    private static <T> T getValueFromNode(JsonNode dataNode, Class<T> valueType) {
+    public static List<Map<String, Object>> toCompactMapList(String json) {
         try {
-            return mapper.readValue(mapper.treeAsTokens(dataNode), valueType);
+            return reader(getListJavaType(CompactMap.class)).readValue(json);
         } catch (IOException e) {
-            log.error(e.getMessage(), e);
+            ErrorLogger.errorAt(log, "toCompactMapList", e);
         }
 
         return null;
     }
 
-    private static <T> T getValueFromNode(JsonNode dataNode, TypeReference<T> valueTypeRef) {
-        try {
-            return mapper.readValue(mapper.treeAsTokens(dataNode), valueTypeRef);
-        } catch (IOException e) {
-            log.error(e.getMessage(), e);
-        }
-
-        return null;
-    }
+    private static JsonNode getRootNode(String json) {
+        if (StringUtils.isEmpty(json)) return null;
 
-    private static <T> T getValueFromNode(JsonNode dataNode, Type type) {
         try {
-            return mapper.readValue(mapper.treeAsTokens(dataNode), getJavaType(type));
+            return mapper.readTree(json);
         } catch (IOException e) {
-            log.error(e.getMessage(), e);
+            ErrorLogger.errorAt(log, "getRootNode", e);
         }
 
         return null;
     }
 
+    /*
+     * dataName 경로의 값만 바인딩하는 메서드들
+     * 트리(JsonNode)를 만들지 않고 토큰 단위로 스캔하며, 경로에 해당하지 않는 형제 필드의 하위 트리는 skipChildren()으로 건너뜀
+     * dataName은 "data" 같은 최상위 필드명 혹은 "data.items" 같이 점(.)으로 구분된 중첩 경로를 사용할 수 있음
+     */
     public static <T> T toDataObject(String json, String dataName, Class<T> valueType) {
-        JsonNode dataNode = getDataNode(json, dataName);
-        if (dataNode == null) return null;
-
-        return getValueFromNode(dataNode, valueType);
+        return readPath(json, dataName, reader(valueType));
     }
 
     public static <T> T toDataObject(String json, String dataName, TypeReference<T> valueTypeRef) {
-        JsonNode dataNode = getDataNode(json, dataName);
-        if (dataNode == null) return null;
-
-        return getValueFromNode(dataNode, valueTypeRef);
+        return readPath(json, dataName, reader(valueTypeRef.getType()));
     }
 
     public static <T> T toDataObject(String json, String dataName, Type type) {
-        JsonNode dataNode = getDataNode(json, dataName);
-        if (dataNode == null) return null;
-
-        return getValueFromNode(dataNode, type);
+        return readPath(json, dataName, reader(type));
     }
 
+    // dataName 경로의 값이 배열일 경우 첫번째 원소만, 아닐 경우 값 자체를 바인딩함
     public static <T> T toListToMap(String json, String dataName, TypeReference<T> valueTypeRef) {
-        JsonNode dataNode = getDataNode(json, dataName);
-        if (dataNode == null) return null;
+        if (StringUtils.isEmpty(json)) return null;
 
-        JsonNode oneNode;
-        if (!dataNode.isArray()) {
-            oneNode = dataNode;
-        } else {
-            ArrayNode arrayNode = (ArrayNode) dataNode;
+        try (JsonParser parser = mapper.getFactory().createParser(json)) {
+            JsonToken token = seekPath(parser, dataName);
+            if (token == JsonToken.START_ARRAY) token = parser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) return null;
 
-            oneNode = arrayNode.get(0);
+            return reader(valueTypeRef.getType()).readValue(parser);
+        } catch (IOException e) {
+            ErrorLogger.errorAt(log, "toListToMap", e);
         }
 
-        String filterNode = oneNode.toString();
+        return null;
+    }
 
-        try {
-            return mapper.readValue(filterNode, valueTypeRef);
+    private static <T> T readPath(String json, String dataPath, ObjectReader reader) {
+        if (StringUtils.isEmpty(json)) return null;
+
+        try (JsonParser parser = mapper.getFactory().createParser(json)) {
+            if (seekPath(parser, dataPath) == null) return null;
+
+            return reader.readValue(parser);
         } catch (IOException e) {
-            log.error(e.getMessage(), e);
+            ErrorLogger.errorAt(log, "readPath", e);
         }
 
         return null;
     }
 
+    /*
+     * dataName 경로의 배열을 원소 단위로 바인딩함 (경로 규칙은 toDataObject()와 동일)
+     * 전체 트리를 만들지 않고 toVoIterator()와 같이 원소를 하나씩 읽으므로, 메모리에는 결과 리스트와 원소 하나만큼만 올라감
+     * 대상 필드가 없거나 null이면 null을 반환함
+     */
     public static <T> ArrayList<T> toListToListMap(String json, String dataName, TypeReference<T> valueTypeRef) {
-        JsonNode rootNode = getRootNode(json);
-        if (rootNode == null) return null;
-
-        try {
-            if (rootNode.get(dataName).isNull()) return null;
-
-            ArrayNode arrayNode = (ArrayNode) rootNode.path(dataName);
+        if (StringUtils.isEmpty(json)) return null;
 
-            ArrayList<T> convertList = new ArrayList<>();
-            for (JsonNode jsonNode : arrayNode) {
-                convertList.add(mapper.readValue(jsonNode.toString(), valueTypeRef));
-            }
+        try (JsonParser parser = mapper.getFactory().createParser(json)) {
+            JsonToken token = seekPath(parser, dataName);
+            if (token == null || token == JsonToken.VALUE_NULL) return null;
 
-            return convertList;
+            return readElements(parser, token, reader(valueTypeRef.getType()));
         } catch (IOException e) {
-            log.error(e.getMessage(), e);
+            ErrorLogger.errorAt(log, "toListToListMap", e);
         }
 
         return null;
     }
 
+    // fieldName 경로의 값이 배열이 아닐 경우 (null 포함) 원소 하나짜리 리스트로 반환함, 대상 필드가 없으면 null을 반환함
     public static <T> List<T> toVoList(String json, String fieldName, Class<T> valueType) {
-        JsonNode rootNode = getRootNode(json);
-        if (rootNode == null) return null;
+        if (StringUtils.isEmpty(json)) return null;
 
-        try {
-            JsonNode targetNode = rootNode.get(fieldName);
-
-            List<T> convertList = new ArrayList<>();
-            if (!targetNode.isArray()) {
-                convertList.add(mapper.readValue(mapper.treeAsTokens(targetNode), valueType));
-            } else {
-                ArrayNode arrayNode = (ArrayNode) targetNode;
-                for (JsonNode jsonNode : arrayNode) {
-                    convertList.add(mapper.readValue(mapper.treeAsTokens(jsonNode), valueType));
-                }
-            }
+        long start = JsonMetrics.start();
+        try (JsonParser parser = mapper.getFactory().createParser(json)) {
+            JsonToken token = seekPath(parser, fieldName);
+            if (token == null) return null;
 
+            List<T> convertList = readElements(parser, token, reader(valueType));
+            JsonMetrics.success(Operation.TO_VO_LIST, valueType, start, json.length());
             return convertList;
         } catch (IOException e) {
-            log.error(e.getMessage(), e);
+            JsonMetrics.failure(Operation.TO_VO_LIST, valueType, start);
+            ErrorLogger.errorAt(log, "toVoList", e);
         }
 
         return null;
     }
 
+    // token(값의 시작 토큰)이 배열이면 원소를 하나씩, 아니면 값 자체를 바인딩해 리스트로 반환함
+    private static <T> ArrayList<T> readElements(JsonParser parser, JsonToken token, ObjectReader reader) throws IOException {
+        ArrayList<T> convertList = new ArrayList<>();
+        if (token != JsonToken.START_ARRAY) {
+            convertList.add(reader.readValue(parser));
+            return convertList;
+        }
+
+        while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+            convertList.add(reader.readValue(parser));
+        }
+
+        return convertList;
+    }
+
     // json 형식 VO List로 변환 ( FieldName 없을 경우 )
     public static <T> List<T> jsonToVOList(String json, Class<T> valueType) {
+        return jsonToVOList(json, valueType, null);
+    }
+
+    /*
+     * 문자열 중복 제거 모드
+     * 변환 중 만들어지는 String 값을 pool에서 찾아 같은 값은 하나의 인스턴스를 공유하도록 함 (StringPool 참고)
+     * 반복되는 코드 값이 많은 큰 리스트에서 사용하며, 여러 호출에서 같은 pool을 공유해도 됨
+     */
+    public static <T> List<T> jsonToVOList(String json, Class<T> valueType, StringPool pool) {
+        long start = JsonMetrics.start();
         try {
-            return mapper.readValue(json, mapper.getTypeFactory().constructCollectionType(List.class, valueType));
+            List<T> convertList = reader(getListJavaType(valueType), pool).readValue(json);
+            JsonMetrics.success(Operation.TO_VO_LIST, valueType, start, json.length());
+            return convertList;
         } catch (IOException e) {
-            e.printStackTrace();
+            JsonMetrics.failure(Operation.TO_VO_LIST, valueType, start);
+            ErrorLogger.errorAt(log, "jsonToVOList", e);
             return null;
         }
     }
 
+    // removeNodeArray에 담긴 필드들을 제외하고 변환함 (파싱 단계에서 건너뜀)
     public static <T> List<T> toVoList(String json, Class<T> valueType, String[]... removeNodeArray) {
-        JsonNode rootNode = getRootNode(json);
-        if (rootNode == null) return null;
+        List<String> excludes = new ArrayList<>();
+        if (removeNodeArray != null) {
+            for (String[] removeNode : removeNodeArray) {
+                if (removeNode != null) excludes.addAll(Arrays.asList(removeNode));
+            }
+        }
 
-        try {
+        return toVoListProjected(json, valueType, excludes.isEmpty() ? null : JsonProjection.of(null, excludes), null);
+    }
+
+    /*
+     * 파싱 시점에 필드를 걸러내며 변환하는 메서드
+     * projection에서 제외된 필드(하위 트리 포함)는 토큰 단계에서 건너뛰므로 바인딩 및 객체 생성이 일어나지 않음
+     * 다국어 데이터 등 버리는 필드가 큰 응답을 받을 때 사용함
+     * projection이 null이면 걸러내지 않음 (toObject(), toVoIterator()도 동일)
+     * toVoList(json, valueType, String[]...)와 이름이 같으면 toVoList(json, valueType, null) 호출이 모호해지므로 이름을 구분함
+     */
+    public static <T> List<T> toVoListProjected(String json, Class<T> valueType, JsonProjection projection) {
+        return toVoListProjected(json, valueType, projection, null);
+    }
+
+    // 문자열 중복 제거 모드, jsonToVOList(json, valueType, pool) 참고
+    public static <T> List<T> toVoListProjected(String json, Class<T> valueType, JsonProjection projection, StringPool pool) {
+        if (StringUtils.isEmpty(json)) return null;
+
+        long start = JsonMetrics.start();
+        try (JsonParser parser = JsonProjection.wrap(projection, mapper.getFactory().createParser(json))) {
             List<T> convertList = new ArrayList<>();
-            if (rootNode.isArray()) {
-                ArrayNode arrayNode = (ArrayNode) rootNode;
-                for (JsonNode jsonNode : arrayNode) {
-
-                    // 특정 Node 반영 X
-                    if (null != removeNodeArray && 0 != removeNodeArray.length) {
-                        for (String[] removeNode : removeNodeArray) {
-                            ((ObjectNode) jsonNode).remove("languageType");
-                        }
-                    }
-
-                    convertList.add(mapper.readValue(mapper.treeAsTokens(jsonNode), valueType));
+            if (parser.nextToken() == JsonToken.START_ARRAY) {
+                ObjectReader reader = reader(valueType, pool);
+                JsonToken token;
+                while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+                    convertList.add(reader.readValue(parser));
                 }
             }
 
+            JsonMetrics.success(Operation.TO_VO_LIST, valueType, start, json.length());
             return convertList;
         } catch (IOException e) {
-            log.error(e.getMessage(), e);
+            JsonMetrics.failure(Operation.TO_VO_LIST, valueType, start);
+            ErrorLogger.errorAt(log, "toVoListProjected", e);
         }
 
         return null;
     }
 
+    public static <T> T toObject(String json, Class<T> valueType, JsonProjection projection) {
+        if (StringUtils.isEmpty(json)) return null;
+
+        try (JsonParser parser = JsonProjection.wrap(projection, mapper.getFactory().createParser(json))) {
+            return reader(valueType).readValue(parser);
+        } catch (IOException e) {
+            ErrorLogger.errorAt(log, "toObject", e);
+        }
+
+        return null;
+    }
+
+    /*
+     * 부분 수정: json에 있는 필드만 target에 덮어쓰고 target을 반환함 (새 객체를 만들어 필드를 옮겨 담을 필요 없음)
+     * 요청 본문 혹은 RFC 7396(JSON Merge Patch) 형식의 json을 받으며, 없는 필드는 건드리지 않고 null인 필드는 null로 설정함
+     *  - 하위 객체(VO, Map)는 기존 객체에 이어서 병합하며, 기존 값이 null이면 새로 만듦
+     *  - 컬렉션/배열과 RmDateTime 등 단일 값은 통째로 교체함
+     *
+     * 실패 시 target은 일부 필드만 수정된 상태일 수 있으므로, null을 반환하지 않고 RmCommonException(ERROR_JSON_PARSING)을 던짐
+     */
+    public static <T> T merge(String json, T target) {
+        try {
+            return mergeReader(target).readValue(json);
+        } catch (IOException e) {
+            throw new RmCommonException(ErrorType.ERROR_SYSTEM, ServiceStatusCode.ERROR_JSON_PARSING, e);
+        }
+    }
+
+    public static <T> T merge(byte[] json, T target) {
+        try {
+            return mergeReader(target).readValue(json);
+        } catch (IOException e) {
+            throw new RmCommonException(ErrorType.ERROR_SYSTEM, ServiceStatusCode.ERROR_JSON_PARSING, e);
+        }
+    }
+
+    public static <T> T merge(InputStream json, T target) {
+        try {
+            return mergeReader(target).readValue(json);
+        } catch (IOException e) {
+            throw new RmCommonException(ErrorType.ERROR_SYSTEM, ServiceStatusCode.ERROR_JSON_PARSING, e);
+        }
+    }
+
     /**
      * toObject(String json, Type type) 으로 변경됨
      */
@@ -306,10 +664,10 @@ public class JsonUtils {
                 }
 
                 JsonParser tokens = mapper.treeAsTokens(element);
-                JavaType type = getJavaType(iterator.next());
+                ObjectReader reader = reader(iterator.next());
 
                 try {
-                    result.add(mapper.readValue(tokens, type));
+                    result.add(reader.readValue(tokens));
                 } catch (IOException e) {
                     throw new RmCommonException(e);
                 }
@@ -324,4 +682,303 @@ public class JsonUtils {
 
         return result;
     }
+
+    /*
+     * 스트리밍 방식의 리스트 역직렬화
+     * 전체 JSON을 트리(JsonNode)로 만들지 않고, JsonParser를 dataName 필드의 배열까지 이동시킨 뒤 원소를 하나씩 바인딩함
+     * 수십 MB 단위의 리스트 응답도 메모리에는 원소 하나만큼만 올라감
+     *
+     * dataName이 비어있을 경우 루트 자체를 대상으로 하며 ("data.items" 같은 중첩 경로도 사용 가능), 대상이 배열이 아닌 객체일 경우 원소 하나짜리로 취급함 (toVoList와 동일)
+     * 대상 필드가 없거나 null일 경우 빈 Iterator를 반환함
+     *
+     * 입력 스트림은 Iterator가 끝까지 소비되거나 close() 될 때 함께 닫히며, 대상 경로를 찾는 도중 실패해서 예외를 던질 때도 닫힘
+     * 파싱 중 발생한 예외는 RmCommonException(ERROR_JSON_PARSING)으로 던져짐
+     */
+    public static <T> ElementIterator<T> toVoIterator(InputStream json, String dataName, Class<T> valueType) {
+        return createElementIterator(json, dataName, reader(valueType));
+    }
+
+    public static <T> ElementIterator<T> toVoIterator(InputStream json, String dataName, TypeReference<T> valueTypeRef) {
+        return createElementIterator(json, dataName, reader(valueTypeRef.getType()));
+    }
+
+    public static <T> ElementIterator<T> toVoIterator(Reader json, String dataName, Class<T> valueType) {
+        return createElementIterator(json, dataName, reader(valueType));
+    }
+
+    public static <T> ElementIterator<T> toVoIterator(Reader json, String dataName, TypeReference<T> valueTypeRef) {
+        return createElementIterator(json, dataName, reader(valueTypeRef.getType()));
+    }
+
+    public static <T> ElementIterator<T> toVoIterator(byte[] json, String dataName, Class<T> valueType) {
+        return createElementIterator(json, dataName, reader(valueType));
+    }
+
+    public static <T> ElementIterator<T> toVoIterator(byte[] json, String dataName, TypeReference<T> valueTypeRef) {
+        return createElementIterator(json, dataName, reader(valueTypeRef.getType()));
+    }
+
+    // projection에서 제외된 필드는 토큰 단계에서 건너뜀, 필드 경로는 각 원소 기준
+    public static <T> ElementIterator<T> toVoIterator(InputStream json, String dataName, Class<T> valueType, JsonProjection projection) {
+        return createElementIterator(json, dataName, reader(valueType), projection);
+    }
+
+    /**
+     * toVoIterator()의 Stream 버전, 사용 후 반드시 close() 해줘야 함 (try-with-resources 권장)
+     */
+    public static <T> Stream<T> toVoStream(InputStream json, String dataName, Class<T> valueType) {
+        return toStream(toVoIterator(json, dataName, valueType));
+    }
+
+    public static <T> Stream<T> toVoStream(InputStream json, String dataName, TypeReference<T> valueTypeRef) {
+        return toStream(toVoIterator(json, dataName, valueTypeRef));
+    }
+
+    public static <T> Stream<T> toVoStream(Reader json, String dataName, Class<T> valueType) {
+        return toStream(toVoIterator(json, dataName, valueType));
+    }
+
+    public static <T> Stream<T> toVoStream(Reader json, String dataName, TypeReference<T> valueTypeRef) {
+        return toStream(toVoIterator(json, dataName, valueTypeRef));
+    }
+
+    public static <T> Stream<T> toVoStream(byte[] json, String dataName, Class<T> valueType) {
+        return toStream(toVoIterator(json, dataName, valueType));
+    }
+
+    public static <T> Stream<T> toVoStream(byte[] json, String dataName, TypeReference<T> valueTypeRef) {
+        return toStream(toVoIterator(json, dataName, valueTypeRef));
+    }
+
+    /*
+     * 조각 단위로 들어오는 입력을 받는 대로 파싱하는 non-blocking 디코더 생성 (JsonChunkDecoder 참고)
+     * 대상 경로 규칙은 toVoIterator()와 동일하며, 원소가 완성될 때마다 feed()를 호출한 스레드에서 consumer가 호출됨
+     */
+    public static <T> JsonChunkDecoder<T> toVoDecoder(String dataName, Class<T> valueType, Consumer<? super T> consumer) {
+        return new JsonChunkDecoder<>(dataName, reader(valueType), consumer);
+    }
+
+    public static <T> JsonChunkDecoder<T> toVoDecoder(String dataName, TypeReference<T> valueTypeRef, Consumer<? super T> consumer) {
+        return new JsonChunkDecoder<>(dataName, reader(valueTypeRef.getType()), consumer);
+    }
+
+    private static <T> Stream<T> toStream(ElementIterator<T> iterator) {
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED);
+        return StreamSupport.stream(spliterator, false).onClose(iterator::close);
+    }
+
+    private static <T> ElementIterator<T> createElementIterator(Object json, String dataName, ObjectReader reader) {
+        return createElementIterator(json, dataName, reader, null);
+    }
+
+    // 대상 경로를 찾는 도중 실패하면 Iterator가 만들어지지 않으므로, 파서(및 AUTO_CLOSE_SOURCE로 입력 스트림)를 여기서 닫음
+    private static <T> ElementIterator<T> createElementIterator(Object json, String dataName, ObjectReader reader, JsonProjection projection) {
+        JsonParser parser = null;
+        try {
+            if (json instanceof InputStream) {
+                parser = mapper.getFactory().createParser((InputStream) json);
+            } else if (json instanceof Reader) {
+                parser = mapper.getFactory().createParser((Reader) json);
+            } else {
+                parser = mapper.getFactory().createParser((byte[]) json);
+            }
+
+            JsonToken token = seekPath(parser, dataName);
+            // 대상 값의 시작 토큰에서 감싸야 projection의 필드 경로가 원소 기준이 됨
+            parser = JsonProjection.wrap(projection, parser);
+
+            return new ElementIterator<>(parser, reader, token);
+        } catch (IOException | RuntimeException e) {
+            closeOnFailure(parser != null ? parser : json, e);
+            if (e instanceof RuntimeException) throw (RuntimeException) e;
+            throw new RmCommonException(ErrorType.ERROR_SYSTEM, ServiceStatusCode.ERROR_JSON_PARSING, e);
+        }
+    }
+
+    private static void closeOnFailure(Object closeable, Exception e) {
+        if (!(closeable instanceof Closeable)) return;
+
+        try {
+            ((Closeable) closeable).close();
+        } catch (IOException suppressed) {
+            e.addSuppressed(suppressed);
+        }
+    }
+
+    /*
+     * 점(.)으로 구분된 경로를 따라 해당 값의 시작 토큰까지 파서를 이동시킴
+     * 경로가 비어있으면 루트 값의 시작 토큰을, 경로에 해당하는 필드가 없으면 null을 반환함
+     * 경로에 해당하지 않는 필드의 하위 트리는 skipChildren()으로 버리므로 바인딩 및 객체 생성이 일어나지 않음
+     */
+    private static JsonToken seekPath(JsonParser parser, String dataPath) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (StringUtils.isEmpty(dataPath)) return token;
+
+        for (String dataName : StringUtils.split(dataPath, '.')) {
+            if (token != JsonToken.START_OBJECT) return null;
+
+            token = seekField(parser, dataName);
+            if (token == null) return null;
+        }
+
+        return token;
+    }
+
+    // 현재 객체의 필드 중 dataName 필드의 값 토큰까지 파서를 이동시킴
+    private static JsonToken seekField(JsonParser parser, String dataName) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if (dataName.equals(fieldName)) return token;
+
+            parser.skipChildren();
+        }
+
+        return null;
+    }
+
+    /**
+     * JSON 배열의 원소를 하나씩 바인딩하는 지연 Iterator
+     *
+     * 대상 값이 배열이면 원소 단위로, 객체 등 단일 값이면 한 번만 반환함
+     * 스레드 안전하지 않으며, 끝까지 순회하지 않을 경우 close()를 호출해 파서를 닫아줘야 함
+     */
+    public static class ElementIterator<T> implements Iterator<T>, Closeable {
+        private final JsonParser parser;
+        private final ObjectReader reader;
+        private final boolean array;
+
+        private boolean pending; // 파서가 다음 원소의 시작 토큰에 위치해 있는지 여부
+        private boolean finished;
+
+        private ElementIterator(JsonParser parser, ObjectReader reader, JsonToken token) {
+            this.parser = parser;
+            this.reader = reader;
+            this.array = token == JsonToken.START_ARRAY;
+
+            if (token == null || token == JsonToken.VALUE_NULL) {
+                close();
+            } else {
+                this.pending = !array;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (pending) return true;
+            if (finished) return false;
+
+            try {
+                JsonToken token = parser.nextToken();
+                if (token == null || token == JsonToken.END_ARRAY) {
+                    close();
+                    return false;
+                }
+            } catch (IOException e) {
+                close();
+                throw new RmCommonException(ErrorType.ERROR_SYSTEM, ServiceStatusCode.ERROR_JSON_PARSING, e);
+            }
+
+            pending = true;
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            pending = false;
+
+            try {
+                T value = reader.readValue(parser);
+                if (!array) close();
+
+                return value;
+            } catch (IOException e) {
+                close();
+                throw new RmCommonException(ErrorType.ERROR_SYSTEM, ServiceStatusCode.ERROR_JSON_PARSING, e);
+            }
+        }
+
+        @Override
+        public void close() {
+            if (finished) return;
+            finished = true;
+            pending = false;
+
+            try {
+                parser.close();
+            } catch (IOException e) {
+                ErrorLogger.errorAt(log, "ElementIterator.close", e);
+            }
+        }
+    }
+
+    // 버퍼 풀의 버퍼에 모았다가 채널로 내보내는 출력 스트림, close() 시 남은 내용을 내보내고 버퍼를 반납함 (채널은 닫지 않음)
+    private static class ChannelOutputStream extends OutputStream {
+        private final WritableByteChannel channel;
+        private byte[] buffer = bufferPool.acquire();
+        private int count;
+
+        private ChannelOutputStream(WritableByteChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (count == buffer.length) flush();
+            buffer[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                if (count == buffer.length) flush();
+
+                int length = Math.min(len, buffer.length - count);
+                System.arraycopy(b, off, buffer, count, length);
+                count += length;
+                off += length;
+                len -= length;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, count);
+            while (byteBuffer.hasRemaining()) {
+                channel.write(byteBuffer);
+            }
+            count = 0;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (buffer == null) return;
+
+            try {
+                flush();
+            } finally {
+                bufferPool.release(buffer);
+                buffer = null;
+            }
+        }
+    }
+
+    private static class ByteBufferOutputStream extends OutputStream {
+        private final ByteBuffer buffer;
+
+        private ByteBufferOutputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(int b) {
+            buffer.put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            buffer.put(b, off, len);
+        }
+    }
 }
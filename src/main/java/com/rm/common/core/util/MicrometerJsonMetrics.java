@@ -0,0 +1,43 @@
+package com.rm.common.core.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JsonMetrics의 통계를 Micrometer MeterRegistry로 기록하는 Registry
+ *
+ * (메서드 종류, 타입)별로 다음 Meter를 등록함, 태그는 operation(메서드 종류), type(클래스 이름)
+ *  - rm.json.duration (Timer): 소요 시간
+ *  - rm.json.size (DistributionSummary): 입출력 크기
+ *  - rm.json.failures (Counter): 실패 횟수
+ * 히스토그램/백분위 설정은 MeterFilter로 지정함
+ *
+ * micrometer-core는 compileOnly 의존성이므로, 이 클래스는 Micrometer가 있을 때만 사용해야 함
+ */
+public class MicrometerJsonMetrics implements JsonMetrics.Registry {
+    private final MeterRegistry meterRegistry;
+
+    public MicrometerJsonMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public JsonMetrics.Recorder create(JsonMetrics.Operation operation, Class<?> type) {
+        Tags tags = Tags.of("operation", operation.name(), "type", type.getName());
+
+        Timer timer = Timer.builder("rm.json.duration").tags(tags).register(meterRegistry);
+        DistributionSummary size = DistributionSummary.builder("rm.json.size").tags(tags).register(meterRegistry);
+        Counter failures = Counter.builder("rm.json.failures").tags(tags).register(meterRegistry);
+
+        return (nanos, sizeValue, failed) -> {
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+            if (sizeValue >= 0) size.record(sizeValue);
+            if (failed) failures.increment();
+        };
+    }
+}
@@ -11,11 +11,16 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 
 /**
  * Object를 원하는 형태로 형변환 해주는 클래스
  * LinkedHashMap을 vo 형태로 받고 싶어 만들었는데 제네릭에 대한 공부가 더욱 필요하다...
+ *
+ * toType/toTypeList의 결과는 기존(mapper.convertValue())과 같이 원본과 변경 가능한 객체를 공유하지 않음
+ * 원본에 이미 들어있는 VO, Map/List, 배열, Date 등도 복사본이 만들어지므로 결과를 수정해도 원본은 바뀌지 않음 (String, Number 등 불변 값만 그대로 참조함)
  */
 public class ObjectUtils {
 
@@ -43,30 +48,53 @@ public class ObjectUtils {
 
 
 
-    private static final ObjectMapper mapper = new ObjectMapper();
+    // JsonUtils와 같은 mapper를 사용하여 (역)직렬화기 캐시를 공유함
+    private static final ObjectMapper mapper = DataFormat.JSON.getMapper();
+
+    // Map/List -> VO 변환은 TokenBuffer를 거치지 않도록 BeanConverter를 통해 처리함
+    private static final BeanConverter converter = new BeanConverter(mapper);
+
+    /*
+     * Type -> JavaType 변환 결과 캐시
+     * ParameterizedType의 경우 매번 재귀적으로 JavaType을 만들기 때문에, 한번 만든 결과를 재사용함
+     * 캐시 크기가 MAX_CACHE_SIZE를 넘어가면 더 이상 저장하지 않고 매번 생성함 (동적으로 만들어지는 타입에 의한 메모리 누수 방지)
+     */
+    static final int MAX_CACHE_SIZE = 4096;
+    private static final Map<Type, JavaType> javaTypeCache = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, JavaType> listJavaTypeCache = new ConcurrentHashMap<>();
 
     public static <T> T toType(Object object, Class<T> valueType) {
         if (object == null) return null;
 
-        return mapper.convertValue(object, valueType);
+        return converter.convert(object, getJavaType(valueType));
     }
 
     public static <T> T toType(Object object, TypeReference<T> valueTypeRef) {
         if (object == null) return null;
 
-        return mapper.convertValue(object, valueTypeRef);
+        return converter.convert(object, getJavaType(valueTypeRef.getType()));
     }
 
     public static <T> T toType(Object object, Type type) {
         if (object == null) return null;
 
-        return mapper.convertValue(object, getJavaType(type));
+        return converter.convert(object, getJavaType(type));
     }
 
     public static <T> List<T> toTypeList(Object object, Class<T> valueType) {
         if (object == null || valueType == null) return null;
 
-        return mapper.convertValue(object, TypeFactory.defaultInstance().constructCollectionType(ArrayList.class, valueType));
+        return converter.convert(object, getListJavaType(valueType));
+    }
+
+    /**
+     * 대량의 Map 리스트를 변환할 때 사용, parallel이 true이고 리스트가 충분히 클 경우 공용 ForkJoinPool에서 병렬로 변환함
+     * 병렬로 변환하더라도 결과 리스트의 순서는 원본 리스트의 순서와 동일함
+     */
+    public static <T> List<T> toTypeList(Object object, Class<T> valueType, boolean parallel) {
+        if (object == null || valueType == null) return null;
+
+        return converter.convert(object, getListJavaType(valueType), parallel);
     }
 
     /**
@@ -78,6 +106,33 @@ public class ObjectUtils {
      * @return 제네릭 데이터가 존재하는 JavaType
      */
     public static JavaType getJavaType(Type type) {
+        return getCachedValue(javaTypeCache, type, ObjectUtils::createJavaType);
+    }
+
+    // List<valueType> 형태의 JavaType 반환
+    public static JavaType getListJavaType(Class<?> valueType) {
+        return getCachedValue(listJavaTypeCache, valueType, elementType -> TypeFactory.defaultInstance().constructCollectionType(List.class, elementType));
+    }
+
+    /*
+     * 캐시 조회 후 없을 경우 생성하여 저장함
+     * computeIfAbsent()는 Java 8에서 이미 값이 있어도 버킷 락을 잡기 때문에, 조회는 get()만으로 끝나도록 함
+     * 동시에 생성될 경우 같은 값이 중복 생성될 수 있지만, 생성 결과가 불변 객체이므로 문제 없음
+     */
+    static <K, V> V getCachedValue(Map<K, V> cache, K key, Function<K, V> loader) {
+        V value = cache.get(key);
+        if (value != null) return value;
+
+        value = loader.apply(key);
+        if (cache.size() < MAX_CACHE_SIZE) {
+            V previous = cache.putIfAbsent(key, value);
+            if (previous != null) return previous;
+        }
+
+        return value;
+    }
+
+    private static JavaType createJavaType(Type type) {
         TypeFactory typeFactory = TypeFactory.defaultInstance();
         if (type instanceof ParameterizedType) {
             ParameterizedType parameterizedType = (ParameterizedType) type;
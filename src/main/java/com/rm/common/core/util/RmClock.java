@@ -0,0 +1,117 @@
+package com.rm.common.core.util;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RmDateTimeUtil.getNow() 등에서 현재 시간을 가져올 때 사용하는 시계
+ *
+ * 사용할 시계는 RmDateTimeUtil.setClock()으로 변경하거나, -Drm.date.clock=coarse 로 지정함 (기본: system, 알 수 없는 이름이면 경고 후 system 사용)
+ *  - system(): 호출마다 시스템 시간을 읽음 (기존과 동일)
+ *  - coarse(): 백그라운드 데몬 스레드가 1ms마다 갱신하는 값을 읽음, 현재 시간 조회가 volatile 읽기 한번으로 끝나는 대신 최대 수 ms 늦을 수 있음
+ *  - manual(): 직접 설정한 시간을 반환하는 테스트용 시계
+ */
+public interface RmClock {
+    // UTC 기준 에포크 밀리초
+    long millis();
+
+    // zone 기준 현재 시간, 시간대 오프셋은 ZoneOffsetTable로 계산함
+    default LocalDateTime now(ZoneId zone) {
+        long millis = millis();
+        long localSecond = ZoneOffsetTable.of(zone).toLocalSecond(Math.floorDiv(millis, 1000));
+        return LocalDateTime.ofEpochSecond(localSecond, (int) Math.floorMod(millis, 1000) * 1_000_000, ZoneOffset.UTC);
+    }
+
+    static RmClock system() {
+        return SystemClock.INSTANCE;
+    }
+
+    static RmClock coarse() {
+        return CoarseClock.INSTANCE;
+    }
+
+    static Manual manual(Instant instant) {
+        return new Manual(instant.toEpochMilli());
+    }
+
+    static RmClock of(String name) {
+        switch (name) {
+            case "system":
+                return system();
+            case "coarse":
+                return coarse();
+            default:
+                throw new IllegalArgumentException("Unknown clock: " + name);
+        }
+    }
+
+    final class SystemClock implements RmClock {
+        private static final SystemClock INSTANCE = new SystemClock();
+
+        private SystemClock() {
+        }
+
+        @Override
+        public long millis() {
+            return System.currentTimeMillis();
+        }
+
+        // 시스템 시계의 정밀도(Java 9 이상은 마이크로초)를 그대로 사용함
+        @Override
+        public LocalDateTime now(ZoneId zone) {
+            return LocalDateTime.now(zone);
+        }
+    }
+
+    /*
+     * 처음 사용할 때 갱신 스레드를 시작하며, 데몬 스레드이므로 애플리케이션 종료를 막지 않음
+     */
+    final class CoarseClock implements RmClock {
+        private static final CoarseClock INSTANCE = new CoarseClock();
+
+        private volatile long millis = System.currentTimeMillis();
+
+        private CoarseClock() {
+            ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "rm-coarse-clock");
+                thread.setDaemon(true);
+                return thread;
+            });
+            ticker.scheduleAtFixedRate(() -> millis = System.currentTimeMillis(), 1, 1, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+    }
+
+    final class Manual implements RmClock {
+        private volatile long millis;
+
+        private Manual(long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        public synchronized Manual set(Instant instant) {
+            this.millis = instant.toEpochMilli();
+            return this;
+        }
+
+        public synchronized Manual advance(Duration duration) {
+            this.millis += duration.toMillis();
+            return this;
+        }
+    }
+}
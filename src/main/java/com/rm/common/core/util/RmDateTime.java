@@ -11,6 +11,7 @@ import java.io.Serializable;
 import java.time.DayOfWeek;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.*;
 
@@ -215,7 +216,11 @@ public class RmDateTime implements Cloneable, Serializable, Comparable<RmDateTim
     public RmDateTime convertTo(ZoneId zoneTo) {
         ZoneId zoneFrom = this.zone;
 
-        LocalDateTime convertedDateTime = this.localDateTime.atZone(zoneFrom).withZoneSameInstant(zoneTo).toLocalDateTime();
+        // ZonedDateTime을 거치지 않고 시간대별 오프셋 테이블로 계산함 (ZoneOffsetTable 참고)
+        long epochSecond = ZoneOffsetTable.of(zoneFrom).toEpochSecond(this.localDateTime.toEpochSecond(ZoneOffset.UTC));
+        long localSecond = ZoneOffsetTable.of(zoneTo).toLocalSecond(epochSecond);
+
+        LocalDateTime convertedDateTime = LocalDateTime.ofEpochSecond(localSecond, this.localDateTime.getNano(), ZoneOffset.UTC);
         return setLocalDateTime(convertedDateTime).setZone(zoneTo);
     }
     public RmDateTime changeZone(ZoneId zoneTo) {
@@ -225,6 +230,10 @@ public class RmDateTime implements Cloneable, Serializable, Comparable<RmDateTim
     public ZoneId getZone(RmDateTime target) {
         return target.zone;
     }
+    // RmPackedDateTime 변환용
+    LocalDateTime getLocalDateTime() {
+        return this.localDateTime;
+    }
 
     /*
      * 형식 문자열을 가져오거나, 일부 데이터를 추출하여 가져오는 메서드
@@ -233,8 +242,9 @@ public class RmDateTime implements Cloneable, Serializable, Comparable<RmDateTim
     public String get(DateTimeFormatter formatter) {
         return this.localDateTime.format(formatter);
     }
+    // RmDateTimeUtil에 정의된 패턴은 전용 포맷으로, 그 외에는 캐시된 DateTimeFormatter로 출력함
     public String get(String pattern) {
-        return get(DateTimeFormatter.ofPattern(pattern));
+        return RmDateTimeFormat.format(this.localDateTime, pattern);
     }
 
     // int 대신 Integer, Wrapper 클래스 사용 -> getYear().toString() 등 문자열 값으로의 치환을 직관적으로 사용 가능
@@ -267,11 +277,11 @@ public class RmDateTime implements Cloneable, Serializable, Comparable<RmDateTim
 
     // 유닉스 타임스탬프(밀리초단위)로 리턴
     public Long getUnixSeconds() {
-        return this.localDateTime.atZone(zone).toInstant().getEpochSecond();
+        return ZoneOffsetTable.of(zone).toEpochSecond(this.localDateTime.toEpochSecond(ZoneOffset.UTC));
     }
     // 유닉스 타임스탬프(밀리초단위)로 리턴
     public Long getUnixMillis() {
-        return this.localDateTime.atZone(zone).toInstant().toEpochMilli();
+        return getUnixSeconds() * 1000 + this.localDateTime.getNano() / 1_000_000;
     }
 
     /*
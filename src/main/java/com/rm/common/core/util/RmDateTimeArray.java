@@ -0,0 +1,365 @@
+package com.rm.common.core.util;
+
+import lombok.Getter;
+
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * 같은 시간대의 시간 목록을 long[](UTC 기준 에포크 밀리초)에 저장하는 배열
+ *
+ * List<RmDateTime>은 원소마다 RmDateTime, LocalDateTime 객체를 가지며, 일/시간 단위 집계 시 get("yyyyMMdd") 등의 문자열 키를 만들게 됨
+ * RmDateTimeArray는 시간대를 배열 단위로 한번만 가지고, 다음 대량 연산을 원소별 객체 생성 없이 처리함
+ *  - truncatedTo(): 시간대 기준으로 초/분/시/일/주(월요일 시작) 단위 절삭 (버킷 키로 사용)
+ *  - countBy(): 버킷별 개수 집계
+ *  - sort(): 기수 정렬 (radix sort)
+ *  - lowerBound()/upperBound()/countBetween(): 정렬된 배열의 이진 탐색 및 구간 개수
+ * 원소 수가 PARALLEL_THRESHOLD 이상이면 공용 ForkJoinPool에서 구간을 나눠 병렬로 처리함
+ *
+ * 시간대 기준 시간 계산은 ZoneOffsetTable을 사용하며, 서머타임으로 두번 존재하는 시간은 같은 버킷으로 모임 (문자열 키로 집계할 때와 같음)
+ * 스레드 안전하지 않으므로 수정 중인 배열을 여러 스레드에서 함께 사용하면 안됨
+ */
+public final class RmDateTimeArray {
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX = 1 << RADIX_BITS;
+
+    @Getter
+    private final ZoneId zone;
+    private long[] values;
+    private int size;
+    // 오름차순 정렬 여부, countBetween()에서 이진 탐색 사용 여부를 결정함
+    private boolean sorted = true;
+
+    public RmDateTimeArray(ZoneId zone) {
+        this(zone, 16);
+    }
+
+    public RmDateTimeArray(ZoneId zone, int capacity) {
+        this.zone = zone;
+        this.values = new long[Math.max(capacity, 1)];
+    }
+
+    private RmDateTimeArray(ZoneId zone, long[] values, int size, boolean sorted) {
+        this.zone = zone;
+        this.values = values;
+        this.size = size;
+        this.sorted = sorted;
+    }
+
+    public static RmDateTimeArray of(ZoneId zone, long... epochMillis) {
+        return new RmDateTimeArray(zone, Arrays.copyOf(epochMillis, Math.max(epochMillis.length, 1)), epochMillis.length, isSorted(epochMillis, epochMillis.length));
+    }
+
+    // values의 시간대가 zone과 달라도 같은 시점으로 저장됨, null 원소는 허용하지 않음
+    public static RmDateTimeArray from(ZoneId zone, Collection<RmDateTime> values) {
+        RmDateTimeArray array = new RmDateTimeArray(zone, values.size());
+        for (RmDateTime value : values) {
+            array.add(value.getUnixMillis());
+        }
+        return array;
+    }
+
+    /*
+     * 원소 추가 및 조회
+     */
+    public RmDateTimeArray add(long epochMillis) {
+        if (size == values.length) values = Arrays.copyOf(values, size + (size >> 1) + 1);
+        if (size > 0 && epochMillis < values[size - 1]) sorted = false;
+
+        values[size++] = epochMillis;
+        return this;
+    }
+
+    public RmDateTimeArray add(RmDateTime value) {
+        return add(value.getUnixMillis());
+    }
+
+    public RmDateTimeArray add(RmPackedDateTime value) {
+        return add(value.getUnixMillis());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getMillis(int index) {
+        checkIndex(index);
+        return values[index];
+    }
+
+    // 배열의 시간대 기준 RmDateTime을 새로 만들어 반환함
+    public RmDateTime get(int index) {
+        return RmDateTimeUtil.getDateTimeFrom(zone, getMillis(index));
+    }
+
+    public RmPackedDateTime getPacked(int index) {
+        return RmPackedDateTime.ofEpochMillis(zone, getMillis(index));
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    public boolean isSorted() {
+        return sorted;
+    }
+
+    /*
+     * 시간대 기준으로 unit 미만을 버린 시간(버킷 시작 시간)의 배열을 새로 만들어 반환함
+     * SECONDS, MINUTES, HOURS, DAYS, WEEKS(월요일 0시)를 지원함
+     */
+    public RmDateTimeArray truncatedTo(ChronoUnit unit) {
+        long unitSeconds = unitSeconds(unit);
+        ZoneOffsetTable table = ZoneOffsetTable.of(zone);
+
+        long[] result = new long[Math.max(size, 1)];
+        int chunkCount = chunkCount(size);
+        forEachChunk(chunkCount, chunk -> {
+            int end = chunkStart(chunk + 1, chunkCount);
+            for (int i = chunkStart(chunk, chunkCount); i < end; i++) {
+                result[i] = truncate(values[i], unitSeconds, table);
+            }
+        });
+
+        // 서머타임 종료로 두번 존재하는 시간은 앞쪽 시점으로 절삭되므로, 정렬된 배열이어도 절삭 후 순서가 바뀔 수 있음
+        return new RmDateTimeArray(zone, result, size, sorted && isSorted(result, size));
+    }
+
+    // unit 단위 버킷별 개수, 버킷은 시작 시간 오름차순
+    public Buckets countBy(ChronoUnit unit) {
+        RmDateTimeArray truncated = truncatedTo(unit).sort();
+
+        long[] starts = new long[truncated.size];
+        int[] counts = new int[truncated.size];
+        int bucketCount = 0;
+        for (int i = 0; i < truncated.size; i++) {
+            long value = truncated.values[i];
+            if (bucketCount == 0 || starts[bucketCount - 1] != value) {
+                starts[bucketCount++] = value;
+            }
+            counts[bucketCount - 1]++;
+        }
+
+        return new Buckets(zone, Arrays.copyOf(starts, bucketCount), Arrays.copyOf(counts, bucketCount));
+    }
+
+    /*
+     * LSD 기수 정렬, 최솟값과의 차이에서 실제로 값이 있는 바이트만 정렬함 (1년 범위의 밀리초는 5번)
+     * 각 단계는 구간별 개수 집계 -> 구간별 기록 위치 계산 -> 구간별 기록 순서로 진행되며, 구간별 작업은 병렬로 처리됨
+     */
+    public RmDateTimeArray sort() {
+        if (sorted || size < 2) {
+            sorted = true;
+            return this;
+        }
+
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            min = Math.min(min, values[i]);
+            max = Math.max(max, values[i]);
+        }
+
+        int bits = 64 - Long.numberOfLeadingZeros(max - min);
+        long[] source = values;
+        long[] target = new long[values.length];
+        int chunkCount = chunkCount(size);
+        for (int shift = 0; shift < bits; shift += RADIX_BITS) {
+            radixPass(source, target, min, shift, chunkCount);
+
+            long[] temp = source;
+            source = target;
+            target = temp;
+        }
+
+        values = source;
+        sorted = true;
+        return this;
+    }
+
+    private void radixPass(long[] source, long[] target, long min, int shift, int chunkCount) {
+        int[][] offsets = new int[chunkCount][RADIX];
+        forEachChunk(chunkCount, chunk -> {
+            int[] counts = offsets[chunk];
+            int end = chunkStart(chunk + 1, chunkCount);
+            for (int i = chunkStart(chunk, chunkCount); i < end; i++) {
+                counts[digit(source[i], min, shift)]++;
+            }
+        });
+
+        // 같은 자릿값은 앞 구간의 원소가 먼저 오도록 위치를 정함 (안정 정렬)
+        int position = 0;
+        for (int digit = 0; digit < RADIX; digit++) {
+            for (int chunk = 0; chunk < chunkCount; chunk++) {
+                int count = offsets[chunk][digit];
+                offsets[chunk][digit] = position;
+                position += count;
+            }
+        }
+
+        forEachChunk(chunkCount, chunk -> {
+            int[] positions = offsets[chunk];
+            int end = chunkStart(chunk + 1, chunkCount);
+            for (int i = chunkStart(chunk, chunkCount); i < end; i++) {
+                target[positions[digit(source[i], min, shift)]++] = source[i];
+            }
+        });
+    }
+
+    /*
+     * 정렬된 배열의 이진 탐색, 정렬되지 않은 배열은 IllegalStateException을 던짐
+     */
+    // epochMillis 이상인 첫 원소의 위치 (없으면 size)
+    public int lowerBound(long epochMillis) {
+        checkSorted();
+        return search(epochMillis, false);
+    }
+
+    // epochMillis 초과인 첫 원소의 위치 (없으면 size)
+    public int upperBound(long epochMillis) {
+        checkSorted();
+        return search(epochMillis, true);
+    }
+
+    // from 이상 to 미만인 원소의 수, 정렬된 배열은 이진 탐색을, 그 외에는 전체를 (병렬로) 확인함
+    public int countBetween(long fromInclusive, long toExclusive) {
+        if (fromInclusive >= toExclusive) return 0;
+        if (sorted) return search(toExclusive, false) - search(fromInclusive, false);
+
+        int chunkCount = chunkCount(size);
+        int[] counts = new int[chunkCount];
+        forEachChunk(chunkCount, chunk -> {
+            int count = 0;
+            int end = chunkStart(chunk + 1, chunkCount);
+            for (int i = chunkStart(chunk, chunkCount); i < end; i++) {
+                if (values[i] >= fromInclusive && values[i] < toExclusive) count++;
+            }
+            counts[chunk] = count;
+        });
+
+        return Arrays.stream(counts).sum();
+    }
+
+    public int countBetween(RmDateTime fromInclusive, RmDateTime toExclusive) {
+        return countBetween(fromInclusive.getUnixMillis(), toExclusive.getUnixMillis());
+    }
+
+    /*
+     * 버킷별 개수 집계 결과, starts[i]는 i번째 버킷의 시작 시간(UTC 기준 에포크 밀리초)
+     */
+    @Getter
+    public static final class Buckets {
+        private final ZoneId zone;
+        private final long[] starts;
+        private final int[] counts;
+
+        private Buckets(ZoneId zone, long[] starts, int[] counts) {
+            this.zone = zone;
+            this.starts = starts;
+            this.counts = counts;
+        }
+
+        public int size() {
+            return starts.length;
+        }
+
+        public RmDateTime getStart(int index) {
+            return RmDateTimeUtil.getDateTimeFrom(zone, starts[index]);
+        }
+    }
+
+    /*
+     * 내부에서만 사용하는 로직
+     */
+    // 구간 번호별로 action을 실행함, 구간이 2개 이상이면 병렬로 실행함
+    private static void forEachChunk(int chunkCount, IntConsumer action) {
+        if (chunkCount == 1) {
+            action.accept(0);
+            return;
+        }
+
+        IntStream.range(0, chunkCount).parallel().forEach(action);
+    }
+
+    private static int chunkCount(int count) {
+        if (count < PARALLEL_THRESHOLD) return 1;
+
+        return Math.min(ForkJoinPool.getCommonPoolParallelism() * 4, count / (PARALLEL_THRESHOLD / 4));
+    }
+
+    private int chunkStart(int chunk, int chunkCount) {
+        return chunkStart(chunk, chunkCount, size);
+    }
+
+    private static int chunkStart(int chunk, int chunkCount, int count) {
+        return (int) ((long) count * chunk / chunkCount);
+    }
+
+    private static int digit(long value, long min, int shift) {
+        return (int) ((value - min) >>> shift) & (RADIX - 1);
+    }
+
+    private int search(long epochMillis, boolean upper) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < epochMillis || (upper && values[mid] == epochMillis)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static long unitSeconds(ChronoUnit unit) {
+        switch (unit) {
+            case SECONDS:
+            case MINUTES:
+            case HOURS:
+            case DAYS:
+            case WEEKS:
+                return unit.getDuration().getSeconds();
+            default:
+                throw new UnsupportedTemporalTypeException("Unit is not supported: " + unit);
+        }
+    }
+
+    private static long truncate(long epochMillis, long unitSeconds, ZoneOffsetTable table) {
+        long localSecond = table.toLocalSecond(Math.floorDiv(epochMillis, 1000));
+
+        long truncated;
+        if (unitSeconds == ChronoUnit.WEEKS.getDuration().getSeconds()) {
+            // 1970-01-01은 목요일이므로 3일을 더해 월요일 기준으로 맞춤
+            long epochDay = Math.floorDiv(localSecond, 86400);
+            truncated = (epochDay - Math.floorMod(epochDay + 3, 7)) * 86400;
+        } else {
+            truncated = localSecond - Math.floorMod(localSecond, unitSeconds);
+        }
+
+        return table.toEpochSecond(truncated) * 1000;
+    }
+
+    private static boolean isSorted(long[] values, int size) {
+        for (int i = 1; i < size; i++) {
+            if (values[i] < values[i - 1]) return false;
+        }
+        return true;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+
+    private void checkSorted() {
+        if (!sorted) throw new IllegalStateException("RmDateTimeArray is not sorted, call sort() first");
+    }
+}
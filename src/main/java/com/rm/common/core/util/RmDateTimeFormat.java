@@ -0,0 +1,444 @@
+package com.rm.common.core.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.ResolverStyle;
+import java.time.format.SignStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalField;
+import java.time.temporal.WeekFields;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.rm.common.core.util.ObjectUtils.getCachedValue;
+import static com.rm.common.core.util.RmDateTimeUtil.*;
+
+/**
+ * 시간 문자열 출력용 포맷 모음
+ *
+ * 임의의 패턴은 DateTimeFormatter를 패턴별로 캐시하여 사용함 (DateTimeFormatter.ofPattern()은 호출마다 패턴을 해석함)
+ * RmDateTimeUtil에 정의된 패턴(ISO_DATE_TIME, YYYYMMDD_* 등)은 숫자를 스레드별 char[]에 바로 기록하는 전용 포맷을 사용하며,
+ * JsonGenerator에 기록할 때는 중간 String을 만들지 않음
+ * 전용 포맷은 1 ~ 9999년만 처리하고, 그 외의 년도는 DateTimeFormatter로 출력하므로 결과는 항상 DateTimeFormatter와 같음
+ *
+ * 문자열 해석용 DateTimeFormatter는 SimpleDateFormat 패턴을 직접 해석해서 만들고 패턴 및 모드별로 캐시함 (getParser() 참고)
+ */
+final class RmDateTimeFormat {
+    // 가장 긴 전용 포맷(yyyy.MM.dd HH:mm:ss.SSSSSS) 길이 + 'Z'
+    private static final int MAX_LENGTH = 27;
+    private static final ThreadLocal<char[]> buffers = ThreadLocal.withInitial(() -> new char[MAX_LENGTH]);
+
+    private static final Map<String, DateTimeFormatter> formatterCache = new ConcurrentHashMap<>();
+    private static final Map<String, DateTimeFormatter> strictParserCache = new ConcurrentHashMap<>();
+    private static final Map<String, DateTimeFormatter> lenientParserCache = new ConcurrentHashMap<>();
+    // 주 단위 필드(Y, w, W)가 있는 strict 모드 해석용 DateTimeFormatter, checkWeekFields()에서 사용함
+    private static final Set<DateTimeFormatter> strictWeekParsers = ConcurrentHashMap.newKeySet();
+    // 2자리 년도의 기준일 (현재로부터 80년 전) 및 기준일을 다시 계산할 시점(다음 해 1월 1일, UTC 기준 에포크 밀리초)
+    private static volatile LocalDate twoDigitYearBase;
+    private static volatile long twoDigitYearExpiry = Long.MIN_VALUE;
+    private static final Set<TemporalField> LENIENT_RESOLVER_FIELDS = new HashSet<>(EnumSet.complementOf(EnumSet.of(ChronoField.DAY_OF_WEEK)));
+    private static final Map<String, RmDateTimeFormat> predefined = new HashMap<>();
+
+    static final RmDateTimeFormat DATE = new RmDateTimeFormat(ISO_DATE, '-', (char) 0, 0, 0);
+    static final RmDateTimeFormat DATE_TIME = new RmDateTimeFormat(ISO_DATE_TIME, '-', 'T', 3, 0);
+
+    static {
+        register(DATE);
+        register(DATE_TIME);
+        register(new RmDateTimeFormat(ISO_TIME, (char) 0, (char) 0, 3, 0));
+        register(new RmDateTimeFormat(YYYYMMDD_DOT, '.', (char) 0, 0, 0));
+        register(new RmDateTimeFormat(YYYYMMDD_SLA, '/', (char) 0, 0, 0));
+        register(new RmDateTimeFormat(YYYYMMDD_DOT_HHMM, '.', ' ', 2, 0));
+        register(new RmDateTimeFormat(YYYYMMDD_HYP_HHMM, '-', ' ', 2, 0));
+        register(new RmDateTimeFormat(YYYYMMDD_DOT_HHMMSS, '.', ' ', 3, 0));
+        register(new RmDateTimeFormat(YYYYMMDD_HYP_HHMMSS, '-', ' ', 3, 0));
+        register(new RmDateTimeFormat(YYYYMMDD_HYP_HHMMSS_SSSSSS, '.', ' ', 3, 6));
+    }
+
+    private final String pattern;
+    private final DateTimeFormatter formatter;
+    // 날짜 구분자, 날짜가 없는 포맷은 0
+    private final char dateSeparator;
+    // 날짜와 시간 사이 구분자, 날짜나 시간이 없는 포맷은 0
+    private final char dateTimeSeparator;
+    // 시간 필드 수 (0: 없음, 2: HH:mm, 3: HH:mm:ss)
+    private final int timeFields;
+    // 초 이하 자릿수 및 해당 자릿수를 얻기 위해 나노초를 나눌 값
+    private final int fractionDigits;
+    private final int fractionDivisor;
+
+    private RmDateTimeFormat(String pattern, char dateSeparator, char dateTimeSeparator, int timeFields, int fractionDigits) {
+        this.pattern = pattern;
+        this.formatter = DateTimeFormatter.ofPattern(pattern);
+        this.dateSeparator = dateSeparator;
+        this.dateTimeSeparator = dateTimeSeparator;
+        this.timeFields = timeFields;
+        this.fractionDigits = fractionDigits;
+        this.fractionDivisor = (int) Math.pow(10, 9 - fractionDigits);
+    }
+
+    private static void register(RmDateTimeFormat format) {
+        predefined.put(format.pattern, format);
+    }
+
+    // 전용 포맷을 사용하는 패턴의 포맷, 없으면 null (테스트에서 사용함)
+    static RmDateTimeFormat getPredefined(String pattern) {
+        return predefined.get(pattern);
+    }
+
+    static Set<String> getPredefinedPatterns() {
+        return Collections.unmodifiableSet(predefined.keySet());
+    }
+
+    // 패턴별로 캐시된 DateTimeFormatter 반환
+    static DateTimeFormatter getFormatter(String pattern) {
+        return getCachedValue(formatterCache, pattern, DateTimeFormatter::ofPattern);
+    }
+
+    /*
+     * 패턴별로 캐시된 해석용 DateTimeFormatter 반환
+     * 패턴 문자는 DateTimeFormatter.ofPattern()이 아닌 SimpleDateFormat과 같은 의미로 해석함
+     *  - y, yy: 정확히 2자리인 년도는 SimpleDateFormat과 같이 현재로부터 80년 전 ~ 20년 후 사이의 년도로 계산함 (그 외 자릿수는 그대로 사용)
+     *  - S: 초 이하 소수가 아닌 밀리초 (ss.S의 "00.5"는 5ms)
+     *  - u: 요일 번호 (1: 월요일 ~ 7: 일요일)
+     *  - z, Z, X: 시간대/오프셋, 해석한 시간은 같은 시점의 요청 시간대 시간으로 변환됨
+     *  - Y, w, W: 기본 로케일의 주 정의(한 주의 시작 요일, 첫 주의 최소 일수)를 사용하는 주 단위 년도, 년/월 중 주 번호
+     *    SimpleDateFormat과 같이 요일(E, u)이 없으면 한 주의 첫 요일로, Y만 있으면 첫 주로 봄 (w는 Y와 함께 쓰면 주 단위 년도의 주 번호, 아니면 년도의 주 번호)
+     *  - F(월 중 몇번째 요일) 및 SimpleDateFormat에 없는 문자는 IllegalArgumentException을 던짐
+     *    (F는 java.time의 lenient 해석이 요일을 하루 앞당겨 계산하여 SimpleDateFormat과 같은 결과를 낼 수 없음)
+     * 모드별 차이
+     *  - strict: 패턴과 정확히 일치해야 하며 (자릿수, 대소문자), 존재하지 않는 날짜(2월 30일 등)는 실패함
+     *  - lenient: SimpleDateFormat과 같이 숫자 자릿수와 대소문자를 가리지 않고, 범위를 넘는 값(13월, 32일 등)은 다음 월/일로 넘김
+     */
+    static DateTimeFormatter getParser(String pattern, boolean strict) {
+        LocalDate base = getTwoDigitYearBase();
+        return getCachedValue(strict ? strictParserCache : lenientParserCache, pattern, key -> createParser(key, strict, base));
+    }
+
+    // 해가 바뀌면 기준일을 다시 계산하고, 이전 기준일로 만든 해석용 DateTimeFormatter를 버림
+    private static LocalDate getTwoDigitYearBase() {
+        long now = RmDateTimeUtil.getClock().millis();
+        if (now < twoDigitYearExpiry) return twoDigitYearBase;
+
+        synchronized (RmDateTimeFormat.class) {
+            if (now >= twoDigitYearExpiry) {
+                LocalDate today = LocalDateTime.ofEpochSecond(Math.floorDiv(now, 1000), 0, ZoneOffset.UTC).toLocalDate();
+                strictParserCache.clear();
+                lenientParserCache.clear();
+                strictWeekParsers.clear();
+                twoDigitYearBase = today.minusYears(80);
+                twoDigitYearExpiry = LocalDate.of(today.getYear() + 1, 1, 1).toEpochDay() * 86400 * 1000;
+            }
+            return twoDigitYearBase;
+        }
+    }
+
+    private static DateTimeFormatter createParser(String pattern, boolean strict, LocalDate twoDigitYearBase) {
+        DateTimeFormatterBuilder builder = new DateTimeFormatterBuilder();
+        if (!strict) builder.parseLenient().parseCaseInsensitive();
+        WeekFields weekFields = WeekFields.of(Locale.getDefault(Locale.Category.FORMAT));
+        boolean weekBased = containsLetter(pattern, "YwW");
+
+        int index = 0;
+        while (index < pattern.length()) {
+            char letter = pattern.charAt(index);
+            int end = index + 1;
+            if (letter == '\'') {
+                end = appendQuoted(builder, pattern, index, strict);
+            } else if (isLetter(letter)) {
+                while (end < pattern.length() && pattern.charAt(end) == letter) end++;
+                int count = end - index;
+                if (!strict && isNumber(letter, count) && end < pattern.length() && isNumber(pattern.charAt(end), countRun(pattern, end))) {
+                    // SimpleDateFormat과 같이 뒤에 숫자 필드가 바로 붙은 숫자 필드(yyyyMMdd의 yyyy, MM 등)는 lenient 모드에서도 패턴 자릿수만큼만 읽음
+                    builder.parseStrict();
+                    appendFixedNumber(builder, pattern, letter, count, twoDigitYearBase, weekFields);
+                    builder.parseLenient();
+                } else {
+                    appendField(builder, pattern, letter, count, twoDigitYearBase, weekFields);
+                }
+            } else {
+                appendLiteral(builder, String.valueOf(letter), strict);
+            }
+            index = end;
+        }
+
+        // 연호(G)가 없으면 SimpleDateFormat과 같이 서기로 봄 (strict 모드에서 년도가 연호 없이 해석되지 않는 것을 막음)
+        if (pattern.indexOf('G') < 0) builder.parseDefaulting(ChronoField.ERA, 1);
+        // 주 단위 필드만 있으면 SimpleDateFormat(Calendar)과 같이 한 주의 첫 요일, 주 단위 년도의 첫 주로 봄
+        if (weekBased && !containsLetter(pattern, "Eu")) builder.parseDefaulting(weekFields.dayOfWeek(), 1);
+        if (containsLetter(pattern, "Y") && !containsLetter(pattern, "w")) builder.parseDefaulting(weekFields.weekOfWeekBasedYear(), 1);
+
+        if (strict) {
+            DateTimeFormatter parser = builder.toFormatter().withResolverStyle(ResolverStyle.STRICT);
+            if (weekBased) strictWeekParsers.add(parser);
+            return parser;
+        }
+
+        // lenient 모드는 SimpleDateFormat과 같이 날짜와 맞지 않는 요일(E, u)을 무시함, 단 주 단위 필드로 날짜를 정할 때는 요일을 사용함
+        Set<TemporalField> resolverFields = LENIENT_RESOLVER_FIELDS;
+        if (weekBased) {
+            resolverFields = new HashSet<>(LENIENT_RESOLVER_FIELDS);
+            resolverFields.add(ChronoField.DAY_OF_WEEK);
+            resolverFields.addAll(Arrays.asList(weekFields.dayOfWeek(), weekFields.weekBasedYear(), weekFields.weekOfWeekBasedYear(),
+                    weekFields.weekOfYear(), weekFields.weekOfMonth()));
+        }
+        return builder.toFormatter().withResolverStyle(ResolverStyle.LENIENT).withResolverFields(resolverFields);
+    }
+
+    /*
+     * strict 모드에서 해석한 주 단위 필드 값이 결과 날짜의 값과 같은지 확인함
+     * java.time은 STRICT 모드에서도 범위를 넘는 주 번호(52주까지 있는 해의 53주 등)를 마지막 주로 맞추지만, SimpleDateFormat(non-lenient)은 실패함
+     */
+    static void checkWeekFields(DateTimeFormatter parser, String input, LocalDate date) {
+        if (!strictWeekParsers.contains(parser)) return;
+
+        TemporalAccessor unresolved = parser.parseUnresolved(input, new ParsePosition(0));
+        WeekFields weekFields = WeekFields.of(parser.getLocale());
+        for (TemporalField field : Arrays.asList(weekFields.weekBasedYear(), weekFields.weekOfWeekBasedYear(), weekFields.weekOfYear(), weekFields.weekOfMonth())) {
+            long value;
+            try {
+                value = unresolved.getLong(field);
+            } catch (DateTimeException e) {
+                // 패턴에 없는 필드
+                continue;
+            }
+            // Calendar의 WEEK_OF_YEAR는 항상 주 단위 년도 기준이므로 Y 없이 쓴 w도 결과 날짜의 주 단위 년도 주 번호와 비교함
+            TemporalField resolved = field == weekFields.weekOfYear() ? weekFields.weekOfWeekBasedYear() : field;
+            if (date.getLong(resolved) != value) throw new DateTimeException("Invalid value for " + field + ": " + value + " (resolved to " + date + ")");
+        }
+    }
+
+    private static boolean containsLetter(String pattern, String letters) {
+        boolean quoted = false;
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '\'') quoted = !quoted;
+            else if (!quoted && letters.indexOf(c) >= 0) return true;
+        }
+        return false;
+    }
+
+    // SimpleDateFormat은 lenient 모드에서도 고정 문자열의 대소문자를 구분하므로 고정 문자열만 대소문자를 구분해서 읽음
+    private static void appendLiteral(DateTimeFormatterBuilder builder, String literal, boolean strict) {
+        if (strict) {
+            builder.appendLiteral(literal);
+        } else {
+            builder.parseCaseSensitive().appendLiteral(literal).parseCaseInsensitive();
+        }
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static int countRun(String pattern, int start) {
+        int end = start + 1;
+        while (end < pattern.length() && pattern.charAt(end) == pattern.charAt(start)) end++;
+        return end - start;
+    }
+
+    private static boolean isNumber(char letter, int count) {
+        switch (letter) {
+            case 'M':
+            case 'L':
+                return count <= 2;
+            case 'y': case 'd': case 'D': case 'u': case 'H': case 'k': case 'K': case 'h': case 'm': case 's': case 'S':
+            case 'Y': case 'w': case 'W':
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    // 정확히 count 자리를 읽는 숫자 필드 (2자리 년도는 기준일로 계산함)
+    private static void appendFixedNumber(DateTimeFormatterBuilder builder, String pattern, char letter, int count, LocalDate twoDigitYearBase, WeekFields weekFields) {
+        if ((letter == 'y' || letter == 'Y') && count == 2) {
+            builder.appendValueReduced(numberField(pattern, letter, weekFields), 2, 2, twoDigitYearBase);
+        } else {
+            builder.appendValue(numberField(pattern, letter, weekFields), count);
+        }
+    }
+
+    private static TemporalField numberField(String pattern, char letter, WeekFields weekFields) {
+        switch (letter) {
+            case 'Y': return weekFields.weekBasedYear();
+            case 'w': return containsLetter(pattern, "Y") ? weekFields.weekOfWeekBasedYear() : weekFields.weekOfYear();
+            case 'W': return weekFields.weekOfMonth();
+            case 'y': return ChronoField.YEAR_OF_ERA;
+            case 'M': case 'L': return ChronoField.MONTH_OF_YEAR;
+            case 'd': return ChronoField.DAY_OF_MONTH;
+            case 'D': return ChronoField.DAY_OF_YEAR;
+            case 'u': return ChronoField.DAY_OF_WEEK;
+            case 'H': return ChronoField.HOUR_OF_DAY;
+            case 'k': return ChronoField.CLOCK_HOUR_OF_DAY;
+            case 'K': return ChronoField.HOUR_OF_AMPM;
+            case 'h': return ChronoField.CLOCK_HOUR_OF_AMPM;
+            case 'm': return ChronoField.MINUTE_OF_HOUR;
+            case 's': return ChronoField.SECOND_OF_MINUTE;
+            case 'S': return ChronoField.MILLI_OF_SECOND;
+            default: throw new IllegalArgumentException("Not a number field: " + letter);
+        }
+    }
+
+    private static void appendField(DateTimeFormatterBuilder builder, String pattern, char letter, int count, LocalDate twoDigitYearBase, WeekFields weekFields) {
+        switch (letter) {
+            case 'y':
+            case 'Y':
+                if (count <= 2) {
+                    builder.appendValueReduced(numberField(pattern, letter, weekFields), 2, count == 2 ? 2 : 9, twoDigitYearBase);
+                } else {
+                    builder.appendValue(numberField(pattern, letter, weekFields), count, 19, SignStyle.NORMAL);
+                }
+                break;
+            case 'M':
+            case 'L':
+                if (count <= 2) {
+                    appendNumber(builder, numberField(pattern, letter, weekFields), count);
+                } else {
+                    builder.appendPattern(count == 3 ? "MMM" : "MMMM");
+                }
+                break;
+            case 'd': case 'D': case 'u': case 'H': case 'k': case 'K': case 'h': case 'm': case 's': case 'S':
+            case 'w': case 'W':
+                appendNumber(builder, numberField(pattern, letter, weekFields), count);
+                break;
+            case 'E': builder.appendPattern(count < 4 ? "EEE" : "EEEE"); break;
+            case 'G': builder.appendPattern(count < 4 ? "G" : "GGGG"); break;
+            case 'a': builder.appendPattern("a"); break;
+            case 'z': builder.appendPattern(count < 4 ? "z" : "zzzz"); break;
+            case 'Z': builder.appendPattern("Z"); break;
+            case 'F':
+                throw new IllegalArgumentException("Invalid pattern '" + pattern + "': day of week in month 'F' is not supported for parsing");
+            case 'X':
+                if (count > 3) throw new IllegalArgumentException("Invalid pattern '" + pattern + "': too many pattern letters: X");
+                builder.appendPattern("XXX".substring(0, count));
+                break;
+            default:
+                throw new IllegalArgumentException("Invalid pattern '" + pattern + "': illegal pattern character '" + letter + "'");
+        }
+    }
+
+    // 1자리 패턴은 자릿수 제한 없음, 그 외에는 strict 모드에서 패턴 자릿수와 같아야 함
+    private static void appendNumber(DateTimeFormatterBuilder builder, TemporalField field, int count) {
+        if (count == 1) {
+            builder.appendValue(field);
+        } else {
+            builder.appendValue(field, count);
+        }
+    }
+
+    // 따옴표로 감싼 문자열을 그대로 추가하고 닫는 따옴표 다음 위치를 반환함 ('' 는 따옴표 문자 하나)
+    private static int appendQuoted(DateTimeFormatterBuilder builder, String pattern, int start, boolean strict) {
+        int index = start + 1;
+        if (index < pattern.length() && pattern.charAt(index) == '\'') {
+            appendLiteral(builder, "'", strict);
+            return index + 1;
+        }
+
+        StringBuilder literal = new StringBuilder();
+        while (true) {
+            if (index >= pattern.length()) throw new IllegalArgumentException("Invalid pattern '" + pattern + "': unterminated quote");
+
+            char c = pattern.charAt(index++);
+            if (c != '\'') {
+                literal.append(c);
+            } else if (index < pattern.length() && pattern.charAt(index) == '\'') {
+                literal.append('\'');
+                index++;
+            } else {
+                break;
+            }
+        }
+        appendLiteral(builder, literal.toString(), strict);
+        return index;
+    }
+
+    static String format(LocalDateTime localDateTime, String pattern) {
+        RmDateTimeFormat format = predefined.get(pattern);
+        if (format == null) return localDateTime.format(getFormatter(pattern));
+
+        return format.format(localDateTime);
+    }
+
+    String format(LocalDateTime localDateTime) {
+        char[] buffer = buffers.get();
+        int length = write(buffer, localDateTime.getYear(), localDateTime.getMonthValue(), localDateTime.getDayOfMonth(),
+                localDateTime.getHour(), localDateTime.getMinute(), localDateTime.getSecond(), localDateTime.getNano());
+
+        return length < 0 ? localDateTime.format(formatter) : new String(buffer, 0, length);
+    }
+
+    // utc일 경우 끝에 'Z'를 붙여서 기록함
+    void writeTo(JsonGenerator generator, LocalDateTime localDateTime, boolean utc) throws IOException {
+        writeTo(generator, localDateTime.getYear(), localDateTime.getMonthValue(), localDateTime.getDayOfMonth(),
+                localDateTime.getHour(), localDateTime.getMinute(), localDateTime.getSecond(), localDateTime.getNano(), utc);
+    }
+
+    void writeTo(JsonGenerator generator, int year, int month, int day, int hour, int minute, int second, int nano, boolean utc) throws IOException {
+        char[] buffer = buffers.get();
+        int length = write(buffer, year, month, day, hour, minute, second, nano);
+        if (length < 0) {
+            String text = LocalDateTime.of(year, month, day, hour, minute, second, nano).format(formatter);
+            generator.writeString(utc ? text + "Z" : text);
+            return;
+        }
+
+        if (utc) buffer[length++] = 'Z';
+        generator.writeString(buffer, 0, length);
+    }
+
+    // 기록한 길이 반환, 전용 포맷으로 처리할 수 없는 년도일 경우 -1 반환
+    private int write(char[] buffer, int year, int month, int day, int hour, int minute, int second, int nano) {
+        int index = 0;
+        if (dateSeparator != 0) {
+            if (year < 1 || year > 9999) return -1;
+
+            index = writeDigits(buffer, index, year, 4);
+            buffer[index++] = dateSeparator;
+            index = writeDigits(buffer, index, month, 2);
+            buffer[index++] = dateSeparator;
+            index = writeDigits(buffer, index, day, 2);
+            if (dateTimeSeparator != 0) buffer[index++] = dateTimeSeparator;
+        }
+
+        if (timeFields > 0) {
+            index = writeDigits(buffer, index, hour, 2);
+            buffer[index++] = ':';
+            index = writeDigits(buffer, index, minute, 2);
+            if (timeFields > 2) {
+                buffer[index++] = ':';
+                index = writeDigits(buffer, index, second, 2);
+            }
+            if (fractionDigits > 0) {
+                buffer[index++] = '.';
+                index = writeDigits(buffer, index, nano / fractionDivisor, fractionDigits);
+            }
+        }
+
+        return index;
+    }
+
+    private static int writeDigits(char[] buffer, int index, int value, int digits) {
+        for (int i = index + digits - 1; i >= index; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return index + digits;
+    }
+}
@@ -0,0 +1,200 @@
+package com.rm.common.core.util;
+
+/**
+ * RmDateTimeUtil의 문자열 시간 해석용 스캐너 (정규 표현식 미사용, 객체 생성 없음)
+ *
+ * 기존 정규 표현식과 같은 입력을 같은 값으로 해석함:
+ *  - 날짜: ^(?<year>\d+)([./-])(?<month>\d{1,2})\2(?<day>\d{1,2})(?:[^\d]|$)
+ *  - 구분자 없는 날짜: ^(?<year>(?:\d*\d{2})?\d{2})(?<month>\d{2})(?<day>\d{2})$ (구분자 있는 날짜가 없을 때만 사용)
+ *  - 시간: (?:^|[^\d])(?<hour>\d{1,2}):(?<minute>\d{1,2})(?::(?<second>\d{1,2})(?:\.(?<nano>\d{1,9}))?)?$
+ * $는 정규 표현식과 같이 문자열 끝 혹은 마지막 줄바꿈 문자 앞을 의미함
+ *
+ * 결과는 long 하나에 담아 반환하며, 찾지 못했을 경우 NO_MATCH를 반환함
+ *  - 날짜: year << 32 | (년도가 "0000"일 경우 ZERO_YEAR) | month << 8 | day
+ *  - 시간: hour << 48 | minute << 40 | second << 32 | nano
+ */
+final class RmDateTimeParser {
+    static final long NO_MATCH = -1;
+    static final long ZERO_YEAR = 1 << 16;
+
+    private RmDateTimeParser() {
+    }
+
+    static long scanDate(String input) {
+        long date = scanSeparatedDate(input);
+        return date != NO_MATCH ? date : scanCompactDate(input);
+    }
+
+    static boolean hasSeparatedDate(String input) {
+        return matchSeparatedDate(input) != NO_MATCH;
+    }
+
+    static int year(long date) {
+        return (int) (date >>> 32);
+    }
+    static int month(long date) {
+        return (int) (date >> 8 & 0xFF);
+    }
+    static int day(long date) {
+        return (int) (date & 0xFF);
+    }
+    static boolean isZeroYear(long date) {
+        return (date & ZERO_YEAR) != 0;
+    }
+
+    static int hour(long time) {
+        return (int) (time >>> 48);
+    }
+    static int minute(long time) {
+        return (int) (time >> 40 & 0xFF);
+    }
+    static int second(long time) {
+        return (int) (time >> 32 & 0xFF);
+    }
+    static int nano(long time) {
+        return (int) time;
+    }
+
+    // 2020-01-23, 2021/02/27, 2002.1.1 ...
+    private static long scanSeparatedDate(String input) {
+        long match = matchSeparatedDate(input);
+        if (match == NO_MATCH) return NO_MATCH;
+
+        int yearEnd = (int) (match >>> 8);
+        int monthEnd = yearEnd + 1 + (int) (match >> 4 & 0xF);
+        int dayEnd = monthEnd + 1 + (int) (match & 0xF);
+        return date(input, 0, yearEnd, parse(input, yearEnd + 1, monthEnd), parse(input, monthEnd + 1, dayEnd));
+    }
+
+    // 값은 읽지 않고 형식만 확인함, yearEnd << 8 | 월 자릿수 << 4 | 일 자릿수 반환
+    private static long matchSeparatedDate(String input) {
+        int length = input.length();
+
+        int yearEnd = skipDigits(input, 0);
+        if (yearEnd == 0 || yearEnd == length) return NO_MATCH;
+
+        char separator = input.charAt(yearEnd);
+        if (separator != '.' && separator != '/' && separator != '-') return NO_MATCH;
+
+        int monthEnd = skipDigits(input, yearEnd + 1);
+        int monthLength = monthEnd - yearEnd - 1;
+        if (monthLength < 1 || monthLength > 2 || monthEnd == length || input.charAt(monthEnd) != separator) return NO_MATCH;
+
+        int dayEnd = skipDigits(input, monthEnd + 1);
+        int dayLength = dayEnd - monthEnd - 1;
+        if (dayLength < 1 || dayLength > 2) return NO_MATCH;
+
+        return (long) yearEnd << 8 | monthLength << 4 | dayLength;
+    }
+
+    // 951103, 19950201 ...
+    private static long scanCompactDate(String input) {
+        int end = skipDigits(input, 0);
+        if (end != endOfInput(input)) return NO_MATCH;
+
+        int yearLength = end - 4;
+        if (yearLength != 2 && yearLength < 4) return NO_MATCH;
+
+        return date(input, 0, yearLength, parse(input, yearLength, yearLength + 2), parse(input, yearLength + 2, end));
+    }
+
+    private static long date(String input, int yearStart, int yearEnd, int month, int day) {
+        int year = parseYear(input, yearStart, yearEnd);
+        boolean zeroYear = yearEnd - yearStart == 4 && year == 0;
+
+        return (long) year << 32 | (zeroYear ? ZERO_YEAR : 0) | month << 8 | day;
+    }
+
+    // 13:00, 9:30:24, 19:27:30.1324
+    static long scanTime(String input) {
+        int end = endOfInput(input);
+
+        int lastStart = skipDigitsBackward(input, end);
+        if (lastStart == end) return NO_MATCH;
+
+        // 시:분:초.나노초, 시:분:초, 시:분 순서로 확인함 (정규 표현식과 같이 더 앞에서 시작하는 형식을 먼저 확인)
+        int secondEnd = lastStart - 1;
+        if (secondEnd > 0 && input.charAt(secondEnd) == '.' && end - lastStart <= 9) {
+            int secondStart = skipDigitsBackward(input, secondEnd);
+            long time = scanHourMinuteSecond(input, secondStart, secondEnd);
+            if (time != NO_MATCH) {
+                int nanoLength = end - lastStart;
+                return time | (long) parse(input, lastStart, end) * POWERS_OF_TEN[9 - nanoLength];
+            }
+        }
+
+        long time = scanHourMinuteSecond(input, lastStart, end);
+        if (time != NO_MATCH) return time;
+
+        return scanHourMinute(input, lastStart, end);
+    }
+
+    private static final int[] POWERS_OF_TEN = {1, 10, 100, 1000, 10000, 100000, 1000000, 10000000, 100000000, 1000000000};
+
+    // secondStart ~ secondEnd가 초일 때, 그 앞의 시:분을 확인함
+    private static long scanHourMinuteSecond(String input, int secondStart, int secondEnd) {
+        int secondLength = secondEnd - secondStart;
+        if (secondLength < 1 || secondLength > 2 || secondStart == 0 || input.charAt(secondStart - 1) != ':') return NO_MATCH;
+
+        long time = scanHourMinute(input, skipDigitsBackward(input, secondStart - 1), secondStart - 1);
+        if (time == NO_MATCH) return NO_MATCH;
+
+        return time | (long) parse(input, secondStart, secondEnd) << 32;
+    }
+
+    // minuteStart ~ minuteEnd가 분일 때, 그 앞의 시를 확인함
+    private static long scanHourMinute(String input, int minuteStart, int minuteEnd) {
+        int minuteLength = minuteEnd - minuteStart;
+        if (minuteLength < 1 || minuteLength > 2 || minuteStart == 0 || input.charAt(minuteStart - 1) != ':') return NO_MATCH;
+
+        int hourEnd = minuteStart - 1;
+        int hourStart = skipDigitsBackward(input, hourEnd);
+        int hourLength = hourEnd - hourStart;
+        if (hourLength < 1 || hourLength > 2) return NO_MATCH;
+
+        return (long) parse(input, hourStart, hourEnd) << 48 | (long) parse(input, minuteStart, minuteEnd) << 40;
+    }
+
+    /*
+     * 내부에서만 사용하는 로직
+     */
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int skipDigits(String input, int index) {
+        int length = input.length();
+        while (index < length && isDigit(input.charAt(index))) index++;
+        return index;
+    }
+
+    private static int skipDigitsBackward(String input, int end) {
+        while (end > 0 && isDigit(input.charAt(end - 1))) end--;
+        return end;
+    }
+
+    // 정규 표현식의 $와 같이 마지막 줄바꿈 문자(CRLF, LF, CR, NEL, LS, PS)는 제외한 끝 위치
+    private static int endOfInput(String input) {
+        int length = input.length();
+        if (length == 0) return 0;
+        if (length >= 2 && input.charAt(length - 2) == '\r' && input.charAt(length - 1) == '\n') return length - 2;
+
+        char last = input.charAt(length - 1);
+        if (last == '\n' || last == '\r' || last == '\u0085' || last == '\u2028' || last == '\u2029') return length - 1;
+        return length;
+    }
+
+    // 9자리 이하 숫자 (범위 검사 없음)
+    private static int parse(String input, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            value = value * 10 + (input.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    // 년도는 자릿수 제한이 없으므로 int 범위를 넘어갈 수 있는 경우 기존과 같이 Integer.parseInt()를 사용함 (NumberFormatException 발생)
+    private static int parseYear(String input, int start, int end) {
+        return end - start <= 9 ? parse(input, start, end) : Integer.parseInt(input.substring(start, end));
+    }
+}
@@ -0,0 +1,99 @@
+package com.rm.common.core.util;
+
+import java.io.Serializable;
+
+/**
+ * 시작 시간 이상, 종료 시간 미만의 시간 구간 [start, end)
+ *
+ * 비교는 UTC 기준 에포크 밀리초로 하므로 시작/종료 시간 및 비교 대상의 시간대가 달라도 됨 (RmDateTime.isBetween()은 시간대가 다르면 예외 발생)
+ * 밀리초 미만은 비교에 사용하지 않음
+ * RmDateTime은 가변 객체이므로 생성 시 및 조회 시 복제본을 사용함
+ *
+ * 여러 구간에 대해 반복 조회할 때는 RmDateTimeRangeIndex를 사용함
+ */
+public final class RmDateTimeRange implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final RmDateTime start;
+    private final RmDateTime end;
+    private final long startMillis;
+    private final long endMillis;
+
+    private RmDateTimeRange(RmDateTime start, RmDateTime end) {
+        this.start = start.clone();
+        this.end = end.clone();
+        this.startMillis = start.getUnixMillis();
+        this.endMillis = end.getUnixMillis();
+
+        if (endMillis < startMillis) {
+            throw new IllegalArgumentException("RmDateTimeRange.of(RmDateTime start, RmDateTime end) - end is before start! start: '" + start + "', end: '" + end + "'");
+        }
+    }
+
+    // start == end인 빈 구간도 만들 수 있으며, 빈 구간은 어떤 시간도 포함하지 않음
+    public static RmDateTimeRange of(RmDateTime start, RmDateTime end) {
+        return new RmDateTimeRange(start, end);
+    }
+
+    public RmDateTime getStart() {
+        return start.clone();
+    }
+
+    public RmDateTime getEnd() {
+        return end.clone();
+    }
+
+    public long getStartMillis() {
+        return startMillis;
+    }
+
+    public long getEndMillis() {
+        return endMillis;
+    }
+
+    public boolean isEmpty() {
+        return startMillis == endMillis;
+    }
+
+    public boolean contains(RmDateTime target) {
+        return contains(target.getUnixMillis());
+    }
+
+    public boolean contains(long epochMillis) {
+        return startMillis <= epochMillis && epochMillis < endMillis;
+    }
+
+    public boolean overlaps(RmDateTimeRange target) {
+        return overlaps(target.startMillis, target.endMillis);
+    }
+
+    // [fromInclusive, toExclusive) 구간과 겹치는지 여부, 어느 한쪽이 빈 구간이면 false
+    public boolean overlaps(long fromInclusive, long toExclusive) {
+        return overlaps(startMillis, endMillis, fromInclusive, toExclusive);
+    }
+
+    static boolean overlaps(long startMillis, long endMillis, long fromInclusive, long toExclusive) {
+        return startMillis < endMillis && fromInclusive < toExclusive && startMillis < toExclusive && fromInclusive < endMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + start + ", " + end + ")";
+    }
+
+    // 같은 시점을 나타내면 시간대가 달라도 같은 구간으로 봄
+    @Override
+    public boolean equals(Object object) {
+        if (object instanceof RmDateTimeRange) {
+            RmDateTimeRange another = (RmDateTimeRange) object;
+            return this.startMillis == another.startMillis && this.endMillis == another.endMillis;
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(startMillis) * 31 + Long.hashCode(endMillis);
+    }
+}
@@ -0,0 +1,247 @@
+package com.rm.common.core.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntToLongFunction;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * 시간 구간(RmDateTimeRange) 목록에 대한 불변 검색 인덱스
+ *
+ * 여러 구간에 대해 RmDateTime.isBetween()을 반복 호출하면 O(구간 수 * 조회 수)이므로,
+ * 구간을 시작 시간 순으로 정렬한 배열 위에 암시적 이진 트리(가운데 원소가 루트)를 두고 하위 트리별 최대 종료 시간을 저장함 (augmented interval tree)
+ *  - containing(t): t를 포함하는 구간, O(log n + 결과 수)
+ *  - overlapping(from, to): [from, to)와 겹치는 구간, O(log n + 결과 수)
+ *  - forEachContaining(sortedProbes, ...): 정렬된 시간 목록을 한번에 처리함, 시작 시간 순으로 구간을 추가하고 종료된 구간을 제거하는 방식으로
+ *    O((구간 수 + 조회 수) * log n + 결과 수)
+ *
+ * 비교는 RmDateTimeRange와 같이 UTC 기준 에포크 밀리초로 하므로 시간대가 달라도 됨
+ * 생성 후 변경되지 않으므로 여러 스레드에서 함께 사용할 수 있음
+ *
+ * 사용 예:
+ *  RmDateTimeRangeIndex<Campaign> index = RmDateTimeRangeIndex.of(campaigns, Campaign::getRange);
+ *  List<Campaign> active = index.containing(event.getTime());
+ */
+public final class RmDateTimeRangeIndex<T> {
+    // 시작 시간, 종료 시간 순으로 정렬된 구간 (빈 구간은 제외함)
+    private final long[] starts;
+    private final long[] ends;
+    private final Object[] values;
+    // maxEnds[mid]: [lo, hi) 하위 트리(mid = (lo + hi) / 2)의 최대 종료 시간
+    private final long[] maxEnds;
+
+    private RmDateTimeRangeIndex(long[] starts, long[] ends, Object[] values) {
+        this.starts = starts;
+        this.ends = ends;
+        this.values = values;
+        this.maxEnds = new long[starts.length];
+        buildMaxEnds(0, starts.length);
+    }
+
+    public static RmDateTimeRangeIndex<RmDateTimeRange> of(Collection<RmDateTimeRange> ranges) {
+        return of(ranges, Function.identity());
+    }
+
+    // values의 각 원소에 대해 rangeOf로 구간을 구하며, 조회 결과로는 원소를 반환함
+    public static <T> RmDateTimeRangeIndex<T> of(Collection<T> values, Function<? super T, RmDateTimeRange> rangeOf) {
+        List<T> sortedValues = new ArrayList<>(values.size());
+        List<RmDateTimeRange> ranges = new ArrayList<>(values.size());
+        for (T value : values) {
+            RmDateTimeRange range = rangeOf.apply(value);
+            if (range.isEmpty()) continue;
+
+            sortedValues.add(value);
+            ranges.add(range);
+        }
+
+        Integer[] order = new Integer[ranges.size()];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, Comparator.<Integer>comparingLong(i -> ranges.get(i).getStartMillis())
+                .thenComparingLong(i -> ranges.get(i).getEndMillis()));
+
+        long[] starts = new long[order.length];
+        long[] ends = new long[order.length];
+        Object[] indexValues = new Object[order.length];
+        for (int i = 0; i < order.length; i++) {
+            RmDateTimeRange range = ranges.get(order[i]);
+            starts[i] = range.getStartMillis();
+            ends[i] = range.getEndMillis();
+            indexValues[i] = sortedValues.get(order[i]);
+        }
+
+        return new RmDateTimeRangeIndex<>(starts, ends, indexValues);
+    }
+
+    // 인덱스에 포함된 구간 수 (빈 구간 제외)
+    public int size() {
+        return starts.length;
+    }
+
+    /*
+     * 단건 조회, 결과는 구간 시작 시간 순
+     */
+    public List<T> containing(RmDateTime target) {
+        return containing(target.getUnixMillis());
+    }
+
+    public List<T> containing(long epochMillis) {
+        List<T> result = new ArrayList<>();
+        forEachContaining(epochMillis, result::add);
+        return result;
+    }
+
+    public void forEachContaining(long epochMillis, Consumer<? super T> action) {
+        search(0, starts.length, epochMillis, epochMillis, action);
+    }
+
+    public int countContaining(long epochMillis) {
+        int[] count = new int[1];
+        forEachContaining(epochMillis, value -> count[0]++);
+        return count[0];
+    }
+
+    public List<T> overlapping(RmDateTimeRange range) {
+        return overlapping(range.getStartMillis(), range.getEndMillis());
+    }
+
+    // [fromInclusive, toExclusive)와 겹치는 구간
+    public List<T> overlapping(long fromInclusive, long toExclusive) {
+        List<T> result = new ArrayList<>();
+        forEachOverlapping(fromInclusive, toExclusive, result::add);
+        return result;
+    }
+
+    public void forEachOverlapping(long fromInclusive, long toExclusive, Consumer<? super T> action) {
+        if (fromInclusive >= toExclusive) return;
+
+        search(0, starts.length, fromInclusive, toExclusive - 1, action);
+    }
+
+    /*
+     * 오름차순으로 정렬된 시간 목록의 일괄 조회
+     * action은 (구간 값, 조회 시간의 위치)로 호출되며, 같은 조회 시간 안에서 구간의 순서는 보장하지 않음
+     * 정렬되지 않은 목록은 IllegalArgumentException(long[]) 또는 IllegalStateException(RmDateTimeArray)을 던짐
+     */
+    public void forEachContaining(long[] sortedProbes, ObjIntConsumer<? super T> action) {
+        sweep(sortedProbes.length, i -> sortedProbes[i], action, null);
+    }
+
+    public void forEachContaining(RmDateTimeArray sortedProbes, ObjIntConsumer<? super T> action) {
+        checkSorted(sortedProbes);
+        sweep(sortedProbes.size(), sortedProbes::getMillis, action, null);
+    }
+
+    // 조회 시간별로 포함하는 구간 수
+    public int[] countContaining(long[] sortedProbes) {
+        int[] counts = new int[sortedProbes.length];
+        sweep(sortedProbes.length, i -> sortedProbes[i], null, counts);
+        return counts;
+    }
+
+    public int[] countContaining(RmDateTimeArray sortedProbes) {
+        checkSorted(sortedProbes);
+        int[] counts = new int[sortedProbes.size()];
+        sweep(sortedProbes.size(), sortedProbes::getMillis, null, counts);
+        return counts;
+    }
+
+    /*
+     * 내부에서만 사용하는 로직
+     */
+    private long buildMaxEnds(int lo, int hi) {
+        if (lo >= hi) return Long.MIN_VALUE;
+
+        int mid = (lo + hi) >>> 1;
+        long max = Math.max(ends[mid], Math.max(buildMaxEnds(lo, mid), buildMaxEnds(mid + 1, hi)));
+        maxEnds[mid] = max;
+        return max;
+    }
+
+    // [lo, hi) 하위 트리에서 시작 시간 <= lastStart 이고 종료 시간 > from 인 구간을 시작 시간 순으로 찾음
+    @SuppressWarnings("unchecked")
+    private void search(int lo, int hi, long from, long lastStart, Consumer<? super T> action) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            // 하위 트리의 모든 구간이 from 이전에 끝남
+            if (maxEnds[mid] <= from) return;
+
+            search(lo, mid, from, lastStart, action);
+            // 오른쪽 하위 트리는 모두 starts[mid] 이후에 시작함
+            if (starts[mid] > lastStart) return;
+
+            if (ends[mid] > from) action.accept((T) values[mid]);
+            lo = mid + 1;
+        }
+    }
+
+    /*
+     * 시작 시간 순으로 구간을 추가하고, 종료 시간 기준 최소 힙으로 끝난 구간을 제거하면서 조회 시간을 순서대로 처리함
+     * action이 있으면 구간별로 호출하고, counts가 있으면 구간 수를 기록함
+     */
+    @SuppressWarnings("unchecked")
+    private void sweep(int probeCount, IntToLongFunction probeAt, ObjIntConsumer<? super T> action, int[] counts) {
+        int[] heap = new int[starts.length];
+        int heapSize = 0;
+        int next = 0;
+        long previous = Long.MIN_VALUE;
+        for (int probe = 0; probe < probeCount; probe++) {
+            long time = probeAt.applyAsLong(probe);
+            if (time < previous) {
+                throw new IllegalArgumentException("RmDateTimeRangeIndex - probes are not sorted! index: " + probe + ", time: " + time + ", previous: " + previous);
+            }
+            previous = time;
+
+            while (next < starts.length && starts[next] <= time) {
+                heapSize = push(heap, heapSize, next++);
+            }
+            while (heapSize > 0 && ends[heap[0]] <= time) {
+                heapSize = pop(heap, heapSize);
+            }
+
+            if (counts != null) counts[probe] = heapSize;
+            if (action != null) {
+                for (int i = 0; i < heapSize; i++) {
+                    action.accept((T) values[heap[i]], probe);
+                }
+            }
+        }
+    }
+
+    private int push(int[] heap, int heapSize, int index) {
+        int child = heapSize;
+        while (child > 0) {
+            int parent = (child - 1) >>> 1;
+            if (ends[heap[parent]] <= ends[index]) break;
+
+            heap[child] = heap[parent];
+            child = parent;
+        }
+        heap[child] = index;
+        return heapSize + 1;
+    }
+
+    private int pop(int[] heap, int heapSize) {
+        int last = heap[--heapSize];
+        int parent = 0;
+        while (true) {
+            int child = parent * 2 + 1;
+            if (child >= heapSize) break;
+            if (child + 1 < heapSize && ends[heap[child + 1]] < ends[heap[child]]) child++;
+            if (ends[last] <= ends[heap[child]]) break;
+
+            heap[parent] = heap[child];
+            parent = child;
+        }
+        heap[parent] = last;
+        return heapSize;
+    }
+
+    private static void checkSorted(RmDateTimeArray probes) {
+        if (!probes.isSorted()) throw new IllegalStateException("RmDateTimeArray is not sorted, call sort() first");
+    }
+}
@@ -14,15 +14,18 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.text.MessageFormat;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.text.ParsePosition;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
 import java.time.temporal.ChronoUnit;
-import java.util.Date;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
+import static java.time.temporal.ChronoField.*;
 import static java.time.temporal.ChronoUnit.DAYS;
 
 /**
@@ -59,6 +62,28 @@ public class RmDateTimeUtil {
 
     public static final String YYYYMMDD_HYP_HHMMSS_SSSSSS = "yyyy.MM.dd HH:mm:ss.SSSSSS"; // Hyphen
 
+    // getNow() 및 날짜가 없는 문자열의 기본 날짜에 사용하는 시계 (RmClock 참고)
+    private static volatile RmClock clock = clockOf(System.getProperty("rm.date.clock", "system"));
+
+    public static RmClock getClock() {
+        return clock;
+    }
+
+    // 클래스 초기화 실패로 RmDateTimeUtil 전체를 쓸 수 없게 되지 않도록, 알 수 없는 이름은 경고 후 시스템 시계를 사용함
+    static RmClock clockOf(String name) {
+        try {
+            return RmClock.of(name);
+        } catch (IllegalArgumentException e) {
+            ErrorLogger.warn(log, "Unknown rm.date.clock '{}', using system clock (available: system, coarse)", name);
+            return RmClock.system();
+        }
+    }
+
+    // null일 경우 시스템 시계로 되돌림 (null을 그대로 두면 이후 모든 getNow()가 NullPointerException을 던짐)
+    public static void setClock(RmClock clock) {
+        RmDateTimeUtil.clock = clock == null ? RmClock.system() : clock;
+    }
+
     /*
      * 시간의 비교 관련 유틸리티 메서드
      */
@@ -89,10 +114,15 @@ public class RmDateTimeUtil {
     public static boolean isSameOnFormat(String pattern, RmDateTime a, RmDateTime b) {
         if (a == null || b == null) return false;
 
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern);
+        DateTimeFormatter formatter = getFormatter(pattern);
         return a.get(formatter).equals(b.get(formatter));
     }
 
+    // 패턴별로 캐시된 DateTimeFormatter 반환 (DateTimeFormatter.ofPattern()은 호출마다 패턴을 해석함)
+    public static DateTimeFormatter getFormatter(String pattern) {
+        return RmDateTimeFormat.getFormatter(pattern);
+    }
+
     public static boolean isSameDate(RmDateTime a, RmDateTime b) {
         return isSameOnFormat(ISO_DATE, a, b);
     }
@@ -100,12 +130,12 @@ public class RmDateTimeUtil {
     public static boolean hasDate(String input) {
         if (input == null) return false;
 
-        return getDatePattern().matcher(input).find();
+        return RmDateTimeParser.hasSeparatedDate(input);
     }
     public static boolean hasTime(String input) {
         if (input == null) return false;
 
-        return getTimePattern().matcher(input).find();
+        return RmDateTimeParser.scanTime(input) != RmDateTimeParser.NO_MATCH;
     }
     public static boolean isDateTime(String input) {
         return hasDate(input) && hasTime(input);
@@ -125,22 +155,60 @@ public class RmDateTimeUtil {
         }
     }
 
+    /*
+     * format(SimpleDateFormat 패턴, 지원 범위는 RmDateTimeFormat.getParser() 참고)에 맞춰 input을 해석함, 해석된 시간은 zone의 시간으로 사용함
+     * 기본은 lenient 모드로, 기존 SimpleDateFormat과 같이 숫자 자릿수를 가리지 않고 범위를 넘는 값은 넘겨서 계산하며 패턴 뒤의 나머지 문자열은 무시함
+     * strict 모드는 input 전체가 패턴과 정확히 일치하고 존재하는 날짜여야 함
+     * 패턴에 없는 필드는 1970-01-01 00:00:00의 값을 사용함
+     * 패턴에 시간대/오프셋(z, Z, X)이 있으면 같은 시점의 zone 기준 시간으로 변환함 (기존에는 JVM 기본 시간대 기준 시간으로 변환됨)
+     */
     public static RmDateTime getDateTimeFrom(ZoneId zone, String input, String format) throws RmCommonException {
-        SimpleDateFormat legacyFormatter = new SimpleDateFormat(format);
-        Date legacyDate;
+        return getDateTimeFrom(zone, input, format, false);
+    }
 
+    public static RmDateTime getDateTimeFrom(ZoneId zone, String input, String format, boolean strict) throws RmCommonException {
+        LocalDateTime localDateTime;
         try {
-            legacyDate = legacyFormatter.parse(input);
-        } catch (ParseException e) {
+            localDateTime = parseLocalDateTime(RmDateTimeFormat.getParser(format, strict), zone, input, strict);
+        } catch (DateTimeException | IllegalArgumentException e) {
             throw new RmCommonException(ErrorType.ERROR_SYSTEM, ServiceStatusCode.ERROR_PARAM_VALIDITY, e);
         }
 
-        LocalDateTime localDateTime = legacyDate.toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime();
-
         RmDateTime.Builder builder = new RmDateTime.Builder();
         return builder.zone(zone).localDateTime(localDateTime).build();
     }
 
+    /*
+     * CSV 컬럼 등 같은 형식의 문자열 목록을 한번에 해석함, 결과는 inputs와 같은 순서이며 null 혹은 빈 문자열은 null로 반환함
+     * 해석에 실패하면 실패한 위치(0부터 시작)와 값을 담은 예외를 던짐
+     */
+    public static List<RmDateTime> getDateTimesFrom(ZoneId zone, Collection<String> inputs, String format, boolean strict) throws RmCommonException {
+        DateTimeFormatter parser;
+        try {
+            parser = RmDateTimeFormat.getParser(format, strict);
+        } catch (IllegalArgumentException e) {
+            throw new RmCommonException(ErrorType.ERROR_SYSTEM, ServiceStatusCode.ERROR_PARAM_VALIDITY, e);
+        }
+        List<RmDateTime> result = new ArrayList<>(inputs.size());
+
+        int index = 0;
+        for (String input : inputs) {
+            if (input == null || input.isEmpty()) {
+                result.add(null);
+            } else {
+                try {
+                    result.add(new RmDateTime.Builder().zone(zone).localDateTime(parseLocalDateTime(parser, zone, input, strict)).build());
+                } catch (DateTimeException e) {
+                    throw new RmCommonException(ErrorType.ERROR_SYSTEM, ServiceStatusCode.ERROR_PARAM_VALIDITY,
+                            MessageFormat.format("Wrong RmDateTime input at index {0}, please check parameter (input text: {1}, format: {2})", index, input, format), e);
+                }
+            }
+            index++;
+        }
+
+        return result;
+    }
+
     public static RmDateTime getDateTimeFrom(ZoneId zone, long epochMillis) {
         Instant instant = Instant.ofEpochMilli(epochMillis);
 
@@ -162,7 +230,7 @@ public class RmDateTimeUtil {
     
     public static RmDateTime getNow(ZoneId zone) {
         RmDateTime.Builder builder = new RmDateTime.Builder();
-        return builder.zone(zone).localDateTime(ZonedDateTime.now(zone).toLocalDateTime()).build();
+        return builder.zone(zone).localDateTime(clock.now(zone)).build();
     }
     public static RmDateTime getNowUTC() {
         return getNow(UTC);
@@ -170,36 +238,17 @@ public class RmDateTimeUtil {
 
     /*
      * 내부에서만 사용하는 로직
-     * 정규 표현식을 이용해 문자열에서 시간과 시간대 관련 패턴을 찾아내거나, 문자열로 시간을 만들어내는 기능 등을 수행함
+     * 문자열에서 날짜와 시간을 찾아내어 시간을 만들어내는 기능 등을 수행함 (형식은 RmDateTimeParser 참고)
      */
-    private static Pattern getDatePattern() {
-        // 정규표현식: 년월일(사이에 구분자 존재) 형태, 각각 year, month, day 캡쳐그룹으로 가져올 수 있음
-        // ex. 2020-01-23, 2021/02/27, 2002.1.1 ...
-        return Pattern.compile("^(?<year>\\d+)([./-])(?<month>\\d{1,2})\\2(?<day>\\d{1,2})(?:[^\\d]|$)");
-    }
-    private static Pattern getSimpleDatePattern() {
-        // 정규표현식: 년월일(사이에 구분자 없음) 형태, 각각 year, month, day 캡쳐그룹으로 가져올 수 있음
-        // ex. 951103, 19950201 ...
-        return Pattern.compile("^(?<year>(?:\\d*\\d{2})?\\d{2})(?<month>\\d{2})(?<day>\\d{2})$");
-    }
-    private static Pattern getTimePattern() {
-        // 정규표현식: 시:분[:초[.나노초]] 형태, 각각 hour, minute, second, nano 캡쳐그룹으로 가져올 수 있음
-        // ex. 13:00, 9:30:24, 19:27:30.1324
-        return Pattern.compile("(?:^|[^\\d])(?<hour>\\d{1,2}):(?<minute>\\d{1,2})(?::(?<second>\\d{1,2})(?:\\.(?<nano>\\d{1,9}))?)?$");
-    }
-
     private static LocalDateTime createLocalDateTime(ZoneId zone, String input) {
         LocalDate date = null;
         boolean hasDate = true;
 
         // 먼저 일반적인 형식 (21-04-26, 2021.06.08 등)의 날짜를 검색
         // 이후 없다면 심플 형식(940826, 19921105 등)의 날짜를 검색
-        Matcher dateMatcher = getDatePattern().matcher(input);
-        if (!dateMatcher.find()) {
-            dateMatcher = getSimpleDatePattern().matcher(input);
-            if (!dateMatcher.find()) {
-                hasDate = false;
-            }
+        long scannedDate = RmDateTimeParser.scanDate(input);
+        if (scannedDate == RmDateTimeParser.NO_MATCH) {
+            hasDate = false;
         }
 
         // 위에서 검색된 날짜가 없다면 날짜가 존재하지 않는다는 뜻, 오늘 날짜로 설정함
@@ -207,13 +256,13 @@ public class RmDateTimeUtil {
             int year;
             // 스트링으로 가져온 날짜가 0000년 (00년은 2000년생을 의미)일 경우 0년이며, 0년에 대한 처리로 넘김
             // 만약 날짜가 5자리 규격이 나오거나 3자리 규격이 나오기 시작해서 000년 혹은 00000년이 생긴다면 이에 대한 처리를 해주길 바람
-            if ("0000".equals(dateMatcher.group("year"))) {
+            if (RmDateTimeParser.isZeroYear(scannedDate)) {
                 // 생일을 기준으로 작성, 생일의 기록 이유가 나이를 기록하기 위함으로 0년일 경우 의미없는 데이터
                 // 따라서 null을 리턴하여 DB에 null이 작성되도록 함, 대신 경고를 날려 의도치 않은 작업일 경우 확인하도록 함
-                log.warn("Input HtDateTime '{}' has zero year! returning 'NULL' (If it's not birthday, please check HtDateTimeUtil.createLocalDateTime())", input);
+                ErrorLogger.warn(log, "Input HtDateTime '{}' has zero year! returning 'NULL' (If it's not birthday, please check HtDateTimeUtil.createLocalDateTime())", input);
                 return null;
             } else {
-                year = Integer.parseInt(dateMatcher.group("year"));
+                year = RmDateTimeParser.year(scannedDate);
                 if (year < 100) {
                     // 로그를 위해 기존 year int값 복사
                     int yearBeforeProcess = year;
@@ -226,17 +275,17 @@ public class RmDateTimeUtil {
                         year += 2000;
                     }
 
-                    log.warn("Input HtDateTime '{}' has 2 digits year! converting year '{}' to '{}' (If it's unexpected, please check HtDateTimeUtil.createLocalDateTime())", input, yearBeforeProcess, year);
+                    ErrorLogger.warn(log, "Input HtDateTime '{}' has 2 digits year! converting year '{}' to '{}' (If it's unexpected, please check HtDateTimeUtil.createLocalDateTime())", input, yearBeforeProcess, year);
                 }
             }
-            int month = Integer.parseInt(dateMatcher.group("month"));
-            int day = Integer.parseInt(dateMatcher.group("day"));
+            int month = RmDateTimeParser.month(scannedDate);
+            int day = RmDateTimeParser.day(scannedDate);
             if (month == 0 || day == 0) {
                 // 생일을 기준으로 작성, 생일의 기록 이유가 나이를 기록하기 위함으로 0월 혹은 0일일 경우 년도만 기록하기 위해
                 // 0월은 1월으로, 0일은 1일로 바꿈, 대신 경고를 날려 의도치 않은 작업일 경우 확인하도록 함
                 if (month == 0) month = 1;
                 if (day == 0) day = 1;
-                log.warn("Input HtDateTime '{}' has zero month or zero day! returning '{}-{}-{}' (If it's not birthday, please check HtDateTimeUtil.createLocalDateTime())", input, year, month, day);
+                ErrorLogger.warn(log, "Input HtDateTime '{}' has zero month or zero day! returning '{}-{}-{}' (If it's not birthday, please check HtDateTimeUtil.createLocalDateTime())", input, year, month, day);
                 date = LocalDate.of(year, 1, 1);
             }
 
@@ -250,34 +299,61 @@ public class RmDateTimeUtil {
                 MessageFormat.format("Wrong HtDateTime input, please check parameter (input text: {0})", input));
 
         // dateString 파라미터에 날짜가 없을 경우 디폴트 값: 이 메서드를 실행한 시간 기준으로 오늘 날짜
-        date = date == null ? LocalDate.now(zone) : date;
+        date = date == null ? clock.now(zone).toLocalDate() : date;
         // dateString 파라미터에 시간이 없을 경우 디폴트 값: 0시 0분 0초
         time = time == null ? LocalTime.of(0, 0, 0, 0) : time;
 
         return LocalDateTime.of(date, time);
     }
 
-    private static LocalTime createLocalTime(String input) {
-        Matcher timeMatcher = getTimePattern().matcher(input);
-        if (!timeMatcher.find()) return null;
+    private static LocalDateTime parseLocalDateTime(DateTimeFormatter parser, ZoneId zone, String input, boolean strict) {
+        TemporalAccessor parsed = strict ? parser.parse(input) : parser.parse(input, new ParsePosition(0));
+
+        // 날짜나 시간 정보가 부족해서 java.time이 LocalDate/LocalTime을 만들지 못한 경우 (yyyyMM, HH:mm, strict 모드의 yyyy 등) 있는 필드만 사용함
+        // lenient 모드에서는 이 경우에도 범위를 넘는 값(13월, 25시 등)을 넘겨서 계산함
+        LocalDate date = parsed.query(TemporalQueries.localDate());
+        if (date == null) {
+            int year = Math.toIntExact(parsed.isSupported(YEAR) ? parsed.getLong(YEAR) : getField(parsed, YEAR_OF_ERA, 1970));
+            long month = getField(parsed, MONTH_OF_YEAR, 1);
+            long day = getField(parsed, DAY_OF_MONTH, 1);
+            date = strict ? LocalDate.of(year, (int) month, (int) day) : LocalDate.of(year, 1, 1).plusMonths(month - 1).plusDays(day - 1);
+            date = date.plus(parsed.query(DateTimeFormatter.parsedExcessDays()));
+        }
+        if (strict) RmDateTimeFormat.checkWeekFields(parser, input, date);
 
-        int hour = Integer.parseInt(timeMatcher.group("hour"));
+        LocalDateTime localDateTime;
+        LocalTime time = parsed.query(TemporalQueries.localTime());
+        if (time != null) {
+            localDateTime = LocalDateTime.of(date, time);
+        } else {
+            // hh를 a(오전/오후) 없이 사용한 경우 SimpleDateFormat과 같이 오전으로 봄
+            long clockHour = getField(parsed, CLOCK_HOUR_OF_AMPM, 0);
+            long hour = parsed.isSupported(HOUR_OF_DAY) ? parsed.getLong(HOUR_OF_DAY) : getField(parsed, HOUR_OF_AMPM, clockHour == 12 ? 0 : clockHour);
+            long minute = getField(parsed, MINUTE_OF_HOUR, 0);
+            long second = getField(parsed, SECOND_OF_MINUTE, 0);
+            long nano = parsed.isSupported(NANO_OF_SECOND) ? parsed.getLong(NANO_OF_SECOND) : getField(parsed, MILLI_OF_SECOND, 0) * 1_000_000;
+            localDateTime = strict
+                    ? LocalDateTime.of(date, LocalTime.of((int) hour, (int) minute, (int) second, (int) nano))
+                    : date.atStartOfDay().plusHours(hour).plusMinutes(minute).plusSeconds(second).plusNanos(nano);
+        }
 
-        int minute = Integer.parseInt(timeMatcher.group("minute"));
+        ZoneId parsedZone = parsed.query(TemporalQueries.zone());
+        return parsedZone == null ? localDateTime : localDateTime.atZone(parsedZone).withZoneSameInstant(zone).toLocalDateTime();
+    }
 
-        int second = 0; // 초 기본값: 0
-        if (timeMatcher.group("second") != null) {
-            second = Integer.parseInt(timeMatcher.group("second"));
-        }
+    private static long getField(TemporalAccessor parsed, ChronoField field, long defaultValue) {
+        return parsed.isSupported(field) ? parsed.getLong(field) : defaultValue;
+    }
 
-        int nano = 0; // 나노초 기본값: 0
-        if (timeMatcher.group("nano") != null) {
-            // 문자열에서 뽑아온 나노초의 나머지 자릿수가 공란일 경우 의도한 값을 적용하려면 자릿수만큼 0을 채워줘야 함
-            // ex. 19:12:07.12가 들어왔을 때 19:12:07.000000012가 아닌 19:12:07.120000000을 의미함
-            int zeroes = (int) Math.pow(10, (9 - timeMatcher.group("nano").length()));
+    private static LocalTime createLocalTime(String input) {
+        long scannedTime = RmDateTimeParser.scanTime(input);
+        if (scannedTime == RmDateTimeParser.NO_MATCH) return null;
 
-            nano = Integer.parseInt(timeMatcher.group("nano"))*zeroes;
-        }
+        // 초 및 나노초 기본값: 0, 나노초는 자릿수만큼 0을 채운 값 (ex. 19:12:07.12는 19:12:07.120000000을 의미함)
+        int hour = RmDateTimeParser.hour(scannedTime);
+        int minute = RmDateTimeParser.minute(scannedTime);
+        int second = RmDateTimeParser.second(scannedTime);
+        int nano = RmDateTimeParser.nano(scannedTime);
 
         if (hour < 0 || hour >= 24 || minute < 0 || minute >= 60 || second < 0 || second >= 60 || nano < 0 || nano >= 1000000000) {
             throw new RmCommonException(ErrorType.ERROR_SYSTEM, ServiceStatusCode.ERROR_PARAM_VALIDITY, "Wrong time(hour="+hour+",minute="+minute+",second="+second+",nano="+nano+"), please check your input");
@@ -286,22 +362,22 @@ public class RmDateTimeUtil {
         }
     }
 
+    static boolean isUtc(ZoneId zone) {
+        return zone instanceof ZoneOffset && ((ZoneOffset) zone).getTotalSeconds() == 0;
+    }
+
     public static class HtDateSerializer extends JsonSerializer<RmDateTime> {
         @Override
         public void serialize(RmDateTime rmDateTime, JsonGenerator generator, SerializerProvider provider) throws IOException {
-            generator.writeString(rmDateTime.get(ISO_DATE));
+            RmDateTimeFormat.DATE.writeTo(generator, rmDateTime.getLocalDateTime(), false);
         }
     }
 
     public static class HtDateTimeSerializer extends JsonSerializer<RmDateTime> {
         @Override
         public void serialize(RmDateTime rmDateTime, JsonGenerator generator, SerializerProvider provider) throws IOException {
-            if (rmDateTime.getZone(rmDateTime).getId().equals("Z")) {
-                generator.writeString(rmDateTime.get(ISO_DATE_TIME) +"Z");
-            }
-            else {
-                generator.writeString(rmDateTime.get(ISO_DATE_TIME));
-            }
+            // 시간대가 UTC(ZoneOffset.UTC, ID "Z")일 경우 끝에 Z를 붙임, 중간 문자열 없이 generator에 바로 기록함
+            RmDateTimeFormat.DATE_TIME.writeTo(generator, rmDateTime.getLocalDateTime(), isUtc(rmDateTime.getZone(rmDateTime)));
         }
     }
 
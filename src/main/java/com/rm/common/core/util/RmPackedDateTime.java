@@ -0,0 +1,463 @@
+package com.rm.common.core.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * RmDateTime과 같은 값(시간대 + 해당 시간대의 시간)을 primitive 필드에 담은 불변 객체
+ *
+ * RmDateTime은 가변 객체이며 연산마다 LocalDateTime(ZonedDateTime)을 새로 만들고, getter는 Integer로 박싱함
+ * RmPackedDateTime은 시간대 기준 시간(LocalDateTime)을 1970-01-01T00:00 기준 마이크로초(long)와 나머지 나노초(short)로, 시간대를 번호(short)로 저장함
+ * 필드 추출, 덧셈/뺄셈, 절삭(truncate), 비교는 객체 생성 없이 정수 연산으로 처리하며, 연산 결과는 새 RmPackedDateTime으로 반환함
+ *
+ * RmDateTime과 동일하게 시간대 기준 시간으로 연산하므로 (addHours 등이 서머타임을 고려하지 않음) 연산 결과가 같음
+ * 시간대 변환(convertTo, getUnixMillis 등)도 ZoneOffsetTable을 사용하여 정수 연산으로 처리함
+ * from(RmDateTime)/toRmDateTime()으로 서로 손실 없이 변환 가능함 (표현 범위는 약 ±29만년)
+ * JSON 형식은 RmDateTime과 같으며, MyBatis에서는 RmPackedDateTimeTypeHandler를 등록해서 사용함
+ *
+ * 시간대 번호는 JVM 내에서만 유효하므로 Java 직렬화 시에는 시간대 ID로 기록함
+ */
+@JsonSerialize(using = RmPackedDateTime.Serializer.class)
+@JsonDeserialize(using = RmPackedDateTime.Deserializer.class)
+public final class RmPackedDateTime implements Serializable, Comparable<RmPackedDateTime> {
+    private static final long serialVersionUID = 1L;
+
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+    private static final long MICROS_PER_MINUTE = 60 * MICROS_PER_SECOND;
+    private static final long MICROS_PER_HOUR = 60 * MICROS_PER_MINUTE;
+    private static final long MICROS_PER_DAY = 24 * MICROS_PER_HOUR;
+    // 0000-03-01부터 1970-01-01까지의 일수
+    private static final int DAYS_0000_TO_1970 = 719468;
+    private static final int DAYS_PER_400_YEARS = 146097;
+
+    private final long localMicros;
+    private final short nanoOfMicro;
+    private final short zoneIndex;
+
+    private RmPackedDateTime(long localMicros, int nanoOfMicro, short zoneIndex) {
+        this.localMicros = localMicros;
+        this.nanoOfMicro = (short) nanoOfMicro;
+        this.zoneIndex = zoneIndex;
+    }
+
+    /*
+     * 생성 메서드, RmDateTime과 동일하게 시간대를 무조건 명시해야 함
+     */
+    public static RmPackedDateTime of(ZoneId zone, LocalDateTime localDateTime) {
+        long days = localDateTime.toLocalDate().toEpochDay();
+        long microOfDay = localDateTime.toLocalTime().toNanoOfDay() / 1000;
+
+        return new RmPackedDateTime(Math.addExact(Math.multiplyExact(days, MICROS_PER_DAY), microOfDay),
+                localDateTime.getNano() % 1000, zoneIndexOf(zone));
+    }
+
+    public static RmPackedDateTime of(ZoneId zone, int year, int month, int day, int hour, int minute, int second) {
+        return of(zone, LocalDateTime.of(year, month, day, hour, minute, second));
+    }
+
+    public static RmPackedDateTime ofEpochMillis(ZoneId zone, long epochMillis) {
+        int offsetSeconds = ZoneOffsetTable.of(zone).getOffsetAtEpochSecond(Math.floorDiv(epochMillis, 1000));
+
+        return new RmPackedDateTime(Math.addExact(Math.multiplyExact(epochMillis, 1000), offsetSeconds * MICROS_PER_SECOND), 0, zoneIndexOf(zone));
+    }
+
+    public static RmPackedDateTime from(RmDateTime rmDateTime) {
+        return of(rmDateTime.getZone(rmDateTime), rmDateTime.getLocalDateTime());
+    }
+
+    public static RmPackedDateTime now(ZoneId zone) {
+        return of(zone, RmDateTimeUtil.getClock().now(zone));
+    }
+
+    public RmDateTime toRmDateTime() {
+        return new RmDateTime.Builder().zone(getZone()).localDateTime(toLocalDateTime()).build();
+    }
+
+    public LocalDateTime toLocalDateTime() {
+        long days = Math.floorDiv(localMicros, MICROS_PER_DAY);
+        long nanoOfDay = Math.floorMod(localMicros, MICROS_PER_DAY) * 1000 + nanoOfMicro;
+
+        return LocalDateTime.of(LocalDate.ofEpochDay(days), LocalTime.ofNanoOfDay(nanoOfDay));
+    }
+
+    /*
+     * 필드 추출 메서드, RmDateTime과 달리 int를 반환함
+     */
+    public ZoneId getZone() {
+        return zones[zoneIndex];
+    }
+
+    public int getYear() {
+        return year(civil(epochDay()));
+    }
+    public int getMonth() {
+        return month(civil(epochDay()));
+    }
+    public int getDay() {
+        return day(civil(epochDay()));
+    }
+
+    public DayOfWeek getDayOfWeek() {
+        // 1970-01-01은 목요일
+        return DayOfWeek.of((int) Math.floorMod(epochDay() + 3, 7) + 1);
+    }
+
+    public int getHour() {
+        return (int) (microOfDay() / MICROS_PER_HOUR);
+    }
+    public int getMinute() {
+        return (int) (microOfDay() / MICROS_PER_MINUTE % 60);
+    }
+    public int getSecond() {
+        return (int) (microOfDay() / MICROS_PER_SECOND % 60);
+    }
+    public int getNano() {
+        return (int) (microOfDay() % MICROS_PER_SECOND) * 1000 + nanoOfMicro;
+    }
+
+    public long getUnixSeconds() {
+        return Math.floorDiv(toEpochMicros(), MICROS_PER_SECOND);
+    }
+    public long getUnixMillis() {
+        return Math.floorDiv(toEpochMicros(), 1000);
+    }
+
+    /*
+     * 시간 연산 메서드, 결과를 새 객체로 반환함
+     * 년/월 덧셈은 LocalDateTime과 동일하게 해당 월의 마지막 날을 넘어가면 마지막 날로 맞춤
+     * 표현 범위를 넘어가면 LocalDateTime과 같이 조용히 넘치지 않고 ArithmeticException을 던짐
+     */
+    public RmPackedDateTime addYears(int amount) {
+        return addMonths((long) amount * 12);
+    }
+    public RmPackedDateTime addMonths(int amount) {
+        return addMonths((long) amount);
+    }
+    public RmPackedDateTime addWeeks(int amount) {
+        return addMicros(Math.multiplyExact(amount, 7 * MICROS_PER_DAY));
+    }
+    public RmPackedDateTime addDays(int amount) {
+        return addMicros(Math.multiplyExact(amount, MICROS_PER_DAY));
+    }
+    public RmPackedDateTime addHours(int amount) {
+        return addMicros(Math.multiplyExact(amount, MICROS_PER_HOUR));
+    }
+    public RmPackedDateTime addMinutes(int amount) {
+        return addMicros(Math.multiplyExact(amount, MICROS_PER_MINUTE));
+    }
+    public RmPackedDateTime addSeconds(int amount) {
+        return addMicros(Math.multiplyExact(amount, MICROS_PER_SECOND));
+    }
+    public RmPackedDateTime addMillis(long amount) {
+        return addMicros(Math.multiplyExact(amount, 1000));
+    }
+
+    public RmPackedDateTime subtractYears(int amount) {
+        return addMonths(-(long) amount * 12);
+    }
+    public RmPackedDateTime subtractMonths(int amount) {
+        return addMonths(-(long) amount);
+    }
+    public RmPackedDateTime subtractWeeks(int amount) {
+        return addMicros(Math.multiplyExact(amount, -7 * MICROS_PER_DAY));
+    }
+    public RmPackedDateTime subtractDays(int amount) {
+        return addMicros(Math.multiplyExact(amount, -MICROS_PER_DAY));
+    }
+    public RmPackedDateTime subtractHours(int amount) {
+        return addMicros(Math.multiplyExact(amount, -MICROS_PER_HOUR));
+    }
+    public RmPackedDateTime subtractMinutes(int amount) {
+        return addMicros(Math.multiplyExact(amount, -MICROS_PER_MINUTE));
+    }
+    public RmPackedDateTime subtractSeconds(int amount) {
+        return addMicros(Math.multiplyExact(amount, -MICROS_PER_SECOND));
+    }
+    public RmPackedDateTime subtractMillis(long amount) {
+        return addMicros(Math.multiplyExact(amount, -1000));
+    }
+
+    /*
+     * unit 미만의 값을 버림, NANOS ~ DAYS 및 MONTHS(1일 0시), YEARS(1월 1일 0시)를 지원함
+     */
+    public RmPackedDateTime truncatedTo(ChronoUnit unit) {
+        switch (unit) {
+            case NANOS:
+                return this;
+            case MICROS:
+                return withLocalMicros(localMicros);
+            case MILLIS:
+                return withLocalMicros(floor(localMicros, 1000));
+            case SECONDS:
+                return withLocalMicros(floor(localMicros, MICROS_PER_SECOND));
+            case MINUTES:
+                return withLocalMicros(floor(localMicros, MICROS_PER_MINUTE));
+            case HOURS:
+                return withLocalMicros(floor(localMicros, MICROS_PER_HOUR));
+            case HALF_DAYS:
+                return withLocalMicros(floor(localMicros, MICROS_PER_DAY / 2));
+            case DAYS:
+                return withLocalMicros(floor(localMicros, MICROS_PER_DAY));
+            case MONTHS:
+                long date = civil(epochDay());
+                return withLocalMicros(epochDay(year(date), month(date), 1) * MICROS_PER_DAY);
+            case YEARS:
+                return withLocalMicros(epochDay(getYear(), 1, 1) * MICROS_PER_DAY);
+            default:
+                throw new UnsupportedTemporalTypeException("Unit is not supported: " + unit);
+        }
+    }
+
+    /*
+     * 시간대 변경 메서드, RmDateTime.convertTo()와 같이 같은 시점의 zoneTo 기준 시간으로 변환함 (서머타임 처리도 같음)
+     */
+    public RmPackedDateTime convertTo(ZoneId zoneTo) {
+        long epochMicros = toEpochMicros();
+        int offsetSeconds = ZoneOffsetTable.of(zoneTo).getOffsetAtEpochSecond(Math.floorDiv(epochMicros, MICROS_PER_SECOND));
+
+        return new RmPackedDateTime(epochMicros + offsetSeconds * MICROS_PER_SECOND, nanoOfMicro, zoneIndexOf(zoneTo));
+    }
+    public RmPackedDateTime changeZone(ZoneId zoneTo) {
+        return new RmPackedDateTime(localMicros, nanoOfMicro, zoneIndexOf(zoneTo));
+    }
+
+    /*
+     * 비교 메서드, RmDateTime과 동일하게 시간대 기준 시간으로 비교하며 isBefore/isAfter는 시간대가 다르면 예외를 던짐
+     */
+    public boolean isEqual(RmPackedDateTime target) {
+        return compareTo(target) == 0;
+    }
+    public boolean isBefore(RmPackedDateTime target) {
+        checkSameZone(target);
+        return compareTo(target) < 0;
+    }
+    public boolean isAfter(RmPackedDateTime target) {
+        checkSameZone(target);
+        return compareTo(target) > 0;
+    }
+    public boolean isBetween(RmPackedDateTime start, RmPackedDateTime end) {
+        return isAfter(start) && isBefore(end);
+    }
+
+    @Override
+    public int compareTo(RmPackedDateTime another) {
+        int result = Long.compare(localMicros, another.localMicros);
+        return result != 0 ? result : Integer.compare(nanoOfMicro, another.nanoOfMicro);
+    }
+
+    public String get(DateTimeFormatter formatter) {
+        return toLocalDateTime().format(formatter);
+    }
+    public String get(String pattern) {
+        return RmDateTimeFormat.format(toLocalDateTime(), pattern);
+    }
+
+    @Override
+    public String toString() {
+        return get(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (!(object instanceof RmPackedDateTime)) return false;
+
+        RmPackedDateTime another = (RmPackedDateTime) object;
+        return localMicros == another.localMicros && nanoOfMicro == another.nanoOfMicro && zoneIndex == another.zoneIndex;
+    }
+    @Override
+    public int hashCode() {
+        return Long.hashCode(localMicros) * 31 + nanoOfMicro;
+    }
+
+    /*
+     * 내부에서만 사용하는 로직
+     */
+    private RmPackedDateTime addMicros(long amount) {
+        return new RmPackedDateTime(Math.addExact(localMicros, amount), nanoOfMicro, zoneIndex);
+    }
+
+    private RmPackedDateTime addMonths(long amount) {
+        long date = civil(epochDay());
+        long months = year(date) * 12L + (month(date) - 1) + amount;
+        int year = Math.toIntExact(Math.floorDiv(months, 12));
+        int month = (int) Math.floorMod(months, 12) + 1;
+        int day = Math.min(day(date), lengthOfMonth(year, month));
+
+        return new RmPackedDateTime(Math.addExact(epochDay(year, month, day) * MICROS_PER_DAY, microOfDay()), nanoOfMicro, zoneIndex);
+    }
+
+    private RmPackedDateTime withLocalMicros(long micros) {
+        return new RmPackedDateTime(micros, 0, zoneIndex);
+    }
+
+    private void checkSameZone(RmPackedDateTime target) {
+        if (zoneIndex != target.zoneIndex) throw new IllegalArgumentException("Can't compare time with different timezone! this.zone: '"+getZone()+"', target.zone: '"+target.getZone()+"'");
+    }
+
+    // 시간대 오프셋을 뺀 UTC 기준 마이크로초
+    private long toEpochMicros() {
+        int offsetSeconds = ZoneOffsetTable.of(getZone()).getOffsetAtLocalSecond(Math.floorDiv(localMicros, MICROS_PER_SECOND));
+
+        return localMicros - offsetSeconds * MICROS_PER_SECOND;
+    }
+
+    private long epochDay() {
+        return Math.floorDiv(localMicros, MICROS_PER_DAY);
+    }
+
+    private long microOfDay() {
+        return Math.floorMod(localMicros, MICROS_PER_DAY);
+    }
+
+    private static long floor(long value, long unit) {
+        return value - Math.floorMod(value, unit);
+    }
+
+    /*
+     * 그레고리력 변환 (3월 1일을 한 해의 시작으로 보고 400년 주기로 계산함)
+     * 연월일은 (year << 9 | month << 5 | day) 형태의 long 하나로 반환하여 객체를 만들지 않음
+     */
+    private static long civil(long epochDay) {
+        long z = epochDay + DAYS_0000_TO_1970;
+        long era = Math.floorDiv(z, DAYS_PER_400_YEARS);
+        long dayOfEra = z - era * DAYS_PER_400_YEARS;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long shiftedMonth = (5 * dayOfYear + 2) / 153;
+        long day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        long month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+        return year << 9 | month << 5 | day;
+    }
+
+    private static int year(long civil) {
+        return (int) (civil >> 9);
+    }
+    private static int month(long civil) {
+        return (int) (civil >> 5 & 0xF);
+    }
+    private static int day(long civil) {
+        return (int) (civil & 0x1F);
+    }
+
+    private static long epochDay(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+
+        return era * DAYS_PER_400_YEARS + dayOfEra - DAYS_0000_TO_1970;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        if (month == 2) return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+        return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+    }
+
+    /*
+     * 시간대 번호 테이블, 처음 사용되는 시간대만 락을 걸고 추가함 (조회는 락 없음)
+     */
+    private static final Map<ZoneId, Short> zoneIndexes = new ConcurrentHashMap<>();
+    private static volatile ZoneId[] zones = new ZoneId[0];
+
+    static {
+        zoneIndexOf(ZoneOffset.UTC);
+    }
+
+    private static short zoneIndexOf(ZoneId zone) {
+        Short index = zoneIndexes.get(zone);
+        if (index != null) return index;
+
+        synchronized (zoneIndexes) {
+            index = zoneIndexes.get(zone);
+            if (index != null) return index;
+            if (zones.length > Short.MAX_VALUE) throw new IllegalStateException("Too many time zones: " + zones.length);
+
+            ZoneId[] newZones = Arrays.copyOf(zones, zones.length + 1);
+            newZones[zones.length] = zone;
+            zones = newZones;
+
+            index = (short) (newZones.length - 1);
+            zoneIndexes.put(zone, index);
+            return index;
+        }
+    }
+
+    /*
+     * Java 직렬화 시 시간대 번호 대신 시간대 ID를 기록함
+     */
+    private Object writeReplace() {
+        return new SerializedForm(localMicros, nanoOfMicro, getZone().getId());
+    }
+
+    private void readObject(ObjectInputStream stream) throws InvalidObjectException {
+        throw new InvalidObjectException("SerializedForm required");
+    }
+
+    private static class SerializedForm implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final long localMicros;
+        private final short nanoOfMicro;
+        private final String zone;
+
+        private SerializedForm(long localMicros, short nanoOfMicro, String zone) {
+            this.localMicros = localMicros;
+            this.nanoOfMicro = nanoOfMicro;
+            this.zone = zone;
+        }
+
+        private Object readResolve() {
+            return new RmPackedDateTime(localMicros, nanoOfMicro, zoneIndexOf(ZoneId.of(zone)));
+        }
+    }
+
+    /*
+     * RmDateTime과 같은 JSON 형식으로 (역)직렬화함, 직렬화는 필드를 generator에 바로 기록함 (RmDateTimeUtil.HtDateTimeSerializer와 같은 결과)
+     */
+    static class Serializer extends JsonSerializer<RmPackedDateTime> {
+        @Override
+        public void serialize(RmPackedDateTime value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            long date = civil(value.epochDay());
+            long microOfDay = value.microOfDay();
+            RmDateTimeFormat.DATE_TIME.writeTo(generator, year(date), month(date), day(date),
+                    (int) (microOfDay / MICROS_PER_HOUR), (int) (microOfDay / MICROS_PER_MINUTE % 60), (int) (microOfDay / MICROS_PER_SECOND % 60),
+                    (int) (microOfDay % MICROS_PER_SECOND) * 1000 + value.nanoOfMicro, RmDateTimeUtil.isUtc(value.getZone()));
+        }
+    }
+
+    static class Deserializer extends JsonDeserializer<RmPackedDateTime> {
+        private final JsonDeserializer<RmDateTime> delegate = new RmDateTimeUtil.HtDateTimeDeserializer();
+
+        @Override
+        public RmPackedDateTime deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            RmDateTime rmDateTime = delegate.deserialize(parser, context);
+            return rmDateTime == null ? null : from(rmDateTime);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.rm.common.core.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+
+import java.io.IOException;
+
+/**
+ * 문자열 값을 StringPool에서 찾아 반환하는 String 역직렬화기
+ *
+ * @JsonStringDedup이 지정된 프로퍼티는 선언된 클래스별 풀을, 그 외에는 ObjectReader 속성(POOL_ATTRIBUTE)으로 넘겨받은 호출별 풀을 사용함
+ * 풀이 없거나 문자열 토큰이 아닐 경우 기본 StringDeserializer와 동일하게 동작함
+ */
+public class StringDedupDeserializer extends StdScalarDeserializer<String> implements ContextualDeserializer {
+    private static final long serialVersionUID = 1L;
+
+    static final Object POOL_ATTRIBUTE = StringPool.class;
+
+    // null일 경우 호출별 풀을 사용함
+    private final StringPool pool;
+
+    public StringDedupDeserializer() {
+        this(null);
+    }
+
+    private StringDedupDeserializer(StringPool pool) {
+        super(String.class);
+        this.pool = pool;
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) {
+        if (property != null && property.getAnnotation(JsonStringDedup.class) != null) {
+            return new StringDedupDeserializer(StringPool.forType(property.getMember().getDeclaringClass()));
+        }
+
+        return this;
+    }
+
+    @Override
+    public String deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_STRING)) {
+            StringPool stringPool = pool != null ? pool : (StringPool) ctxt.getAttribute(POOL_ATTRIBUTE);
+            if (stringPool == null) return p.getText();
+
+            return stringPool.intern(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+        }
+
+        return StringDeserializer.instance.deserialize(p, ctxt);
+    }
+}
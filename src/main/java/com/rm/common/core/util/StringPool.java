@@ -0,0 +1,84 @@
+package com.rm.common.core.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.rm.common.core.util.ObjectUtils.getCachedValue;
+
+/**
+ * 역직렬화 시 반복되는 문자열 값(상태 코드, 국가 코드, languageType 등)을 하나의 인스턴스로 합치기 위한 문자열 풀
+ *
+ * 큰 VO 리스트를 역직렬화하면 같은 값의 String이 원소 수만큼 따로 만들어져 힙에 남게 됨
+ * 풀은 해시 위치별로 문자열 하나만 기억하는 고정 크기 테이블이며, 충돌 시 나중 값으로 덮어씀 (크기가 고정이므로 메모리가 늘어나지 않음)
+ * 파서의 문자 버퍼에서 바로 조회하므로, 풀에 있는 값은 새로운 String을 만들지 않음
+ *
+ * 락 없이 여러 스레드에서 동시에 사용할 수 있음 (String은 불변 객체이므로 테이블 경합 시에도 잘못된 값이 보이지 않음, 중복 제거가 덜 될 뿐임)
+ * MAX_LENGTH보다 긴 문자열은 반복될 가능성이 낮으므로 풀에 넣지 않음
+ */
+public class StringPool {
+    static final int MAX_LENGTH = 64;
+    private static final int DEFAULT_CAPACITY = 4096;
+
+    // @JsonStringDedup 필드가 선언된 클래스별 풀
+    private static final Map<Class<?>, StringPool> typePools = new ConcurrentHashMap<>();
+
+    private final String[] table;
+    private final int mask;
+
+    public StringPool() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    // capacity는 2의 거듭제곱으로 올림 처리됨
+    public StringPool(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+        this.table = new String[size];
+        this.mask = size - 1;
+    }
+
+    static StringPool forType(Class<?> type) {
+        return getCachedValue(typePools, type, key -> new StringPool());
+    }
+
+    public String intern(String value) {
+        if (value == null || value.length() > MAX_LENGTH) return value;
+
+        int index = spread(value.hashCode()) & mask;
+        String pooled = table[index];
+        if (value.equals(pooled)) return pooled;
+
+        table[index] = value;
+        return value;
+    }
+
+    String intern(char[] chars, int offset, int length) {
+        if (length > MAX_LENGTH) return new String(chars, offset, length);
+
+        // String.hashCode()와 같은 방식으로 계산해야 intern(String)과 같은 위치를 사용함
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + chars[i];
+        }
+
+        int index = spread(hash) & mask;
+        String pooled = table[index];
+        if (pooled != null && equals(pooled, chars, offset, length)) return pooled;
+
+        String value = new String(chars, offset, length);
+        table[index] = value;
+        return value;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean equals(String value, char[] chars, int offset, int length) {
+        if (value.length() != length) return false;
+
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) != chars[offset + i]) return false;
+        }
+        return true;
+    }
+}
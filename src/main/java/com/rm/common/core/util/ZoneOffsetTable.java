@@ -0,0 +1,133 @@
+package com.rm.common.core.util;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.rm.common.core.util.ObjectUtils.getCachedValue;
+
+/**
+ * 시간대별 오프셋 전환(서머타임 등) 테이블
+ *
+ * ZoneRules로 오프셋을 구하면 호출마다 Instant/ZonedDateTime 등이 만들어지므로,
+ * 시간대별로 전환 시점과 전환 후 오프셋을 배열로 만들어두고 이진 탐색으로 오프셋(초)을 구함
+ * 고정 오프셋(UTC 등) 및 더 이상 전환이 없는 시간대(KST, CST 등)는 모든 시간에 대해 테이블만으로 처리함
+ * 서머타임이 계속되는 시간대는 END_YEAR까지의 전환만 만들어두고, 그 이후 시간은 ZoneRules로 처리함
+ *
+ * 시간대 기준 시간 -> UTC 변환은 LocalDateTime.atZone()과 같이 처리함
+ *  - 서머타임 시작 등으로 존재하지 않는 시간은 전환 전 오프셋을 사용 (결과적으로 공백만큼 뒤로 밀림)
+ *  - 서머타임 종료 등으로 두번 존재하는 시간은 앞쪽(전환 전) 오프셋을 사용
+ */
+final class ZoneOffsetTable {
+    private static final int END_YEAR = 2100;
+    private static final long END_EPOCH_SECOND = LocalDateTime.of(END_YEAR, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+    // 오프셋은 ±18시간 이내이므로, 시간대 기준 시간이 이 값 이상 남아있으면 테이블 범위 안에 있음
+    private static final long MAX_OFFSET_SECONDS = 18 * 60 * 60;
+
+    private static final Map<ZoneId, ZoneOffsetTable> tables = new ConcurrentHashMap<>();
+
+    private final ZoneRules rules;
+    // 전환 시점 (UTC 초)
+    private final long[] transitions;
+    // 시간대 기준 시간이 이 값 이상이면 전환 후 오프셋을 사용함 (전환 전후 시간대 기준 시간 중 늦은 쪽)
+    private final long[] localThresholds;
+    // offsets[i]: i번째 전환 전까지의 오프셋, offsets[transitions.length]: 마지막 전환 이후의 오프셋
+    private final int[] offsets;
+    // 이 시점(UTC 초) 이후는 테이블로 처리할 수 없음 (이후 전환이 없으면 Long.MAX_VALUE)
+    private final long validUntil;
+
+    private ZoneOffsetTable(ZoneRules rules) {
+        this.rules = rules;
+
+        List<ZoneOffsetTransition> list = new ArrayList<>(rules.getTransitions());
+        boolean hasRules = !rules.getTransitionRules().isEmpty();
+        if (hasRules) {
+            // 과거 전환 목록 이후의 전환을 END_YEAR 전까지 추가함
+            Instant from = list.isEmpty() ? Instant.ofEpochSecond(-END_EPOCH_SECOND) : list.get(list.size() - 1).getInstant();
+            ZoneOffsetTransition transition;
+            while ((transition = rules.nextTransition(from)) != null && transition.toEpochSecond() < END_EPOCH_SECOND) {
+                list.add(transition);
+                from = transition.getInstant();
+            }
+        }
+
+        int size = list.size();
+        transitions = new long[size];
+        localThresholds = new long[size];
+        offsets = new int[size + 1];
+        offsets[0] = size == 0 ? rules.getOffset(Instant.EPOCH).getTotalSeconds() : list.get(0).getOffsetBefore().getTotalSeconds();
+        for (int i = 0; i < size; i++) {
+            ZoneOffsetTransition transition = list.get(i);
+            int before = transition.getOffsetBefore().getTotalSeconds();
+            int after = transition.getOffsetAfter().getTotalSeconds();
+
+            transitions[i] = transition.toEpochSecond();
+            localThresholds[i] = transitions[i] + Math.max(before, after);
+            offsets[i + 1] = after;
+        }
+
+        validUntil = hasRules ? END_EPOCH_SECOND : Long.MAX_VALUE;
+    }
+
+    static ZoneOffsetTable of(ZoneId zone) {
+        return getCachedValue(tables, zone, key -> new ZoneOffsetTable(key.getRules()));
+    }
+
+    // UTC 기준 초(epochSecond)일 때의 오프셋(초)
+    int getOffsetAtEpochSecond(long epochSecond) {
+        if (transitions.length == 0) return offsets[0];
+        if (epochSecond >= validUntil) return rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+
+        return offsets[countLessOrEqual(transitions, epochSecond)];
+    }
+
+    // 시간대 기준 초(LocalDateTime.toEpochSecond(ZoneOffset.UTC))일 때의 오프셋(초), LocalDateTime.atZone()과 같은 오프셋을 선택함
+    int getOffsetAtLocalSecond(long localSecond) {
+        if (transitions.length == 0) return offsets[0];
+        if (validUntil != Long.MAX_VALUE && localSecond >= validUntil - MAX_OFFSET_SECONDS) {
+            return localOffsetFromRules(localSecond);
+        }
+
+        return offsets[countLessOrEqual(localThresholds, localSecond)];
+    }
+
+    // 시간대 기준 시간 -> UTC 기준 초
+    long toEpochSecond(long localSecond) {
+        return localSecond - getOffsetAtLocalSecond(localSecond);
+    }
+
+    // UTC 기준 초 -> 시간대 기준 초
+    long toLocalSecond(long epochSecond) {
+        return epochSecond + getOffsetAtEpochSecond(epochSecond);
+    }
+
+    private int localOffsetFromRules(long localSecond) {
+        LocalDateTime localDateTime = LocalDateTime.ofEpochSecond(localSecond, 0, ZoneOffset.UTC);
+        List<ZoneOffset> validOffsets = rules.getValidOffsets(localDateTime);
+        if (!validOffsets.isEmpty()) return validOffsets.get(0).getTotalSeconds();
+
+        return rules.getTransition(localDateTime).getOffsetBefore().getTotalSeconds();
+    }
+
+    // 정렬된 values 중 value 이하인 값의 수
+    private static int countLessOrEqual(long[] values, long value) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,113 @@
+package com.rm.common.core.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rm.common.core.util.DataFormat;
+import com.rm.common.core.util.JsonUtils;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.web.servlet.context.AnnotationConfigServletWebApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Spring Boot의 MVC 자동 설정과 함께 사용할 때 SMILE/CBOR 요청/응답이 DataFormat의 mapper로 처리되는지 확인
+ * (Boot가 먼저 등록하는 자체 SMILE/CBOR 컨버터가 남아있으면 그 컨버터가 선택됨)
+ */
+class DataFormatWebConfigTest {
+    private static AnnotationConfigServletWebApplicationContext context;
+    private static MockMvc mvc;
+
+    public static class Item {
+        public Long id;
+        public String name;
+    }
+
+    @RestController
+    static class EchoController {
+        @PostMapping("/echo")
+        public Item echo(@RequestBody Item item) {
+            return item;
+        }
+    }
+
+    @BeforeAll
+    static void setUp() {
+        context = new AnnotationConfigServletWebApplicationContext();
+        context.setServletContext(new MockServletContext());
+        context.register(JacksonAutoConfiguration.class, HttpMessageConvertersAutoConfiguration.class, WebMvcAutoConfiguration.class,
+                DataFormatWebConfig.class, EchoController.class);
+        context.refresh();
+        mvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void binaryConvertersUseDataFormatMappers() {
+        List<HttpMessageConverter<?>> converters = context.getBean(RequestMappingHandlerAdapter.class).getMessageConverters();
+
+        assertSame(DataFormat.SMILE.getMapper(), selectMapper(converters, DataFormat.SMILE.getMediaType()));
+        assertSame(DataFormat.CBOR.getMapper(), selectMapper(converters, DataFormat.CBOR.getMediaType()));
+        assertEquals(1, converters.stream().filter(MappingJackson2SmileHttpMessageConverter.class::isInstance).count());
+        assertEquals(1, converters.stream().filter(MappingJackson2CborHttpMessageConverter.class::isInstance).count());
+        // 기본 JSON 응답은 그대로 Boot의 컨버터를 사용함
+        assertNotSame(DataFormat.JSON.getMapper(), selectMapper(converters, MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void responseMatchesJsonUtilsBytes() throws Exception {
+        Item item = new Item();
+        item.id = 7L;
+        item.name = "이름";
+
+        for (DataFormat format : new DataFormat[]{DataFormat.SMILE, DataFormat.CBOR}) {
+            byte[] body = JsonUtils.toBytes(item, format);
+            mvc.perform(post("/echo").contentType(format.getMediaType()).accept(format.getMediaType()).content(body))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(format.getMediaType()))
+                    .andExpect(content().bytes(body));
+        }
+    }
+
+    @Test
+    void requestIsReadWithDataFormatMapperSettings() throws Exception {
+        // DataFormat의 mapper는 알 수 없는 필드에서 실패함 (Boot의 mapper는 무시함)
+        byte[] body = JsonUtils.toBytes(Collections.singletonMap("unknown", 1), DataFormat.SMILE);
+        mvc.perform(post("/echo").contentType(DataFormat.SMILE.getMediaType()).accept(DataFormat.SMILE.getMediaType()).content(body))
+                .andExpect(status().isBadRequest());
+    }
+
+    // MVC와 같이 목록에서 처음으로 mediaType을 쓸 수 있는 컨버터의 mapper
+    private static ObjectMapper selectMapper(List<HttpMessageConverter<?>> converters, MediaType mediaType) {
+        for (HttpMessageConverter<?> converter : converters) {
+            if (converter.canWrite(Item.class, mediaType)) return ((AbstractJackson2HttpMessageConverter) converter).getObjectMapper();
+        }
+
+        return fail("no converter for " + mediaType);
+    }
+}
@@ -0,0 +1,149 @@
+package com.rm.common.core.config;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.SerializerCache;
+import com.rm.common.core.util.DataFormat;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.web.servlet.context.AnnotationConfigServletWebApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * rm.json.warm-up.enabled=true 일 경우 애플리케이션 시작 이벤트에서 컨트롤러의 @RequestBody 타입과 ResponseEntity<List<Vo>>의
+ * List<Vo>, Vo 타입 (역)직렬화기가 JsonUtils의 mapper와 Spring의 ObjectMapper 빈 모두에 만들어지는지 확인
+ * Jackson은 캐시 조회 API를 제공하지 않으므로 ObjectMapper의 루트 역직렬화기 맵과 직렬화기 캐시를 리플렉션으로 확인함
+ */
+class JsonWarmUpConfigTest {
+
+    // 다른 테스트에서 사용하지 않는 타입이어야 warm-up 전후를 비교할 수 있음
+    public static class WarmUpRequest {
+        public Long id;
+        public String name;
+    }
+
+    public static class WarmUpResponse {
+        public Long id;
+        public List<String> tags;
+    }
+
+    @RestController
+    static class WarmUpController {
+        @GetMapping("/warm-up")
+        public ResponseEntity<List<WarmUpResponse>> list() {
+            WarmUpResponse response = new WarmUpResponse();
+            response.id = 1L;
+            response.tags = Collections.singletonList("a");
+            return ResponseEntity.ok(Collections.singletonList(response));
+        }
+
+        @PostMapping("/warm-up")
+        public ResponseEntity<Void> save(@RequestBody WarmUpRequest request) {
+            return ResponseEntity.ok().build();
+        }
+    }
+
+    @Test
+    void controllerBodyTypesAreWarmedInBothMappers() throws Exception {
+        try (AnnotationConfigServletWebApplicationContext context = new AnnotationConfigServletWebApplicationContext()) {
+            context.setServletContext(new MockServletContext());
+            context.getEnvironment().getPropertySources().addFirst(
+                    new MapPropertySource("test", Collections.singletonMap("rm.json.warm-up.enabled", "true")));
+            context.register(JsonWarmUpConfig.class, WarmUpController.class);
+            context.register(JacksonAutoConfiguration.class, HttpMessageConvertersAutoConfiguration.class, WebMvcAutoConfiguration.class);
+            context.refresh();
+
+            ObjectMapper springMapper = context.getBean(ObjectMapper.class);
+            List<ObjectMapper> mappers = Arrays.asList(DataFormat.JSON.getMapper(), springMapper);
+            assertNotSame(DataFormat.JSON.getMapper(), springMapper);
+            for (ObjectMapper mapper : mappers) {
+                assertFalse(isWarm(mapper, WarmUpRequest.class), "before warm-up");
+                assertFalse(isWarm(mapper, WarmUpResponse.class), "before warm-up");
+            }
+
+            context.publishEvent(new ApplicationStartedEvent(new SpringApplication(), new String[0], context));
+
+            for (ObjectMapper mapper : mappers) {
+                JavaType listType = mapper.getTypeFactory().constructCollectionType(List.class, WarmUpResponse.class);
+
+                assertTrue(isWarm(mapper, WarmUpRequest.class));
+                assertTrue(isWarm(mapper, WarmUpResponse.class));
+                assertTrue(rootDeserializers(mapper).containsKey(listType));
+                assertNotNull(serializerCache(mapper).typedValueSerializer(listType));
+            }
+
+            /*
+             * 시작 후 첫 요청은 미리 만든 (역)직렬화기를 그대로 사용함
+             * (값의 실제 클래스(Collections.singletonList 등)의 직렬화기는 선언 타입으로 알 수 없으므로 요청 시 만들어짐)
+             */
+            JavaType responseType = springMapper.constructType(WarmUpResponse.class);
+            Object responseSerializer = serializerCache(springMapper).untypedValueSerializer(responseType);
+            Object requestDeserializer = rootDeserializers(springMapper).get(springMapper.constructType(WarmUpRequest.class));
+            int deserializers = rootDeserializers(springMapper).size();
+            MockMvc mvc = MockMvcBuilders.webAppContextSetup(context).build();
+            String body = mvc.perform(get("/warm-up").accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            mvc.perform(post("/warm-up").contentType(MediaType.APPLICATION_JSON).content("{\"id\":1,\"name\":\"a\"}")).andExpect(status().isOk());
+
+            assertEquals("[{\"id\":1,\"tags\":[\"a\"]}]", body);
+            assertSame(responseSerializer, serializerCache(springMapper).untypedValueSerializer(responseType));
+            assertSame(requestDeserializer, rootDeserializers(springMapper).get(springMapper.constructType(WarmUpRequest.class)));
+            assertEquals(deserializers, rootDeserializers(springMapper).size());
+        }
+    }
+
+    @Test
+    void disabledByDefault() {
+        try (AnnotationConfigServletWebApplicationContext context = new AnnotationConfigServletWebApplicationContext()) {
+            context.setServletContext(new MockServletContext());
+            context.register(JsonWarmUpConfig.class);
+            context.refresh();
+
+            assertTrue(context.getBeansOfType(JsonWarmUpConfig.class).isEmpty());
+        }
+    }
+
+    // 루트 역직렬화기와 (List의 요소로 쓰일 때 찾는) 직렬화기가 모두 만들어져 있는지
+    private static boolean isWarm(ObjectMapper mapper, Class<?> type) throws Exception {
+        JavaType javaType = mapper.constructType(type);
+        return rootDeserializers(mapper).containsKey(javaType) && serializerCache(mapper).untypedValueSerializer(javaType) != null;
+    }
+
+    private static Map<?, ?> rootDeserializers(ObjectMapper mapper) throws Exception {
+        Field field = ObjectMapper.class.getDeclaredField("_rootDeserializers");
+        field.setAccessible(true);
+        return (Map<?, ?>) field.get(mapper);
+    }
+
+    private static SerializerCache serializerCache(ObjectMapper mapper) throws Exception {
+        Field field = SerializerProvider.class.getDeclaredField("_serializerCache");
+        field.setAccessible(true);
+        return (SerializerCache) field.get(mapper.getSerializerProvider());
+    }
+}
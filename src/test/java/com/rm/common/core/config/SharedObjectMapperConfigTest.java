@@ -0,0 +1,50 @@
+package com.rm.common.core.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.rm.common.core.util.DataFormat;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.web.servlet.context.AnnotationConfigServletWebApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * rm.json.shared-mapper=true 일 경우 ObjectMapper 빈과 MVC의 JSON 컨버터가 JsonUtils의 mapper를 그대로 사용하는지,
+ * spring.jackson.* 설정(Boot의 customizer)이 JsonUtils의 mapper를 바꾸지 않는지 확인
+ */
+class SharedObjectMapperConfigTest {
+
+    @Test
+    void beanIsJsonUtilsMapperAndNotCustomizedByBoot() {
+        try (AnnotationConfigServletWebApplicationContext context = new AnnotationConfigServletWebApplicationContext()) {
+            context.setServletContext(new MockServletContext());
+            Map<String, Object> properties = new HashMap<>();
+            properties.put("rm.json.shared-mapper", "true");
+            properties.put("spring.jackson.serialization.indent-output", "true");
+            context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("test", properties));
+            // 자동 설정은 사용자 설정 이후에 처리되므로 같은 순서로 등록함
+            context.register(SharedObjectMapperConfig.class);
+            context.register(JacksonAutoConfiguration.class, HttpMessageConvertersAutoConfiguration.class, WebMvcAutoConfiguration.class);
+            context.refresh();
+
+            assertSame(DataFormat.JSON.getMapper(), context.getBean(ObjectMapper.class));
+            // JSON 요청/응답에는 먼저 등록된 컨버터가 선택됨 (뒤에 남아있는 Spring 기본 컨버터는 사용되지 않음)
+            MappingJackson2HttpMessageConverter converter = context.getBean(RequestMappingHandlerAdapter.class).getMessageConverters().stream()
+                    .filter(MappingJackson2HttpMessageConverter.class::isInstance)
+                    .map(MappingJackson2HttpMessageConverter.class::cast)
+                    .findFirst().orElseThrow(IllegalStateException::new);
+            assertSame(DataFormat.JSON.getMapper(), converter.getObjectMapper());
+            assertFalse(DataFormat.JSON.getMapper().isEnabled(SerializationFeature.INDENT_OUTPUT));
+        }
+    }
+}
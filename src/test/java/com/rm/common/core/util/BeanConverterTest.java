@@ -0,0 +1,327 @@
+package com.rm.common.core.util;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BeanConverter의 결과 및 예외가 mapper.convertValue()와 같은지 확인
+ * 결과는 클래스 및 필드 값까지 재귀적으로 비교함 (Integer/Long 등 숫자 타입 차이도 확인)
+ */
+class BeanConverterTest {
+    private final ObjectMapper mapper = DataFormat.JSON.getMapper();
+    private final BeanConverter converter = new BeanConverter(mapper);
+
+    public enum Status {
+        READY, DONE
+    }
+
+    public static class Child {
+        public Long id;
+        public String value;
+    }
+
+    public static class Item {
+        @JsonProperty("user_id")
+        private Long userId;
+        @JsonAlias({"nm", "userName"})
+        public String name;
+        @JsonIgnore
+        public String password = "unchanged";
+        private int age;
+        public long count;
+        public double ratio;
+        public boolean active;
+        public short level;
+        public Integer boxed;
+        public Long boxedLong;
+        public Double boxedDouble;
+        public BigDecimal amount;
+        public String text;
+        public Object any;
+        public Status status;
+        public Child child;
+        public List<Child> children;
+        public Map<String, Integer> counts;
+        public int[] scores;
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+    }
+
+    // 추상/인터페이스 타입 프로퍼티, getter만 있는 컬렉션, 예외를 던지는 setter
+    public static class Loose {
+        public Number number;
+        public CharSequence chars;
+        public Comparable<?> comparable;
+        private final List<String> names = new ArrayList<>();
+        private String checked;
+
+        public List<String> getNames() {
+            return names;
+        }
+
+        public String getChecked() {
+            return checked;
+        }
+
+        public void setChecked(String checked) {
+            if ("bad".equals(checked)) throw new IllegalStateException("bad value");
+            this.checked = checked;
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Lenient {
+        public Long id;
+        public String name;
+    }
+
+    @JsonIgnoreProperties({"legacy"})
+    public static class Ignoring {
+        public Long id;
+    }
+
+    private static Map<String, Object> map(Object... keyValues) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            map.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        return map;
+    }
+
+    @Test
+    void annotatedPropertiesMatchConvertValue() {
+        assertParity(map("user_id", 7, "name", "a", "age", 3, "count", 4, "ratio", 1, "active", true), Item.class);
+        assertParity(map("nm", "alias"), Item.class);
+        assertParity(map("userName", "alias"), Item.class);
+        // @JsonIgnore 프로퍼티는 값이 있어도 무시됨
+        assertParity(map("password", "changed", "name", "a"), Item.class);
+        assertParity(map("id", 1, "name", "a", "unknown", "x"), Lenient.class);
+        assertParity(map("id", 1, "legacy", "x"), Ignoring.class);
+    }
+
+    @Test
+    void nullIntoPrimitivesMatchesConvertValue() {
+        assertParity(map("age", null, "count", null, "ratio", null, "active", null, "level", null, "boxed", null), Item.class);
+    }
+
+    @Test
+    void numericCoercionMatchesConvertValue() {
+        // Integer -> Long, Long -> int (범위 안/밖), 소수 -> 정수
+        assertParity(map("user_id", 1, "boxedLong", Integer.MAX_VALUE, "count", (short) 3), Item.class);
+        assertParity(map("age", 5L, "boxed", -5L), Item.class);
+        assertParity(map("age", (long) Integer.MAX_VALUE + 1), Item.class);
+        assertParity(map("boxed", Long.MIN_VALUE), Item.class);
+        assertParity(map("boxedDouble", 1, "ratio", 2L), Item.class);
+        assertParity(map("boxedDouble", 1.5f), Item.class);
+        assertParity(map("level", 70000), Item.class);
+        assertParity(map("boxedLong", "123", "text", 5, "any", 5L), Item.class);
+        assertParity(map("boxedLong", "abc"), Item.class);
+    }
+
+    @Test
+    void bigDecimalValuesMatchConvertValue() {
+        // MyBatis는 NUMBER/DECIMAL 컬럼을 BigDecimal로 반환함
+        assertParity(map("user_id", new BigDecimal("10"), "age", new BigDecimal("20"), "amount", new BigDecimal("1.50")), Item.class);
+        assertParity(map("boxedLong", new BigDecimal("10.7"), "boxed", new BigDecimal("-3.2")), Item.class);
+        assertParity(map("ratio", new BigDecimal("0.1"), "boxedDouble", new BigDecimal("123456789.123456789")), Item.class);
+        assertParity(map("age", new BigDecimal("99999999999")), Item.class);
+        assertParity(map("text", new BigDecimal("1.0")), Item.class);
+    }
+
+    @Test
+    void nestedValuesMatchConvertValue() {
+        Map<String, Object> input = map(
+                "child", map("id", 1, "value", "c"),
+                "children", Arrays.asList(map("id", 2), null, map("id", 3L, "value", "d")),
+                "counts", map("a", 1, "b", 2L),
+                "scores", Arrays.asList(1, 2, 3),
+                "status", "DONE",
+                "any", map("x", Arrays.asList(1, "y")));
+
+        assertParity(input, Item.class);
+        assertParity(Arrays.asList(input, map("name", "second")), mapper.getTypeFactory().constructCollectionType(List.class, Item.class));
+        assertParity(map("child", map("id", 1, "unknown", 2)), Item.class);
+        assertParity(map("children", map("id", 1)), Item.class);
+        assertParity(map("status", "UNKNOWN"), Item.class);
+    }
+
+    @Test
+    void untypedValuesMatchConvertValue() {
+        // Object 타입 프로퍼티: Jackson이 그대로 두는 값과 다른 타입으로 바꾸는 값
+        Object[] values = {"s", true, 1, 2L, (short) 3, (byte) 4, 1.5f, 2.5d, new BigDecimal("1.50"), new BigInteger("123456789012345678901234567890"),
+                'c', new Date(0), new Timestamp(0), new int[]{1, 2}, Status.READY, new AtomicLong(3), map("x", 1), Arrays.asList(1, "y")};
+        for (Object value : values) {
+            assertParity(map("any", value), Item.class);
+        }
+    }
+
+    @Test
+    void looselyTypedPropertiesMatchConvertValue() {
+        assertParity(map("number", (byte) 1, "chars", "s", "comparable", 5L), Loose.class);
+        assertParity(map("number", new BigDecimal("1.5"), "checked", "ok"), Loose.class);
+        assertParity(map("names", Arrays.asList("a", "b")), Loose.class);
+        assertParity(map("checked", "bad"), Loose.class);
+    }
+
+    @Test
+    void unknownKeysMatchConvertValue() {
+        assertParity(map("name", "a", "unknown", 1), Item.class);
+        assertParity(map("id", 1, "legacy", "x", "other", 2), Ignoring.class);
+        assertParity(Collections.singletonMap(1, "x"), Lenient.class);
+    }
+
+    @Test
+    void parallelListKeepsOrder() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int i = 0; i < BeanConverter.PARALLEL_THRESHOLD * 4; i++) {
+            rows.add(map("user_id", i, "name", "name-" + i, "amount", new BigDecimal(i), "children", Arrays.asList(map("id", i))));
+        }
+
+        List<Item> expected = mapper.convertValue(rows, mapper.getTypeFactory().constructCollectionType(List.class, Item.class));
+        List<Item> actual = ObjectUtils.toTypeList(rows, Item.class, true);
+
+        assertEquals(rows.size(), actual.size());
+        for (int i = 0; i < actual.size(); i++) {
+            assertEquals(Long.valueOf(i), actual.get(i).userId);
+        }
+        assertDeepEquals(expected, actual, "list");
+        assertDeepEquals(expected, ObjectUtils.toTypeList(rows, Item.class), "list");
+    }
+
+    @Test
+    void existingInstancesAreCopiedLikeConvertValue() {
+        // 원본에 이미 VO, 배열, Date 등 변경 가능한 객체가 들어있어도 convertValue()와 같이 복사본을 만들어 넣음
+        Child child = new Child();
+        child.id = 1L;
+        child.value = "c";
+        Date date = new Date(0);
+        int[] scores = {1, 2};
+        Map<String, Object> input = map("child", child, "children", Arrays.asList(child), "scores", scores, "any", date);
+
+        Item item = ObjectUtils.toType(input, Item.class);
+        assertNotSame(child, item.child);
+        assertNotSame(child, item.children.get(0));
+        assertNotSame(scores, item.scores);
+        assertParity(input, Item.class);
+
+        List<Child> children = ObjectUtils.toTypeList(Arrays.asList(child, child), Child.class);
+        List<Child> parallel = ObjectUtils.toTypeList(Collections.nCopies(BeanConverter.PARALLEL_THRESHOLD, child), Child.class, true);
+        assertNotSame(child, children.get(0));
+        assertNotSame(children.get(0), children.get(1));
+        assertNotSame(child, parallel.get(0));
+        assertNotSame(child, ObjectUtils.toType(child, Child.class));
+
+        // 결과를 수정해도 원본은 그대로임
+        item.child.value = "changed";
+        item.scores[0] = 9;
+        children.get(0).value = "changed";
+        parallel.get(0).id = 9L;
+        assertEquals("c", child.value);
+        assertEquals(Long.valueOf(1), child.id);
+        assertEquals(1, scores[0]);
+    }
+
+    private void assertParity(Object input, Class<?> type) {
+        assertParity(input, mapper.constructType(type));
+    }
+
+    private void assertParity(Object input, JavaType type) {
+        Object expected = null;
+        Object actual = null;
+        RuntimeException expectedError = null;
+        RuntimeException actualError = null;
+        try {
+            expected = mapper.convertValue(input, type);
+        } catch (RuntimeException e) {
+            expectedError = e;
+        }
+        try {
+            actual = converter.convert(input, type);
+        } catch (RuntimeException e) {
+            actualError = e;
+        }
+
+        if (expectedError != null) {
+            assertNotNull(actualError, () -> "convertValue() failed but BeanConverter did not: " + input);
+            assertEquals(expectedError.getClass(), actualError.getClass());
+        } else {
+            assertNull(actualError, () -> "BeanConverter failed but convertValue() did not: " + input);
+            assertDeepEquals(expected, actual, type.toString());
+        }
+    }
+
+    // 클래스 및 값을 재귀적으로 비교함 (VO는 필드 단위로)
+    private static void assertDeepEquals(Object expected, Object actual, String path) {
+        if (expected == null || actual == null) {
+            assertEquals(expected, actual, path);
+            return;
+        }
+
+        assertEquals(expected.getClass(), actual.getClass(), path);
+        Class<?> type = expected.getClass();
+        if (expected instanceof Map) {
+            Map<?, ?> expectedMap = (Map<?, ?>) expected;
+            Map<?, ?> actualMap = (Map<?, ?>) actual;
+            assertEquals(expectedMap.keySet(), actualMap.keySet(), path);
+            for (Map.Entry<?, ?> entry : expectedMap.entrySet()) {
+                assertDeepEquals(entry.getValue(), actualMap.get(entry.getKey()), path + "." + entry.getKey());
+            }
+        } else if (expected instanceof List) {
+            assertEquals(((List<?>) expected).size(), ((List<?>) actual).size(), path);
+            Iterator<?> actualIterator = ((List<?>) actual).iterator();
+            int index = 0;
+            for (Object element : (List<?>) expected) {
+                assertDeepEquals(element, actualIterator.next(), path + "[" + index++ + "]");
+            }
+        } else if (type.isArray()) {
+            assertEquals(Array.getLength(expected), Array.getLength(actual), path);
+            for (int i = 0; i < Array.getLength(expected); i++) {
+                assertDeepEquals(Array.get(expected, i), Array.get(actual, i), path + "[" + i + "]");
+            }
+        } else if (type.getName().startsWith("java.") || type.isEnum()) {
+            assertEquals(expected, actual, path);
+        } else {
+            for (Class<?> current = type; current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) continue;
+
+                    field.setAccessible(true);
+                    try {
+                        assertDeepEquals(field.get(expected), field.get(actual), path + "." + field.getName());
+                    } catch (IllegalAccessException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.rm.common.core.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * toCompactMap()/toCompactMapList()의 결과가 LinkedHashMap으로 받은 결과(toMap() 등)와 같은지 확인
+ * (equals/hashCode, 키 순서, 중복 키, 중첩 객체/배열, 다시 직렬화한 JSON)
+ */
+class CompactMapTest {
+    private static final TypeReference<List<Map<String, Object>>> MAP_LIST_TYPE = new TypeReference<List<Map<String, Object>>>() {};
+
+    @AfterEach
+    void clearShapes() {
+        CompactMap.clearShapes();
+    }
+
+    @Test
+    void rowsMatchLinkedHashMapDecoding() {
+        String json = randomRows(new Random(42), 500);
+
+        List<Map<String, Object>> expected = JsonUtils.toObject(json, MAP_LIST_TYPE);
+        List<Map<String, Object>> actual = JsonUtils.toCompactMapList(json);
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertTrue(actual.get(i) instanceof CompactMap);
+            assertSameMap(expected.get(i), actual.get(i));
+        }
+        assertEquals(JsonUtils.toJson(expected), JsonUtils.toJson(actual));
+    }
+
+    @Test
+    void singleObjectMatchesToMap() {
+        String json = "{\"id\":1,\"name\":\"a\",\"big\":12345678901234567890,\"ratio\":1.5,\"flag\":false,\"none\":null,"
+                + "\"nested\":{\"list\":[1,{\"x\":[]},null,\"s\"],\"empty\":{}},\"arr\":[[1,2],[]]}";
+
+        Map<String, Object> actual = JsonUtils.toCompactMap(json);
+
+        assertSameMap(JsonUtils.toMap(json), actual);
+        assertTrue(actual.get("nested") instanceof CompactMap);
+        assertTrue(actual.get("arr") instanceof ArrayList);
+        assertTrue(actual.containsKey("none"));
+        assertNull(actual.get("missing"));
+        assertThrows(UnsupportedOperationException.class, () -> actual.put("id", 2));
+    }
+
+    @Test
+    void duplicateKeysKeepFirstPositionAndLastValue() {
+        String json = "{\"a\":1,\"b\":2,\"a\":3,\"c\":{\"x\":1,\"x\":2}}";
+
+        Map<String, Object> expected = JsonUtils.toMap(json);
+        Map<String, Object> actual = JsonUtils.toCompactMap(json);
+
+        assertSameMap(expected, actual);
+        assertEquals(3, actual.get("a"));
+    }
+
+    @Test
+    void objectWithTooManyKeysFallsBackToLinkedHashMap() {
+        StringBuilder json = new StringBuilder("{");
+        for (int i = 0; i <= CompactMap.MAX_KEY_COUNT; i++) {
+            if (i > 0) json.append(',');
+            json.append("\"key").append(i).append("\":").append(i);
+        }
+        json.append('}');
+
+        Map<String, Object> actual = JsonUtils.toCompactMap(json.toString());
+
+        assertTrue(actual instanceof LinkedHashMap);
+        assertSameMap(JsonUtils.toMap(json.toString()), actual);
+    }
+
+    @Test
+    void unusedShapesAreEvictedPastShapeLimit() {
+        // 행마다 다른 키를 사용해 Shape 수 제한을 여러번 넘기고, 중간중간 같은 키 구성의 행을 섞음
+        StringBuilder json = new StringBuilder("[");
+        int rowCount = CompactMap.MAX_SHAPE_COUNT * 2;
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) json.append(',');
+            if (i % 100 == 0) {
+                json.append("{\"id\":").append(i).append(",\"name\":\"hot\"}");
+            } else {
+                json.append("{\"a").append(i).append("\":").append(i).append(",\"b").append(i).append("\":\"v\"}");
+            }
+        }
+        json.append(']');
+
+        List<Map<String, Object>> expected = JsonUtils.toObject(json.toString(), MAP_LIST_TYPE);
+        List<Map<String, Object>> actual = JsonUtils.toCompactMapList(json.toString());
+
+        for (int i = 0; i < rowCount; i++) {
+            assertTrue(actual.get(i) instanceof CompactMap, "row " + i);
+            assertSameMap(expected.get(i), actual.get(i));
+        }
+        assertTrue(CompactMap.shapeCount() <= CompactMap.MAX_SHAPE_COUNT);
+
+        // 자주 쓰이는 키 구성은 정리 후에도 같은 Shape를 계속 사용함
+        CompactMap first = (CompactMap) actual.get(0);
+        CompactMap last = (CompactMap) JsonUtils.toCompactMap("{\"id\":0,\"name\":\"hot\"}");
+        assertTrue(first.sharesShapeWith((CompactMap) actual.get((rowCount - 1) / 100 * 100)));
+        assertTrue(first.sharesShapeWith(last));
+    }
+
+    @Test
+    void recentlyUsedShapesOverLimitAreAllDropped() {
+        // 모든 Shape가 두번씩 사용되어 버릴 Shape가 없으면 전체를 비우고 다시 만듦
+        for (int round = 0; round < 3; round++) {
+            StringBuilder json = new StringBuilder("[");
+            for (int i = 0; i < CompactMap.MAX_SHAPE_COUNT; i++) {
+                if (i > 0) json.append(',');
+                json.append("{\"k").append(i).append("\":1},{\"k").append(i).append("\":2}");
+            }
+            json.append(']');
+
+            List<Map<String, Object>> actual = JsonUtils.toCompactMapList(json.toString());
+            assertTrue(actual.stream().allMatch(map -> map instanceof CompactMap));
+            assertEquals(JsonUtils.toObject(json.toString(), MAP_LIST_TYPE), actual);
+            assertTrue(CompactMap.shapeCount() <= CompactMap.MAX_SHAPE_COUNT);
+        }
+    }
+
+    private static void assertSameMap(Map<String, Object> expected, Map<String, Object> actual) {
+        assertEquals(expected, actual);
+        assertEquals(actual, expected);
+        assertEquals(expected.hashCode(), actual.hashCode());
+        assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(actual.keySet()));
+        assertEquals(new ArrayList<>(expected.entrySet()), new ArrayList<>(actual.entrySet()));
+        assertEquals(JsonUtils.toJson(expected), JsonUtils.toJson(actual));
+
+        for (Map.Entry<String, Object> entry : expected.entrySet()) {
+            assertSameValue(entry.getValue(), actual.get(entry.getKey()));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void assertSameValue(Object expected, Object actual) {
+        if (expected instanceof Map) {
+            assertSameMap((Map<String, Object>) expected, (Map<String, Object>) actual);
+        } else if (expected instanceof List) {
+            List<Object> expectedList = (List<Object>) expected;
+            List<Object> actualList = (List<Object>) actual;
+            assertEquals(expectedList.size(), actualList.size());
+            for (int i = 0; i < expectedList.size(); i++) {
+                assertSameValue(expectedList.get(i), actualList.get(i));
+            }
+        } else {
+            assertEquals(expected == null ? null : expected.getClass(), actual == null ? null : actual.getClass());
+            assertEquals(expected, actual);
+        }
+    }
+
+    // 몇 가지 키 구성을 섞은 행 목록, 일부 행은 키 순서가 다르거나 중첩 객체/배열을 가짐
+    private static String randomRows(Random random, int count) {
+        String[][] shapes = {{"id", "name", "amount"}, {"id", "amount", "name"}, {"id", "name", "amount", "extra"}, {"code"}, {}};
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) json.append(',');
+            json.append('{');
+            String[] keys = shapes[random.nextInt(shapes.length)];
+            for (int k = 0; k < keys.length; k++) {
+                if (k > 0) json.append(',');
+                json.append('"').append(keys[k]).append("\":").append(randomValue(random, 0));
+            }
+            json.append('}');
+        }
+        return json.append(']').toString();
+    }
+
+    private static String randomValue(Random random, int depth) {
+        switch (random.nextInt(depth > 1 ? 6 : 8)) {
+            case 0: return String.valueOf(random.nextInt());
+            case 1: return String.valueOf(random.nextLong());
+            case 2: return String.valueOf(random.nextDouble());
+            case 3: return "\"s" + random.nextInt(10) + "\"";
+            case 4: return random.nextBoolean() ? "true" : "null";
+            case 5: return "\"\"";
+            case 6: return "{\"x\":" + randomValue(random, depth + 1) + ",\"y\":[" + randomValue(random, depth + 1) + "]}";
+            default: return "[" + randomValue(random, depth + 1) + "," + randomValue(random, depth + 1) + "]";
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.rm.common.core.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SMILE/CBOR 포맷으로 주고받은 결과가 JSON으로 주고받은 결과와 같은지 확인
+ */
+class DataFormatTest {
+    private static final TypeReference<List<Item>> LIST_TYPE = new TypeReference<List<Item>>() {};
+
+    public static class Item {
+        public Long id;
+        public String name;
+        public double ratio;
+        public BigDecimal amount;
+        public boolean active;
+        public byte[] payload;
+        public RmDateTime createdAt;
+        public List<String> tags;
+        public Map<String, Object> extra;
+    }
+
+    private static List<Item> items() {
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Item item = new Item();
+            item.id = i % 5 == 0 ? null : (long) i * 1_000_000_007L;
+            item.name = i % 3 == 0 ? "이름 " + i : "name-" + i;
+            item.ratio = i / 7.0;
+            item.amount = new BigDecimal("12345.6789").multiply(BigDecimal.valueOf(i));
+            item.active = i % 2 == 0;
+            item.payload = new byte[]{(byte) i, -1, 0};
+            item.createdAt = RmDateTimeUtil.getDateTimeFrom(ZoneId.of("Asia/Seoul"), 1_600_000_000_000L + i * 86_400_123L);
+            item.tags = Arrays.asList("a", "b", String.valueOf(i));
+            item.extra = new LinkedHashMap<>();
+            item.extra.put("nested", Arrays.asList(1, 2.5, "x", null));
+            items.add(item);
+        }
+        return items;
+    }
+
+    @Test
+    void binaryFormatsRoundTripLikeJson() {
+        List<Item> items = items();
+        String expected = JsonUtils.toJson(JsonUtils.toObject(JsonUtils.toJsonBytes(items), LIST_TYPE));
+
+        for (DataFormat format : new DataFormat[]{DataFormat.SMILE, DataFormat.CBOR}) {
+            byte[] bytes = JsonUtils.toBytes(items, format);
+            assertNotEquals(0, bytes.length, format.name());
+
+            assertEquals(expected, JsonUtils.toJson(JsonUtils.toObject(bytes, LIST_TYPE, format)), format.name());
+            assertEquals(expected, JsonUtils.toJson(JsonUtils.toObject(new ByteArrayInputStream(bytes), LIST_TYPE, format)), format.name());
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            JsonUtils.toJson(items, out, format);
+            assertArrayEquals(bytes, out.toByteArray(), format.name());
+        }
+    }
+
+    @Test
+    void binaryFormatsUseOwnEncoding() {
+        byte[] smile = JsonUtils.toBytes(items(), DataFormat.SMILE);
+        byte[] cbor = JsonUtils.toBytes(items(), DataFormat.CBOR);
+
+        // SMILE 헤더 ":)\n"
+        assertArrayEquals(":)\n".getBytes(StandardCharsets.US_ASCII), Arrays.copyOf(smile, 3));
+        assertNotEquals(JsonUtils.toJson(items()).length(), cbor.length);
+        assertEquals("application/x-jackson-smile", DataFormat.SMILE.getMediaType().toString());
+        assertEquals("application/cbor", DataFormat.CBOR.getMediaType().toString());
+    }
+
+    @Test
+    void jsonBytesAreNotReadableAsBinaryFormat() {
+        assertNull(JsonUtils.toObject(JsonUtils.toJsonBytes(items()), LIST_TYPE, DataFormat.SMILE));
+    }
+
+    @Test
+    void newMapperIsSeparateInstanceWithSameConfiguration() {
+        for (DataFormat format : DataFormat.values()) {
+            ObjectMapper mapper = format.newMapper();
+
+            assertNotSame(format.getMapper(), mapper);
+            assertNotSame(format.getMapper().getFactory(), mapper.getFactory());
+            assertEquals(format.getMapper().getFactory().getClass(), mapper.getFactory().getClass());
+            assertEquals(format.getMapper().getSerializationConfig().getSerializationFeatures(), mapper.getSerializationConfig().getSerializationFeatures());
+            assertEquals(format.getMapper().getDeserializationConfig().getDeserializationFeatures(), mapper.getDeserializationConfig().getDeserializationFeatures());
+            assertEquals(format.getMapper().getFactory().getParserFeatures(), mapper.getFactory().getParserFeatures());
+            assertEquals(format.getMapper().getFactory().getGeneratorFeatures(), mapper.getFactory().getGeneratorFeatures());
+            assertEquals(format.getMapper().getRegisteredModuleIds(), mapper.getRegisteredModuleIds());
+
+            // 반환된 mapper의 설정을 바꿔도 포맷의 mapper에는 영향이 없음
+            mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+            assertTrue(format.getMapper().isEnabled(SerializationFeature.FAIL_ON_EMPTY_BEANS));
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.rm.common.core.util;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.rm.common.core.exception.ErrorType;
+import com.rm.common.core.exception.RmCommonException;
+import com.rm.common.core.exception.ServiceStatusCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ErrorLogger가 같은 에러를 처음 한번만 스택 트레이스와 함께 남기고, 이후에는 발생 횟수만 집계해서 남기는지 확인
+ * 백그라운드 스레드의 flush()는 끄고 테스트에서 직접 호출하므로, 집계 로그가 남는 시점이 매번 같음
+ */
+class ErrorLoggerTest {
+    private final List<Logger> loggers = new ArrayList<>();
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        ErrorLogger.reset();
+        ErrorLogger.setBackgroundFlush(false);
+        ErrorLogger.setInterval(1, TimeUnit.HOURS);
+        appender.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (Logger logger : loggers) {
+            logger.detachAppender(appender);
+        }
+        ErrorLogger.setInterval(60, TimeUnit.SECONDS);
+        ErrorLogger.setBackgroundFlush(true);
+        ErrorLogger.reset();
+    }
+
+    @Test
+    void sameErrorIsLoggedOnceWithStackTrace() {
+        Logger log = logger("dedup");
+        for (int i = 0; i < 100; i++) {
+            ErrorLogger.error(log, new IllegalStateException("실패 " + i));
+        }
+
+        assertEquals(1, appender.list.size());
+        ILoggingEvent first = appender.list.get(0);
+        assertEquals(Level.ERROR, first.getLevel());
+        assertEquals("실패 0", first.getFormattedMessage());
+        assertNotNull(first.getThrowableProxy());
+
+        // 예외 클래스나 원인 예외 클래스가 다르면 다른 에러로 구분함
+        ErrorLogger.error(log, new IllegalArgumentException("다른 예외"));
+        ErrorLogger.error(log, new IllegalStateException("원인 있음", new NullPointerException()));
+        assertEquals(3, appender.list.size());
+    }
+
+    @Test
+    void errorCodesAreDistinguished() {
+        Logger log = logger("codes");
+        ErrorLogger.error(log, new RmCommonException(ErrorType.ERROR_SYSTEM, ServiceStatusCode.ERROR_JSON_PARSING, "a"));
+        ErrorLogger.error(log, new RmCommonException(ErrorType.ERROR_SYSTEM, ServiceStatusCode.ERROR_JSON_PARSING, "b"));
+        ErrorLogger.error(log, new RmCommonException(ErrorType.ERROR_SYSTEM, ServiceStatusCode.ERROR_PARAM_VALIDITY, "c"));
+
+        assertEquals(2, appender.list.size());
+    }
+
+    @Test
+    void recurrenceAfterIntervalLogsCount() throws Exception {
+        Logger log = logger("interval");
+        ErrorLogger.setInterval(50, TimeUnit.MILLISECONDS);
+        ErrorLogger.error(log, new IllegalStateException("반복"));
+        for (int i = 0; i < 9; i++) {
+            ErrorLogger.error(log, new IllegalStateException("반복"));
+        }
+
+        Thread.sleep(100);
+        ErrorLogger.error(log, new IllegalStateException("반복"));
+        // interval 안에 남은 횟수가 있으면 함께 출력함
+        Thread.sleep(100);
+        ErrorLogger.flush();
+
+        assertNotNull(appender.list.get(0).getThrowableProxy());
+        List<ILoggingEvent> repeated = repeated();
+        assertEquals(1, repeated.size());
+        assertEquals(10, repeatedCount(repeated));
+        ILoggingEvent event = repeated.get(0);
+        assertNull(event.getThrowableProxy());
+        assertEquals("반복 (repeated 10 times since last logged, possibly from several call sites)", event.getFormattedMessage());
+    }
+
+    @Test
+    void callSitesAreDistinguished() throws Exception {
+        Logger log = logger("sites");
+        for (int i = 0; i < 3; i++) {
+            ErrorLogger.errorAt(log, "toObject", new IllegalStateException("파싱 실패"));
+            ErrorLogger.errorAt(log, "toVoList", new IllegalStateException("파싱 실패"));
+        }
+        ErrorLogger.errorAt(log, "toVoList", new IllegalStateException("파싱 실패"));
+
+        // 위치별로 처음 한번씩 스택 트레이스를 남김
+        assertEquals(2, appender.list.size());
+
+        ErrorLogger.setInterval(1, TimeUnit.MILLISECONDS);
+        Thread.sleep(5);
+        ErrorLogger.flush();
+
+        List<String> messages = repeated().stream().map(ILoggingEvent::getFormattedMessage).sorted().collect(Collectors.toList());
+        assertEquals(Arrays.asList("파싱 실패 (repeated 2 times since last logged, at toObject)", "파싱 실패 (repeated 3 times since last logged, at toVoList)"), messages);
+    }
+
+    @Test
+    void flushEmitsPendingCountsWithoutRecurrence() throws Exception {
+        Logger log = logger("flush");
+        ErrorLogger.error(log, new IllegalStateException("한번 몰림"));
+        ErrorLogger.error(log, new IllegalStateException("한번 몰림"));
+        ErrorLogger.error(log, new IllegalStateException("한번 몰림"));
+        ErrorLogger.warn(log, "경고 {}", 1);
+        ErrorLogger.warn(log, "경고 {}", 2);
+
+        // interval이 지나지 않았으면 출력하지 않음
+        ErrorLogger.flush();
+        assertEquals(2, appender.list.size());
+
+        ErrorLogger.setInterval(1, TimeUnit.MILLISECONDS);
+        Thread.sleep(5);
+        ErrorLogger.flush();
+
+        List<ILoggingEvent> repeated = repeated();
+        assertEquals(3, repeatedCount(repeated));
+        assertTrue(repeated.stream().anyMatch(event -> event.getLevel() == Level.WARN && event.getFormattedMessage().equals("경고 {} (repeated 1 times since last logged)")));
+
+        // 출력한 뒤에는 다시 출력하지 않음
+        int size = appender.list.size();
+        Thread.sleep(5);
+        ErrorLogger.flush();
+        assertEquals(size, appender.list.size());
+    }
+
+    @Test
+    void warningsAreDeduplicatedByFormat() {
+        Logger log = logger("warn");
+        for (int i = 0; i < 10; i++) {
+            ErrorLogger.warn(log, "입력값 '{}' 확인 필요", i);
+        }
+
+        assertEquals(1, appender.list.size());
+        assertEquals(Level.WARN, appender.list.get(0).getLevel());
+        assertEquals("입력값 '0' 확인 필요", appender.list.get(0).getFormattedMessage());
+    }
+
+    @Test
+    void kindsOverLimitShareOneRateLimitedBucket() throws Exception {
+        ((Logger) LoggerFactory.getLogger("overflow.filler")).setLevel(Level.OFF);
+        for (int i = 0; i < ErrorLogger.MAX_FINGERPRINT_COUNT; i++) {
+            ErrorLogger.error(LoggerFactory.getLogger("overflow.filler." + i), new IllegalStateException("채움"));
+        }
+
+        Logger log = logger("overflow");
+        Logger own = logger(ErrorLogger.class.getName());
+        for (int i = 0; i < 1000; i++) {
+            ErrorLogger.error(log, new IllegalStateException("넘침 " + i));
+            ErrorLogger.warn(log, "넘침 경고 " + i);
+        }
+
+        // 처음 한번만 스택 트레이스 없이 남기고 나머지는 공용 항목으로 집계함
+        List<String> messages = appender.list.stream().map(ILoggingEvent::getFormattedMessage).collect(Collectors.toList());
+        assertEquals(1, messages.size(), messages.toString());
+        assertTrue(messages.get(0).startsWith("넘침 0 (java.lang.IllegalStateException, too many kinds of errors"), messages.get(0));
+        assertNull(appender.list.get(0).getThrowableProxy());
+
+        ErrorLogger.setInterval(1, TimeUnit.MILLISECONDS);
+        Thread.sleep(5);
+        ErrorLogger.flush();
+
+        List<ILoggingEvent> repeated = repeated();
+        assertEquals(1999, repeatedCount(repeated));
+        assertTrue(repeated.stream().allMatch(event -> event.getLoggerName().equals(own.getName())));
+    }
+
+    private Logger logger(String name) {
+        Logger logger = (Logger) LoggerFactory.getLogger(name.contains(".") ? name : ErrorLoggerTest.class.getName() + "." + name);
+        logger.addAppender(appender);
+        loggers.add(logger);
+        return logger;
+    }
+
+    private List<ILoggingEvent> repeated() {
+        synchronized (appender.list) {
+            return appender.list.stream().filter(event -> event.getMessage().contains("(repeated {} times")).collect(Collectors.toList());
+        }
+    }
+
+    // 집계 로그의 횟수 인자 합
+    private static long repeatedCount(List<ILoggingEvent> events) {
+        long count = 0;
+        for (ILoggingEvent event : events) {
+            Object[] arguments = event.getArgumentArray();
+            count += ((Number) arguments[arguments.length - (event.getMessage().endsWith("at {})") ? 2 : 1)]).longValue();
+        }
+        return count;
+    }
+}
@@ -0,0 +1,143 @@
+package com.rm.common.core.util;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 생성된 접근자(Afterburner) 사용 여부와 관계없이 (역)직렬화 결과가 같은지 확인
+ */
+class GeneratedAccessorsTest {
+    private static final TypeReference<List<Item>> LIST_TYPE = new TypeReference<List<Item>>() {};
+
+    public static class Item {
+        // public 필드, getter/setter, private 필드 + getter/setter, 기본 타입이 섞인 VO
+        public long id;
+        public Integer count;
+        private String name;
+        private boolean active;
+        private double ratio;
+        private char grade;
+        private short level;
+        private byte flag;
+        private float score;
+        private BigDecimal amount;
+        private RmDateTime createdAt;
+        private List<String> tags;
+        private Map<String, Integer> counts;
+        @JsonProperty("display_name")
+        private String displayName;
+        @JsonIgnore
+        private String secret = "secret";
+        private Child child;
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        public boolean isActive() { return active; }
+        public void setActive(boolean active) { this.active = active; }
+        public double getRatio() { return ratio; }
+        public void setRatio(double ratio) { this.ratio = ratio; }
+        public char getGrade() { return grade; }
+        public void setGrade(char grade) { this.grade = grade; }
+        public short getLevel() { return level; }
+        public void setLevel(short level) { this.level = level; }
+        public byte getFlag() { return flag; }
+        public void setFlag(byte flag) { this.flag = flag; }
+        public float getScore() { return score; }
+        public void setScore(float score) { this.score = score; }
+        public BigDecimal getAmount() { return amount; }
+        public void setAmount(BigDecimal amount) { this.amount = amount; }
+        public RmDateTime getCreatedAt() { return createdAt; }
+        public void setCreatedAt(RmDateTime createdAt) { this.createdAt = createdAt; }
+        public List<String> getTags() { return tags; }
+        public void setTags(List<String> tags) { this.tags = tags; }
+        public Map<String, Integer> getCounts() { return counts; }
+        public void setCounts(Map<String, Integer> counts) { this.counts = counts; }
+        public String getDisplayName() { return displayName; }
+        public void setDisplayName(String displayName) { this.displayName = displayName; }
+        public String getSecret() { return secret; }
+        public void setSecret(String secret) { this.secret = secret; }
+        public Child getChild() { return child; }
+        public void setChild(Child child) { this.child = child; }
+    }
+
+    public static class Child {
+        public int depth;
+        public String value;
+    }
+
+    private static List<Item> items() {
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Item item = new Item();
+            item.id = i;
+            item.count = i % 3 == 0 ? null : i;
+            item.setName("name-" + i);
+            item.setActive(i % 2 == 0);
+            item.setRatio(i / 3.0);
+            item.setGrade((char) ('A' + i));
+            item.setLevel((short) -i);
+            item.setFlag((byte) i);
+            item.setScore(i * 1.5f);
+            item.setAmount(new BigDecimal("1.10").multiply(BigDecimal.valueOf(i)));
+            item.setCreatedAt(RmDateTimeUtil.getDateTimeFrom(ZoneId.of("Asia/Seoul"), 1_600_000_000_000L + i));
+            item.setTags(Arrays.asList("t", String.valueOf(i)));
+            item.setCounts(Collections.singletonMap("k", i));
+            item.setDisplayName("표시 " + i);
+            if (i % 2 == 1) {
+                Child child = new Child();
+                child.depth = i;
+                child.value = "child-" + i;
+                item.setChild(child);
+            }
+            items.add(item);
+        }
+        return items;
+    }
+
+    @Test
+    void jsonOutputIsSameWithAndWithoutGeneratedAccessors() throws Exception {
+        assertSameResults(DataFormat.createMapper(new JsonFactory(), false), DataFormat.createMapper(new JsonFactory(), true));
+    }
+
+    @Test
+    void binaryOutputIsSameWithAndWithoutGeneratedAccessors() throws Exception {
+        assertSameResults(DataFormat.createMapper(new SmileFactory(), false), DataFormat.createMapper(new SmileFactory(), true));
+    }
+
+    @Test
+    void defaultMapperMatchesMapperWithoutGeneratedAccessors() throws Exception {
+        ObjectMapper plain = DataFormat.createMapper(new JsonFactory(), false);
+
+        assertEquals(plain.writeValueAsString(items()), JsonUtils.toJson(items()));
+    }
+
+    private static void assertSameResults(ObjectMapper reflective, ObjectMapper generated) throws Exception {
+        // 두번씩 실행해 접근자가 생성된 이후의 결과도 확인함
+        for (int i = 0; i < 2; i++) {
+            byte[] expected = reflective.writeValueAsBytes(items());
+            assertArrayEquals(expected, generated.writeValueAsBytes(items()));
+
+            List<Item> fromReflective = reflective.readValue(expected, LIST_TYPE);
+            List<Item> fromGenerated = generated.readValue(expected, LIST_TYPE);
+            // RmDateTime은 시간대 없이 출력되어 다시 읽으면 UTC가 되므로, 원본(expected)이 아닌 리플렉션 방식으로 읽은 결과와 비교함
+            assertArrayEquals(reflective.writeValueAsBytes(fromReflective), reflective.writeValueAsBytes(fromGenerated));
+            assertArrayEquals(reflective.writeValueAsBytes(fromReflective), generated.writeValueAsBytes(fromGenerated));
+            assertEquals("secret", fromGenerated.get(0).getSecret());
+        }
+    }
+}
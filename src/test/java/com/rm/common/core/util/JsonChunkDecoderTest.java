@@ -0,0 +1,150 @@
+package com.rm.common.core.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.rm.common.core.exception.RmCommonException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JsonChunkDecoder가 입력을 어느 위치에서 나눠 받더라도 toVoIterator()와 같은 원소를 내보내는지 확인
+ * 모든 바이트 경계에서 두 조각으로 나눠 넣는 경우와 한 바이트씩 넣는 경우를 각각 비교함
+ */
+class JsonChunkDecoderTest {
+
+    public static class Amount {
+        public BigDecimal amount;
+        public double ratio;
+        public Object any;
+        public Map<String, Object> extra;
+    }
+
+    @Test
+    void rootArrayAtEveryBoundary() {
+        assertSameAsIterator("[{\"amount\":1.5,\"ratio\":0.25,\"any\":\"가\"},{\"amount\":null,\"extra\":{\"a\":[1,{\"b\":2}]}}, {} ]", "", Amount.class);
+        assertSameAsIterator("[]", "", Amount.class);
+        assertSameAsIterator("  [ ]  ", "", Amount.class);
+    }
+
+    @Test
+    void nestedArraysAreSingleElements() {
+        assertSameAsIterator("[[1,2],[],[[3,[4]],\"x\"],[{\"a\":[]}]]", "", List.class);
+        assertSameAsIterator("{\"data\":{\"items\":[[[]],[[1]]]}}", "data.items", List.class);
+    }
+
+    @Test
+    void scalarAndObjectTargets() {
+        assertSameAsIterator("42", "", Long.class);
+        assertSameAsIterator("\"문자열\"", "", String.class);
+        assertSameAsIterator("true", "", Boolean.class);
+        assertSameAsIterator("{\"amount\":3.25,\"any\":[1,2]}", "", Amount.class);
+        assertSameAsIterator("{\"data\":{\"value\":7}}", "data.value", Integer.class);
+        assertSameAsIterator("{\"data\":{\"value\":{\"amount\":1}}}", "data.value", Amount.class);
+    }
+
+    @Test
+    void seekSkipsSiblingsAndStopsAtEndArray() {
+        // 대상 앞뒤의 형제 값, 같은 이름의 필드가 다른 경로에 있는 경우, 대상 배열이 끝난 뒤의 값은 모두 무시함
+        String json = "{\"items\":[{\"amount\":-1}],\"data\":{\"skip\":[{\"items\":[9]},[[\"]\"]]],\"items\":[{\"amount\":1},{\"amount\":2}],"
+                + "\"after\":[{\"amount\":3}]},\"items2\":[{\"amount\":4}]}";
+
+        assertSameAsIterator(json, "data.items", Amount.class);
+        assertEquals(2, decode(json, "data.items", Amount.class, json.length()).size());
+    }
+
+    @Test
+    void missingOrNullTargets() {
+        assertSameAsIterator("{\"data\":{\"other\":[1]}}", "data.items", Long.class);
+        assertSameAsIterator("{\"data\":{\"items\":null}}", "data.items", Long.class);
+        assertSameAsIterator("{\"data\":[1,2]}", "data.items", Long.class);
+        assertSameAsIterator("[1,2]", "data", Long.class);
+        assertSameAsIterator("null", "", Long.class);
+    }
+
+    @Test
+    void decimalsKeepPrecision() {
+        String json = "[{\"amount\":0.1000000000000000055511151231257827,\"ratio\":0.1,\"any\":1.5,\"extra\":{\"big\":1e400,\"n\":12345678901234567890}},"
+                + "{\"amount\":123456789012345678901234567890.123456789,\"ratio\":-2.5e-3,\"any\":{\"x\":0.3}}]";
+        assertSameAsIterator(json, "", Amount.class);
+
+        List<Amount> amounts = decode(json, "", Amount.class, 7);
+        assertEquals(new BigDecimal("0.1000000000000000055511151231257827"), amounts.get(0).amount);
+        assertEquals(new BigDecimal("123456789012345678901234567890.123456789"), amounts.get(1).amount);
+        // 타입이 정해지지 않은 값은 기존과 같이 Double
+        assertEquals(Double.class, amounts.get(0).any.getClass());
+        assertEquals(Double.valueOf(Double.POSITIVE_INFINITY), amounts.get(0).extra.get("big"));
+
+        List<BigDecimal> decimals = decode("[0.1000000000000000055511151231257827, 1, -0.0]", "", BigDecimal.class, 3);
+        assertEquals(Arrays.asList(new BigDecimal("0.1000000000000000055511151231257827"), BigDecimal.ONE, new BigDecimal("-0.0")), decimals);
+    }
+
+    @Test
+    void directByteBufferAndTypeReference() {
+        byte[] json = "{\"data\":[{\"a\":[1]},{\"b\":null}]}".getBytes(StandardCharsets.UTF_8);
+        List<Map<String, Object>> values = new ArrayList<>();
+        JsonChunkDecoder<Map<String, Object>> decoder = JsonUtils.toVoDecoder("data", new TypeReference<Map<String, Object>>() {}, values::add);
+
+        for (int i = 0; i < json.length; i += 5) {
+            ByteBuffer chunk = ByteBuffer.allocateDirect(Math.min(5, json.length - i));
+            chunk.put(json, i, chunk.capacity()).flip();
+            decoder.feed(chunk);
+            assertFalse(chunk.hasRemaining());
+        }
+        decoder.complete();
+
+        assertEquals(Arrays.asList(Collections.singletonMap("a", Collections.singletonList(1)), Collections.singletonMap("b", null)), values);
+    }
+
+    @Test
+    void truncatedOrBrokenInputThrows() {
+        JsonChunkDecoder<Long> truncated = JsonUtils.toVoDecoder("", Long.class, value -> { });
+        truncated.feed("[1,2".getBytes(StandardCharsets.UTF_8));
+        assertThrows(RmCommonException.class, truncated::complete);
+
+        JsonChunkDecoder<Long> broken = JsonUtils.toVoDecoder("", Long.class, value -> { });
+        assertThrows(RmCommonException.class, () -> broken.feed("[1,}".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    // 모든 위치에서 두 조각으로 나눈 경우와 한 바이트씩 넣은 경우 모두 toVoIterator() 결과와 같은지 확인
+    private static <T> void assertSameAsIterator(String json, String dataName, Class<T> valueType) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        List<T> expected = new ArrayList<>();
+        try (JsonUtils.ElementIterator<T> iterator = JsonUtils.toVoIterator(bytes, dataName, valueType)) {
+            iterator.forEachRemaining(expected::add);
+        }
+        String expectedJson = JsonUtils.toJson(expected);
+
+        for (int split = 0; split <= bytes.length; split++) {
+            List<T> values = new ArrayList<>();
+            JsonChunkDecoder<T> decoder = JsonUtils.toVoDecoder(dataName, valueType, values::add);
+            decoder.feed(bytes, 0, split);
+            decoder.feed(bytes, split, bytes.length - split);
+            decoder.complete();
+
+            assertEquals(expectedJson, JsonUtils.toJson(values), json + " split at " + split);
+        }
+
+        assertEquals(expectedJson, JsonUtils.toJson(decode(json, dataName, valueType, 1)), json + " byte by byte");
+    }
+
+    private static <T> List<T> decode(String json, String dataName, Class<T> valueType, int chunkSize) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        List<T> values = new ArrayList<>();
+        JsonChunkDecoder<T> decoder = JsonUtils.toVoDecoder(dataName, valueType, values::add);
+        for (int i = 0; i < bytes.length; i += chunkSize) {
+            decoder.feed(bytes, i, Math.min(chunkSize, bytes.length - i));
+        }
+        decoder.complete();
+
+        return values;
+    }
+}
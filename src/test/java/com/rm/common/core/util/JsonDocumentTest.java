@@ -0,0 +1,170 @@
+package com.rm.common.core.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rm.common.core.exception.RmCommonException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JsonDocument의 값이 기존 방식(getRootNode()로 트리를 만든 뒤 경로의 노드를 바인딩)과 같은지 확인
+ * 바이트 위치로 값을 잘라 읽으므로 멀티바이트(UTF-8) 문자열, 이스케이프, 공백, 루트 레벨 숫자 등을 함께 확인함
+ */
+class JsonDocumentTest {
+    private static final ObjectMapper mapper = DataFormat.JSON.getMapper();
+
+    private static final String JSON = "{ \"name\" : \"한글 이름\\n\\\"quoted\\\"\", \"count\":12,\"ratio\":-1.5e3,\n"
+            + "\"data\":{\"items\":[{\"id\":1,\"tags\":[\"가\",\"나\"]},{\"id\":2,\"tags\":[]}],\"empty\":{}},\n"
+            + "\"none\":null, \"flag\" : true, \"emoji\":\"😀\", \"last\":7 }";
+
+    public static class Item {
+        public Long id;
+        public List<String> tags;
+    }
+
+    @Test
+    void valuesMatchTreeNodes() throws Exception {
+        JsonDocument document = JsonDocument.of(JSON);
+        assertAllPathsMatch(document, mapper.readTree(JSON));
+
+        assertEquals("한글 이름\n\"quoted\"", document.get("name", String.class));
+        assertEquals(Long.valueOf(2), document.get("data.items.1.id", Long.class));
+        assertEquals(2, document.get("data.items", new TypeReference<List<Item>>() {}).size());
+        assertEquals(mapper.writeValueAsString(mapper.treeToValue(mapper.readTree(JSON).at("/data/items/0"), Item.class)),
+                mapper.writeValueAsString(document.get("data.items.0", Item.class)));
+    }
+
+    @Test
+    void missingPathsAndSizes() {
+        JsonDocument document = JsonDocument.of(JSON);
+
+        assertFalse(document.has("absent"));
+        assertFalse(document.has("data.items.2"));
+        assertFalse(document.has("data.items.x"));
+        assertFalse(document.has("count.x"));
+        assertFalse(document.has("data.items.99999999999"));
+        assertTrue(document.has("none"));
+        assertNull(document.get("absent", Object.class));
+
+        assertEquals(8, document.size(""));
+        assertEquals(2, document.size("data.items"));
+        assertEquals(0, document.size("data.empty"));
+        assertEquals(0, document.size("data.items.1.tags"));
+        assertEquals(-1, document.size("count"));
+        assertEquals(-1, document.size("absent"));
+    }
+
+    @Test
+    void rootArrayAndScalar() throws Exception {
+        String array = " [1, \"a\", {\"b\":[2]}, 3.5] ";
+        JsonDocument document = JsonDocument.of(array);
+        assertAllPathsMatch(document, mapper.readTree(array));
+        assertEquals(4, document.size(""));
+
+        JsonDocument scalar = JsonDocument.of("42");
+        assertEquals(Integer.valueOf(42), scalar.get("", Integer.class));
+        assertEquals(-1, scalar.size(""));
+        assertFalse(scalar.has("a"));
+    }
+
+    @Test
+    void brokenJsonFailsOnCreate() {
+        assertThrows(RmCommonException.class, () -> JsonDocument.of("{\"a\":[1,2"));
+    }
+
+    @Test
+    void randomDocumentsMatchTreeNodes() throws Exception {
+        Random random = new Random(8);
+        for (int i = 0; i < 300; i++) {
+            Object value = randomValue(random, 4);
+            String json = random.nextBoolean() ? mapper.writeValueAsString(value) : mapper.writerWithDefaultPrettyPrinter().writeValueAsString(value);
+
+            assertAllPathsMatch(JsonDocument.of(json.getBytes(StandardCharsets.UTF_8)), mapper.readTree(json));
+        }
+    }
+
+    @Test
+    void concurrentReadsMatchTreeNodes() throws Exception {
+        JsonNode root = mapper.readTree(JSON);
+        JsonDocument document = JsonDocument.of(JSON);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                tasks.add(() -> {
+                    assertAllPathsMatch(document, root);
+                    return null;
+                });
+            }
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    // 트리의 모든 경로에 대해 JsonDocument의 값이 treeToValue() 결과와 같은지 확인
+    private static void assertAllPathsMatch(JsonDocument document, JsonNode root) throws Exception {
+        Map<String, JsonNode> paths = new LinkedHashMap<>();
+        collectPaths("", root, paths);
+
+        for (Map.Entry<String, JsonNode> entry : paths.entrySet()) {
+            String path = entry.getKey();
+            JsonNode node = entry.getValue();
+
+            assertTrue(document.has(path), path);
+            assertEquals(mapper.treeToValue(node, Object.class), document.get(path, Object.class), path);
+            assertEquals(node.isContainerNode() ? node.size() : -1, document.size(path), path);
+        }
+    }
+
+    private static void collectPaths(String path, JsonNode node, Map<String, JsonNode> paths) {
+        paths.put(path, node);
+        String prefix = path.isEmpty() ? "" : path + ".";
+        if (node.isObject()) {
+            for (Iterator<Map.Entry<String, JsonNode>> fields = node.fields(); fields.hasNext(); ) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                collectPaths(prefix + field.getKey(), field.getValue(), paths);
+            }
+        } else if (node.isArray()) {
+            for (int i = 0; i < node.size(); i++) {
+                collectPaths(prefix + i, node.get(i), paths);
+            }
+        }
+    }
+
+    private static Object randomValue(Random random, int depth) {
+        switch (depth <= 0 ? random.nextInt(4) : random.nextInt(6)) {
+            case 0: return null;
+            case 1: return random.nextBoolean() ? random.nextInt() : random.nextLong();
+            case 2: return random.nextBoolean() ? "값 \"" + random.nextInt(100) + "\"\t\\" : random.nextDouble() * 1000;
+            case 3: return random.nextBoolean();
+            case 4:
+                Map<String, Object> object = new LinkedHashMap<>();
+                int fields = random.nextInt(5);
+                for (int i = 0; i < fields; i++) object.put(random.nextBoolean() ? "f" + i : "필드" + i, randomValue(random, depth - 1));
+                return object;
+            default:
+                List<Object> list = new ArrayList<>();
+                int size = random.nextInt(5);
+                for (int i = 0; i < size; i++) list.add(randomValue(random, depth - 1));
+                return list;
+        }
+    }
+}
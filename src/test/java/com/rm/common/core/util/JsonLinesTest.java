@@ -0,0 +1,181 @@
+package com.rm.common.core.util;
+
+import com.rm.common.core.exception.RmCommonException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JsonLines로 읽은 결과가 줄마다 JsonUtils.toObject()를 호출한 결과와 같은지 확인
+ * 구간/조각 크기를 작게 지정해 줄의 중간, 줄바꿈 바로 앞/뒤 등 모든 위치에서 경계가 나뉘도록 함
+ */
+class JsonLinesTest {
+
+    public static class Line {
+        public Long id;
+        public String name;
+        public List<Integer> values;
+    }
+
+    @Test
+    void writeThenReadRoundTrip() throws Exception {
+        List<Line> lines = lines(500);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonLines.write(lines, out);
+
+        String text = new String(out.toByteArray(), StandardCharsets.UTF_8);
+        assertTrue(text.endsWith("\n"));
+        assertEquals(lines.size(), text.split("\n").length);
+        assertEquals(JsonUtils.toJson(lines.get(0)), text.split("\n")[0]);
+
+        assertEquals(toJsonList(lines), toJsonList(JsonLines.read(ByteBuffer.wrap(out.toByteArray()), Line.class)));
+    }
+
+    @Test
+    void writeFlushesOnlyOnce() {
+        int[] flushes = {0};
+        FilterOutputStream out = new FilterOutputStream(new ByteArrayOutputStream()) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                flushes[0]++;
+                super.flush();
+            }
+        };
+
+        JsonLines.write(lines(1000), out);
+        assertEquals(1, flushes[0]);
+    }
+
+    @Test
+    void everyChunkAndWindowBoundaryMatchesLineByLine() throws Exception {
+        // CRLF, 빈 줄, 공백만 있는 줄, 멀티바이트 문자, 마지막 줄의 줄바꿈 생략을 섞음
+        String text = "{\"id\":1,\"name\":\"가나다\",\"values\":[1,2]}\r\n"
+                + "\r\n"
+                + "{\"id\":2,\"name\":\"a\\nb\"}\n"
+                + "\n"
+                + "   \n"
+                + "{\"id\":3,\"values\":[]}\r\n"
+                + "{\"id\":4,\"name\":\"😀\"}";
+        List<String> expected = expectedLines(text);
+        Path file = write(text);
+
+        try {
+            int length = text.getBytes(StandardCharsets.UTF_8).length;
+            for (int chunkSize = 1; chunkSize <= length; chunkSize++) {
+                assertEquals(expected, readFile(file, length, chunkSize, true), "chunk " + chunkSize);
+            }
+            for (int windowSize = 1; windowSize <= length; windowSize++) {
+                assertEquals(expected, readFile(file, windowSize, 8, true), "window " + windowSize);
+                assertEquals(sorted(expected), sorted(readFile(file, windowSize, 8, false)), "window " + windowSize);
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void trailingNewLinesAndEmptyInput() throws Exception {
+        assertEquals(Collections.emptyList(), JsonLines.read(ByteBuffer.wrap(new byte[0]), Line.class));
+        assertEquals(Collections.emptyList(), JsonLines.read(ByteBuffer.wrap("\n\r\n  \n".getBytes(StandardCharsets.UTF_8)), Line.class));
+        assertEquals(2, JsonLines.read(ByteBuffer.wrap("{\"id\":1}\n{\"id\":2}\n\n\n".getBytes(StandardCharsets.UTF_8)), Line.class).size());
+
+        Path file = write("");
+        try {
+            assertEquals(Collections.emptyList(), JsonLines.read(file, Line.class));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void largeFileInOrder() throws Exception {
+        List<Line> lines = lines(20_000);
+        Path file = Files.createTempFile("json-lines", ".jsonl");
+        try {
+            try (OutputStream out = Files.newOutputStream(file)) {
+                JsonLines.write(lines, out);
+            }
+
+            assertEquals(toJsonList(lines), toJsonList(JsonLines.read(file, Line.class)));
+
+            List<Line> ordered = new ArrayList<>();
+            JsonLines.<Line>forEach(file, DataFormat.JSON.reader(Line.class), ordered::add, true, 64 * 1024, 4 * 1024);
+            assertEquals(toJsonList(lines), toJsonList(ordered));
+
+            List<Line> unordered = Collections.synchronizedList(new ArrayList<>());
+            JsonLines.forEach(file, Line.class, unordered::add, false);
+            assertEquals(sorted(toJsonList(lines)), sorted(toJsonList(unordered)));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void brokenLineThrows() {
+        ByteBuffer buffer = ByteBuffer.wrap("{\"id\":1}\n{\"id\":\n{\"id\":3}\n".getBytes(StandardCharsets.UTF_8));
+        assertThrows(RmCommonException.class, () -> JsonLines.read(buffer, Line.class));
+    }
+
+    private static List<String> readFile(Path file, int windowSize, int chunkSize, boolean ordered) {
+        List<Map<String, Object>> values = Collections.synchronizedList(new ArrayList<>());
+        JsonLines.<Map<String, Object>>forEach(file, DataFormat.JSON.reader(Map.class), values::add, ordered, windowSize, chunkSize);
+
+        return toJsonList(values);
+    }
+
+    // 기대값: 줄마다 따로 파싱한 결과 (빈 줄, 공백만 있는 줄은 제외)
+    private static List<String> expectedLines(String text) {
+        return Arrays.stream(text.split("\n"))
+                .filter(line -> !line.trim().isEmpty())
+                .map(line -> JsonUtils.toJson(JsonUtils.toObject(line, Map.class)))
+                .collect(Collectors.toList());
+    }
+
+    private static Path write(String text) throws IOException {
+        Path file = Files.createTempFile("json-lines", ".jsonl");
+        Files.write(file, text.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static List<Line> lines(int count) {
+        List<Line> lines = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Line line = new Line();
+            line.id = (long) i;
+            line.name = i % 3 == 0 ? null : "이름 " + i + "\n\"";
+            line.values = Arrays.asList(i, -i);
+            lines.add(line);
+        }
+        return lines;
+    }
+
+    private static List<String> toJsonList(List<?> values) {
+        return values.stream().map(JsonUtils::toJson).collect(Collectors.toList());
+    }
+
+    private static List<String> sorted(List<String> values) {
+        List<String> copy = new ArrayList<>(values);
+        Collections.sort(copy);
+        return copy;
+    }
+}
@@ -0,0 +1,122 @@
+package com.rm.common.core.util;
+
+import com.rm.common.core.util.JsonMetrics.Operation;
+import com.rm.common.core.util.JsonMetrics.Snapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JsonUtils 호출 시 JsonMetrics에 성공/실패가 기록되는지 확인
+ * 기본 Registry는 프로세스 전체에 누적되므로, 테스트별로 전용 타입을 사용함
+ */
+class JsonMetricsTest {
+    public static class SuccessItem {
+        public Long id;
+        public String name;
+    }
+
+    public static class FailureItem {
+        public Long id;
+    }
+
+    public static class DisabledItem {
+        public Long id;
+    }
+
+    public static class MicrometerItem {
+        public Long id;
+    }
+
+    @AfterEach
+    void reset() {
+        JsonMetrics.setEnabled(false);
+        JsonMetrics.setRegistry(null);
+    }
+
+    private static Snapshot find(Operation operation, Class<?> type) {
+        for (Snapshot snapshot : JsonMetrics.snapshot()) {
+            if (snapshot.getOperation() == operation && snapshot.getType() == type) return snapshot;
+        }
+        return null;
+    }
+
+    @Test
+    void successIsCounted() {
+        JsonMetrics.setEnabled(true);
+        SuccessItem item = new SuccessItem();
+        item.id = 1L;
+        item.name = "name";
+
+        String json = JsonUtils.toJson(item);
+        JsonUtils.toObject(json, SuccessItem.class);
+        JsonUtils.toObject(json.getBytes(StandardCharsets.UTF_8), SuccessItem.class);
+        JsonUtils.jsonToVOList("[" + json + "," + json + "]", SuccessItem.class);
+
+        Snapshot toJson = find(Operation.TO_JSON, SuccessItem.class);
+        assertEquals(1, toJson.getCount());
+        assertEquals(0, toJson.getFailureCount());
+        assertEquals(json.length(), toJson.getTotalSize());
+
+        Snapshot toObject = find(Operation.TO_OBJECT, SuccessItem.class);
+        assertEquals(2, toObject.getCount());
+        assertEquals(0, toObject.getFailureCount());
+        assertEquals(2 * json.length(), toObject.getTotalSize());
+        assertTrue(toObject.getMean(TimeUnit.NANOSECONDS) > 0);
+        assertTrue(toObject.getPercentileNanos(0.99) > 0);
+
+        Snapshot toVoList = find(Operation.TO_VO_LIST, SuccessItem.class);
+        assertEquals(1, toVoList.getCount());
+        assertEquals(0, toVoList.getFailureCount());
+    }
+
+    @Test
+    void failureIsCounted() {
+        JsonMetrics.setEnabled(true);
+
+        assertNull(JsonUtils.toObject("{\"id\":\"x\"}", FailureItem.class));
+        assertNull(JsonUtils.toObject("{\"id\":".getBytes(StandardCharsets.UTF_8), FailureItem.class));
+        assertNull(JsonUtils.jsonToVOList("[{\"unknown\":1}]", FailureItem.class));
+
+        Snapshot toObject = find(Operation.TO_OBJECT, FailureItem.class);
+        assertEquals(2, toObject.getCount());
+        assertEquals(2, toObject.getFailureCount());
+        assertEquals(0, toObject.getSizeCount());
+
+        Snapshot toVoList = find(Operation.TO_VO_LIST, FailureItem.class);
+        assertEquals(1, toVoList.getCount());
+        assertEquals(1, toVoList.getFailureCount());
+    }
+
+    @Test
+    void nothingIsRecordedWhenDisabled() {
+        JsonUtils.toObject("{\"id\":1}", DisabledItem.class);
+        JsonUtils.toObject("{\"id\":\"x\"}", DisabledItem.class);
+
+        assertNull(find(Operation.TO_OBJECT, DisabledItem.class));
+    }
+
+    @Test
+    void micrometerRegistryReceivesSuccessAndFailure() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JsonMetrics.setRegistry(new MicrometerJsonMetrics(meterRegistry));
+        JsonMetrics.setEnabled(true);
+
+        JsonUtils.toObject("{\"id\":1}", MicrometerItem.class);
+        JsonUtils.toObject("{\"id\":\"x\"}", MicrometerItem.class);
+
+        String[] tags = {"operation", Operation.TO_OBJECT.name(), "type", MicrometerItem.class.getName()};
+        assertEquals(2, meterRegistry.get("rm.json.duration").tags(tags).timer().count());
+        assertEquals(1, meterRegistry.get("rm.json.size").tags(tags).summary().count());
+        assertEquals(1, meterRegistry.get("rm.json.failures").tags(tags).counter().count());
+        // 다른 Registry를 사용 중일 때 기본 Registry 조회 결과는 비어있음
+        List<Snapshot> snapshots = JsonMetrics.snapshot();
+        assertTrue(snapshots.isEmpty());
+    }
+}
@@ -0,0 +1,126 @@
+package com.rm.common.core.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JsonProjection으로 파싱 단계에서 걸러낸 결과가 기존 방식(트리를 만든 뒤 ObjectNode.remove()로 지우고 바인딩)과 같은지 확인
+ * 중첩 경로, 배열 원소(배열 안의 배열 포함), include/exclude 조합, nextValue()로 읽는 경우를 함께 확인함
+ */
+class JsonProjectionTest {
+    private static final ObjectMapper mapper = DataFormat.JSON.getMapper();
+
+    private static final String JSON = "[{\"id\":1,\"name\":\"a\",\"i18n\":{\"ko\":\"가\",\"en\":\"A\",\"ja\":{\"kana\":\"ア\"}},"
+            + "\"options\":[{\"code\":\"x\",\"i18n\":{\"ko\":\"엑스\",\"en\":\"X\"}},{\"code\":\"y\",\"i18n\":null}],"
+            + "\"matrix\":[[{\"v\":1,\"w\":2}],[]]},"
+            + "{\"id\":2,\"name\":null,\"i18n\":{},\"options\":[],\"matrix\":null,\"extra\":{\"i18n\":{\"en\":\"keep\"}}}]";
+
+    @Test
+    void excludesMatchTreeRemoval() throws Exception {
+        List<List<String>> cases = Arrays.asList(
+                Arrays.asList("i18n"),
+                Arrays.asList("i18n.en"),
+                Arrays.asList("i18n.ja.kana", "name"),
+                Arrays.asList("options.i18n.en"),
+                Arrays.asList("options.code", "matrix.w"),
+                Arrays.asList("absent", "id.absent"),
+                Arrays.asList());
+
+        for (List<String> excludes : cases) {
+            JsonNode expected = mapper.readTree(JSON);
+            for (JsonNode element : expected) {
+                for (String exclude : excludes) remove(element, exclude.split("\\."), 0);
+            }
+
+            List<Map> actual = JsonUtils.toVoListProjected(JSON, Map.class, JsonProjection.of(null, excludes));
+            assertEquals(mapper.treeToValue(expected, List.class), actual, excludes.toString());
+            assertEquals(actual, JsonUtils.toVoList(JSON, Map.class, excludes.toArray(new String[0])), excludes.toString());
+        }
+    }
+
+    @Test
+    void includesKeepOnlyGivenPaths() {
+        List<Map> list = JsonUtils.toVoListProjected(JSON, Map.class, JsonProjection.include("id", "i18n.ko", "options.code", "matrix.v"));
+
+        assertEquals(JsonUtils.toObject("{\"id\":1,\"i18n\":{\"ko\":\"가\"},\"options\":[{\"code\":\"x\"},{\"code\":\"y\"}],\"matrix\":[[{\"v\":1}],[]]}", Map.class), list.get(0));
+        assertEquals(JsonUtils.toObject("{\"id\":2,\"i18n\":{},\"options\":[],\"matrix\":null}", Map.class), list.get(1));
+
+        // include의 하위 필드는 모두 포함, exclude가 include보다 우선함
+        List<Map> both = JsonUtils.toVoListProjected(JSON, Map.class, JsonProjection.of(Arrays.asList("i18n"), Arrays.asList("i18n.ja")));
+        assertEquals(JsonUtils.toObject("{\"i18n\":{\"ko\":\"가\",\"en\":\"A\"}}", Map.class), both.get(0));
+    }
+
+    @Test
+    void nullProjectionMeansNoFiltering() throws Exception {
+        List<Map> expected = JsonUtils.toVoList(JSON, Map.class);
+
+        // 기존 toVoList(json, type, String[]...)의 null 호출이 모호하지 않게 컴파일되어야 함
+        assertEquals(expected, JsonUtils.toVoList(JSON, Map.class, null));
+        assertEquals(expected, JsonUtils.toVoListProjected(JSON, Map.class, null));
+        assertEquals(expected, JsonUtils.toVoListProjected(JSON, Map.class, null, new StringPool()));
+        assertEquals(expected.get(0), JsonUtils.toObject(mapper.writeValueAsString(expected.get(0)), Map.class, null));
+
+        List<Map> iterated = new ArrayList<>();
+        try (JsonUtils.ElementIterator<Map> iterator = JsonUtils.toVoIterator(new ByteArrayInputStream(JSON.getBytes(StandardCharsets.UTF_8)), "", Map.class, null)) {
+            iterator.forEachRemaining(iterated::add);
+        }
+        assertEquals(expected, iterated);
+    }
+
+    @Test
+    void iteratorPathsAreRelativeToElements() throws Exception {
+        String json = "{\"data\":{\"items\":" + JSON + "},\"i18n\":{\"en\":\"root\"}}";
+
+        List<Map> iterated = new ArrayList<>();
+        try (JsonUtils.ElementIterator<Map> iterator = JsonUtils.toVoIterator(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)),
+                "data.items", Map.class, JsonProjection.exclude("i18n.en", "options"))) {
+            iterator.forEachRemaining(iterated::add);
+        }
+
+        assertEquals(JsonUtils.toVoListProjected(JSON, Map.class, JsonProjection.exclude("i18n.en", "options")), iterated);
+    }
+
+    @Test
+    void nextValueSkipsExcludedFields() throws Exception {
+        String json = "{\"a\":1,\"skip\":{\"x\":[1,{\"y\":2}]},\"b\":[true,{\"skip\":3,\"c\":null}],\"skip2\":\"s\",\"d\":\"e\"}";
+
+        List<String> tokens = new ArrayList<>();
+        try (JsonParser parser = JsonProjection.exclude("skip", "skip2", "b.skip").wrap(mapper.getFactory().createParser(json))) {
+            JsonToken token;
+            while ((token = parser.nextValue()) != null) {
+                tokens.add(parser.getCurrentName() + ":" + token);
+            }
+        }
+
+        assertEquals(Arrays.asList("null:START_OBJECT", "a:VALUE_NUMBER_INT", "b:START_ARRAY", "null:VALUE_TRUE", "null:START_OBJECT",
+                "c:VALUE_NULL", "null:END_OBJECT", "b:END_ARRAY", "d:VALUE_STRING", "null:END_OBJECT"), tokens);
+    }
+
+    // 트리 방식 기준값: 배열은 경로에 포함하지 않고 모든 원소에 똑같이 적용함
+    private static void remove(JsonNode node, String[] path, int depth) {
+        if (node == null) return;
+
+        if (node.isArray()) {
+            for (JsonNode element : node) remove(element, path, depth);
+        } else if (node.isObject()) {
+            if (depth == path.length - 1) {
+                ((ObjectNode) node).remove(path[depth]);
+            } else {
+                remove(node.get(path[depth]), path, depth + 1);
+            }
+        }
+    }
+}
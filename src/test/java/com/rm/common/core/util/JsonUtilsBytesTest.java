@@ -0,0 +1,105 @@
+package com.rm.common.core.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.rm.common.core.exception.RmCommonException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 바이트/스트림/채널/ByteBuffer 오버로드가 String API와 같은 결과를 내는지, 실패 시 통계에 기록되는지 확인
+ */
+class JsonUtilsBytesTest {
+    private static final TypeReference<List<Map<String, Object>>> LIST_TYPE = new TypeReference<List<Map<String, Object>>>() {};
+
+    private static List<Map<String, Object>> rows(int count) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", i);
+            row.put("name", "이름-" + i);
+            row.put("tags", Arrays.asList("a", "b"));
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    @Test
+    void byteOverloadsMatchStringApi() {
+        // 채널 출력 버퍼(8KB)보다 크게 만들어 여러번 나눠 쓰는 경우도 확인함
+        List<Map<String, Object>> rows = rows(1000);
+        String json = JsonUtils.toJson(rows);
+        byte[] expected = json.getBytes(StandardCharsets.UTF_8);
+
+        assertArrayEquals(expected, JsonUtils.toJsonBytes(rows));
+
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        JsonUtils.toJson(rows, stream);
+        assertArrayEquals(expected, stream.toByteArray());
+
+        ByteArrayOutputStream channelTarget = new ByteArrayOutputStream();
+        JsonUtils.toJson(rows, Channels.newChannel(channelTarget));
+        assertArrayEquals(expected, channelTarget.toByteArray());
+
+        ByteBuffer buffer = ByteBuffer.allocate(expected.length + 10);
+        buffer.position(10);
+        JsonUtils.toJson(rows, buffer);
+        assertEquals(expected.length + 10, buffer.position());
+
+        buffer.flip().position(10);
+        assertEquals(rows, JsonUtils.toObject(buffer, LIST_TYPE));
+        assertFalse(buffer.hasRemaining());
+        assertEquals(rows, JsonUtils.toObject(expected, LIST_TYPE));
+        assertEquals(rows, JsonUtils.toObject(new ByteArrayInputStream(expected), LIST_TYPE));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(expected.length);
+        direct.put(expected).flip();
+        assertEquals(rows, JsonUtils.toObject(direct, LIST_TYPE));
+    }
+
+    @Test
+    void invalidBytesReturnNull() {
+        assertNull(JsonUtils.toObject("{\"id\":".getBytes(StandardCharsets.UTF_8), LIST_TYPE));
+        assertNull(JsonUtils.toObject((byte[]) null, LIST_TYPE));
+    }
+
+    @Test
+    void streamWriteFailureThrowsRmCommonException() {
+        OutputStream failing = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("closed");
+            }
+        };
+
+        assertThrows(RmCommonException.class, () -> JsonUtils.toJson(rows(1000), failing));
+    }
+
+    @Test
+    void bufferOverflowIsRecordedAsFailure() {
+        List<Boolean> records = new ArrayList<>();
+        JsonMetrics.setRegistry((operation, type) -> (nanos, size, failed) -> records.add(failed));
+        JsonMetrics.setEnabled(true);
+        try {
+            assertThrows(BufferOverflowException.class, () -> JsonUtils.toJson(rows(10), ByteBuffer.allocate(16)));
+            assertEquals(Arrays.asList(true), records);
+        } finally {
+            JsonMetrics.setEnabled(false);
+            JsonMetrics.setRegistry(null);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.rm.common.core.util;
+
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 캐시된 ObjectReader/ObjectWriter를 사용하는 JsonUtils의 결과가 기존 방식(호출마다 mapper.configure() 후 mapper로 직접 변환)과 같은지 확인
+ */
+class JsonUtilsCacheTest {
+    public static class Item {
+        public Long id;
+        public String name;
+        public List<String> tags;
+        public Map<String, Integer> counts;
+    }
+
+    public static class SpecialItem extends Item {
+        public boolean special = true;
+    }
+
+    public static class Page<T> {
+        public int total;
+        public List<T> items;
+    }
+
+    public static class Empty {
+    }
+
+    // 기존 JsonUtils와 같이 호출마다 설정하는 mapper
+    private static ObjectMapper legacyMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, true);
+        mapper.configure(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS.mappedFeature(), true);
+        return mapper;
+    }
+
+    private static Item item(long id) {
+        return fill(new Item(), id);
+    }
+
+    private static Item fill(Item item, long id) {
+        item.id = id;
+        item.name = "item-" + id;
+        item.tags = Arrays.asList("a" + id, "b");
+        item.counts = new LinkedHashMap<>();
+        item.counts.put("x", (int) id);
+        return item;
+    }
+
+    @Test
+    void toJsonMatchesLegacyMapper() throws Exception {
+        ObjectMapper legacy = legacyMapper();
+        // writer는 실제 클래스 기준으로 캐시되므로, 선언 타입과 다른 하위 클래스도 확인함
+        List<Object> values = new ArrayList<>(Arrays.asList(item(1), fill(new SpecialItem(), 2), Arrays.asList(item(3), fill(new SpecialItem(), 4)),
+                Collections.singletonMap("k", item(5)), "text", 12L, null));
+
+        for (Object value : values) {
+            // 같은 타입을 두번 변환해 캐시된 writer도 확인함
+            assertEquals(legacy.writeValueAsString(value), JsonUtils.toJson(value));
+            assertEquals(legacy.writeValueAsString(value), JsonUtils.toJson(value));
+        }
+    }
+
+    @Test
+    void toJsonFailsOnEmptyBeanLikeLegacyMapper() {
+        assertThrows(Exception.class, () -> legacyMapper().writeValueAsString(new Empty()));
+        assertEquals("", JsonUtils.toJson(new Empty()));
+    }
+
+    @Test
+    void toObjectMatchesLegacyMapper() throws Exception {
+        ObjectMapper legacy = legacyMapper();
+        String json = legacy.writeValueAsString(Arrays.asList(item(1), item(2)));
+        TypeReference<List<Item>> listType = new TypeReference<List<Item>>() {};
+
+        for (int i = 0; i < 2; i++) {
+            assertEquals(legacy.writeValueAsString(legacy.readValue(json, listType)), legacy.writeValueAsString(JsonUtils.toObject(json, listType)));
+            assertEquals(legacy.readValue(json, Object.class), JsonUtils.toObject(json, Object.class));
+        }
+
+        String pageJson = "{\"total\":2,\"items\":" + json + "}";
+        Type pageType = new TypeReference<Page<Item>>() {}.getType();
+        Page<Item> page = JsonUtils.toObject(pageJson, pageType);
+        assertEquals(Item.class, page.items.get(0).getClass());
+        assertEquals(legacy.writeValueAsString(legacy.readValue(pageJson, new TypeReference<Page<Item>>() {})), legacy.writeValueAsString(page));
+    }
+
+    @Test
+    void toObjectAllowsUnescapedControlCharsLikeLegacyMapper() throws Exception {
+        String json = "{\"name\":\"a\tb\nc\"}";
+
+        assertEquals(legacyMapper().readValue(json, Item.class).name, JsonUtils.toObject(json, Item.class).name);
+    }
+
+    @Test
+    void cachedReadersAndWritersGiveSameResultsAcrossThreads() throws Exception {
+        ObjectMapper legacy = legacyMapper();
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 50; i++) items.add(item(i));
+        String expected = legacy.writeValueAsString(items);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<String>> tasks = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                tasks.add(() -> JsonUtils.toJson(JsonUtils.toObject(JsonUtils.toJson(items), new TypeReference<List<Item>>() {})));
+            }
+
+            for (Future<String> future : executor.invokeAll(tasks)) {
+                assertEquals(expected, future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
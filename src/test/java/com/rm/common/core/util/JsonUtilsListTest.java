@@ -0,0 +1,135 @@
+package com.rm.common.core.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rm.common.core.exception.RmCommonException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 경로 기준 리스트 변환(toListToListMap, toVoList(json, fieldName, type))이 트리(JsonNode) 기반 변환과 같은 결과를 내는지 확인
+ * toVoIterator()가 경로를 찾는 도중 실패한 경우 입력 스트림을 닫는지도 확인함
+ */
+class JsonUtilsListTest {
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<Map<String, Object>>() {};
+
+    private static final String JSON = "{\"meta\":{\"skip\":[1,{\"a\":[2,3]}]},"
+            + "\"data\":[{\"id\":1,\"name\":\"a\",\"tags\":[\"x\"]},{\"id\":2,\"name\":null,\"tags\":[]}],"
+            + "\"single\":{\"id\":3,\"name\":\"c\"},"
+            + "\"empty\":[],"
+            + "\"none\":null,"
+            + "\"nested\":{\"items\":[{\"id\":4}]}}";
+
+    public static class Item {
+        public Long id;
+        public String name;
+        public List<String> tags;
+
+        @Override
+        public boolean equals(Object object) {
+            if (!(object instanceof Item)) return false;
+            Item another = (Item) object;
+            return Objects.equals(id, another.id) && Objects.equals(name, another.name) && Objects.equals(tags, another.tags);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, name, tags);
+        }
+    }
+
+    @Test
+    void toListToListMapMatchesTreeBinding() throws Exception {
+        JsonNode root = mapper.readTree(JSON);
+        List<Map<String, Object>> expected = new ArrayList<>();
+        for (JsonNode node : root.get("data")) {
+            expected.add(mapper.convertValue(node, MAP_TYPE));
+        }
+
+        assertEquals(expected, JsonUtils.toListToListMap(JSON, "data", MAP_TYPE));
+        assertEquals(Collections.emptyList(), JsonUtils.toListToListMap(JSON, "empty", MAP_TYPE));
+        assertEquals(1, JsonUtils.toListToListMap(JSON, "nested.items", MAP_TYPE).size());
+    }
+
+    @Test
+    void toListToListMapReturnsNullOnMissingOrNull() {
+        assertNull(JsonUtils.toListToListMap(JSON, "none", MAP_TYPE));
+        assertNull(JsonUtils.toListToListMap(JSON, "absent", MAP_TYPE));
+        assertNull(JsonUtils.toListToListMap("", "data", MAP_TYPE));
+        assertNull(JsonUtils.toListToListMap("{\"data\":[", "data", MAP_TYPE));
+    }
+
+    @Test
+    void toVoListMatchesTreeBinding() throws Exception {
+        JsonNode root = mapper.readTree(JSON);
+        List<Item> expected = Arrays.asList(mapper.treeToValue(root.get("data"), Item[].class));
+
+        assertEquals(expected, JsonUtils.toVoList(JSON, "data", Item.class));
+        assertEquals(Collections.singletonList(mapper.treeToValue(root.get("single"), Item.class)), JsonUtils.toVoList(JSON, "single", Item.class));
+        assertEquals(Collections.singletonList(null), JsonUtils.toVoList(JSON, "none", Item.class));
+        assertEquals(Collections.emptyList(), JsonUtils.toVoList(JSON, "empty", Item.class));
+    }
+
+    @Test
+    void toVoListReturnsNullOnMissingOrInvalid() {
+        assertNull(JsonUtils.toVoList(JSON, "absent", Item.class));
+        assertNull(JsonUtils.toVoList(null, "data", Item.class));
+        assertNull(JsonUtils.toVoList("{\"data\":[{\"id\":", "data", Item.class));
+    }
+
+    @Test
+    void iteratorClosesInputWhenSeekFails() {
+        // 대상 경로 앞에서 JSON이 깨진 경우 Iterator 없이 예외를 던지므로, 입력도 함께 닫아야 함
+        String broken = "{\"meta\":[1,},\"data\":[{\"id\":1}]}";
+
+        AtomicBoolean streamClosed = new AtomicBoolean();
+        InputStream stream = new ByteArrayInputStream(broken.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public void close() {
+                streamClosed.set(true);
+            }
+        };
+        assertThrows(RmCommonException.class, () -> JsonUtils.toVoIterator(stream, "data", Item.class));
+        assertTrue(streamClosed.get());
+
+        AtomicBoolean readerClosed = new AtomicBoolean();
+        Reader reader = new StringReader(broken) {
+            @Override
+            public void close() {
+                readerClosed.set(true);
+            }
+        };
+        assertThrows(RmCommonException.class, () -> JsonUtils.toVoIterator(reader, "data", Item.class));
+        assertTrue(readerClosed.get());
+
+        // 경로를 찾은 뒤에는 Iterator가 입력을 닫음
+        AtomicBoolean iteratedClosed = new AtomicBoolean();
+        InputStream valid = new ByteArrayInputStream(JSON.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public void close() {
+                iteratedClosed.set(true);
+            }
+        };
+        try (JsonUtils.ElementIterator<Item> iterator = JsonUtils.toVoIterator(valid, "data", Item.class)) {
+            assertFalse(iteratedClosed.get());
+            assertEquals(1L, iterator.next().id);
+        }
+        assertTrue(iteratedClosed.get());
+    }
+}
@@ -0,0 +1,183 @@
+package com.rm.common.core.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.rm.common.core.exception.RmCommonException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JsonUtils.merge()의 결과가 기준 결과와 같은지 확인
+ *  - 단일 값 필드만 있는 patch: 기본 readerForUpdating()으로 읽은 결과
+ *  - 그 외: 트리로 RFC 7396 병합(객체는 이어서 병합, 배열은 교체, null은 null로 설정)한 뒤 바인딩한 결과
+ * 결과 비교와 함께, 하위 객체는 기존 객체에 그대로 병합되고 patch에 없는 필드는 건드리지 않는지 확인함
+ */
+class JsonUtilsMergeTest {
+    private static final ObjectMapper mapper = DataFormat.JSON.getMapper();
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    public static class Child {
+        public String a;
+        public Integer b;
+        public List<Integer> values;
+        public Child child;
+    }
+
+    public static class Target {
+        public String name;
+        public Integer count;
+        public long total;
+        public RmDateTime updatedAt;
+        public Child child;
+        public List<String> tags;
+        public String[] codes;
+        public int[] nums;
+        public Map<String, Object> attrs;
+        public List<Child> children;
+    }
+
+    @Test
+    void scalarPatchesMatchReaderForUpdating() throws Exception {
+        Random random = new Random(15);
+        for (int i = 0; i < 200; i++) {
+            Target target = randomTarget(random);
+            ObjectNode patch = mapper.createObjectNode();
+            if (random.nextBoolean()) patch.put("name", random.nextBoolean() ? null : "이름" + random.nextInt(10));
+            if (random.nextBoolean()) patch.put("count", random.nextInt(100));
+            if (random.nextBoolean()) patch.put("total", random.nextLong());
+            if (random.nextBoolean()) patch.set("updatedAt", mapper.valueToTree(randomDateTime(random)));
+            String json = mapper.writeValueAsString(patch);
+
+            Target expected = mapper.readerForUpdating(copy(target)).readValue(json);
+            assertEquals(JsonUtils.toJson(expected), JsonUtils.toJson(JsonUtils.merge(json, copy(target))), json);
+        }
+    }
+
+    @Test
+    void randomPatchesMatchMergePatch() throws Exception {
+        Random random = new Random(7396);
+        for (int i = 0; i < 500; i++) {
+            Target target = randomTarget(random);
+            JsonNode patch = randomPatch(random, mapper.valueToTree(randomTarget(random)));
+            String json = mapper.writeValueAsString(patch);
+
+            JsonNode merged = mergePatch(mapper.valueToTree(target), patch);
+            String expected = JsonUtils.toJson(mapper.treeToValue(merged, Target.class));
+
+            assertEquals(expected, JsonUtils.toJson(JsonUtils.merge(json, copy(target))), json);
+            assertEquals(expected, JsonUtils.toJson(JsonUtils.merge(json.getBytes(StandardCharsets.UTF_8), copy(target))), json);
+            assertEquals(expected, JsonUtils.toJson(JsonUtils.merge(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), copy(target))), json);
+        }
+    }
+
+    @Test
+    void nestedObjectsAreUpdatedInPlace() {
+        Target target = randomTarget(new Random(1));
+        target.child = new Child();
+        target.child.a = "a";
+        target.child.b = 1;
+        target.child.values = new ArrayList<>(Arrays.asList(1, 2));
+        target.attrs = new LinkedHashMap<>();
+        target.attrs.put("keep", "k");
+        target.attrs.put("nested", new LinkedHashMap<>(Collections.singletonMap("x", 1)));
+        Child child = target.child;
+        Map<String, Object> attrs = target.attrs;
+        List<String> tags = target.tags;
+        RmDateTime updatedAt = target.updatedAt;
+
+        Target result = JsonUtils.merge("{\"child\":{\"b\":2,\"values\":[3]},\"attrs\":{\"nested\":{\"y\":2},\"new\":null}}", target);
+
+        assertSame(target, result);
+        assertSame(child, result.child);
+        assertSame(attrs, result.attrs);
+        assertSame(tags, result.tags);
+        assertSame(updatedAt, result.updatedAt);
+        assertEquals("a", child.a);
+        assertEquals(Integer.valueOf(2), child.b);
+        // 컬렉션은 이어 붙이지 않고 교체함 (기본 readerForUpdating()은 [1, 2, 3])
+        assertEquals(Arrays.asList(3), child.values);
+        assertEquals("{\"keep\":\"k\",\"nested\":{\"x\":1,\"y\":2},\"new\":null}", JsonUtils.toJson(attrs));
+    }
+
+    @Test
+    void brokenPatchThrows() {
+        assertThrows(RmCommonException.class, () -> JsonUtils.merge("{\"count\":", new Target()));
+        assertThrows(RmCommonException.class, () -> JsonUtils.merge("{\"count\":\"x\"}", new Target()));
+    }
+
+    // RFC 7396 병합, 단 null은 필드를 지우지 않고 null로 설정함 (VO 필드는 지울 수 없으므로)
+    private static JsonNode mergePatch(JsonNode target, JsonNode patch) {
+        if (!patch.isObject()) return patch;
+
+        ObjectNode result = target != null && target.isObject() ? (ObjectNode) target : mapper.createObjectNode();
+        for (Iterator<Map.Entry<String, JsonNode>> fields = patch.fields(); fields.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            result.set(field.getKey(), mergePatch(result.get(field.getKey()), field.getValue()));
+        }
+        return result;
+    }
+
+    // 다른 대상의 트리에서 일부 필드만 골라 patch를 만듦, 하위 객체는 다시 일부 필드만 고름
+    private static JsonNode randomPatch(Random random, JsonNode source) {
+        if (!source.isObject()) return source;
+
+        ObjectNode patch = mapper.createObjectNode();
+        for (Iterator<Map.Entry<String, JsonNode>> fields = source.fields(); fields.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            int pick = random.nextInt(4);
+            if (pick == 0) patch.set(field.getKey(), randomPatch(random, field.getValue()));
+            else if (pick == 1) patch.putNull(field.getKey());
+        }
+        return patch;
+    }
+
+    private static Target randomTarget(Random random) {
+        Target target = new Target();
+        target.name = random.nextBoolean() ? "name" + random.nextInt(10) : null;
+        target.count = random.nextBoolean() ? random.nextInt(100) : null;
+        target.total = random.nextLong();
+        target.updatedAt = random.nextBoolean() ? randomDateTime(random) : null;
+        target.child = random.nextBoolean() ? randomChild(random, 2) : null;
+        target.tags = random.nextBoolean() ? new ArrayList<>(Arrays.asList("t" + random.nextInt(5), "u")) : null;
+        target.codes = random.nextBoolean() ? new String[]{"c" + random.nextInt(5)} : null;
+        target.nums = random.nextBoolean() ? new int[]{random.nextInt(), 1} : null;
+        if (random.nextBoolean()) {
+            target.attrs = new LinkedHashMap<>();
+            target.attrs.put("k" + random.nextInt(3), random.nextInt(10));
+            if (random.nextBoolean()) target.attrs.put("map", new LinkedHashMap<>(Collections.singletonMap("m" + random.nextInt(3), "v")));
+        }
+        target.children = random.nextBoolean() ? new ArrayList<>(Arrays.asList(randomChild(random, 1))) : null;
+        return target;
+    }
+
+    private static Child randomChild(Random random, int depth) {
+        Child child = new Child();
+        child.a = random.nextBoolean() ? "a" + random.nextInt(5) : null;
+        child.b = random.nextBoolean() ? random.nextInt(5) : null;
+        child.values = random.nextBoolean() ? new ArrayList<>(Arrays.asList(random.nextInt(5))) : null;
+        child.child = depth > 0 && random.nextBoolean() ? randomChild(random, depth - 1) : null;
+        return child;
+    }
+
+    private static RmDateTime randomDateTime(Random random) {
+        return RmDateTimeUtil.getDateTimeFrom(ZONE, 1_600_000_000_000L + random.nextInt(1_000_000) * 1000L);
+    }
+
+    private static Target copy(Target target) throws Exception {
+        return mapper.readValue(mapper.writeValueAsBytes(target), Target.class);
+    }
+}
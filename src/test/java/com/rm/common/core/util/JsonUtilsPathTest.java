@@ -0,0 +1,125 @@
+package com.rm.common.core.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 토큰을 건너뛰며 경로를 찾는 toDataObject(), toListToMap()의 결과가 기존 방식(getRootNode()로 트리를 만든 뒤 path(dataName)의 값을 바인딩)과 같은지 확인
+ * 중첩 경로("data.items")는 기존에 지원하지 않았으므로 JsonPointer(at("/data/items"))의 값과 비교함
+ */
+class JsonUtilsPathTest {
+    private static final ObjectMapper mapper = DataFormat.JSON.getMapper();
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<Map<String, Object>>() {};
+
+    private static final String JSON = "{\"skip\":{\"data\":{\"id\":-1},\"list\":[[1,2],[{\"data\":0}],\"}]\"]},"
+            + "\"text\":\"{\\\"data\\\":1}\","
+            + "\"data\":{\"id\":1,\"name\":\"a\",\"items\":[{\"id\":2},{\"id\":3}]},"
+            + "\"list\":[{\"id\":4,\"name\":\"b\"},{\"id\":5}],"
+            + "\"scalar\":7,"
+            + "\"none\":null,"
+            + "\"empty\":[]}";
+
+    public static class Item {
+        public Long id;
+        public String name;
+        public List<Item> items;
+    }
+
+    @Test
+    void toDataObjectMatchesTreePath() throws Exception {
+        for (String dataName : new String[]{"data", "list", "scalar", "none", "empty", "text", "skip", "absent"}) {
+            assertEquals(legacy(JSON, dataName, Object.class), JsonUtils.toDataObject(JSON, dataName, Object.class), dataName);
+        }
+
+        assertEquals(mapper.writeValueAsString(legacy(JSON, "data", Item.class)), mapper.writeValueAsString(JsonUtils.toDataObject(JSON, "data", Item.class)));
+        assertEquals(legacy(JSON, "data", Object.class), JsonUtils.toDataObject(JSON, "data", MAP_TYPE));
+        assertEquals(legacy(JSON, "scalar", Object.class), JsonUtils.toDataObject(JSON, "scalar", (Type) Integer.class));
+    }
+
+    @Test
+    void nestedPathMatchesJsonPointer() throws Exception {
+        JsonNode root = mapper.readTree(JSON);
+        assertEquals(mapper.treeToValue(root.at("/data/items"), Object.class), JsonUtils.toDataObject(JSON, "data.items", Object.class));
+        assertEquals(mapper.treeToValue(root.at("/data/name"), Object.class), JsonUtils.toDataObject(JSON, "data.name", Object.class));
+        // 중간 경로가 객체가 아니거나 없으면 null
+        assertNull(JsonUtils.toDataObject(JSON, "list.id", Object.class));
+        assertNull(JsonUtils.toDataObject(JSON, "scalar.id", Object.class));
+        assertNull(JsonUtils.toDataObject(JSON, "data.absent", Object.class));
+    }
+
+    @Test
+    void toListToMapMatchesFirstElementOfTreePath() throws Exception {
+        JsonNode root = mapper.readTree(JSON);
+        assertEquals(mapper.convertValue(root.path("list").get(0), MAP_TYPE), JsonUtils.toListToMap(JSON, "list", MAP_TYPE));
+        assertEquals(mapper.convertValue(root.path("data"), MAP_TYPE), JsonUtils.toListToMap(JSON, "data", MAP_TYPE));
+        assertEquals(mapper.convertValue(root.at("/data/items").get(0), MAP_TYPE), JsonUtils.toListToMap(JSON, "data.items", MAP_TYPE));
+        assertNull(JsonUtils.toListToMap(JSON, "empty", MAP_TYPE));
+        assertNull(JsonUtils.toListToMap(JSON, "absent", MAP_TYPE));
+    }
+
+    @Test
+    void emptyOrBrokenInputReturnsNull() {
+        assertNull(JsonUtils.toDataObject("", "data", Object.class));
+        assertNull(JsonUtils.toDataObject(null, "data", Object.class));
+        assertNull(JsonUtils.toDataObject("[1,2]", "data", Object.class));
+        assertNull(JsonUtils.toDataObject("{\"skip\":[1,2", "data", Object.class));
+    }
+
+    @Test
+    void randomDocumentsMatchTreePath() throws Exception {
+        Random random = new Random(2);
+        for (int i = 0; i < 500; i++) {
+            Map<String, Object> document = randomObject(random, 4);
+            String json = mapper.writeValueAsString(document);
+            for (String dataName : document.keySet()) {
+                assertEquals(legacy(json, dataName, Object.class), JsonUtils.toDataObject(json, dataName, Object.class), json + " " + dataName);
+            }
+            assertNull(JsonUtils.toDataObject(json, "absent", Object.class));
+        }
+    }
+
+    // 기존 toDataObject(): 트리를 만든 뒤 path(dataName)의 값을 바인딩하며, 실패 시 null
+    private static <T> T legacy(String json, String dataName, Class<T> valueType) {
+        try {
+            JsonNode dataNode = mapper.readTree(json).path(dataName);
+            return mapper.readValue(mapper.treeAsTokens(dataNode), valueType);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static Map<String, Object> randomObject(Random random, int depth) {
+        Map<String, Object> object = new LinkedHashMap<>();
+        int size = random.nextInt(6);
+        for (int i = 0; i < size; i++) {
+            object.put("f" + random.nextInt(8), randomValue(random, depth - 1));
+        }
+        return object;
+    }
+
+    private static Object randomValue(Random random, int depth) {
+        switch (depth <= 0 ? random.nextInt(4) : random.nextInt(6)) {
+            case 0: return null;
+            case 1: return random.nextInt(1000) - 500;
+            case 2: return random.nextBoolean() ? "s{" + random.nextInt(10) + "]\"" : random.nextDouble();
+            case 3: return random.nextBoolean();
+            case 4: return randomObject(random, depth);
+            default:
+                List<Object> list = new ArrayList<>();
+                int size = random.nextInt(4);
+                for (int i = 0; i < size; i++) list.add(randomValue(random, depth - 1));
+                return list;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.rm.common.core.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * rm.date.clock 설정값에 따른 시계 선택, 시계가 RmDateTimeUtil의 현재 시간과 오늘 날짜 기본값에 사용되는지 확인
+ * RmClock.now(zone)(ZoneOffsetTable 사용)는 서머타임 전환 전후에서 LocalDateTime.ofInstant()와 비교함
+ */
+class RmClockTest {
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final String PATTERN = "yyyy-MM-dd HH:mm:ss.SSS";
+
+    @AfterEach
+    void tearDown() {
+        RmDateTimeUtil.setClock(null);
+    }
+
+    @Test
+    void knownNamesSelectClock() {
+        assertSame(RmClock.system(), RmDateTimeUtil.clockOf("system"));
+        assertSame(RmClock.coarse(), RmDateTimeUtil.clockOf("coarse"));
+    }
+
+    @Test
+    void unknownNameFallsBackToSystemClock() {
+        assertSame(RmClock.system(), RmDateTimeUtil.clockOf("corase"));
+        assertSame(RmClock.system(), RmDateTimeUtil.clockOf(""));
+    }
+
+    @Test
+    void ofStillRejectsUnknownName() {
+        assertThrows(IllegalArgumentException.class, () -> RmClock.of("corase"));
+    }
+
+    @Test
+    void nullClockResetsToSystemClock() {
+        RmDateTimeUtil.setClock(RmClock.manual(Instant.EPOCH));
+        RmDateTimeUtil.setClock(null);
+
+        assertSame(RmClock.system(), RmDateTimeUtil.getClock());
+        assertNotNull(RmDateTimeUtil.getNowUTC());
+    }
+
+    @Test
+    void manualClockDrivesGetNow() {
+        // 2021-03-14 02:00 (뉴욕 서머타임 시작) 1초 전
+        RmClock.Manual clock = RmClock.manual(Instant.parse("2021-03-14T06:59:59.123Z"));
+        RmDateTimeUtil.setClock(clock);
+
+        assertEquals("2021-03-14 06:59:59.123", RmDateTimeUtil.getNowUTC().get(PATTERN));
+        assertEquals("2021-03-14 01:59:59.123", RmDateTimeUtil.getNow(NEW_YORK).get(PATTERN));
+        assertEquals("2021-03-14 15:59:59.123", RmDateTimeUtil.getNow(SEOUL).get(PATTERN));
+        assertEquals(clock.millis(), RmDateTimeUtil.getNow(NEW_YORK).getUnixMillis());
+
+        clock.advance(Duration.ofSeconds(1));
+        assertEquals("2021-03-14 03:00:00.123", RmDateTimeUtil.getNow(NEW_YORK).get(PATTERN));
+
+        clock.set(Instant.parse("1969-12-31T23:59:59.999Z"));
+        assertEquals("1969-12-31 23:59:59.999", RmDateTimeUtil.getNowUTC().get(PATTERN));
+    }
+
+    @Test
+    void clockDrivesDefaultDateOfTimeOnlyInput() {
+        // UTC 2021-01-01 00:30은 서울 기준 2021-01-01, 뉴욕 기준 2020-12-31
+        RmDateTimeUtil.setClock(RmClock.manual(Instant.parse("2021-01-01T00:30:00Z")));
+
+        assertEquals("2021-01-01 13:30:00.000", RmDateTimeUtil.getDateTimeFrom(SEOUL, "13:30").get(PATTERN));
+        assertEquals("2020-12-31 13:30:00.000", RmDateTimeUtil.getDateTimeFrom(NEW_YORK, "13:30").get(PATTERN));
+        assertEquals("2021-01-01 09:05:07.000", RmDateTimeUtil.getDateTimeFromUTC("9:05:07").get(PATTERN));
+        // 날짜가 있으면 시계를 사용하지 않음
+        assertEquals("2019-05-06 13:30:00.000", RmDateTimeUtil.getDateTimeFrom(NEW_YORK, "2019-05-06 13:30").get(PATTERN));
+    }
+
+    @Test
+    void nowMatchesJavaTimeAcrossDst() {
+        ZoneId[] zones = {NEW_YORK, SEOUL, ZoneId.of("Europe/London"), ZoneId.of("Australia/Lord_Howe"), ZoneOffset.ofHours(-3)};
+        Instant[] transitions = {
+                Instant.parse("2021-03-14T07:00:00Z"), Instant.parse("2021-11-07T06:00:00Z"),
+                Instant.parse("2021-03-28T01:00:00Z"), Instant.parse("2021-10-31T01:00:00Z"),
+                Instant.parse("2021-04-03T15:00:00Z"), Instant.parse("2101-03-13T07:00:00Z")
+        };
+        Random random = new Random(23);
+        for (ZoneId zone : zones) {
+            for (Instant transition : transitions) {
+                // 전환 시점 전후 ±2시간을 밀리초 단위까지 섞어서 확인함
+                for (int i = 0; i < 500; i++) {
+                    Instant instant = transition.plusMillis(random.nextInt(4 * 3600_000) - 2 * 3600_000);
+                    RmClock clock = RmClock.manual(instant);
+
+                    assertEquals(LocalDateTime.ofInstant(instant, zone), clock.now(zone), zone + " " + instant);
+                }
+            }
+        }
+    }
+
+    @Test
+    void coarseClockAdvances() throws Exception {
+        RmClock clock = RmClock.coarse();
+        long first = clock.millis();
+        Thread.sleep(50);
+        long second = clock.millis();
+
+        assertTrue(second > first, first + " -> " + second);
+        // 갱신 주기(1ms)와 스케줄링 지연을 고려해도 시스템 시간과 크게 차이나지 않음
+        assertTrue(Math.abs(System.currentTimeMillis() - second) < 1000, String.valueOf(second));
+        assertEquals(LocalDateTime.ofInstant(Instant.ofEpochMilli(second), SEOUL).toLocalDate(), RmClock.coarse().now(SEOUL).toLocalDate());
+    }
+}
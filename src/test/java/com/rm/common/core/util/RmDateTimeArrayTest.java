@@ -0,0 +1,242 @@
+package com.rm.common.core.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RmDateTimeArray의 대량 연산 결과가 같은 값을 Arrays.sort(), java.time, 전체 비교로 계산한 결과와 같은지 확인
+ *  - sort(): 값 범위에 따른 홀수/짝수 번의 기수 정렬 단계, 최댓값 - 최솟값이 long 범위를 넘는 경우
+ *  - truncatedTo()/countBy(): 서머타임 전환 전후 (존재하지 않는 시간, 두번 존재하는 시간 포함)
+ *  - lowerBound()/upperBound()/countBetween(): 중복 값, 배열 범위 밖의 경계
+ * PARALLEL_THRESHOLD 이상의 배열로 구간을 나누는 경로도 함께 확인함
+ */
+class RmDateTimeArrayTest {
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+    private static final ZoneId SAO_PAULO = ZoneId.of("America/Sao_Paulo");
+
+    @Test
+    void sortMatchesArraysSortForEveryPassCount() {
+        Random random = new Random(24);
+        // 값 범위가 1 ~ 8바이트이면 기수 정렬 단계도 1 ~ 8번 (홀수 번이면 정렬 결과가 보조 배열에 남음)
+        for (int bytes = 1; bytes <= 8; bytes++) {
+            long range = bytes == 8 ? Long.MAX_VALUE : 1L << (8 * bytes);
+            for (int size : new int[]{2, 3, 100, 1000}) {
+                long base = random.nextLong() / 2;
+                long[] values = new long[size];
+                for (int i = 0; i < size; i++) {
+                    values[i] = base + Math.floorMod(random.nextLong(), range);
+                }
+                assertSorted(values);
+            }
+        }
+    }
+
+    @Test
+    void sortHandlesRangeBeyondLong() {
+        // 최댓값 - 최솟값이 long 범위를 넘어도 부호 없는 차이로 정렬함
+        assertSorted(new long[]{Long.MAX_VALUE, Long.MIN_VALUE});
+        assertSorted(new long[]{0, Long.MAX_VALUE, -1, Long.MIN_VALUE, 1, Long.MIN_VALUE + 1, Long.MAX_VALUE - 1});
+
+        Random random = new Random(2400);
+        long[] values = new long[5000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(10) == 0 ? (random.nextBoolean() ? Long.MIN_VALUE : Long.MAX_VALUE) : random.nextLong();
+        }
+        assertSorted(values);
+
+        RmDateTimeArray array = RmDateTimeArray.of(NEW_YORK, Long.MIN_VALUE, Long.MAX_VALUE);
+        assertTrue(array.isSorted());
+        assertArrayEquals(new long[]{Long.MIN_VALUE, Long.MAX_VALUE}, array.sort().toArray());
+    }
+
+    @Test
+    void sortKeepsSortedState() {
+        // 정렬된 배열은 그대로 두고, add()로 순서가 바뀌면 다시 정렬함
+        RmDateTimeArray array = RmDateTimeArray.of(NEW_YORK, 1, 2, 2, 3);
+        assertTrue(array.isSorted());
+        assertSame(array, array.sort());
+        assertFalse(array.add(0).isSorted());
+        assertArrayEquals(new long[]{0, 1, 2, 2, 3}, array.sort().toArray());
+        assertTrue(array.isSorted());
+        assertArrayEquals(new long[]{0, 1, 2, 2, 3, 5}, array.add(5).toArray());
+        assertTrue(array.isSorted());
+    }
+
+    @Test
+    void largeArraysMatchSequentialResults() {
+        Random random = new Random(65536);
+        long from = LocalDateTime.of(2020, 1, 1, 0, 0).atZone(NEW_YORK).toInstant().toEpochMilli();
+        long[] values = new long[RmDateTimeArray.PARALLEL_THRESHOLD * 2 + 3];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = from + (long) (random.nextDouble() * 2 * 365 * 86400_000L);
+        }
+        RmDateTimeArray array = RmDateTimeArray.of(NEW_YORK, values);
+        assertFalse(array.isSorted());
+
+        long fromInclusive = values[0];
+        long toExclusive = values[1];
+        assertEquals(countBetween(values, fromInclusive, toExclusive), array.countBetween(fromInclusive, toExclusive));
+        assertEquals(countBetween(values, toExclusive, fromInclusive), array.countBetween(toExclusive, fromInclusive));
+
+        RmDateTimeArray truncated = array.truncatedTo(ChronoUnit.HOURS);
+        for (int i = 0; i < values.length; i += 97) {
+            assertEquals(truncate(values[i], ChronoUnit.HOURS, NEW_YORK), truncated.getMillis(i));
+        }
+
+        assertSorted(values);
+        assertEquals(countBetween(values, fromInclusive, toExclusive), array.sort().countBetween(fromInclusive, toExclusive));
+    }
+
+    @Test
+    void truncatedToMatchesJavaTimeAcrossDst() {
+        // 2021-03-14 02:00 (존재하지 않는 시간), 2021-11-07 01:00 ~ 02:00 (두번 존재하는 시간)을 포함함
+        assertTruncatedTo(NEW_YORK, LocalDateTime.of(2021, 3, 1, 0, 0), LocalDateTime.of(2021, 3, 22, 0, 0));
+        assertTruncatedTo(NEW_YORK, LocalDateTime.of(2021, 10, 25, 0, 0), LocalDateTime.of(2021, 11, 15, 0, 0));
+        // 2018-11-04 00:00이 존재하지 않는 시간대, 일/주 시작 시간이 01:00으로 밀림
+        assertTruncatedTo(SAO_PAULO, LocalDateTime.of(2018, 10, 28, 0, 0), LocalDateTime.of(2018, 11, 12, 0, 0));
+        // 1970년 이전 (음수 밀리초)
+        assertTruncatedTo(NEW_YORK, LocalDateTime.of(1969, 12, 20, 0, 0), LocalDateTime.of(1970, 1, 10, 0, 0));
+
+        assertThrows(UnsupportedTemporalTypeException.class, () -> RmDateTimeArray.of(NEW_YORK, 0).truncatedTo(ChronoUnit.MONTHS));
+    }
+
+    @Test
+    void countByGroupsInZone() {
+        Random random = new Random(240);
+        long from = LocalDateTime.of(2021, 3, 1, 0, 0).atZone(NEW_YORK).toInstant().toEpochMilli();
+        long[] values = new long[5000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = from + (long) (random.nextDouble() * 300 * 86400_000L);
+        }
+
+        for (ChronoUnit unit : new ChronoUnit[]{ChronoUnit.HOURS, ChronoUnit.DAYS, ChronoUnit.WEEKS}) {
+            Map<Long, Integer> expected = new TreeMap<>();
+            for (long value : values) {
+                expected.merge(truncate(value, unit, NEW_YORK), 1, Integer::sum);
+            }
+
+            RmDateTimeArray.Buckets buckets = RmDateTimeArray.of(NEW_YORK, values).countBy(unit);
+            assertEquals(expected.size(), buckets.size(), unit.toString());
+            int index = 0;
+            for (Map.Entry<Long, Integer> entry : expected.entrySet()) {
+                assertEquals(entry.getKey(), buckets.getStarts()[index], unit.toString());
+                assertEquals(entry.getValue(), buckets.getCounts()[index], unit.toString());
+                assertEquals(entry.getKey(), buckets.getStart(index).getUnixMillis());
+                index++;
+            }
+        }
+    }
+
+    @Test
+    void boundsAndCountBetweenMatchLinearScan() {
+        Random random = new Random(2024);
+        for (int size : new int[]{0, 1, 2, 7, 100, 1000}) {
+            long[] values = new long[size];
+            for (int i = 0; i < size; i++) {
+                // 중복이 많도록 좁은 범위의 값을 사용함
+                values[i] = random.nextInt(size / 2 + 1) * 10L - 100;
+            }
+            RmDateTimeArray unsorted = RmDateTimeArray.of(NEW_YORK, values);
+            RmDateTimeArray sorted = RmDateTimeArray.of(NEW_YORK, values).sort();
+            long[] sortedValues = sorted.toArray();
+
+            long[] probes = new long[size * 3 + 4];
+            for (int i = 0; i < size; i++) {
+                probes[i * 3] = values[i] - 1;
+                probes[i * 3 + 1] = values[i];
+                probes[i * 3 + 2] = values[i] + 1;
+            }
+            probes[size * 3] = Long.MIN_VALUE;
+            probes[size * 3 + 1] = Long.MAX_VALUE;
+            probes[size * 3 + 2] = -1000;
+            probes[size * 3 + 3] = size * 100L;
+
+            for (long probe : probes) {
+                assertEquals(countBetween(sortedValues, Long.MIN_VALUE, probe), sorted.lowerBound(probe), "lowerBound " + probe);
+                int upper = sorted.upperBound(probe);
+                assertTrue(upper == size || sortedValues[upper] > probe, "upperBound " + probe);
+                assertTrue(upper == 0 || sortedValues[upper - 1] <= probe, "upperBound " + probe);
+            }
+            for (int i = 0; i < 200; i++) {
+                long fromInclusive = probes[random.nextInt(probes.length)];
+                long toExclusive = probes[random.nextInt(probes.length)];
+                int expected = countBetween(values, fromInclusive, toExclusive);
+
+                assertEquals(expected, sorted.countBetween(fromInclusive, toExclusive), fromInclusive + " ~ " + toExclusive);
+                assertEquals(expected, unsorted.countBetween(fromInclusive, toExclusive), fromInclusive + " ~ " + toExclusive);
+            }
+        }
+    }
+
+    @Test
+    void boundsRequireSortedArray() {
+        RmDateTimeArray array = RmDateTimeArray.of(NEW_YORK, 3, 1, 2);
+        assertThrows(IllegalStateException.class, () -> array.lowerBound(1));
+        assertThrows(IllegalStateException.class, () -> array.upperBound(1));
+        assertEquals(2, array.countBetween(1, 3));
+
+        array.sort();
+        assertEquals(1, array.lowerBound(2));
+        assertEquals(2, array.upperBound(2));
+        assertEquals(3, array.upperBound(Long.MAX_VALUE));
+        assertEquals(0, array.lowerBound(Long.MIN_VALUE));
+    }
+
+    private static void assertSorted(long[] values) {
+        long[] expected = values.clone();
+        Arrays.sort(expected);
+
+        RmDateTimeArray array = RmDateTimeArray.of(NEW_YORK, values);
+        assertArrayEquals(expected, array.sort().toArray());
+        assertTrue(array.isSorted());
+    }
+
+    private static void assertTruncatedTo(ZoneId zone, LocalDateTime from, LocalDateTime to) {
+        RmDateTimeArray array = new RmDateTimeArray(zone);
+        long fromMillis = from.atZone(zone).toInstant().toEpochMilli();
+        long toMillis = to.atZone(zone).toInstant().toEpochMilli();
+        // 7분 13초 간격으로 분/초 경계에 걸치지 않는 시간을 고르게 포함함
+        for (long millis = fromMillis; millis < toMillis; millis += 433_001) {
+            array.add(millis);
+        }
+
+        for (ChronoUnit unit : new ChronoUnit[]{ChronoUnit.SECONDS, ChronoUnit.MINUTES, ChronoUnit.HOURS, ChronoUnit.DAYS, ChronoUnit.WEEKS}) {
+            RmDateTimeArray truncated = array.truncatedTo(unit);
+            assertEquals(array.size(), truncated.size());
+            for (int i = 0; i < array.size(); i++) {
+                long millis = array.getMillis(i);
+                assertEquals(truncate(millis, unit, zone), truncated.getMillis(i), zone + " " + unit + " " + Instant.ofEpochMilli(millis));
+            }
+        }
+    }
+
+    // 시간대 기준 시간을 절삭한 뒤 LocalDateTime.atZone()으로 UTC 기준 밀리초로 변환함
+    private static long truncate(long epochMillis, ChronoUnit unit, ZoneId zone) {
+        LocalDateTime local = Instant.ofEpochMilli(epochMillis).atZone(zone).toLocalDateTime();
+        LocalDateTime truncated = unit == ChronoUnit.WEEKS
+                ? local.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).atStartOfDay()
+                : local.truncatedTo(unit);
+        return truncated.atZone(zone).toInstant().toEpochMilli();
+    }
+
+    private static int countBetween(long[] values, long fromInclusive, long toExclusive) {
+        int count = 0;
+        for (long value : values) {
+            if (value >= fromInclusive && value < toExclusive) count++;
+        }
+        return count;
+    }
+}
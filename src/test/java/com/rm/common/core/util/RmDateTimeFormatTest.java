@@ -0,0 +1,101 @@
+package com.rm.common.core.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RmDateTimeFormat의 전용 포맷 출력(format(), writeTo())이 같은 패턴의 DateTimeFormatter.format() 결과와 같은지 확인
+ * 전용 포맷이 처리하는 1 ~ 9999년의 경계, 1000년 미만(앞자리 0 채움), 범위 밖 년도(DateTimeFormatter로 출력),
+ * 초 이하 6자리에서 버려지는 나노초를 포함함
+ */
+class RmDateTimeFormatTest {
+    private static final int[] YEARS = {-10000, -1, 0, 1, 9, 10, 99, 100, 999, 1000, 1970, 2021, 9999, 10000, 123456};
+    private static final int[] NANOS = {0, 1, 999, 1000, 123_456_000, 123_456_789, 999_999_999, 500_000_000, 1_000_000};
+
+    @Test
+    void everyPredefinedPatternIsRegistered() {
+        for (String pattern : Arrays.asList(RmDateTimeUtil.ISO_DATE, RmDateTimeUtil.ISO_TIME, RmDateTimeUtil.ISO_DATE_TIME, RmDateTimeUtil.YYYYMMDD_DOT,
+                RmDateTimeUtil.YYYYMMDD_HYP, RmDateTimeUtil.YYYYMMDD_SLA, RmDateTimeUtil.YYYYMMDD_DOT_HHMM, RmDateTimeUtil.YYYYMMDD_HYP_HHMM,
+                RmDateTimeUtil.YYYYMMDD_DOT_HHMMSS, RmDateTimeUtil.YYYYMMDD_HYP_HHMMSS, RmDateTimeUtil.YYYYMMDD_HYP_HHMMSS_SSSSSS)) {
+            assertNotNull(RmDateTimeFormat.getPredefined(pattern), pattern);
+        }
+    }
+
+    @Test
+    void edgeValuesMatchDateTimeFormatter() throws Exception {
+        for (String pattern : RmDateTimeFormat.getPredefinedPatterns()) {
+            for (int year : YEARS) {
+                for (int nano : NANOS) {
+                    assertSameAsFormatter(pattern, LocalDateTime.of(year, 1 + Math.floorMod(year, 12), 1 + Math.floorMod(year, 28), 23, 5, 9, nano));
+                    assertSameAsFormatter(pattern, LocalDateTime.of(year, 12, 31, 0, 0, 0, nano));
+                }
+            }
+        }
+    }
+
+    @Test
+    void randomValuesMatchDateTimeFormatter() throws Exception {
+        Random random = new Random(20);
+        for (String pattern : RmDateTimeFormat.getPredefinedPatterns()) {
+            for (int i = 0; i < 2000; i++) {
+                int year = random.nextInt(4) == 0 ? random.nextInt(1000) : random.nextInt(12000) - 1000;
+                LocalDateTime localDateTime = LocalDateTime.of(year, 1 + random.nextInt(12), 1 + random.nextInt(28),
+                        random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1_000_000_000));
+                assertSameAsFormatter(pattern, localDateTime);
+            }
+        }
+    }
+
+    @Test
+    void formatUsesPredefinedOrCachedFormatter() {
+        LocalDateTime localDateTime = LocalDateTime.of(987, 6, 5, 4, 3, 2, 123_456_789);
+        assertEquals("0987.06.05 04:03:02.123456", RmDateTimeFormat.format(localDateTime, RmDateTimeUtil.YYYYMMDD_HYP_HHMMSS_SSSSSS));
+        assertEquals("0987-06-05T04:03:02", RmDateTimeFormat.format(localDateTime, RmDateTimeUtil.ISO_DATE_TIME));
+        // 전용 포맷이 없는 패턴은 캐시된 DateTimeFormatter로 출력함
+        assertEquals("05/06/0987 04:03", RmDateTimeFormat.format(localDateTime, "dd/MM/yyyy HH:mm"));
+        assertSame(RmDateTimeFormat.getFormatter("dd/MM/yyyy HH:mm"), RmDateTimeFormat.getFormatter("dd/MM/yyyy HH:mm"));
+    }
+
+    private static void assertSameAsFormatter(String pattern, LocalDateTime localDateTime) throws Exception {
+        RmDateTimeFormat format = RmDateTimeFormat.getPredefined(pattern);
+        String expected = localDateTime.format(DateTimeFormatter.ofPattern(pattern));
+        String message = pattern + " " + localDateTime;
+
+        assertEquals(expected, format.format(localDateTime), message);
+        assertEquals(expected, RmDateTimeFormat.format(localDateTime, pattern), message);
+        assertEquals(expected, writeTo(format, localDateTime, false), message);
+        assertEquals(expected + "Z", writeTo(format, localDateTime, true), message);
+    }
+
+    // writeTo()로 JSON 문자열 값을 기록하고 따옴표 안의 문자열을 반환함 (두 writeTo()의 결과가 같은지도 확인)
+    private static String writeTo(RmDateTimeFormat format, LocalDateTime localDateTime, boolean utc) throws Exception {
+        List<String> results = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            StringWriter writer = new StringWriter();
+            try (JsonGenerator generator = DataFormat.JSON.getMapper().getFactory().createGenerator(writer)) {
+                if (i == 0) {
+                    format.writeTo(generator, localDateTime, utc);
+                } else {
+                    format.writeTo(generator, localDateTime.getYear(), localDateTime.getMonthValue(), localDateTime.getDayOfMonth(),
+                            localDateTime.getHour(), localDateTime.getMinute(), localDateTime.getSecond(), localDateTime.getNano(), utc);
+                }
+            }
+            String json = writer.toString();
+            assertTrue(json.startsWith("\"") && json.endsWith("\""), json);
+            results.add(json.substring(1, json.length() - 1));
+        }
+        assertEquals(results.get(0), results.get(1));
+
+        return results.get(0);
+    }
+}
@@ -0,0 +1,188 @@
+package com.rm.common.core.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RmDateTimeParser의 결과가 기존 정규 표현식으로 찾은 결과와 같은지 확인
+ * 년도가 int 범위를 넘으면 양쪽 모두 NumberFormatException을 던지므로 예외 클래스를 비교함
+ */
+class RmDateTimeParserTest {
+    // 기존 RmDateTimeUtil의 정규 표현식
+    private static final Pattern DATE_PATTERN = Pattern.compile("^(?<year>\\d+)([./-])(?<month>\\d{1,2})\\2(?<day>\\d{1,2})(?:[^\\d]|$)");
+    private static final Pattern SIMPLE_DATE_PATTERN = Pattern.compile("^(?<year>(?:\\d*\\d{2})?\\d{2})(?<month>\\d{2})(?<day>\\d{2})$");
+    private static final Pattern TIME_PATTERN = Pattern.compile("(?:^|[^\\d])(?<hour>\\d{1,2}):(?<minute>\\d{1,2})(?::(?<second>\\d{1,2})(?:\\.(?<nano>\\d{1,9}))?)?$");
+
+    private static final String[] EDGE_CASES = {
+            "", "2020-01-23", "2021/02/27", "2002.1.1", "2002.1/1", "2002-01.01", "2002-1-1x", "2002-1-123", "2002-123-1",
+            "20-1-2", "0000-01-01", "000-01-01", "00000-01-01", "0000.00.00", "1990-00-00", "1990-13-45",
+            "951103", "19950201", "500102", "510102", "0000102", "00000102", "1230102", "12345", "1234567890", "00101",
+            "50-01-02", "51-01-02", "49.12.31", "1990-01-01\n", "1990-01-01\r\n", "1990-01-01\n\n", "950101\n", "950101\r\n",
+            "950101\u0085", "950101\u2028", "950101\u2029", "950101\r", "950101\n\n", "950101 ", " 950101",
+            "13:00", "9:30:24", "19:27:30.1324", "19:27:30.1", "19:27:30.123456789", "19:27:30.1234567890", "19:27:30.",
+            "1:2", "1:2:3", "123:45", "12:345", "12:34:567", "a12:34", "12:34a", "12:34\n", "12:34\r\n", "12:34\n\n",
+            "2020-01-01T12:34:56.789", "2020-01-01 12:34:56.789\n", "2020-01-01T25:61:61", "2020-01-01T99:99",
+            ":12:34", "1:12:34", "x1:12:34.5", "12:34:56.7:8", "2020-01-0112:30", "20200101 12:30", "20200101T12:30",
+            "99999999999-01-01", "2147483647-01-01", "2147483648-01-01", "21474836480101", "99999999999999",
+            "12345678901234567890-1-1", "0001-01-01", "0001.1.1 0:0:0.000000001",
+    };
+
+    @Test
+    void edgeCasesMatchRegex() {
+        for (String input : EDGE_CASES) {
+            assertSameResult(input);
+        }
+    }
+
+    @Test
+    void nanoDigitsArePaddedToNineDigits() {
+        String nanos = "123456789";
+        for (int digits = 1; digits <= 9; digits++) {
+            String input = "12:34:56." + nanos.substring(0, digits);
+            assertSameResult(input);
+
+            int expected = Integer.parseInt(nanos.substring(0, digits)) * (int) Math.pow(10, 9 - digits);
+            assertEquals(expected, RmDateTimeParser.nano(RmDateTimeParser.scanTime(input)), input);
+        }
+        assertSameResult("12:34:56.1234567890");
+    }
+
+    @Test
+    void oversizedYearThrowsLikeRegex() {
+        assertThrows(NumberFormatException.class, () -> RmDateTimeParser.scanDate("99999999999-01-01"));
+        assertThrows(NumberFormatException.class, () -> RmDateTimeParser.scanDate("9999999999990101"));
+        assertEquals(Integer.MAX_VALUE, RmDateTimeParser.year(RmDateTimeParser.scanDate("2147483647-01-01")));
+    }
+
+    @Test
+    void twoDigitYearPivotAndZeroFields() {
+        assertEquals(LocalDateTime.of(2050, 1, 2, 0, 0), toLocal("50-01-02"));
+        assertEquals(LocalDateTime.of(1951, 1, 2, 0, 0), toLocal("51-01-02"));
+        assertEquals(LocalDateTime.of(2000, 1, 2, 0, 0), toLocal("000102"));
+        assertEquals(LocalDateTime.of(2050, 1, 2, 0, 0), toLocal("500102"));
+        assertEquals(LocalDateTime.of(1951, 1, 2, 0, 0), toLocal("510102"));
+        assertEquals(LocalDateTime.of(1990, 1, 1, 0, 0), toLocal("1990-00-00"));
+        assertEquals(LocalDateTime.of(1990, 5, 1, 12, 30), toLocal("1990.5.0 12:30"));
+        // 기존과 같이 100 미만의 년도는 자릿수와 관계없이 변환함 ("0000"만 0년으로 봄)
+        assertEquals(LocalDateTime.of(2001, 1, 1, 0, 0), toLocal("0001-01-01"));
+        assertEquals(LocalDateTime.of(1999, 3, 4, 0, 0), toLocal("00099-03-04"));
+        assertNull(RmDateTimeUtil.getDateTimeFromUTC("0000-01-01"));
+        assertNull(RmDateTimeUtil.getDateTimeFromUTC("00000101"));
+    }
+
+    @Test
+    void randomInputsMatchRegex() {
+        Random random = new Random(20211026L);
+        for (int i = 0; i < 200_000; i++) {
+            assertSameResult(i % 2 == 0 ? randomChars(random) : randomDateTime(random));
+        }
+    }
+
+    private static LocalDateTime toLocal(String input) {
+        RmDateTime dateTime = RmDateTimeUtil.getDateTimeFromUTC(input);
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(dateTime.getUnixMillis(), 1000), 0, ZoneOffset.UTC);
+    }
+
+    private static void assertSameResult(String input) {
+        String message = "input: '" + escape(input) + "'";
+        assertEquals(outcome(() -> regexDate(input)), outcome(() -> RmDateTimeParser.scanDate(input)), message);
+        assertEquals(DATE_PATTERN.matcher(input).find(), RmDateTimeParser.hasSeparatedDate(input), message);
+        assertEquals(outcome(() -> regexTime(input)), outcome(() -> RmDateTimeParser.scanTime(input)), message);
+    }
+
+    private interface Scan {
+        long run();
+    }
+
+    private static String outcome(Scan scan) {
+        try {
+            return String.valueOf(scan.run());
+        } catch (RuntimeException e) {
+            return e.getClass().getName();
+        }
+    }
+
+    // 기존 createLocalDateTime()과 같은 순서로 찾은 뒤 RmDateTimeParser와 같은 형식으로 담음
+    private static long regexDate(String input) {
+        Matcher matcher = DATE_PATTERN.matcher(input);
+        if (!matcher.find()) {
+            matcher = SIMPLE_DATE_PATTERN.matcher(input);
+            if (!matcher.find()) return RmDateTimeParser.NO_MATCH;
+        }
+
+        String year = matcher.group("year");
+        boolean zeroYear = "0000".equals(year);
+        return (long) Integer.parseInt(year) << 32 | (zeroYear ? RmDateTimeParser.ZERO_YEAR : 0)
+                | Integer.parseInt(matcher.group("month")) << 8 | Integer.parseInt(matcher.group("day"));
+    }
+
+    private static long regexTime(String input) {
+        Matcher matcher = TIME_PATTERN.matcher(input);
+        if (!matcher.find()) return RmDateTimeParser.NO_MATCH;
+
+        long second = matcher.group("second") == null ? 0 : Integer.parseInt(matcher.group("second"));
+        long nano = 0;
+        if (matcher.group("nano") != null) {
+            nano = Integer.parseInt(matcher.group("nano")) * (long) Math.pow(10, 9 - matcher.group("nano").length());
+        }
+        return (long) Integer.parseInt(matcher.group("hour")) << 48 | (long) Integer.parseInt(matcher.group("minute")) << 40 | second << 32 | nano;
+    }
+
+    private static final String ALPHABET = "0123456789012345678901234567890123456789-./:: T\n\r\u0085\u2028a+Z";
+
+    private static String randomChars(Random random) {
+        int length = random.nextInt(24);
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return builder.toString();
+    }
+
+    // 날짜/시간 형태의 입력에서 자릿수, 구분자, 끝 문자를 임의로 바꿈
+    private static String randomDateTime(Random random) {
+        StringBuilder builder = new StringBuilder();
+        if (random.nextInt(4) != 0) {
+            String separator = random.nextInt(5) == 0 ? "" : String.valueOf("./-".charAt(random.nextInt(3)));
+            String secondSeparator = random.nextInt(8) == 0 ? String.valueOf("./-".charAt(random.nextInt(3))) : separator;
+            builder.append(digits(random, 1 + random.nextInt(random.nextInt(10) == 0 ? 12 : 4)))
+                    .append(separator).append(digits(random, 1 + random.nextInt(3)))
+                    .append(secondSeparator).append(digits(random, 1 + random.nextInt(3)));
+            if (random.nextBoolean()) builder.append(" T".charAt(random.nextInt(2)));
+        }
+        if (random.nextInt(3) != 0) {
+            builder.append(digits(random, 1 + random.nextInt(3))).append(':').append(digits(random, 1 + random.nextInt(3)));
+            if (random.nextBoolean()) {
+                builder.append(':').append(digits(random, 1 + random.nextInt(3)));
+                if (random.nextBoolean()) builder.append('.').append(digits(random, random.nextInt(11)));
+            }
+        }
+        switch (random.nextInt(8)) {
+            case 0: builder.append('\n'); break;
+            case 1: builder.append("\r\n"); break;
+            case 2: builder.append("\n\n"); break;
+            case 3: builder.append('Z'); break;
+            default: break;
+        }
+        return builder.toString();
+    }
+
+    private static String digits(Random random, int count) {
+        StringBuilder builder = new StringBuilder(count);
+        for (int i = 0; i < count; i++) {
+            builder.append((char) ('0' + random.nextInt(10)));
+        }
+        return builder.toString();
+    }
+
+    private static String escape(String input) {
+        return input.replace("\r", "\\r").replace("\n", "\\n").replace("\u0085", "\\u0085").replace("\u2028", "\\u2028");
+    }
+}
@@ -0,0 +1,269 @@
+package com.rm.common.core.util;
+
+import com.rm.common.core.exception.RmCommonException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * getDateTimeFrom(zone, input, format[, strict]) 및 getDateTimesFrom()의 결과가 기존 SimpleDateFormat 해석 결과와 같은지 확인
+ * 기존 구현의 JVM 기본 시간대 변환(서머타임 공백에서 시간이 밀림)은 제외하기 위해 SimpleDateFormat은 UTC로 해석함
+ *
+ *  - lenient: SimpleDateFormat(lenient)과 성공 여부 및 결과가 같아야 함
+ *  - strict: 패턴과 자릿수가 정확히 일치하는 입력에 대해 SimpleDateFormat(non-lenient, 전체 입력 일치)과 성공 여부 및 결과가 같아야 함
+ *    (SimpleDateFormat은 non-lenient에서도 자릿수를 가리지 않으므로 자릿수가 다른 입력은 비교하지 않음)
+ * 2자리 년도는 기준 년도(현재로부터 80년 전)만 SimpleDateFormat이 날짜까지 비교하므로 해당 년도는 제외함
+ */
+class RmDateTimePatternParseTest {
+    private static final ZoneId UTC = ZoneOffset.UTC;
+
+    private static final String[] PATTERNS = {
+            "yyyy-MM-dd", "yyyy-MM-dd HH:mm:ss", "yyyy.MM.dd HH:mm", "yyyy/MM/dd", "yyyyMMdd", "yyyyMMddHHmmss", "yyMMdd", "yy-MM-dd",
+            "dd/MM/yy", "yyyy-MM-dd'T'HH:mm:ss.SSS", "yyyy.MM.dd HH:mm:ss.SSSSSS", "HH:mm", "HH:mm:ss.S", "ss.S", "yyyy-MM", "yyyy",
+            "MMM d, yyyy", "EEE, dd MMM yyyy HH:mm:ss", "EEEE, MMMM d, yyyy h:mm a", "hh:mm a", "yyyy-MM-dd hh:mm", "K:mm a", "k:mm",
+            "yyyy-MM-dd HH:mm:ss Z", "yyyy-MM-dd'T'HH:mm:ssXXX", "yyyy-MM-dd'T'HH:mm:ssX", "D yyyy", "yyyy'년' MM'월' dd'일'",
+            "h 'o''clock' a", "''yy''MMdd",
+            "YYYY-ww-u", "YYYY-'W'ww-EEE", "YYYY-ww", "YYYY", "yyyy-ww", "yyyy-ww EEE", "yyyy-MM-W", "yyyy-MM-W EEE",
+    };
+
+    private static Locale defaultLocale;
+
+    @BeforeAll
+    static void useEnglishLocale() {
+        // 월/요일 이름 및 오전/오후 표기를 양쪽 모두 같은 로케일로 해석하도록 고정함
+        defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.US);
+    }
+
+    @AfterAll
+    static void restoreLocale() {
+        Locale.setDefault(defaultLocale);
+    }
+
+    @Test
+    void reportedRegressionsMatchSimpleDateFormat() {
+        assertEquals(LocalDateTime.of(1999, 1, 5, 0, 0), parse("99-01-05", "yy-MM-dd", false));
+        assertEquals(LocalDateTime.of(1995, 2, 1, 0, 0), parse("950201", "yyMMdd", false));
+        assertEquals(LocalDateTime.of(1970, 1, 1, 0, 0, 0, 5_000_000), parse("00.5", "ss.S", false));
+        assertEquals(LocalDateTime.of(2020, 1, 1, 10, 0, 0, 500_000_000), parse("2020-01-01 10:00:00.500", "yyyy-MM-dd HH:mm:ss.SSS", true));
+
+        for (String input : new String[]{"99-01-05", "950201", "00.5"}) {
+            String pattern = input.length() == 8 ? "yy-MM-dd" : input.length() == 6 ? "yyMMdd" : "ss.S";
+            assertSameAsLegacy(input, pattern, false);
+        }
+    }
+
+    @Test
+    void weekBasedFieldsMatchSimpleDateFormat() {
+        // 2020-12-31(목)은 미국 기준 2021년 1주차, 2021-01-01(금)과 같은 주
+        assertEquals(LocalDateTime.of(2020, 12, 27, 0, 0), parse("2021-01", "YYYY-ww", true));
+        assertEquals(LocalDateTime.of(2020, 12, 31, 0, 0), parse("2021-01-4", "YYYY-ww-u", true));
+
+        for (String input : new String[]{"2021-01", "2021-52", "2021-53", "2021-54", "2021-00", "2020-53", "2022-01"}) {
+            for (String pattern : new String[]{"YYYY-ww", "yyyy-ww"}) {
+                assertSameAsLegacy(input, pattern, false);
+                assertSameAsLegacy(input, pattern, true);
+            }
+        }
+        assertSameAsLegacy("2022-1", "YYYY-ww", false);
+        assertSameAsLegacy("21-1", "YY-w", false);
+        for (String input : new String[]{"2021-02-1 Sun", "2021-02-5 Sat", "2021-02-6 Mon", "2021-02-0 Sun"}) {
+            assertSameAsLegacy(input, "yyyy-MM-W EEE", false);
+            assertSameAsLegacy(input, "yyyy-MM-W EEE", true);
+        }
+    }
+
+    @Test
+    void unsupportedLettersAreRejected() {
+        for (String pattern : new String[]{"yyyy-MM-F EEE", "yyyy-MM-dd VV", "uuuu-MM-dd'T'HH:mm n", "yyyy-MM-dd 'x", "yyyy-MM-dd XXXX"}) {
+            RmCommonException exception = assertThrows(RmCommonException.class, () -> RmDateTimeUtil.getDateTimeFrom(UTC, "2020-01-01", pattern), pattern);
+            assertTrue(exception.getCause() instanceof IllegalArgumentException, pattern);
+
+            exception = assertThrows(RmCommonException.class, () -> RmDateTimeUtil.getDateTimesFrom(UTC, Arrays.asList("2020-01-01"), pattern, false), pattern);
+            assertTrue(exception.getCause() instanceof IllegalArgumentException, pattern);
+        }
+    }
+
+    @Test
+    void dayOfWeekNumberMatchesSimpleDateFormat() {
+        assertEquals(LocalDateTime.of(2021, 10, 25, 0, 0), parse("2021-10-25 1", "yyyy-MM-dd u", true));
+        // 날짜와 요일이 다르면 strict 모드에서만 실패함
+        for (String input : new String[]{"2021-10-25 1", "2021-10-25 2", "2021-10-25 7", "2021-10-25 9"}) {
+            assertSameAsLegacy(input, "yyyy-MM-dd u", false);
+            assertSameAsLegacy(input, "yyyy-MM-dd u", true);
+        }
+    }
+
+    @Test
+    void offsetIsConvertedToRequestedZone() {
+        ZoneId seoul = ZoneId.of("Asia/Seoul");
+        RmDateTime dateTime = RmDateTimeUtil.getDateTimeFrom(seoul, "2021-10-25 10:00:00 +0000", "yyyy-MM-dd HH:mm:ss Z");
+        assertEquals(LocalDateTime.of(2021, 10, 25, 19, 0), dateTime.getLocalDateTime());
+        assertEquals(LocalDateTime.of(2021, 10, 25, 1, 0), parse("2021-10-25T10:00:00+09:00", "yyyy-MM-dd'T'HH:mm:ssXXX", true));
+    }
+
+    @Test
+    void twoDigitYearsMatchSimpleDateFormat() {
+        int boundary = Math.floorMod(LocalDateTime.now().getYear() - 80, 100);
+        for (int year = 0; year < 100; year++) {
+            if (year == boundary) continue;
+
+            String yy = String.format("%02d", year);
+            for (String input : new String[]{yy + "-03-04", yy + "0304"}) {
+                String pattern = input.length() == 8 ? "yy-MM-dd" : "yyMMdd";
+                assertSameAsLegacy(input, pattern, false);
+                assertSameAsLegacy(input, pattern, true);
+            }
+            // 2자리가 아닌 년도는 그대로 사용함
+            assertSameAsLegacy("19" + yy + "-03-04", "yy-MM-dd", false);
+            assertSameAsLegacy("19" + yy, "y", false);
+            assertSameAsLegacy(yy, "y", false);
+        }
+    }
+
+    @Test
+    void fractionIsMilliseconds() {
+        for (String input : new String[]{"00.5", "00.05", "00.005", "00.123", "00.1234", "59.999999", "07.000001"}) {
+            assertSameAsLegacy(input, "ss.S", false);
+            assertSameAsLegacy(input, "ss.SSS", false);
+        }
+        assertSameAsLegacy("2020.01.01 10:00:00.123456", "yyyy.MM.dd HH:mm:ss.SSSSSS", false);
+        assertSameAsLegacy("10:00:00.050", "HH:mm:ss.SSS", true);
+        assertSameAsLegacy("10:00:00.5", "HH:mm:ss.S", true);
+    }
+
+    @Test
+    void outOfRangeValuesRollOverInLenientModeAndFailInStrictMode() {
+        Random random = new Random(7);
+        for (int i = 0; i < 5000; i++) {
+            String input = String.format("%04d-%02d-%02d %02d:%02d:%02d", 1900 + random.nextInt(200), random.nextInt(14),
+                    random.nextInt(33), random.nextInt(26), random.nextInt(62), random.nextInt(62));
+            assertSameAsLegacy(input, "yyyy-MM-dd HH:mm:ss", false);
+            assertSameAsLegacy(input, "yyyy-MM-dd HH:mm:ss", true);
+        }
+        for (String input : new String[]{"2021-02-29", "2020-02-30", "2020-13-01", "2020-00-10", "2020-04-31", "2020-12-00"}) {
+            assertSameAsLegacy(input, "yyyy-MM-dd", false);
+            assertSameAsLegacy(input, "yyyy-MM-dd", true);
+        }
+        for (String input : new String[]{"2020-13", "2020-00", "25:00", "24:60", "12:00 PM", "13:05 AM"}) {
+            String pattern = input.endsWith("M") ? "hh:mm a" : input.indexOf(':') > 0 ? "HH:mm" : "yyyy-MM";
+            assertSameAsLegacy(input, pattern, false);
+        }
+    }
+
+    @Test
+    void randomInputsMatchSimpleDateFormat() {
+        Random random = new Random(20211025L);
+        int boundary = Math.floorMod(LocalDateTime.now().getYear() - 80, 100);
+        for (String pattern : PATTERNS) {
+            for (int i = 0; i < 300; i++) {
+                String input = format(pattern, randomDateTime(random));
+                if (pattern.contains("yy") && !pattern.contains("yyyy") && input.contains(String.format("%02d", boundary))) continue;
+
+                assertSameAsLegacy(input, pattern, false);
+                assertSameAsLegacy(input, pattern, true);
+                // lenient 모드에서만 허용되는 변형: 앞의 0 제거, 대소문자 변경, 뒤에 붙은 문자열
+                // (2자리 년도의 0을 빼면 1자리 년도(서기 1 ~ 9년)가 되어 율리우스력을 쓰는 SimpleDateFormat과 비교할 수 없고, 오프셋은 자릿수가 정해져 있으므로 제외)
+                if ((pattern.contains("yyyy") || !pattern.contains("y")) && !pattern.contains("Z") && !pattern.contains("X")) {
+                    assertSameAsLegacy(input.replaceAll("(?<![0-9])0([0-9])", "$1"), pattern, false);
+                }
+                assertSameAsLegacy(input.toUpperCase(Locale.US), pattern, false);
+                assertSameAsLegacy(input + " trailing", pattern, false);
+            }
+        }
+    }
+
+    @Test
+    void columnParsingMatchesSimpleDateFormat() {
+        Random random = new Random(99);
+        String boundary = String.format("%02d", Math.floorMod(LocalDateTime.now().getYear() - 80, 100));
+        for (String pattern : new String[]{"yyyy-MM-dd HH:mm:ss", "yyMMdd", "dd/MM/yy", "yyyy.MM.dd HH:mm:ss.SSSSSS"}) {
+            List<String> inputs = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                String input;
+                do {
+                    input = format(pattern, randomDateTime(random));
+                } while (!pattern.contains("yyyy") && input.contains(boundary));
+                inputs.add(i % 17 == 0 ? null : i % 19 == 0 ? "" : input);
+            }
+
+            for (boolean strict : new boolean[]{false, true}) {
+                List<RmDateTime> result = RmDateTimeUtil.getDateTimesFrom(UTC, inputs, pattern, strict);
+                assertEquals(inputs.size(), result.size());
+                for (int i = 0; i < inputs.size(); i++) {
+                    String input = inputs.get(i);
+                    if (input == null || input.isEmpty()) {
+                        assertNull(result.get(i));
+                    } else {
+                        assertEquals(legacy(input, pattern, strict), result.get(i).getLocalDateTime().toString(), pattern + " '" + input + "'");
+                    }
+                }
+            }
+        }
+
+        List<String> column = Arrays.asList("2021-01-01", null, "2021-02-30", "2021-03-01");
+        assertEquals(4, RmDateTimeUtil.getDateTimesFrom(UTC, column, "yyyy-MM-dd", false).size());
+        RmCommonException exception = assertThrows(RmCommonException.class, () -> RmDateTimeUtil.getDateTimesFrom(UTC, column, "yyyy-MM-dd", true));
+        assertTrue(String.valueOf(exception.getMessage()).contains("index 2"), exception.getMessage());
+        assertTrue(exception.getCause() instanceof DateTimeException, String.valueOf(exception.getCause()));
+    }
+
+    private static void assertSameAsLegacy(String input, String pattern, boolean strict) {
+        assertEquals(legacy(input, pattern, strict), current(input, pattern, strict), (strict ? "strict " : "lenient ") + pattern + " '" + input + "'");
+    }
+
+    private static String current(String input, String pattern, boolean strict) {
+        try {
+            return parse(input, pattern, strict).toString();
+        } catch (RmCommonException e) {
+            return "error";
+        }
+    }
+
+    private static LocalDateTime parse(String input, String pattern, boolean strict) {
+        return RmDateTimeUtil.getDateTimeFrom(UTC, input, pattern, strict).getLocalDateTime();
+    }
+
+    // 기존 getDateTimeFrom(zone, input, format)과 같이 SimpleDateFormat으로 해석함
+    private static String legacy(String input, String pattern, boolean strict) {
+        SimpleDateFormat format = new SimpleDateFormat(pattern);
+        format.setTimeZone(TimeZone.getTimeZone("UTC"));
+        format.setLenient(!strict);
+
+        ParsePosition position = new ParsePosition(0);
+        Date date = format.parse(input, position);
+        if (date == null || (strict && position.getIndex() != input.length())) return "error";
+
+        return LocalDateTime.ofInstant(date.toInstant(), ZoneOffset.UTC).toString();
+    }
+
+    private static String format(String pattern, LocalDateTime dateTime) {
+        SimpleDateFormat format = new SimpleDateFormat(pattern);
+        format.setTimeZone(TimeZone.getTimeZone("UTC"));
+        return format.format(Date.from(dateTime.toInstant(ZoneOffset.UTC)));
+    }
+
+    // 율리우스력 전환 이후, 밀리초 단위
+    private static LocalDateTime randomDateTime(Random random) {
+        long from = LocalDateTime.of(1900, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+        long to = LocalDateTime.of(2100, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+        long second = from + (long) (random.nextDouble() * (to - from));
+        return LocalDateTime.ofEpochSecond(second, random.nextInt(1000) * 1_000_000, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,174 @@
+package com.rm.common.core.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RmDateTimeRangeIndex의 조회 결과가 모든 구간을 RmDateTimeRange.contains()/overlaps()로 확인한 결과와 같은지 확인
+ * 좁은 범위의 무작위 구간으로 빈 구간, 같은 시작 시간, 경계가 맞닿는 구간이 많이 생기도록 하며,
+ * 구간마다 시간대를 다르게 해서 UTC 기준으로 비교하는지도 확인함
+ */
+class RmDateTimeRangeIndexTest {
+    private static final ZoneId[] ZONES = {RmDateTimeUtil.UTC, ZoneId.of("Asia/Seoul"), ZoneId.of("America/New_York")};
+    private static final long BASE = 1_600_000_000_000L;
+
+    @Test
+    void randomRangesMatchBruteForce() {
+        Random random = new Random(25);
+        for (int round = 0; round < 20; round++) {
+            List<RmDateTimeRange> ranges = randomRanges(random, 1 + random.nextInt(300));
+            RmDateTimeRangeIndex<Integer> index = index(ranges);
+            assertEquals(ranges.stream().filter(range -> !range.isEmpty()).count(), index.size());
+
+            for (long time = BASE - 10; time <= BASE + 1210; time++) {
+                long target = time;
+                List<Integer> expected = expected(ranges, range -> range.contains(target));
+
+                assertEquals(expected, index.containing(target), "containing " + time);
+                assertEquals(expected.size(), index.countContaining(target), "countContaining " + time);
+            }
+            for (int i = 0; i < 2000; i++) {
+                long from = BASE - 10 + random.nextInt(1220);
+                long to = from + random.nextInt(100) - 10;
+                List<Integer> expected = expected(ranges, range -> range.overlaps(from, to));
+
+                assertEquals(expected, index.overlapping(from, to), "overlapping " + from + " ~ " + to);
+            }
+        }
+    }
+
+    @Test
+    void emptyRangesAndEqualStarts() {
+        List<RmDateTimeRange> ranges = Arrays.asList(range(100, 100), range(100, 150), range(100, 120), range(100, 150), range(120, 120), range(0, 0));
+        RmDateTimeRangeIndex<Integer> index = index(ranges);
+
+        // 빈 구간은 제외하고, 같은 시작 시간은 종료 시간 순, 같은 구간은 입력 순으로 반환함
+        assertEquals(3, index.size());
+        assertEquals(Arrays.asList(2, 1, 3), index.containing(BASE + 100));
+        assertEquals(Arrays.asList(1, 3), index.containing(BASE + 120));
+        assertEquals(Collections.emptyList(), index.containing(BASE));
+        assertEquals(Collections.emptyList(), index.containing(BASE + 150));
+        assertEquals(Arrays.asList(2, 1, 3), index.overlapping(range(0, 200)));
+        // 빈 구간으로 조회하면 아무 구간과도 겹치지 않음
+        assertEquals(Collections.emptyList(), index.overlapping(range(110, 110)));
+
+        RmDateTimeRangeIndex<Integer> empty = index(Arrays.asList(range(5, 5), range(7, 7)));
+        assertEquals(0, empty.size());
+        assertEquals(Collections.emptyList(), empty.containing(BASE + 5));
+        assertArrayEquals(new int[]{0, 0}, empty.countContaining(new long[]{BASE + 5, BASE + 7}));
+    }
+
+    @Test
+    void overlappingExcludesRangeStartingAtToExclusive() {
+        RmDateTimeRangeIndex<Integer> index = index(Arrays.asList(range(10, 20), range(20, 30), range(19, 20), range(29, 40)));
+
+        // toExclusive에 시작하는 구간은 제외하고, toExclusive - 1에 시작하는 구간은 포함함
+        assertEquals(Arrays.asList(0, 2, 1), index.overlapping(BASE + 19, BASE + 29));
+        assertEquals(Arrays.asList(0, 2, 1, 3), index.overlapping(BASE + 19, BASE + 30));
+        assertEquals(Arrays.asList(1, 3), index.overlapping(BASE + 20, BASE + 30));
+        assertEquals(Collections.emptyList(), index.overlapping(BASE, BASE + 10));
+        assertEquals(Collections.singletonList(0), index.overlapping(BASE, BASE + 11));
+        assertEquals(Collections.singletonList(3), index.overlapping(BASE + 30, BASE + 31));
+        assertEquals(Collections.emptyList(), index.overlapping(BASE + 40, BASE + 50));
+        // from >= to이면 빈 구간으로 처리함
+        assertEquals(Collections.emptyList(), index.overlapping(BASE + 25, BASE + 25));
+        assertEquals(Collections.emptyList(), index.overlapping(BASE + 25, BASE + 15));
+        assertEquals(Arrays.asList(0, 2, 1, 3), index.overlapping(Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+
+    @Test
+    void sweepMatchesSingleQueries() {
+        Random random = new Random(2500);
+        List<RmDateTimeRange> ranges = randomRanges(random, 500);
+        RmDateTimeRangeIndex<Integer> index = index(ranges);
+
+        // 같은 조회 시간이 반복되는 정렬된 목록
+        long[] probes = new long[3000];
+        for (int i = 0; i < probes.length; i++) {
+            probes[i] = BASE - 10 + random.nextInt(1220);
+        }
+        Arrays.sort(probes);
+        RmDateTimeArray array = RmDateTimeArray.of(RmDateTimeUtil.UTC, probes);
+
+        assertArrayEquals(IntStream.range(0, probes.length).map(i -> index.countContaining(probes[i])).toArray(), index.countContaining(probes));
+        assertArrayEquals(index.countContaining(probes), index.countContaining(array));
+
+        List<List<Integer>> found = new ArrayList<>();
+        List<List<Integer>> foundInArray = new ArrayList<>();
+        for (int i = 0; i < probes.length; i++) {
+            found.add(new ArrayList<>());
+            foundInArray.add(new ArrayList<>());
+        }
+        index.forEachContaining(probes, (value, probe) -> found.get(probe).add(value));
+        index.forEachContaining(array, (value, probe) -> foundInArray.get(probe).add(value));
+        for (int i = 0; i < probes.length; i++) {
+            // 일괄 조회는 같은 조회 시간 안의 순서를 보장하지 않으므로 정렬해서 비교함
+            List<Integer> expected = index.containing(probes[i]).stream().sorted().collect(Collectors.toList());
+            Collections.sort(found.get(i));
+            Collections.sort(foundInArray.get(i));
+
+            assertEquals(expected, found.get(i), "probe " + probes[i]);
+            assertEquals(expected, foundInArray.get(i), "probe " + probes[i]);
+        }
+    }
+
+    @Test
+    void sweepRejectsUnsortedProbes() {
+        RmDateTimeRangeIndex<Integer> index = index(Arrays.asList(range(0, 10), range(5, 15)));
+        long[] unsorted = {BASE + 1, BASE + 6, BASE + 5};
+
+        assertThrows(IllegalArgumentException.class, () -> index.countContaining(unsorted));
+        assertThrows(IllegalArgumentException.class, () -> index.forEachContaining(unsorted, (value, probe) -> { }));
+
+        RmDateTimeArray array = RmDateTimeArray.of(RmDateTimeUtil.UTC, unsorted);
+        assertThrows(IllegalStateException.class, () -> index.countContaining(array));
+        assertThrows(IllegalStateException.class, () -> index.forEachContaining(array, (value, probe) -> { }));
+
+        // 정렬 후에는 정상적으로 조회함
+        assertArrayEquals(new int[]{1, 2, 2}, index.countContaining(array.sort()));
+        assertEquals(0, index.countContaining(new long[0]).length);
+    }
+
+    private static List<RmDateTimeRange> randomRanges(Random random, int count) {
+        List<RmDateTimeRange> ranges = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long start = random.nextInt(1000);
+            // 1/5은 빈 구간, 나머지는 짧은 구간과 긴 구간을 섞음
+            long length = random.nextInt(5) == 0 ? 0 : random.nextInt(random.nextBoolean() ? 20 : 200) + 1;
+            ranges.add(range(start, start + length, ZONES[random.nextInt(ZONES.length)]));
+        }
+        return ranges;
+    }
+
+    private static RmDateTimeRange range(long start, long end) {
+        return range(start, end, RmDateTimeUtil.UTC);
+    }
+
+    private static RmDateTimeRange range(long start, long end, ZoneId zone) {
+        return RmDateTimeRange.of(RmDateTimeUtil.getDateTimeFrom(zone, BASE + start), RmDateTimeUtil.getDateTimeFrom(zone, BASE + end));
+    }
+
+    // 구간 위치(입력 순서)를 값으로 하는 인덱스
+    private static RmDateTimeRangeIndex<Integer> index(List<RmDateTimeRange> ranges) {
+        return RmDateTimeRangeIndex.of(IntStream.range(0, ranges.size()).boxed().collect(Collectors.toList()), ranges::get);
+    }
+
+    // 조건에 맞는 구간 위치를 (시작 시간, 종료 시간, 입력 순서) 순으로 반환함
+    private static List<Integer> expected(List<RmDateTimeRange> ranges, Predicate<RmDateTimeRange> condition) {
+        return IntStream.range(0, ranges.size()).filter(i -> condition.test(ranges.get(i))).boxed()
+                .sorted(Comparator.<Integer>comparingLong(i -> ranges.get(i).getStartMillis()).thenComparingLong(i -> ranges.get(i).getEndMillis()))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,162 @@
+package com.rm.common.core.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RmPackedDateTime의 정수 연산 결과가 같은 값을 LocalDateTime으로 계산한 결과와 같은지 확인
+ * 월말 보정, 월/년 절삭, 음수 연도의 연월일 계산, JSON/Java 직렬화, 범위를 넘는 연산을 함께 확인함
+ */
+class RmPackedDateTimeTest {
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+
+    @Test
+    void addMonthsClampsToEndOfMonth() {
+        LocalDateTime[] starts = {
+                LocalDateTime.of(2020, 1, 31, 10, 30, 15, 123_456_789),
+                LocalDateTime.of(2020, 2, 29, 0, 0),
+                LocalDateTime.of(2019, 3, 31, 23, 59, 59, 999_999_999),
+                LocalDateTime.of(1900, 12, 31, 12, 0),
+                LocalDateTime.of(-1, 2, 28, 1, 2, 3)
+        };
+        for (LocalDateTime start : starts) {
+            RmPackedDateTime packed = RmPackedDateTime.of(SEOUL, start);
+            for (int months = -50; months <= 50; months++) {
+                assertEquals(start.plusMonths(months), packed.addMonths(months).toLocalDateTime(), start + " + " + months + " months");
+                assertEquals(start.minusMonths(months), packed.subtractMonths(months).toLocalDateTime(), start + " - " + months + " months");
+            }
+            for (int years = -401; years <= 401; years++) {
+                assertEquals(start.plusYears(years), packed.addYears(years).toLocalDateTime(), start + " + " + years + " years");
+            }
+        }
+    }
+
+    @Test
+    void truncatedToMatchesLocalDateTime() {
+        Random random = new Random(18);
+        for (int i = 0; i < 2000; i++) {
+            LocalDateTime local = randomLocalDateTime(random);
+            RmPackedDateTime packed = RmPackedDateTime.of(NEW_YORK, local);
+
+            for (ChronoUnit unit : new ChronoUnit[]{ChronoUnit.NANOS, ChronoUnit.MICROS, ChronoUnit.MILLIS, ChronoUnit.SECONDS,
+                    ChronoUnit.MINUTES, ChronoUnit.HOURS, ChronoUnit.HALF_DAYS, ChronoUnit.DAYS}) {
+                assertEquals(local.truncatedTo(unit), packed.truncatedTo(unit).toLocalDateTime(), local + " " + unit);
+            }
+            assertEquals(local.toLocalDate().withDayOfMonth(1).atStartOfDay(), packed.truncatedTo(ChronoUnit.MONTHS).toLocalDateTime(), local.toString());
+            assertEquals(local.toLocalDate().withDayOfYear(1).atStartOfDay(), packed.truncatedTo(ChronoUnit.YEARS).toLocalDateTime(), local.toString());
+            assertEquals(NEW_YORK, packed.truncatedTo(ChronoUnit.YEARS).getZone());
+        }
+    }
+
+    @Test
+    void fieldsMatchForNegativeYears() {
+        // 400년 주기의 경계(0000-03-01, -0400-03-01 등)와 음수 연도의 윤년을 포함함
+        LocalDateTime start = LocalDateTime.of(-1201, 1, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(401, 1, 1, 0, 0);
+        for (LocalDateTime local = start; local.isBefore(end); local = local.plusHours(31)) {
+            RmPackedDateTime packed = RmPackedDateTime.of(ZoneOffset.UTC, local);
+
+            assertEquals(local.getYear(), packed.getYear(), local.toString());
+            assertEquals(local.getMonthValue(), packed.getMonth(), local.toString());
+            assertEquals(local.getDayOfMonth(), packed.getDay(), local.toString());
+            assertEquals(local.getDayOfWeek(), packed.getDayOfWeek(), local.toString());
+            assertEquals(local.getHour(), packed.getHour(), local.toString());
+            assertEquals(local, packed.toLocalDateTime());
+        }
+    }
+
+    @Test
+    void addAndSubtractMatchLocalDateTime() {
+        Random random = new Random(1800);
+        for (int i = 0; i < 2000; i++) {
+            LocalDateTime local = randomLocalDateTime(random);
+            RmPackedDateTime packed = RmPackedDateTime.of(SEOUL, local);
+            int amount = random.nextInt(2_000_001) - 1_000_000;
+
+            assertEquals(local.plusWeeks(amount), packed.addWeeks(amount).toLocalDateTime());
+            assertEquals(local.plusDays(amount), packed.addDays(amount).toLocalDateTime());
+            assertEquals(local.plusHours(amount), packed.addHours(amount).toLocalDateTime());
+            assertEquals(local.plusMinutes(amount), packed.addMinutes(amount).toLocalDateTime());
+            assertEquals(local.plusSeconds(amount), packed.addSeconds(amount).toLocalDateTime());
+            assertEquals(local.minusDays(amount), packed.subtractDays(amount).toLocalDateTime());
+            assertEquals(local.minusHours(amount), packed.subtractHours(amount).toLocalDateTime());
+            assertEquals(local.minusWeeks(amount), packed.subtractWeeks(amount).toLocalDateTime());
+        }
+    }
+
+    @Test
+    void overflowThrowsInsteadOfWrapping() {
+        RmPackedDateTime now = RmPackedDateTime.of(SEOUL, 2021, 1, 1, 0, 0, 0);
+        RmPackedDateTime far = now.addDays(100_000_000);
+
+        assertThrows(ArithmeticException.class, () -> far.addWeeks(Integer.MAX_VALUE));
+        assertThrows(ArithmeticException.class, () -> far.subtractWeeks(Integer.MAX_VALUE).subtractWeeks(Integer.MAX_VALUE));
+        assertThrows(ArithmeticException.class, () -> now.addMillis(Long.MAX_VALUE));
+        assertThrows(ArithmeticException.class, () -> now.subtractMillis(Long.MIN_VALUE));
+        assertThrows(ArithmeticException.class, () -> RmPackedDateTime.ofEpochMillis(SEOUL, Long.MAX_VALUE));
+        // int 범위의 일수는 마이크로초로 long 범위를 넘고, 시간은 넘지 않음 (-Integer.MIN_VALUE도 그대로 계산함)
+        assertThrows(ArithmeticException.class, () -> now.addDays(Integer.MAX_VALUE));
+        assertThrows(ArithmeticException.class, () -> now.subtractDays(Integer.MIN_VALUE));
+        assertEquals(LocalDateTime.of(2021, 1, 1, 0, 0).minusHours(Integer.MIN_VALUE), now.subtractHours(Integer.MIN_VALUE).toLocalDateTime());
+    }
+
+    @Test
+    void jsonMatchesRmDateTime() {
+        Random random = new Random(2021);
+        for (int i = 0; i < 500; i++) {
+            LocalDateTime local = randomLocalDateTime(random).withYear(1000 + random.nextInt(9000));
+            for (ZoneId zone : new ZoneId[]{RmDateTimeUtil.UTC, SEOUL}) {
+                RmPackedDateTime packed = RmPackedDateTime.of(zone, local);
+                String json = JsonUtils.toJson(packed);
+
+                assertEquals(JsonUtils.toJson(packed.toRmDateTime()), json);
+                // 역직렬화는 RmDateTime과 같이 UTC 기준으로 읽음
+                assertEquals(RmPackedDateTime.from(JsonUtils.toObject(json, RmDateTime.class)), JsonUtils.toObject(json, RmPackedDateTime.class), json);
+            }
+        }
+
+        RmPackedDateTime read = JsonUtils.toObject("\"2021-03-04 05:06:07.123456\"", RmPackedDateTime.class);
+        assertEquals(RmPackedDateTime.of(RmDateTimeUtil.UTC, LocalDateTime.of(2021, 3, 4, 5, 6, 7, 123_456_000)), read);
+        assertNull(JsonUtils.toObject("null", RmPackedDateTime.class));
+    }
+
+    @Test
+    void javaSerializationKeepsZone() throws Exception {
+        RmPackedDateTime[] values = {
+                RmPackedDateTime.of(NEW_YORK, LocalDateTime.of(2021, 3, 14, 3, 30, 0, 123_456_789)),
+                RmPackedDateTime.of(SEOUL, LocalDateTime.of(-44, 3, 15, 12, 0)),
+                RmPackedDateTime.of(ZoneOffset.ofHours(-3), LocalDateTime.of(1970, 1, 1, 0, 0))
+        };
+        for (RmPackedDateTime value : values) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(value);
+            }
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                RmPackedDateTime read = (RmPackedDateTime) in.readObject();
+
+                assertEquals(value, read);
+                assertEquals(value.getZone(), read.getZone());
+                assertEquals(value.getUnixMillis(), read.getUnixMillis());
+            }
+        }
+    }
+
+    private static LocalDateTime randomLocalDateTime(Random random) {
+        return LocalDateTime.of(random.nextInt(4001) - 2000, 1 + random.nextInt(12), 1 + random.nextInt(28),
+                random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1_000_000_000))
+                .plusDays(random.nextInt(4));
+    }
+}
@@ -0,0 +1,135 @@
+package com.rm.common.core.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * StringPool로 역직렬화한 같은 값의 문자열이 하나의 인스턴스를 공유하는지, 기본 mapper의 String 역직렬화는 그대로인지 확인
+ * 호출별 풀(jsonToVOList(json, type, pool)), 클래스별 풀(@JsonStringDedup), MAX_LENGTH를 넘는 문자열을 함께 확인함
+ */
+class StringPoolTest {
+    private static final String LONG_VALUE = repeat('x', StringPool.MAX_LENGTH + 1);
+    private static final String JSON = "[{\"code\":\"KR\",\"name\":\"a\",\"memo\":\"" + LONG_VALUE + "\",\"count\":1},"
+            + "{\"code\":\"KR\",\"name\":\"a\",\"memo\":\"" + LONG_VALUE + "\",\"count\":2},"
+            + "{\"code\":\"US\",\"name\":\"b\",\"memo\":null,\"count\":3},"
+            + "{\"code\":\"KR\",\"name\":\"a\",\"memo\":\"" + LONG_VALUE + "\",\"count\":4}]";
+
+    public static class Item {
+        public String code;
+        public String name;
+        public String memo;
+        public int count;
+    }
+
+    public static class DedupItem {
+        @JsonStringDedup
+        public String code;
+        public String name;
+        @JsonStringDedup
+        public String memo;
+        public int count;
+    }
+
+    @Test
+    void internReturnsPooledInstance() {
+        StringPool pool = new StringPool(16);
+        String first = pool.intern(new String("KR"));
+
+        assertSame(first, pool.intern(new String("KR")));
+        char[] chars = "_KR_".toCharArray();
+        assertSame(first, pool.intern(chars, 1, 2));
+        assertNull(pool.intern(null));
+
+        // 충돌 시 나중 값으로 덮어쓰지만 값은 항상 같음
+        for (int i = 0; i < 1000; i++) {
+            String value = "code" + i;
+            assertEquals(value, pool.intern(new String(value)));
+        }
+    }
+
+    @Test
+    void longStringsAreNotPooled() {
+        StringPool pool = new StringPool();
+        String exact = repeat('y', StringPool.MAX_LENGTH);
+
+        assertSame(pool.intern(new String(exact)), pool.intern(new String(exact)));
+        String first = pool.intern(new String(LONG_VALUE));
+        String second = pool.intern(new String(LONG_VALUE));
+        assertEquals(first, second);
+        assertNotSame(first, second);
+
+        char[] chars = LONG_VALUE.toCharArray();
+        assertNotSame(pool.intern(chars, 0, chars.length), pool.intern(chars, 0, chars.length));
+    }
+
+    @Test
+    void perCallPoolSharesRepeatedValues() {
+        StringPool pool = new StringPool();
+        List<Item> items = JsonUtils.jsonToVOList(JSON, Item.class, pool);
+
+        assertEquals(4, items.size());
+        assertSame(items.get(0).code, items.get(1).code);
+        assertSame(items.get(0).code, items.get(3).code);
+        assertSame(items.get(0).name, items.get(1).name);
+        assertEquals("US", items.get(2).code);
+        assertEquals(Arrays.asList(1, 2, 3, 4), Arrays.asList(items.get(0).count, items.get(1).count, items.get(2).count, items.get(3).count));
+        // MAX_LENGTH보다 긴 값은 풀에 넣지 않음
+        assertEquals(LONG_VALUE, items.get(0).memo);
+        assertNotSame(items.get(0).memo, items.get(1).memo);
+
+        // 같은 풀을 여러 호출에서 공유하면 호출 간에도 같은 인스턴스를 사용함
+        List<Item> again = JsonUtils.jsonToVOList(JSON, Item.class, pool);
+        assertSame(items.get(0).code, again.get(0).code);
+
+        List<Item> projected = JsonUtils.toVoListProjected(JSON, Item.class, JsonProjection.exclude("memo"), pool);
+        assertSame(items.get(0).code, projected.get(0).code);
+        assertNull(projected.get(0).memo);
+    }
+
+    @Test
+    void annotatedFieldsUseTypePoolWithDefaultMapper() {
+        List<DedupItem> items = JsonUtils.jsonToVOList(JSON, DedupItem.class);
+
+        assertSame(items.get(0).code, items.get(1).code);
+        assertSame(items.get(0).code, items.get(3).code);
+        assertSame(items.get(0).code, JsonUtils.toObject("{\"code\":\"KR\"}", DedupItem.class).code);
+        assertSame(StringPool.forType(DedupItem.class).intern(new String("KR")), items.get(0).code);
+        // 지정하지 않은 필드와 MAX_LENGTH보다 긴 값은 따로 만들어짐
+        assertEquals(items.get(0).name, items.get(1).name);
+        assertNotSame(items.get(0).name, items.get(1).name);
+        assertNotSame(items.get(0).memo, items.get(1).memo);
+        assertNull(items.get(2).memo);
+
+        // 문자열이 아닌 토큰은 기본 StringDeserializer와 같이 변환함
+        assertEquals("123", JsonUtils.toObject("{\"code\":123}", DedupItem.class).code);
+    }
+
+    @Test
+    void defaultMapperStringsAreUnchanged() {
+        // 중복 제거 모드를 먼저 사용해도 기본 mapper에는 영향이 없음
+        JsonUtils.jsonToVOList(JSON, Item.class, new StringPool());
+
+        List<Item> items = JsonUtils.jsonToVOList(JSON, Item.class);
+        assertEquals("KR", items.get(0).code);
+        assertEquals(items.get(0).code, items.get(1).code);
+        assertNotSame(items.get(0).code, items.get(1).code);
+        assertEquals(JsonUtils.jsonToVOList(JSON, Item.class, null).get(0).code, items.get(0).code);
+
+        List<Map<String, Object>> maps = JsonUtils.toCompactMapList(JSON);
+        assertEquals(maps.get(0).get("code"), maps.get(1).get("code"));
+        assertNotSame(maps.get(0).get("code"), maps.get(1).get("code"));
+        assertEquals("123", JsonUtils.toObject("{\"code\":123}", Item.class).code);
+        assertNull(JsonUtils.toObject("{\"code\":null}", Item.class).code);
+    }
+
+    private static String repeat(char c, int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, c);
+        return new String(chars);
+    }
+}
@@ -0,0 +1,170 @@
+package com.rm.common.core.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ZoneOffsetTable 및 이를 사용하는 RmPackedDateTime의 시간대 변환이 java.time과 같은지 확인
+ *  - 시간대 기준 시간 -> UTC: LocalDateTime.atZone(zone).toInstant()
+ *  - UTC -> 시간대 기준 시간: Instant.atZone(zone), ZonedDateTime.withZoneSameInstant()
+ * 전환 시점 전후 2시간(존재하지 않는 시간, 두번 존재하는 시간 포함) 및 테이블 범위(2100년) 이후 시간을 확인함
+ */
+class ZoneOffsetTableTest {
+    private static final long HOUR = 3600;
+    private static final long AROUND_SECONDS = 2 * HOUR;
+    private static final LocalDateTime SWEEP_END = LocalDateTime.of(2110, 1, 1, 0, 0);
+    private static final List<ZoneId> FIXED_ZONES = Arrays.asList(ZoneOffset.UTC, ZoneId.of("UTC"), ZoneId.of("Asia/Seoul"), ZoneId.of("America/New_York"));
+
+    @Test
+    void fixedZonesMatchJavaTime() {
+        for (ZoneId zone : FIXED_ZONES) {
+            assertZone(zone, new Random(zone.getId().hashCode()));
+        }
+    }
+
+    @Test
+    void sampledZonesMatchJavaTime() {
+        Random random = new Random(20211026L);
+        for (ZoneId zone : sampleZones(random, 60)) {
+            assertZone(zone, random);
+        }
+    }
+
+    @Test
+    void gapAndOverlapFollowAtZone() {
+        ZoneId newYork = ZoneId.of("America/New_York");
+        ZoneOffsetTable table = ZoneOffsetTable.of(newYork);
+
+        // 2021-03-14 02:30은 존재하지 않으므로 전환 전 오프셋(-5)을 사용함 (03:30 EDT)
+        LocalDateTime gap = LocalDateTime.of(2021, 3, 14, 2, 30);
+        assertEquals(gap.atZone(newYork).toEpochSecond(), table.toEpochSecond(gap.toEpochSecond(ZoneOffset.UTC)));
+        assertEquals(-5 * HOUR, table.getOffsetAtLocalSecond(gap.toEpochSecond(ZoneOffset.UTC)));
+
+        // 2021-11-07 01:30은 두번 존재하므로 앞쪽(전환 전) 오프셋(-4)을 사용함
+        LocalDateTime overlap = LocalDateTime.of(2021, 11, 7, 1, 30);
+        assertEquals(overlap.atZone(newYork).toEpochSecond(), table.toEpochSecond(overlap.toEpochSecond(ZoneOffset.UTC)));
+        assertEquals(-4 * HOUR, table.getOffsetAtLocalSecond(overlap.toEpochSecond(ZoneOffset.UTC)));
+
+        // 같은 지점을 테이블 범위 이후(ZoneRules 처리)에서도 확인함
+        LocalDateTime lateGap = LocalDateTime.of(2105, 3, 8, 2, 30);
+        assertEquals(lateGap.atZone(newYork).toEpochSecond(), table.toEpochSecond(lateGap.toEpochSecond(ZoneOffset.UTC)));
+        LocalDateTime lateOverlap = LocalDateTime.of(2105, 11, 1, 1, 30);
+        assertEquals(lateOverlap.atZone(newYork).toEpochSecond(), table.toEpochSecond(lateOverlap.toEpochSecond(ZoneOffset.UTC)));
+    }
+
+    @Test
+    void packedDateTimeMatchesJavaTime() {
+        Random random = new Random(42);
+        List<ZoneId> zones = new ArrayList<>(FIXED_ZONES);
+        zones.addAll(sampleZones(random, 20));
+
+        for (ZoneId zone : zones) {
+            for (long local : localSecondsToCheck(zone, random)) {
+                LocalDateTime localDateTime = LocalDateTime.ofEpochSecond(local, random.nextInt(1_000_000_000), ZoneOffset.UTC);
+                RmPackedDateTime packed = RmPackedDateTime.of(zone, localDateTime);
+                String message = zone + " " + localDateTime;
+
+                assertEquals(localDateTime.atZone(zone).toInstant().toEpochMilli(), packed.getUnixMillis(), message);
+                assertEquals(localDateTime.atZone(zone).toEpochSecond(), packed.getUnixSeconds(), message);
+
+                ZoneId target = zones.get(random.nextInt(zones.size()));
+                assertEquals(localDateTime.atZone(zone).withZoneSameInstant(target).toLocalDateTime(), packed.convertTo(target).toLocalDateTime(), message + " -> " + target);
+            }
+
+            for (long epoch : epochSecondsToCheck(zone, random)) {
+                long epochMillis = epoch * 1000 + random.nextInt(1000);
+                assertEquals(Instant.ofEpochMilli(epochMillis).atZone(zone).toLocalDateTime(),
+                        RmPackedDateTime.ofEpochMillis(zone, epochMillis).toLocalDateTime(), zone + " " + epochMillis);
+            }
+        }
+    }
+
+    private static void assertZone(ZoneId zone, Random random) {
+        ZoneOffsetTable table = ZoneOffsetTable.of(zone);
+
+        for (long epoch : epochSecondsToCheck(zone, random)) {
+            long expected = Instant.ofEpochSecond(epoch).atZone(zone).toLocalDateTime().toEpochSecond(ZoneOffset.UTC);
+            assertEquals(expected, table.toLocalSecond(epoch), zone + " epochSecond " + epoch);
+        }
+
+        for (long local : localSecondsToCheck(zone, random)) {
+            long expected = LocalDateTime.ofEpochSecond(local, 0, ZoneOffset.UTC).atZone(zone).toEpochSecond();
+            assertEquals(expected, table.toEpochSecond(local), zone + " local " + LocalDateTime.ofEpochSecond(local, 0, ZoneOffset.UTC));
+        }
+    }
+
+    // 전환 시점(UTC) 전후 2시간 및 임의 시간 (2100년 이후 포함)
+    private static TreeSet<Long> epochSecondsToCheck(ZoneId zone, Random random) {
+        TreeSet<Long> seconds = new TreeSet<>();
+        for (ZoneOffsetTransition transition : transitions(zone.getRules())) {
+            addAround(seconds, transition.toEpochSecond(), random);
+        }
+        addRandom(seconds, random);
+        return seconds;
+    }
+
+    // 전환 전후의 시간대 기준 시간 전후 2시간 (존재하지 않는 시간 및 두번 존재하는 시간 포함) 및 임의 시간
+    private static TreeSet<Long> localSecondsToCheck(ZoneId zone, Random random) {
+        TreeSet<Long> seconds = new TreeSet<>();
+        for (ZoneOffsetTransition transition : transitions(zone.getRules())) {
+            addAround(seconds, transition.getDateTimeBefore().toEpochSecond(ZoneOffset.UTC), random);
+            addAround(seconds, transition.getDateTimeAfter().toEpochSecond(ZoneOffset.UTC), random);
+        }
+        addRandom(seconds, random);
+        return seconds;
+    }
+
+    private static void addAround(TreeSet<Long> seconds, long center, Random random) {
+        for (long delta : new long[]{-AROUND_SECONDS, -HOUR - 1, -HOUR, -HOUR + 1, -1, 0, 1, HOUR - 1, HOUR, HOUR + 1, AROUND_SECONDS}) {
+            seconds.add(center + delta);
+        }
+        seconds.add(center - AROUND_SECONDS + random.nextInt((int) (2 * AROUND_SECONDS)));
+    }
+
+    // 1900 ~ 2200년 사이 임의 시간, 테이블 범위의 끝(2100-01-01) 전후 ±1일 포함
+    private static void addRandom(TreeSet<Long> seconds, Random random) {
+        long from = LocalDateTime.of(1900, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+        long to = LocalDateTime.of(2200, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+        long tableEnd = LocalDateTime.of(2100, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+        for (int i = 0; i < 200; i++) {
+            seconds.add(from + (long) (random.nextDouble() * (to - from)));
+            seconds.add(tableEnd - 86400 + random.nextInt(2 * 86400));
+        }
+    }
+
+    // 과거 전환 목록 및 규칙에 의한 전환 (테이블 범위 이후인 2110년까지)
+    private static List<ZoneOffsetTransition> transitions(ZoneRules rules) {
+        List<ZoneOffsetTransition> transitions = new ArrayList<>(rules.getTransitions());
+        if (rules.getTransitionRules().isEmpty()) return transitions;
+
+        Instant from = transitions.isEmpty() ? Instant.EPOCH : transitions.get(transitions.size() - 1).getInstant();
+        ZoneOffsetTransition transition;
+        while ((transition = rules.nextTransition(from)) != null && transition.getDateTimeBefore().isBefore(SWEEP_END)) {
+            transitions.add(transition);
+            from = transition.getInstant();
+        }
+        return transitions;
+    }
+
+    private static List<ZoneId> sampleZones(Random random, int count) {
+        List<String> ids = new ArrayList<>(new TreeSet<>(ZoneId.getAvailableZoneIds()));
+        List<ZoneId> zones = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            zones.add(ZoneId.of(ids.get(random.nextInt(ids.size()))));
+        }
+        return zones;
+    }
+}